@@ -0,0 +1,105 @@
+package benchmark;
+
+import eventos.BarramentoEventos;
+import modelo.Colaborador;
+import modelo.Equipe;
+import modelo.Gerente;
+import modelo.Projeto;
+import modelo.Usuario;
+import seguranca.HashSenha;
+import servico.GerenciadorAlocacao;
+import servico.GerenciadorEquipe;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projetos de um usuário pelo índice usuário → projetos contra a junção
+ * "equipes do usuário" (varredura de equipes) × "projetos da equipe"
+ *
+ * 100 mil usuários, 20 mil equipes de 5 a 30 membros e 5 mil projetos com
+ * 1 a 4 equipes alocadas cada.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BenchmarkAlocacao {
+    @Param({"100000"})
+    public int usuarios;
+
+    @Param({"20000"})
+    public int equipes;
+
+    @Param({"5000"})
+    public int projetos;
+
+    private GerenciadorEquipe gerenciadorEquipe;
+    private GerenciadorAlocacao alocacao;
+    private final ArrayList<Usuario> todos = new ArrayList<>();
+    private final ArrayList<Equipe> listaEquipes = new ArrayList<>();
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        gerenciadorEquipe = new GerenciadorEquipe();
+        alocacao = new GerenciadorAlocacao();
+        // Barramento próprio: as alocações já partem das equipes montadas
+        alocacao.conectar(new BarramentoEventos(1024, BarramentoEventos.Politica.DESCARTAR));
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            Random geracao = new Random(42);
+            GeradorDados.silenciar(() -> {
+                for (int i = 0; i < usuarios; i++) {
+                    todos.add(new Colaborador("Colaborador " + i, GeradorDados.gerarCpf(geracao),
+                                              "c" + i + "@automax.com", "c" + i, "senha"));
+                }
+                for (int i = 0; i < equipes; i++) {
+                    Equipe equipe = new Equipe("Equipe " + i);
+                    int membros = 5 + geracao.nextInt(26);
+                    ArrayList<Usuario> selecionados = new ArrayList<>(membros);
+                    for (int j = 0; j < membros; j++) {
+                        selecionados.add(todos.get(geracao.nextInt(usuarios)));
+                    }
+                    equipe.adicionarMembros(selecionados);
+                    gerenciadorEquipe.adicionarEquipe(equipe);
+                    listaEquipes.add(equipe);
+                }
+                Gerente gerente = new Gerente("Gerente", GeradorDados.gerarCpf(geracao),
+                                              "gerente@automax.com", "gerente", "senha");
+                for (int i = 0; i < projetos; i++) {
+                    Projeto projeto = new Projeto("Projeto " + i, "Projeto de teste", "01/01/2024", "31/12/2024", gerente);
+                    int alocadas = 1 + geracao.nextInt(4);
+                    for (int j = 0; j < alocadas; j++) {
+                        alocacao.alocarEquipe(projeto, listaEquipes.get(geracao.nextInt(equipes)));
+                    }
+                }
+            });
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+    }
+
+    @Benchmark
+    public int projetosDoUsuarioIndice() {
+        return alocacao.listarProjetosDoUsuario(todos.get(random.nextInt(usuarios))).size();
+    }
+
+    @Benchmark
+    public int projetosDoUsuarioJuncao() {
+        Usuario usuario = todos.get(random.nextInt(usuarios));
+        LinkedHashSet<Projeto> encontrados = new LinkedHashSet<>();
+        for (Equipe equipe : gerenciadorEquipe.listarEquipesDoUsuario(usuario)) {
+            encontrados.addAll(alocacao.listarProjetosDaEquipe(equipe));
+        }
+        return encontrados.size();
+    }
+}
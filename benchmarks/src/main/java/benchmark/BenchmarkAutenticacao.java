@@ -0,0 +1,75 @@
+package benchmark;
+
+import modelo.Colaborador;
+import org.openjdk.jmh.annotations.*;
+import seguranca.CacheAutenticacao;
+import seguranca.HashSenha;
+import servico.GerenciadorUsuario;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da vazão de login com hashes PBKDF2 reais
+ * A maior parte dos logins vem de um conjunto pequeno de usuários ativos
+ * (taxa de acerto configurável); o restante é distribuído entre todos.
+ * Compara o gerenciador com e sem cache de autenticação.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkAutenticacao {
+    private static final int TOTAL_USUARIOS = 200;
+
+    @Param({"0.5", "0.9", "0.99"})
+    public double taxaAcerto;
+
+    @Param({"true", "false"})
+    public boolean comCache;
+
+    private GerenciadorUsuario gerenciador;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        CacheAutenticacao cache = comCache
+                ? new CacheAutenticacao(10_000, 5 * 60 * 1000L)
+                : new CacheAutenticacao(0, 1);
+        gerenciador = new GerenciadorUsuario(cache);
+        GeradorDados.silenciar(() -> {
+            for (int i = 0; i < TOTAL_USUARIOS; i++) {
+                gerenciador.adicionarUsuario(new Colaborador("Usuario " + i, "000.000.000-00",
+                        "u" + i + "@automax.com", "u" + i, "senha" + i));
+            }
+        });
+    }
+
+    /**
+     * Estado por thread com a sequência aleatória de logins
+     */
+    @State(Scope.Thread)
+    public static class Sorteio {
+        private final Random random = new Random(42);
+    }
+
+    @Benchmark
+    public Object autenticar(Sorteio sorteio) {
+        int usuariosAtivos = Math.max(1, TOTAL_USUARIOS / 50);
+        int indice = sorteio.random.nextDouble() < taxaAcerto
+                ? sorteio.random.nextInt(usuariosAtivos)
+                : sorteio.random.nextInt(TOTAL_USUARIOS);
+        return gerenciador.autenticar("u" + indice, "senha" + indice);
+    }
+
+    /**
+     * Exibe o custo configurado do hash (útil ao comparar execuções)
+     */
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        System.out.println("Iterações PBKDF2: " + HashSenha.getIteracoes());
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import busca.MotorBusca;
+import modelo.Equipe;
+import modelo.Projeto;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks da busca textual: índice invertido (buscarPorRelevancia) contra
+ * a varredura por substring (buscarPorPalavraChave)
+ *
+ * GeradorDados cria, para N usuários, N projetos e N/10 equipes; com
+ * tamanho=480000 o índice tem cerca de 1 milhão de documentos.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BenchmarkBusca {
+    private static final int LIMITE = 10;
+
+    @Param({"48000", "480000"})
+    public int tamanho;
+
+    private GeradorDados.DadosSinteticos dados;
+    private String nomeProjeto;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = GeradorDados.gerar(tamanho, 42, new MotorBusca());
+        nomeProjeto = dados.projetos.get(tamanho / 2).getNome();
+        System.out.println("Documentos indexados: " + dados.motorBusca.getTotalDocumentos());
+    }
+
+    /** Nome exato de um projeto: "projeto" casa metade do índice, o número só um */
+    @Benchmark
+    public ArrayList<Projeto> relevanciaNomeProjeto() {
+        return dados.gerenciadorProjeto.buscarPorRelevancia(nomeProjeto, LIMITE);
+    }
+
+    /** Uma palavra da descrição, presente em cerca de 16% dos projetos */
+    @Benchmark
+    public ArrayList<Projeto> relevanciaUmTermo() {
+        return dados.gerenciadorProjeto.buscarPorRelevancia("estoque", LIMITE);
+    }
+
+    /** Dois termos, um deles por prefixo */
+    @Benchmark
+    public ArrayList<Projeto> relevanciaDoisTermos() {
+        return dados.gerenciadorProjeto.buscarPorRelevancia("vend garantia", LIMITE);
+    }
+
+    @Benchmark
+    public ArrayList<Equipe> relevanciaEquipes() {
+        return dados.gerenciadorEquipe.buscarPorRelevancia("oficina", LIMITE);
+    }
+
+    @Benchmark
+    public ArrayList<Projeto> substringUmTermo() {
+        return dados.gerenciadorProjeto.buscarPorPalavraChave("estoque");
+    }
+}
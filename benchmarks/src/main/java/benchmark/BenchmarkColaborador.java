@@ -0,0 +1,44 @@
+package benchmark;
+
+import modelo.Colaborador;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do cálculo de produtividade de um colaborador
+ * Parametrizado pelo número de tarefas atribuídas (metade concluídas)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkColaborador {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int tarefas;
+
+    private Colaborador colaborador;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        colaborador = new Colaborador("Colaborador", "000.000.000-00", "c@automax.com", "c", "senha");
+        GeradorDados.silenciar(() -> {
+            for (int i = 0; i < tarefas; i++) {
+                colaborador.adicionarTarefa("Tarefa " + i);
+            }
+            for (int i = 0; i < tarefas; i += 2) {
+                colaborador.concluirTarefa(i);
+            }
+        });
+    }
+
+    @Benchmark
+    public double calcularProdutividade() {
+        return colaborador.calcularProdutividade();
+    }
+}
@@ -0,0 +1,77 @@
+package benchmark;
+
+import modelo.Gerente;
+import modelo.Projeto;
+import servico.GerenciadorProjeto;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas analíticas de projetos varrendo a lista de objetos contra o
+ * armazenamento colunar do GerenciadorProjeto, até 10 milhões de projetos
+ *
+ * Os projetos são criados diretamente (sem usuários) para caber na memória:
+ * cerca de 200 bytes por projeto, ou 2 GB com 10 milhões.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BenchmarkColunasProjeto {
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    @Param({"100000", "10000000"})
+    public int tamanho;
+
+    @Param({"lista", "colunar"})
+    public String armazenamento;
+
+    private GerenciadorProjeto gerenciador;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        GeradorDados.DadosSinteticos dados = GeradorDados.gerar(1000, 42);
+        ArrayList<Gerente> gerentes = dados.gerentes;
+        gerenciador = new GerenciadorProjeto();
+        Random random = new Random(42);
+        LocalDate inicio = LocalDate.of(2024, 1, 1);
+        GeradorDados.silenciar(() -> {
+            for (int i = 0; i < tamanho; i++) {
+                LocalDate prazo = inicio.plusDays(random.nextInt(1460));
+                // Nome em minúsculas: a chave do índice por nome reaproveita a mesma String
+                Projeto projeto = new Projeto("p" + i, "analitico", "01/01/2024", prazo.format(FORMATO_DATA));
+                // Pelo setter: a lista de projetos do gerente verifica duplicidade em O(n)
+                projeto.setGerenteResponsavel(gerentes.get(random.nextInt(gerentes.size())));
+                projeto.setStatus(GeradorDados.sortearStatus(random));
+                gerenciador.adicionarProjeto(projeto);
+            }
+        });
+        if (armazenamento.equals("colunar")) {
+            gerenciador.ativarArmazenamentoColunar();
+        }
+    }
+
+    @Benchmark
+    public double calcularProgressoMedio() {
+        return gerenciador.calcularProgressoMedio();
+    }
+
+    @Benchmark
+    public int listarPorStatus() {
+        return gerenciador.listarPorStatus("Pausado").size();
+    }
+
+    @Benchmark
+    public int listarProjetosEmAtraso() {
+        return gerenciador.listarProjetosProximosPrazo("19/10/2026").size();
+    }
+}
@@ -0,0 +1,149 @@
+package benchmark;
+
+import modelo.Colaborador;
+import modelo.Equipe;
+import modelo.MapaBits;
+import modelo.Usuario;
+import seguranca.HashSenha;
+import servico.GerenciadorEquipe;
+import servico.GerenciadorUsuario;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas de conjunto sobre membros de equipes: mapas de bits por equipe
+ * (e, para equipes com membros em comum, as equipes de cada membro) contra
+ * varrer cópias de getMembros() com HashSet
+ *
+ * 1 milhão de usuários e 100 mil equipes: quase todas com 10 membros e 100
+ * equipes grandes (20 mil membros), todos sorteados.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BenchmarkConjuntosEquipe {
+    @Param({"1000000"})
+    public int usuarios;
+
+    @Param({"100000"})
+    public int equipes;
+
+    private static final int MEMBROS_EQUIPE = 10;
+    private static final int EQUIPES_GRANDES = 100;
+    private static final int MEMBROS_EQUIPE_GRANDE = 20_000;
+
+    private GerenciadorUsuario gerenciadorUsuario;
+    private GerenciadorEquipe gerenciadorEquipe;
+    private final ArrayList<Equipe> pequenas = new ArrayList<>();
+    private final ArrayList<Equipe> grandes = new ArrayList<>();
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        gerenciadorUsuario = new GerenciadorUsuario();
+        gerenciadorEquipe = new GerenciadorEquipe();
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            Random geracao = new Random(42);
+            GeradorDados.silenciar(() -> {
+                ArrayList<Usuario> todos = new ArrayList<>(usuarios);
+                for (int i = 0; i < usuarios; i++) {
+                    todos.add(new Colaborador("Colaborador " + i, GeradorDados.gerarCpf(geracao),
+                                              "c" + i + "@automax.com", "c" + i, "senha"));
+                }
+                gerenciadorUsuario.adicionarUsuarios(todos);
+                for (int i = 0; i < equipes; i++) {
+                    boolean grande = i % (equipes / EQUIPES_GRANDES) == 0;
+                    Equipe equipe = new Equipe("Equipe " + i);
+                    int membros = grande ? MEMBROS_EQUIPE_GRANDE : MEMBROS_EQUIPE;
+                    ArrayList<Usuario> selecionados = new ArrayList<>(membros);
+                    for (int j = 0; j < membros; j++) {
+                        selecionados.add(todos.get(geracao.nextInt(usuarios)));
+                    }
+                    equipe.adicionarMembros(selecionados);
+                    gerenciadorEquipe.adicionarEquipe(equipe);
+                    (grande ? grandes : pequenas).add(equipe);
+                }
+            });
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+    }
+
+    @Benchmark
+    public int intersecaoMapaBits() {
+        Equipe a = grandes.get(random.nextInt(grandes.size()));
+        Equipe b = grandes.get(random.nextInt(grandes.size()));
+        return a.contarMembrosEmComum(b);
+    }
+
+    @Benchmark
+    public int intersecaoVarredura() {
+        Equipe a = grandes.get(random.nextInt(grandes.size()));
+        Equipe b = grandes.get(random.nextInt(grandes.size()));
+        HashSet<Usuario> membrosB = new HashSet<>(b.getMembros());
+        int comuns = 0;
+        for (Usuario membro : a.getMembros()) {
+            if (membrosB.contains(membro)) {
+                comuns++;
+            }
+        }
+        return comuns;
+    }
+
+    @Benchmark
+    public int equipesComMembrosEmComumVinculos() {
+        Equipe equipe = pequenas.get(random.nextInt(pequenas.size()));
+        return gerenciadorEquipe.listarEquipesComMembrosEmComum(equipe).size();
+    }
+
+    @Benchmark
+    public int equipesComMembrosEmComumVarredura() {
+        Equipe equipe = pequenas.get(random.nextInt(pequenas.size()));
+        HashSet<Usuario> membros = new HashSet<>(equipe.getMembros());
+        int encontradas = 0;
+        for (Equipe outra : gerenciadorEquipe.listarEquipesList()) {
+            if (outra == equipe) {
+                continue;
+            }
+            for (Usuario membro : outra.getMembros()) {
+                if (membros.contains(membro)) {
+                    encontradas++;
+                    break;
+                }
+            }
+        }
+        return encontradas;
+    }
+
+    @Benchmark
+    public int usuariosSemEquipeMapaBits() {
+        MapaBits ids = gerenciadorEquipe.usuariosSemEquipe(gerenciadorUsuario.getIdsUsuarios());
+        return ids.cardinalidade();
+    }
+
+    @Benchmark
+    public int usuariosSemEquipeVarredura() {
+        HashSet<Usuario> emEquipes = new HashSet<>();
+        for (Equipe equipe : gerenciadorEquipe.listarEquipesList()) {
+            emEquipes.addAll(equipe.getMembros());
+        }
+        int sem = 0;
+        for (Usuario usuario : gerenciadorUsuario.listarUsuariosList()) {
+            if (!emEquipes.contains(usuario)) {
+                sem++;
+            }
+        }
+        return sem;
+    }
+}
@@ -0,0 +1,87 @@
+package benchmark;
+
+import modelo.Colaborador;
+import seguranca.HashSenha;
+import servico.DistribuidorTarefas;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da distribuição de tarefas: DistribuidorTarefas (filas de prioridade
+ * por especialidade) contra a escolha manual, que percorre os colaboradores
+ * procurando o apto com menos tarefas pendentes
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BenchmarkDistribuidorTarefas {
+    private static final int ESPECIALIDADES = 20;
+    private static final int TAREFAS_POR_LOTE = 100;
+
+    @Param({"100000"})
+    public int colaboradores;
+
+    private DistribuidorTarefas distribuidor;
+    private final ArrayList<Colaborador> todos = new ArrayList<>();
+    private final List<String> lote = Collections.nCopies(TAREFAS_POR_LOTE, "Tarefa");
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        distribuidor = new DistribuidorTarefas();
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            Random geracao = new Random(42);
+            for (int i = 0; i < colaboradores; i++) {
+                // 10% generalistas, o resto espalhado pelas especialidades
+                String especialidade = i % 10 == 0 ? "Geral" : "Especialidade " + geracao.nextInt(ESPECIALIDADES);
+                Colaborador colaborador = new Colaborador("Colaborador " + i, GeradorDados.gerarCpf(geracao),
+                                                          "c" + i + "@automax.com", "c" + i, "senha", especialidade);
+                todos.add(colaborador);
+                distribuidor.cadastrar(colaborador);
+            }
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+    }
+
+    private String sortearTipo() {
+        return "Especialidade " + random.nextInt(ESPECIALIDADES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAREFAS_POR_LOTE)
+    public Colaborador[] distribuidor() {
+        return distribuidor.atribuirLote(sortearTipo(), lote);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAREFAS_POR_LOTE)
+    public Colaborador[] varredura() {
+        String tipo = sortearTipo();
+        Colaborador[] destinos = new Colaborador[TAREFAS_POR_LOTE];
+        for (int i = 0; i < TAREFAS_POR_LOTE; i++) {
+            Colaborador escolhido = null;
+            for (Colaborador colaborador : todos) {
+                if (colaborador.podeExecutarTarefa(tipo)
+                    && (escolhido == null || colaborador.getTarefasPendentes() < escolhido.getTarefasPendentes())) {
+                    escolhido = colaborador;
+                }
+            }
+            escolhido.adicionarTarefa(lote.get(i), false);
+            destinos[i] = escolhido;
+        }
+        return destinos;
+    }
+}
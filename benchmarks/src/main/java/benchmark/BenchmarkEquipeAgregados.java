@@ -0,0 +1,101 @@
+package benchmark;
+
+import modelo.Administrador;
+import modelo.Colaborador;
+import modelo.Equipe;
+import modelo.Gerente;
+import modelo.Papel;
+import modelo.Usuario;
+import seguranca.HashSenha;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Painel de uma equipe (papéis, tarefas e produtividade média): agregados
+ * mantidos pela equipe contra recontar os membros a cada consulta
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BenchmarkEquipeAgregados {
+    @Param({"1000"})
+    public int membros;
+
+    private Equipe equipe;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        equipe = new Equipe("Equipe Benchmark");
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            Random geracao = new Random(42);
+            GeradorDados.silenciar(() -> {
+                for (int i = 0; i < membros; i++) {
+                    String cpf = GeradorDados.gerarCpf(geracao);
+                    Usuario usuario;
+                    if (i % 20 == 0) {
+                        usuario = new Gerente("Gerente " + i, cpf, "g" + i + "@automax.com", "g" + i, "senha");
+                    } else if (i % 50 == 1) {
+                        usuario = new Administrador("Admin " + i, cpf, "a" + i + "@automax.com", "a" + i, "senha");
+                    } else {
+                        Colaborador colaborador = new Colaborador("Colaborador " + i, cpf,
+                                                                  "c" + i + "@automax.com", "c" + i, "senha");
+                        int tarefas = geracao.nextInt(20);
+                        for (int j = 0; j < tarefas; j++) {
+                            colaborador.adicionarTarefa("Tarefa " + j, false);
+                        }
+                        for (int j = 0; j < tarefas / 2; j++) {
+                            colaborador.concluirTarefa(j);
+                        }
+                        usuario = colaborador;
+                    }
+                    equipe.adicionarMembro(usuario);
+                }
+            });
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+    }
+
+    @Benchmark
+    public void painelAgregado(Blackhole bh) {
+        bh.consume(equipe.contarMembros(Papel.ADMINISTRADOR));
+        bh.consume(equipe.contarMembros(Papel.GERENTE));
+        bh.consume(equipe.contarMembros(Papel.COLABORADOR));
+        bh.consume(equipe.getTotalTarefas());
+        bh.consume(equipe.getTarefasPendentes());
+        bh.consume(equipe.calcularProdutividadeMedia());
+    }
+
+    @Benchmark
+    public void painelRecontagem(Blackhole bh) {
+        int[] porPapel = new int[Papel.total()];
+        int colaboradores = 0;
+        long total = 0;
+        long pendentes = 0;
+        double somaProdutividade = 0.0;
+        for (Usuario membro : equipe.getMembros()) {
+            porPapel[membro.getPapel().getOrdinal()]++;
+            if (membro instanceof Colaborador) {
+                Colaborador colaborador = (Colaborador) membro;
+                colaboradores++;
+                total += colaborador.getTotalTarefas();
+                pendentes += colaborador.getTarefasPendentes();
+                somaProdutividade += colaborador.calcularProdutividade();
+            }
+        }
+        bh.consume(porPapel);
+        bh.consume(total);
+        bh.consume(pendentes);
+        bh.consume(colaboradores == 0 ? 0.0 : somaProdutividade / colaboradores);
+    }
+}
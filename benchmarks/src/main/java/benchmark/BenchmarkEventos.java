@@ -0,0 +1,52 @@
+package benchmark;
+
+import eventos.BarramentoEventos;
+import eventos.TipoEvento;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de publicar um evento no barramento sem assinantes, com um
+ * assinante e com quatro assinantes (cada um em sua thread)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkEventos {
+
+    @Param({"0", "1", "4"})
+    public int assinantes;
+
+    private BarramentoEventos barramento;
+    private final Object entidade = new Object();
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        barramento = new BarramentoEventos(65536, BarramentoEventos.Politica.BLOQUEAR);
+        for (int i = 0; i < assinantes; i++) {
+            barramento.assinar("benchmark-" + i, lote -> { });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        barramento.parar();
+    }
+
+    @Benchmark
+    public boolean publicar() {
+        return barramento.publicar(TipoEvento.STATUS_PROJETO_ALTERADO, entidade, null, "Planejado", "Em Andamento");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean publicarConcorrente() {
+        return barramento.publicar(TipoEvento.STATUS_PROJETO_ALTERADO, entidade, null, "Planejado", "Em Andamento");
+    }
+}
@@ -0,0 +1,55 @@
+package benchmark;
+
+import modelo.Equipe;
+import modelo.Usuario;
+import org.openjdk.jmh.annotations.*;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks das consultas e relatórios de GerenciadorEquipe
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BenchmarkGerenciadorEquipe {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int tamanho;
+
+    private GeradorDados.DadosSinteticos dados;
+    private Usuario usuario;
+    private PrintStream saidaOriginal;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = GeradorDados.gerar(tamanho, 42);
+        usuario = dados.usuarios.get(tamanho / 2);
+        // gerarRelatorio escreve no console; descarta a saída durante a medição
+        saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        System.setOut(saidaOriginal);
+    }
+
+    @Benchmark
+    public ArrayList<Equipe> listarEquipesDoUsuario() {
+        return dados.gerenciadorEquipe.listarEquipesDoUsuario(usuario);
+    }
+
+    @Benchmark
+    public void gerarRelatorio() {
+        dados.gerenciadorEquipe.gerarRelatorio();
+    }
+}
@@ -0,0 +1,52 @@
+package benchmark;
+
+import modelo.Projeto;
+import org.openjdk.jmh.annotations.*;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks das consultas e relatórios de GerenciadorProjeto
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BenchmarkGerenciadorProjeto {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int tamanho;
+
+    private GeradorDados.DadosSinteticos dados;
+    private PrintStream saidaOriginal;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = GeradorDados.gerar(tamanho, 42);
+        // gerarRelatorio escreve no console; descarta a saída durante a medição
+        saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        System.setOut(saidaOriginal);
+    }
+
+    @Benchmark
+    public ArrayList<Projeto> listarPorStatus() {
+        return dados.gerenciadorProjeto.listarPorStatus("Em Andamento");
+    }
+
+    @Benchmark
+    public void gerarRelatorio() {
+        dados.gerenciadorProjeto.gerarRelatorio();
+    }
+}
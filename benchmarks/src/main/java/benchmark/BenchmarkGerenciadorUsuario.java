@@ -0,0 +1,54 @@
+package benchmark;
+
+import modelo.Usuario;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks das consultas de GerenciadorUsuario
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BenchmarkGerenciadorUsuario {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int tamanho;
+
+    private GeradorDados.DadosSinteticos dados;
+    private String login;
+    private String senha;
+    private String nome;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = GeradorDados.gerar(tamanho, 42);
+        int alvo = tamanho / 2;
+        login = "u" + alvo;
+        senha = "senha" + alvo;
+        nome = dados.usuarios.get(tamanho - 1).getNome();
+        dados.gerenciadorUsuario.autenticar(login, senha); // Aquece o cache de autenticação
+    }
+
+    @Benchmark
+    public Usuario autenticar() {
+        return dados.gerenciadorUsuario.autenticar(login, senha);
+    }
+
+    @Benchmark
+    public Usuario buscarPorLogin() {
+        return dados.gerenciadorUsuario.buscarPorLogin(login);
+    }
+
+    @Benchmark
+    public ArrayList<Usuario> buscarPorNome() {
+        return dados.gerenciadorUsuario.buscarPorNome(nome);
+    }
+}
@@ -0,0 +1,139 @@
+package benchmark;
+
+import eventos.BarramentoEventos;
+import modelo.Colaborador;
+import modelo.Equipe;
+import modelo.Usuario;
+import seguranca.HashSenha;
+import servico.GerenciadorEquipe;
+import servico.GrafoColaboracao;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grafo de colaboração mantido a cada alteração de membros contra derivar
+ * "quem trabalha com quem" de listarEquipesDoUsuario e getMembros
+ *
+ * 100 mil usuários e 20 mil equipes de 5 a 30 membros sorteados.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BenchmarkGrafoColaboracao {
+    @Param({"100000"})
+    public int usuarios;
+
+    @Param({"20000"})
+    public int equipes;
+
+    private GerenciadorEquipe gerenciadorEquipe;
+    private GrafoColaboracao grafo;
+    private final ArrayList<Usuario> todos = new ArrayList<>();
+    private final ArrayList<Equipe> listaEquipes = new ArrayList<>();
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        gerenciadorEquipe = new GerenciadorEquipe();
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            Random geracao = new Random(42);
+            GeradorDados.silenciar(() -> {
+                for (int i = 0; i < usuarios; i++) {
+                    todos.add(new Colaborador("Colaborador " + i, GeradorDados.gerarCpf(geracao),
+                                              "c" + i + "@automax.com", "c" + i, "senha"));
+                }
+                for (int i = 0; i < equipes; i++) {
+                    Equipe equipe = new Equipe("Equipe " + i);
+                    int membros = 5 + geracao.nextInt(26);
+                    ArrayList<Usuario> selecionados = new ArrayList<>(membros);
+                    for (int j = 0; j < membros; j++) {
+                        selecionados.add(todos.get(geracao.nextInt(usuarios)));
+                    }
+                    equipe.adicionarMembros(selecionados);
+                    gerenciadorEquipe.adicionarEquipe(equipe);
+                    listaEquipes.add(equipe);
+                }
+            });
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+        // Barramento próprio: a medição aplica as alterações diretamente no grafo
+        grafo = new GrafoColaboracao();
+        grafo.conectar(new BarramentoEventos(1024, BarramentoEventos.Politica.DESCARTAR), gerenciadorEquipe);
+    }
+
+    @Benchmark
+    public int colaboradoresGrafo() {
+        return grafo.listarColaboradores(todos.get(random.nextInt(usuarios))).size();
+    }
+
+    @Benchmark
+    public int colaboradoresVarredura() {
+        Usuario usuario = todos.get(random.nextInt(usuarios));
+        HashMap<Usuario, Integer> pesos = new HashMap<>();
+        for (Equipe equipe : gerenciadorEquipe.listarEquipesDoUsuario(usuario)) {
+            for (Usuario membro : equipe.getMembros()) {
+                if (membro != usuario) {
+                    pesos.merge(membro, 1, Integer::sum);
+                }
+            }
+        }
+        return pesos.size();
+    }
+
+    @Benchmark
+    public int doisSaltosGrafo() {
+        return grafo.listarAlcancaveis(todos.get(random.nextInt(usuarios)), 2).size();
+    }
+
+    @Benchmark
+    public int doisSaltosVarredura() {
+        Usuario origem = todos.get(random.nextInt(usuarios));
+        HashSet<Usuario> alcancados = new HashSet<>();
+        alcancados.add(origem);
+        ArrayDeque<Usuario> nivel = new ArrayDeque<>();
+        nivel.add(origem);
+        for (int salto = 0; salto < 2; salto++) {
+            ArrayDeque<Usuario> proximo = new ArrayDeque<>();
+            for (Usuario usuario : nivel) {
+                for (Equipe equipe : gerenciadorEquipe.listarEquipesDoUsuario(usuario)) {
+                    for (Usuario membro : equipe.getMembros()) {
+                        if (alcancados.add(membro)) {
+                            proximo.add(membro);
+                        }
+                    }
+                }
+            }
+            nivel = proximo;
+        }
+        return alcancados.size() - 1;
+    }
+
+    @Benchmark
+    public boolean conectadosGrafo() {
+        return grafo.estaoConectados(todos.get(random.nextInt(usuarios)), todos.get(random.nextInt(usuarios)));
+    }
+
+    @Benchmark
+    public long entrarESairDeEquipe() {
+        Equipe equipe = listaEquipes.get(random.nextInt(equipes));
+        Usuario usuario = todos.get(random.nextInt(usuarios));
+        if (grafo.adicionarMembro(equipe, usuario)) {
+            grafo.removerMembro(equipe, usuario);
+        }
+        return grafo.contarArestas();
+    }
+}
@@ -0,0 +1,76 @@
+package benchmark;
+
+import modelo.Projeto;
+import servico.GerenciadorProjeto;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projetos ativos em um mês: índice de períodos do GerenciadorProjeto contra
+ * a varredura que converte as datas de todos os projetos
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BenchmarkIntervalos {
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final LocalDate INICIO_PERIODO = LocalDate.of(2020, 1, 1);
+    private static final int DIAS_PERIODO = 3650;
+
+    @Param({"100000", "500000"})
+    public int tamanho;
+
+    private GerenciadorProjeto gerenciador;
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        gerenciador = new GerenciadorProjeto();
+        Random geracao = new Random(42);
+        GeradorDados.silenciar(() -> {
+            for (int i = 0; i < tamanho; i++) {
+                // Projetos de 2 semanas a 6 meses espalhados por 10 anos
+                LocalDate inicio = INICIO_PERIODO.plusDays(geracao.nextInt(DIAS_PERIODO));
+                LocalDate fim = inicio.plusDays(14 + geracao.nextInt(170));
+                gerenciador.adicionarProjeto(new Projeto("p" + i, "periodo", inicio.format(FORMATO_DATA),
+                                                         fim.format(FORMATO_DATA)));
+            }
+        });
+    }
+
+    private LocalDate sortearMes() {
+        return INICIO_PERIODO.plusMonths(random.nextInt(DIAS_PERIODO / 30)).withDayOfMonth(1);
+    }
+
+    @Benchmark
+    public int indice() {
+        LocalDate mes = sortearMes();
+        return gerenciador.listarAtivosEntre(mes.format(FORMATO_DATA),
+                                             mes.plusMonths(1).minusDays(1).format(FORMATO_DATA)).size();
+    }
+
+    @Benchmark
+    public int varredura() {
+        LocalDate mes = sortearMes();
+        LocalDate ultimoDia = mes.plusMonths(1).minusDays(1);
+        ArrayList<Projeto> ativos = new ArrayList<>();
+        for (Projeto projeto : gerenciador.listarProjetosList()) {
+            LocalDate inicio = LocalDate.parse(projeto.getDataInicio(), FORMATO_DATA);
+            LocalDate fim = LocalDate.parse(projeto.getDataFimPrevista(), FORMATO_DATA);
+            if (!inicio.isAfter(ultimoDia) && !fim.isBefore(mes)) {
+                ativos.add(projeto);
+            }
+        }
+        return ativos.size();
+    }
+}
@@ -0,0 +1,45 @@
+package benchmark;
+
+import metricas.MetricaOperacao;
+import metricas.RegistroMetricas;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da instrumentação por chamada (iniciar + registrar) com a coleta
+ * desabilitada, habilitada medindo todas as chamadas e com amostragem
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkMetricas {
+
+    @Param({"desabilitada", "todas", "amostragem16"})
+    public String coleta;
+
+    private MetricaOperacao metrica;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        RegistroMetricas registro = new RegistroMetricas(!coleta.equals("desabilitada"),
+                                                         coleta.equals("amostragem16") ? 16 : 1);
+        metrica = registro.operacao("benchmark.operacao");
+    }
+
+    @Benchmark
+    public void medirChamada() {
+        metrica.registrar(metrica.iniciar());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void medirChamadaConcorrente() {
+        metrica.registrar(metrica.iniciar());
+    }
+}
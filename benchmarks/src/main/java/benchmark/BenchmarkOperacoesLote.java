@@ -0,0 +1,104 @@
+package benchmark;
+
+import modelo.Equipe;
+import modelo.Projeto;
+import modelo.Usuario;
+import org.openjdk.jmh.annotations.*;
+import servico.ResultadoLote;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara as operações em lote com o laço equivalente de chamadas unitárias
+ * (adição de membros a uma equipe nova e troca de status de projetos)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BenchmarkOperacoesLote {
+    private static final int TOTAL_USUARIOS = 100000;
+
+    @Param({"100", "5000"})
+    public int lote;
+
+    private GeradorDados.DadosSinteticos dados;
+    private List<Usuario> usuarios;
+    private Equipe equipe;
+    private LinkedHashMap<Integer, String> alteracoes;
+    private int chamada;
+    private PrintStream saidaOriginal;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = GeradorDados.gerar(TOTAL_USUARIOS, 42);
+        usuarios = dados.usuarios.subList(0, lote);
+        saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    // Cada chamada precisa de uma equipe vazia; as operações medidas levam
+    // dezenas de microssegundos ou mais, então o custo de Level.Invocation é desprezível
+    @Setup(Level.Invocation)
+    public void prepararChamada() {
+        equipe = new Equipe("Lote " + chamada, "Equipe criada para o benchmark");
+        dados.gerenciadorEquipe.adicionarEquipe(equipe);
+        // Alterna o status a cada chamada para que toda alteração seja efetiva
+        String status = chamada++ % 2 == 0 ? "Em Andamento" : "Pausado";
+        alteracoes = new LinkedHashMap<>();
+        for (Projeto projeto : dados.projetos.subList(0, Math.min(lote, dados.projetos.size()))) {
+            alteracoes.put(projeto.getId(), status);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void finalizarChamada() {
+        dados.gerenciadorEquipe.removerEquipe(equipe.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        System.setOut(saidaOriginal);
+    }
+
+    @Benchmark
+    public int adicionarMembrosUmAUm() {
+        int adicionados = 0;
+        for (Usuario usuario : usuarios) {
+            if (dados.gerenciadorEquipe.adicionarMembroEquipe(equipe.getNome(), usuario)) {
+                adicionados++;
+            }
+        }
+        return adicionados;
+    }
+
+    @Benchmark
+    public ResultadoLote[] adicionarMembrosEmLote() {
+        return dados.gerenciadorEquipe.adicionarMembros(equipe.getId(), usuarios);
+    }
+
+    @Benchmark
+    public int atualizarStatusUmAUm() {
+        int alterados = 0;
+        for (Map.Entry<Integer, String> alteracao : alteracoes.entrySet()) {
+            if (dados.gerenciadorProjeto.atualizarStatus(alteracao.getKey(), alteracao.getValue())) {
+                alterados++;
+            }
+        }
+        return alterados;
+    }
+
+    @Benchmark
+    public ResultadoLote[] atualizarStatusEmLote() {
+        return dados.gerenciadorProjeto.atualizarStatusEmLote(alteracoes);
+    }
+}
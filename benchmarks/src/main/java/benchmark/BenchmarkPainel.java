@@ -0,0 +1,63 @@
+package benchmark;
+
+import eventos.BarramentoEventos;
+import modelo.Projeto;
+import painel.PainelIndicadores;
+import painel.ResumoPainel;
+import org.openjdk.jmh.annotations.*;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura do painel de indicadores materializado contra o cálculo dos
+ * mesmos números varrendo as listas dos gerenciadores
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BenchmarkPainel {
+
+    @Param({"1000", "100000"})
+    public int tamanho;
+
+    private GeradorDados.DadosSinteticos dados;
+    private BarramentoEventos barramento;
+    private PainelIndicadores painel;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dados = GeradorDados.gerar(tamanho, 42);
+        barramento = new BarramentoEventos(65536, BarramentoEventos.Politica.BLOQUEAR);
+        painel = new PainelIndicadores();
+        painel.conectar(barramento, dados.gerenciadorUsuario, dados.gerenciadorProjeto, dados.gerenciadorEquipe);
+    }
+
+    @TearDown(Level.Trial)
+    public void finalizar() {
+        barramento.parar();
+    }
+
+    @Benchmark
+    public ResumoPainel lerPainel() {
+        return painel.getResumo();
+    }
+
+    @Benchmark
+    public HashMap<String, Integer> varrerProjetos() {
+        // Parte do que o painel entrega: contagem por status e progresso médio
+        HashMap<String, Integer> porStatus = new HashMap<>();
+        long soma = 0;
+        for (Projeto projeto : dados.gerenciadorProjeto.listarProjetosList()) {
+            porStatus.merge(projeto.getStatus(), 1, Integer::sum);
+            soma += projeto.calcularProgresso();
+        }
+        porStatus.put("progresso", (int) soma);
+        return porStatus;
+    }
+}
@@ -0,0 +1,68 @@
+package benchmark;
+
+import agenda.RodaTemporizacao;
+import org.openjdk.jmh.annotations.*;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rearmar o alerta de um projeto (mudança de prazo) com milhões de prazos
+ * pendentes: roda de temporização hierárquica do AgendadorPrazos contra uma
+ * árvore ordenada por instante (o que uma fila de prioridade com remoção
+ * indexada oferece)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class BenchmarkPrazos {
+    private static final long INICIO = 1_767_225_600_000L; // 01/01/2026
+    private static final long DOIS_ANOS = 2 * 365 * 86_400_000L;
+
+    @Param({"100000", "2000000"})
+    public int pendentes;
+
+    private RodaTemporizacao<Integer> roda;
+    private RodaTemporizacao.Temporizador<Integer>[] temporizadores;
+    private TreeSet<long[]> arvore;
+    private long[][] entradas;
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void preparar() {
+        Random geracao = new Random(42);
+        roda = new RodaTemporizacao<>(1000, INICIO);
+        temporizadores = new RodaTemporizacao.Temporizador[pendentes];
+        // Entrada da árvore: {instante, id}
+        arvore = new TreeSet<>((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        entradas = new long[pendentes][];
+        for (int i = 0; i < pendentes; i++) {
+            long instante = INICIO + (long) (geracao.nextDouble() * DOIS_ANOS);
+            temporizadores[i] = roda.agendar(instante, i);
+            entradas[i] = new long[] {instante, i};
+            arvore.add(entradas[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean roda() {
+        RodaTemporizacao.Temporizador<Integer> temporizador = temporizadores[random.nextInt(pendentes)];
+        roda.reagendar(temporizador, INICIO + (long) (random.nextDouble() * DOIS_ANOS));
+        return temporizador.isAgendado();
+    }
+
+    @Benchmark
+    public boolean arvore() {
+        long[] entrada = entradas[random.nextInt(pendentes)];
+        arvore.remove(entrada);
+        entrada[0] = INICIO + (long) (random.nextDouble() * DOIS_ANOS);
+        return arvore.add(entrada);
+    }
+}
@@ -0,0 +1,92 @@
+package benchmark;
+
+import modelo.Colaborador;
+import seguranca.HashSenha;
+import servico.RankingProdutividade;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking de produtividade: árvore de estatística de ordem mantida a cada
+ * alteração contra calcular a produtividade de todos e ordenar
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BenchmarkRanking {
+    @Param({"100000"})
+    public int colaboradores;
+
+    private RankingProdutividade ranking;
+    private final ArrayList<Colaborador> todos = new ArrayList<>();
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        ranking = new RankingProdutividade();
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            Random geracao = new Random(42);
+            GeradorDados.silenciar(() -> {
+                for (int i = 0; i < colaboradores; i++) {
+                    Colaborador colaborador = new Colaborador("Colaborador " + i, GeradorDados.gerarCpf(geracao),
+                                                              "c" + i + "@automax.com", "c" + i, "senha");
+                    int tarefas = geracao.nextInt(20);
+                    for (int j = 0; j < tarefas; j++) {
+                        colaborador.adicionarTarefa("Tarefa " + j, false);
+                    }
+                    int concluidas = tarefas == 0 ? 0 : geracao.nextInt(tarefas + 1);
+                    for (int j = 0; j < concluidas; j++) {
+                        colaborador.concluirTarefa(j);
+                    }
+                    todos.add(colaborador);
+                    ranking.atualizar(colaborador);
+                }
+            });
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+    }
+
+    @Benchmark
+    public List<Colaborador> top10Ranking() {
+        return ranking.listarTop(10);
+    }
+
+    @Benchmark
+    public List<Colaborador> top10Ordenacao() {
+        ArrayList<Colaborador> ordenados = new ArrayList<>(todos);
+        ordenados.sort(Comparator.comparingDouble(Colaborador::calcularProdutividade).reversed()
+                                 .thenComparing(Comparator.comparingInt(Colaborador::getTotalTarefas).reversed()));
+        return ordenados.subList(0, 10);
+    }
+
+    @Benchmark
+    public int posicaoRanking() {
+        return ranking.getPosicao(todos.get(random.nextInt(colaboradores)));
+    }
+
+    @Benchmark
+    public int posicaoVarredura() {
+        Colaborador alvo = todos.get(random.nextInt(colaboradores));
+        double produtividade = alvo.calcularProdutividade();
+        int posicao = 1;
+        for (Colaborador colaborador : todos) {
+            if (colaborador.calcularProdutividade() > produtividade) {
+                posicao++;
+            }
+        }
+        return posicao;
+    }
+}
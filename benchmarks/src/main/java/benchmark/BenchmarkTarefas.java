@@ -0,0 +1,107 @@
+package benchmark;
+
+import modelo.Colaborador;
+import modelo.RepositorioTarefas;
+import modelo.Tarefa;
+import seguranca.HashSenha;
+import org.openjdk.jmh.annotations.*;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas globais de tarefas: repositório central (índices por status e
+ * por termo) contra a varredura que copia a lista de cada colaborador
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BenchmarkTarefas {
+    private static final int TAREFAS_POR_COLABORADOR = 20;
+    private static final String[] ACOES = {"revisar", "instalar", "testar", "documentar", "orçar", "vistoriar"};
+    private static final int OBJETOS = 500;
+
+    @Param({"10000"})
+    public int colaboradores;
+
+    private final ArrayList<Colaborador> todos = new ArrayList<>();
+    private final Random random = new Random(7);
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            Random geracao = new Random(42);
+            for (int i = 0; i < colaboradores; i++) {
+                Colaborador colaborador = new Colaborador("Colaborador " + i, GeradorDados.gerarCpf(geracao),
+                                                          "c" + i + "@automax.com", "c" + i, "senha");
+                for (int j = 0; j < TAREFAS_POR_COLABORADOR; j++) {
+                    // "revisar item123": cada objeto aparece em ~0,2% das tarefas
+                    colaborador.adicionarTarefa(ACOES[geracao.nextInt(ACOES.length)] + " item"
+                                                + geracao.nextInt(OBJETOS), false);
+                }
+                for (int j = 0; j < TAREFAS_POR_COLABORADOR; j += 3) {
+                    GeradorDados.silenciar(() -> colaborador.concluirTarefa(0));
+                }
+                todos.add(colaborador);
+            }
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+    }
+
+    @Benchmark
+    public int buscarRepositorio() {
+        return RepositorioTarefas.global().buscar("item" + random.nextInt(OBJETOS)).size();
+    }
+
+    @Benchmark
+    public int buscarVarredura() {
+        String termo = "item" + random.nextInt(OBJETOS);
+        ArrayList<String> encontradas = new ArrayList<>();
+        for (Colaborador colaborador : todos) {
+            for (String tarefa : colaborador.getTarefasAtribuidas()) {
+                if (tarefa.contains(termo + " ") || tarefa.endsWith(termo)) {
+                    encontradas.add(tarefa);
+                }
+            }
+        }
+        return encontradas.size();
+    }
+
+    @Benchmark
+    public int pendentesRepositorio() {
+        return RepositorioTarefas.global().listarPendentes().size();
+    }
+
+    @Benchmark
+    public int pendentesVarredura() {
+        ArrayList<String> pendentes = new ArrayList<>();
+        for (Colaborador colaborador : todos) {
+            for (String tarefa : colaborador.getTarefasAtribuidas()) {
+                if (!tarefa.contains("[CONCLUÍDA]")) {
+                    pendentes.add(tarefa);
+                }
+            }
+        }
+        return pendentes.size();
+    }
+
+    @Benchmark
+    public int pendentesDeUmColaborador() {
+        int pendentes = 0;
+        for (Tarefa tarefa : todos.get(random.nextInt(colaboradores)).getTarefas()) {
+            if (!tarefa.isConcluida()) {
+                pendentes++;
+            }
+        }
+        return pendentes;
+    }
+}
@@ -0,0 +1,302 @@
+package benchmark;
+
+import busca.MotorBusca;
+import seguranca.GerenciadorSessao;
+import servidor.Json;
+import servidor.ServidorHttp;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teste de carga da API HTTP
+ * Sobe um {@link ServidorHttp} no próprio processo sobre dados do
+ * {@link GeradorDados} e dispara requisições em laço fechado a partir de
+ * várias threads cliente (java.net.http, conexões persistentes), reportando
+ * vazão e percentis de latência por rota.
+ *
+ * Mistura de requisições (com sessão de administrador):
+ *   50% GET /api/projetos/{id}, 20% GET /api/equipes/{id}, 15% GET /api/busca,
+ *   10% GET /api/projetos?limite=20, 5% PUT /api/projetos/{id}/status
+ *
+ * Uso:
+ *   java -cp benchmarks.jar benchmark.CargaHttp [--usuarios N] [--threads N]
+ *        [--duracao s] [--aquecimento s] [--semente N] [--url http://host:porta]
+ *
+ * Com --url a carga vai para um servidor externo (ex.: "Main --servidor"),
+ * que precisa ter o usuário admin/123456 e projetos/equipes com IDs 1..--usuarios/10.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class CargaHttp {
+    /**
+     * Rotas exercitadas pelo teste
+     */
+    enum Rota { PROJETO, EQUIPE, BUSCA, LISTAGEM, STATUS }
+
+    private static final int[] PESOS = {50, 20, 15, 10, 5};
+    private static final String[] TERMOS_BUSCA = {"vendas", "estoque", "oficina", "garantia", "seminovos",
+            "marketing", "financ*", "atend*", "equipe", "revis*"};
+    private static final String[] STATUS = {"Planejado", "Em Andamento", "Pausado"};
+
+    private int totalUsuarios = 10000;
+    private int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 4);
+    private int duracaoSegundos = 20;
+    private int aquecimentoSegundos = 5;
+    private long semente = 42;
+    private String url = null;
+
+    private int totalProjetos;
+    private int totalEquipes;
+
+    /**
+     * Método principal do teste de carga
+     * @param args Opções de linha de comando
+     */
+    public static void main(String[] args) throws Exception {
+        CargaHttp carga = new CargaHttp();
+        try {
+            carga.lerOpcoes(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Erro nas opções: " + e.getMessage());
+            return;
+        }
+        carga.executar();
+    }
+
+    private void lerOpcoes(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String valor = args[i + 1];
+            switch (args[i]) {
+                case "--usuarios":
+                    totalUsuarios = Integer.parseInt(valor);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(valor);
+                    break;
+                case "--duracao":
+                    duracaoSegundos = Integer.parseInt(valor);
+                    break;
+                case "--aquecimento":
+                    aquecimentoSegundos = Integer.parseInt(valor);
+                    break;
+                case "--semente":
+                    semente = Long.parseLong(valor);
+                    break;
+                case "--url":
+                    url = valor.endsWith("/") ? valor.substring(0, valor.length() - 1) : valor;
+                    break;
+                default:
+                    throw new IllegalArgumentException("opção desconhecida: " + args[i]);
+            }
+        }
+        if (totalUsuarios < 100 || threads < 1 || duracaoSegundos < 1) {
+            throw new IllegalArgumentException("valores fora do intervalo permitido");
+        }
+    }
+
+    private void executar() throws Exception {
+        ServidorHttp servidor = null;
+        String login = "admin";
+        String senha = "123456";
+        if (url == null) {
+            System.out.println("Gerando " + totalUsuarios + " usuários (semente " + semente + ")...");
+            GeradorDados.DadosSinteticos dados = GeradorDados.gerar(totalUsuarios, semente, new MotorBusca());
+            totalProjetos = dados.projetos.size();
+            totalEquipes = dados.equipes.size();
+            servidor = new ServidorHttp(dados.gerenciadorUsuario, dados.gerenciadorProjeto, dados.gerenciadorEquipe,
+                                        new GerenciadorSessao(dados.gerenciadorUsuario), dados.motorBusca);
+            if (!servidor.iniciar(0)) {
+                return;
+            }
+            url = "http://localhost:" + servidor.getPorta();
+            login = "u0"; // o gerador cria um administrador a cada 100 usuários
+            senha = "senha0";
+        } else {
+            totalProjetos = totalUsuarios / 10;
+            totalEquipes = totalUsuarios / 10;
+        }
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String token = login(cliente, login, senha);
+        if (token == null) {
+            System.out.println("Erro ao autenticar no servidor " + url);
+            if (servidor != null) {
+                servidor.parar();
+            }
+            return;
+        }
+        System.out.println("Carga em " + url + ": " + threads + " threads cliente, aquecimento "
+                           + aquecimentoSegundos + " s, medição " + duracaoSegundos + " s");
+
+        long inicio = System.nanoTime();
+        long fimAquecimento = inicio + TimeUnit.SECONDS.toNanos(aquecimentoSegundos);
+        long fim = fimAquecimento + TimeUnit.SECONDS.toNanos(duracaoSegundos);
+        Cliente[] clientes = new Cliente[threads];
+        ArrayList<Thread> threadsCliente = new ArrayList<>();
+        final String sessao = token;
+        GeradorDados.silenciar(() -> {
+            for (int i = 0; i < threads; i++) {
+                clientes[i] = new Cliente(cliente, sessao, new Random(semente + i), fimAquecimento, fim);
+                Thread thread = new Thread(clientes[i], "cliente-http-" + i);
+                threadsCliente.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threadsCliente) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        if (servidor != null) {
+            servidor.parar();
+        }
+        imprimirResultado(clientes);
+    }
+
+    private String login(HttpClient cliente, String login, String senha) {
+        try {
+            HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url + "/api/login"))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"login\":\"" + login + "\",\"senha\":\"" + senha + "\"}"))
+                    .build();
+            HttpResponse<String> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 200) {
+                return null;
+            }
+            return (String) Json.lerObjeto(resposta.body()).get("token");
+        } catch (Exception e) {
+            System.out.println("Erro ao conectar: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void imprimirResultado(Cliente[] clientes) {
+        HistogramaLatencia geral = new HistogramaLatencia();
+        long errosTotais = 0;
+        System.out.println("\nRESULTADO DA CARGA HTTP");
+        System.out.println("═".repeat(60));
+        for (Rota rota : Rota.values()) {
+            HistogramaLatencia soma = new HistogramaLatencia();
+            long erros = 0;
+            for (Cliente cliente : clientes) {
+                soma.somar(cliente.latencias[rota.ordinal()]);
+                erros += cliente.erros[rota.ordinal()];
+            }
+            geral.somar(soma);
+            errosTotais += erros;
+            if (soma.getTotal() > 0) {
+                System.out.printf(Locale.ROOT, "%-9s %9.1f req/s  %s  erros=%d%n", rota,
+                                  soma.getTotal() / (double) duracaoSegundos,
+                                  soma.resumo(TimeUnit.NANOSECONDS), erros);
+            }
+        }
+        System.out.println("─".repeat(60));
+        System.out.printf(Locale.ROOT, "%-9s %9.1f req/s  %s  erros=%d%n", "TOTAL",
+                          geral.getTotal() / (double) duracaoSegundos, geral.resumo(TimeUnit.NANOSECONDS),
+                          errosTotais);
+    }
+
+    private Rota sortearRota(Random random) {
+        int sorteio = random.nextInt(100);
+        for (Rota rota : Rota.values()) {
+            sorteio -= PESOS[rota.ordinal()];
+            if (sorteio < 0) {
+                return rota;
+            }
+        }
+        return Rota.PROJETO;
+    }
+
+    private HttpRequest montarRequisicao(Rota rota, Random random, String token) {
+        String caminho;
+        HttpRequest.Builder construtor;
+        switch (rota) {
+            case PROJETO:
+                caminho = "/api/projetos/" + (1 + random.nextInt(totalProjetos));
+                construtor = HttpRequest.newBuilder().GET();
+                break;
+            case EQUIPE:
+                caminho = "/api/equipes/" + (1 + random.nextInt(totalEquipes));
+                construtor = HttpRequest.newBuilder().GET();
+                break;
+            case BUSCA:
+                caminho = "/api/busca?modo=ou&limite=20&q=" + TERMOS_BUSCA[random.nextInt(TERMOS_BUSCA.length)]
+                        .replace("*", "%2A");
+                construtor = HttpRequest.newBuilder().GET();
+                break;
+            case LISTAGEM:
+                caminho = "/api/projetos?limite=20&inicio=" + random.nextInt(totalProjetos);
+                construtor = HttpRequest.newBuilder().GET();
+                break;
+            default:
+                caminho = "/api/projetos/" + (1 + random.nextInt(totalProjetos)) + "/status";
+                construtor = HttpRequest.newBuilder().PUT(HttpRequest.BodyPublishers.ofString(
+                        "{\"status\":\"" + STATUS[random.nextInt(STATUS.length)] + "\"}"));
+        }
+        return construtor.uri(URI.create(url + caminho)).header("Authorization", "Bearer " + token).build();
+    }
+
+    /**
+     * Thread cliente com histogramas próprios
+     */
+    private class Cliente implements Runnable {
+        final HistogramaLatencia[] latencias = new HistogramaLatencia[Rota.values().length];
+        final long[] erros = new long[Rota.values().length];
+        private final HttpClient cliente;
+        private final String token;
+        private final Random random;
+        private final long fimAquecimento;
+        private final long fim;
+
+        Cliente(HttpClient cliente, String token, Random random, long fimAquecimento, long fim) {
+            this.cliente = cliente;
+            this.token = token;
+            this.random = random;
+            this.fimAquecimento = fimAquecimento;
+            this.fim = fim;
+            for (int i = 0; i < latencias.length; i++) {
+                latencias[i] = new HistogramaLatencia();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                long inicio = System.nanoTime();
+                if (inicio >= fim) {
+                    return;
+                }
+                Rota rota = sortearRota(random);
+                boolean sucesso;
+                try {
+                    HttpResponse<Void> resposta = cliente.send(montarRequisicao(rota, random, token),
+                                                                HttpResponse.BodyHandlers.discarding());
+                    // Projetos/equipes sorteados podem não existir em servidores externos
+                    sucesso = resposta.statusCode() == 200 || resposta.statusCode() == 404;
+                } catch (Exception e) {
+                    sucesso = false;
+                }
+                if (inicio < fimAquecimento) {
+                    continue;
+                }
+                latencias[rota.ordinal()].registrar(System.nanoTime() - inicio);
+                if (!sucesso) {
+                    erros[rota.ordinal()]++;
+                }
+            }
+        }
+    }
+}
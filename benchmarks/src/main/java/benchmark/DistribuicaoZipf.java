@@ -0,0 +1,53 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Distribuição de Zipf sobre as posições 0..n-1
+ * A posição k é sorteada com probabilidade proporcional a 1 / (k + 1)^s,
+ * ou seja, poucas posições concentram a maior parte dos sorteios.
+ * A função de distribuição acumulada é pré-calculada e cada amostra custa
+ * uma busca binária.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class DistribuicaoZipf {
+    private final double[] acumulada;
+
+    /**
+     * Construtor da distribuição
+     * @param n Número de posições (n >= 1)
+     * @param expoente Expoente s (0 = uniforme; quanto maior, mais concentrada)
+     */
+    public DistribuicaoZipf(int n, double expoente) {
+        if (n < 1) {
+            throw new IllegalArgumentException("A distribuição precisa de ao menos uma posição");
+        }
+        acumulada = new double[n];
+        double soma = 0;
+        for (int k = 0; k < n; k++) {
+            soma += 1.0 / Math.pow(k + 1, expoente);
+            acumulada[k] = soma;
+        }
+        for (int k = 0; k < n; k++) {
+            acumulada[k] /= soma;
+        }
+        acumulada[n - 1] = 1.0;
+    }
+
+    /**
+     * Sorteia uma posição
+     * @param random Gerador aleatório
+     * @return Posição entre 0 e n-1
+     */
+    public int amostrar(Random random) {
+        int posicao = Arrays.binarySearch(acumulada, random.nextDouble());
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+
+    public int getTamanho() {
+        return acumulada.length;
+    }
+}
@@ -0,0 +1,329 @@
+package benchmark;
+
+import busca.IndiceInvertido;
+import busca.MotorBusca;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Gerador de carga para dimensionamento do sistema
+ * Popula os gerenciadores com {@link GeradorDados} e executa uma mistura de
+ * logins, buscas, atualizações de status e relatórios, reportando vazão e
+ * percentis de latência por operação.
+ *
+ * Modos:
+ * - fechado: cada thread executa uma operação após a outra (com pausa opcional);
+ *   mede a capacidade máxima do sistema
+ * - aberto: as operações chegam a uma taxa fixa, independente das respostas;
+ *   a latência é medida a partir do horário previsto de chegada, de modo que
+ *   o tempo em fila entra na conta quando o sistema não acompanha a taxa
+ *   (evita a "omissão coordenada" do modo fechado)
+ *
+ * Os gerenciadores não são thread-safe: leituras (login, busca, relatório)
+ * compartilham um ReadWriteLock e atualizações de status usam a trava exclusiva.
+ *
+ * Uso:
+ *   java -cp benchmarks.jar benchmark.DriverCarga [--modo fechado|aberto] [--usuarios N]
+ *        [--threads N] [--taxa ops/s] [--duracao s] [--aquecimento s] [--pausa ms]
+ *        [--semente N] [--mix login,busca,status,relatorio]
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class DriverCarga {
+    /**
+     * Operações simuladas pelo gerador de carga
+     */
+    enum Operacao { LOGIN, BUSCA, STATUS, RELATORIO }
+
+    private static final String[] TERMOS_BUSCA = {"vendas", "estoque", "oficina", "garantia", "seminovos",
+            "marketing", "silva", "oliveira", "ana", "lucas", "financ*", "atend*", "equipe", "revis*"};
+    private static final double EXPOENTE_LOGINS = 1.0;
+    private static final int PERCENTUAL_SENHA_ERRADA = 2;
+
+    private String modo = "fechado";
+    private int totalUsuarios = 100000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private double taxa = 1000;
+    private int duracaoSegundos = 30;
+    private int aquecimentoSegundos = 5;
+    private long pausaMillis = 0;
+    private long semente = 42;
+    private int[] pesos = {60, 25, 14, 1};
+
+    private GeradorDados.DadosSinteticos dados;
+    private DistribuicaoZipf usuariosAtivos;
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Método principal do gerador de carga
+     * @param args Opções de linha de comando
+     */
+    public static void main(String[] args) {
+        DriverCarga driver = new DriverCarga();
+        try {
+            driver.lerOpcoes(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Erro nas opções: " + e.getMessage());
+            return;
+        }
+        driver.executar();
+    }
+
+    private void lerOpcoes(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String valor = args[i + 1];
+            switch (args[i]) {
+                case "--modo":
+                    if (!valor.equals("fechado") && !valor.equals("aberto")) {
+                        throw new IllegalArgumentException("modo deve ser 'fechado' ou 'aberto'");
+                    }
+                    modo = valor;
+                    break;
+                case "--usuarios":
+                    totalUsuarios = Integer.parseInt(valor);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(valor);
+                    break;
+                case "--taxa":
+                    taxa = Double.parseDouble(valor);
+                    break;
+                case "--duracao":
+                    duracaoSegundos = Integer.parseInt(valor);
+                    break;
+                case "--aquecimento":
+                    aquecimentoSegundos = Integer.parseInt(valor);
+                    break;
+                case "--pausa":
+                    pausaMillis = Long.parseLong(valor);
+                    break;
+                case "--semente":
+                    semente = Long.parseLong(valor);
+                    break;
+                case "--mix":
+                    String[] partes = valor.split(",");
+                    if (partes.length != pesos.length) {
+                        throw new IllegalArgumentException("mix deve ter 4 pesos: login,busca,status,relatorio");
+                    }
+                    for (int j = 0; j < partes.length; j++) {
+                        pesos[j] = Integer.parseInt(partes[j].trim());
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("opção desconhecida: " + args[i]);
+            }
+        }
+        if (totalUsuarios < 10 || threads < 1 || taxa <= 0 || duracaoSegundos < 1) {
+            throw new IllegalArgumentException("valores fora do intervalo permitido");
+        }
+    }
+
+    private void executar() {
+        System.out.println("Gerando " + totalUsuarios + " usuários (semente " + semente + ")...");
+        long inicioGeracao = System.nanoTime();
+        dados = GeradorDados.gerar(totalUsuarios, semente, new MotorBusca());
+        usuariosAtivos = new DistribuicaoZipf(dados.usuarios.size(), EXPOENTE_LOGINS);
+        System.out.printf(Locale.ROOT, "Dados gerados em %.1f s: %d usuários, %d projetos, %d equipes%n",
+                          (System.nanoTime() - inicioGeracao) / 1e9, dados.usuarios.size(),
+                          dados.projetos.size(), dados.equipes.size());
+        System.out.println("Modo " + modo + ", " + threads + " threads"
+                           + (modo.equals("aberto") ? ", taxa " + taxa + " ops/s" : "")
+                           + ", aquecimento " + aquecimentoSegundos + " s, medição " + duracaoSegundos + " s");
+
+        Trabalhador[] trabalhadores = new Trabalhador[threads];
+        ArrayList<Thread> threadsCarga = new ArrayList<>();
+        AtomicLong sequencia = new AtomicLong();
+        long inicio = System.nanoTime();
+        long fimAquecimento = inicio + TimeUnit.SECONDS.toNanos(aquecimentoSegundos);
+        long fim = fimAquecimento + TimeUnit.SECONDS.toNanos(duracaoSegundos);
+
+        GeradorDados.silenciar(() -> {
+            for (int i = 0; i < threads; i++) {
+                trabalhadores[i] = new Trabalhador(new Random(semente + i), sequencia, inicio, fimAquecimento, fim);
+                Thread thread = new Thread(trabalhadores[i], "carga-" + i);
+                threadsCarga.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threadsCarga) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        imprimirResultado(trabalhadores);
+    }
+
+    private void imprimirResultado(Trabalhador[] trabalhadores) {
+        HistogramaLatencia geral = new HistogramaLatencia();
+        System.out.println("\nRESULTADO DA CARGA");
+        System.out.println("═".repeat(60));
+        for (Operacao operacao : Operacao.values()) {
+            HistogramaLatencia soma = new HistogramaLatencia();
+            long erros = 0;
+            for (Trabalhador trabalhador : trabalhadores) {
+                soma.somar(trabalhador.latencias[operacao.ordinal()]);
+                erros += trabalhador.erros[operacao.ordinal()];
+            }
+            geral.somar(soma);
+            if (soma.getTotal() > 0) {
+                System.out.printf(Locale.ROOT, "%-10s %8.1f ops/s  %s  erros=%d%n", operacao,
+                                  soma.getTotal() / (double) duracaoSegundos,
+                                  soma.resumo(TimeUnit.NANOSECONDS), erros);
+            }
+        }
+        System.out.println("─".repeat(60));
+        System.out.printf(Locale.ROOT, "%-10s %8.1f ops/s  %s%n", "TOTAL",
+                          geral.getTotal() / (double) duracaoSegundos, geral.resumo(TimeUnit.NANOSECONDS));
+        System.out.println("Cache de autenticação: " + dados.gerenciadorUsuario.getCacheAutenticacao().getAcertos()
+                           + " acertos, " + dados.gerenciadorUsuario.getCacheAutenticacao().getFalhas() + " falhas");
+    }
+
+    /**
+     * Sorteia uma operação de acordo com os pesos do mix
+     */
+    private Operacao sortearOperacao(Random random, int somaPesos) {
+        int sorteio = random.nextInt(somaPesos);
+        for (Operacao operacao : Operacao.values()) {
+            sorteio -= pesos[operacao.ordinal()];
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        return Operacao.LOGIN;
+    }
+
+    /**
+     * Executa uma operação sob a trava adequada
+     * @return true se a operação teve o resultado esperado
+     */
+    private boolean executarOperacao(Operacao operacao, Random random) {
+        switch (operacao) {
+            case LOGIN: {
+                int indice = usuariosAtivos.amostrar(random);
+                String senha = random.nextInt(100) < PERCENTUAL_SENHA_ERRADA ? "errada" : "senha" + indice;
+                trava.readLock().lock();
+                try {
+                    boolean autenticado = dados.gerenciadorUsuario.autenticar("u" + indice, senha) != null;
+                    return autenticado != senha.equals("errada");
+                } finally {
+                    trava.readLock().unlock();
+                }
+            }
+            case BUSCA: {
+                String termo = TERMOS_BUSCA[random.nextInt(TERMOS_BUSCA.length)];
+                trava.readLock().lock();
+                try {
+                    dados.motorBusca.buscar(termo, IndiceInvertido.Modo.OU, 20);
+                    return true;
+                } finally {
+                    trava.readLock().unlock();
+                }
+            }
+            case STATUS: {
+                int id = dados.projetos.get(random.nextInt(dados.projetos.size())).getId();
+                String status = GeradorDados.sortearStatus(random);
+                trava.writeLock().lock();
+                try {
+                    return dados.gerenciadorProjeto.atualizarStatus(id, status);
+                } finally {
+                    trava.writeLock().unlock();
+                }
+            }
+            default: {
+                int relatorio = random.nextInt(3);
+                trava.readLock().lock();
+                try {
+                    if (relatorio == 0) {
+                        dados.gerenciadorUsuario.gerarRelatorio();
+                    } else if (relatorio == 1) {
+                        dados.gerenciadorProjeto.gerarRelatorio();
+                    } else {
+                        dados.gerenciadorEquipe.gerarRelatorio();
+                    }
+                    return true;
+                } finally {
+                    trava.readLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Thread de carga com histogramas próprios (sem contenção ao registrar)
+     */
+    private class Trabalhador implements Runnable {
+        final HistogramaLatencia[] latencias = new HistogramaLatencia[Operacao.values().length];
+        final long[] erros = new long[Operacao.values().length];
+        private final Random random;
+        private final AtomicLong sequencia;
+        private final long inicio;
+        private final long fimAquecimento;
+        private final long fim;
+
+        Trabalhador(Random random, AtomicLong sequencia, long inicio, long fimAquecimento, long fim) {
+            this.random = random;
+            this.sequencia = sequencia;
+            this.inicio = inicio;
+            this.fimAquecimento = fimAquecimento;
+            this.fim = fim;
+            for (int i = 0; i < latencias.length; i++) {
+                latencias[i] = new HistogramaLatencia();
+            }
+        }
+
+        @Override
+        public void run() {
+            int somaPesos = 0;
+            for (int peso : pesos) {
+                somaPesos += peso;
+            }
+            double intervaloNanos = 1e9 / taxa;
+            boolean aquecendo = aquecimentoSegundos > 0;
+
+            while (true) {
+                long chegada;
+                if (modo.equals("aberto")) {
+                    // Horário previsto da próxima chegada na agenda global de taxa fixa
+                    chegada = inicio + (long) (sequencia.getAndIncrement() * intervaloNanos);
+                    long espera = chegada - System.nanoTime();
+                    if (espera > 0) {
+                        LockSupport.parkNanos(espera);
+                    }
+                } else {
+                    chegada = System.nanoTime();
+                }
+                if (chegada >= fim) {
+                    return;
+                }
+                if (aquecendo && chegada >= fimAquecimento) {
+                    for (HistogramaLatencia histograma : latencias) {
+                        histograma.limpar();
+                    }
+                    Arrays.fill(erros, 0);
+                    aquecendo = false;
+                }
+
+                Operacao operacao = sortearOperacao(random, somaPesos);
+                boolean sucesso = executarOperacao(operacao, random);
+                latencias[operacao.ordinal()].registrar(System.nanoTime() - chegada);
+                if (!sucesso) {
+                    erros[operacao.ordinal()]++;
+                }
+
+                if (pausaMillis > 0 && modo.equals("fechado")) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pausaMillis));
+                }
+            }
+        }
+    }
+}
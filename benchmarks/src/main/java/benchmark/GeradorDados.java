@@ -0,0 +1,272 @@
+package benchmark;
+
+import busca.MotorBusca;
+import modelo.*;
+import seguranca.HashSenha;
+import servico.GerenciadorEquipe;
+import servico.GerenciadorProjeto;
+import servico.GerenciadorUsuario;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Gerador de dados sintéticos para os benchmarks e para o gerador de carga
+ * Popula os três gerenciadores de forma determinística: a mesma semente
+ * produz sempre os mesmos usuários, projetos e equipes.
+ *
+ * Perfil gerado:
+ * - Usuários: 1% administradores, 9% gerentes, 90% colaboradores; CPFs com
+ *   dígitos verificadores válidos; domínios de email com distribuição de Zipf
+ *   (poucos provedores concentram a maioria dos endereços)
+ * - Projetos: um por usuário, com mistura de status realista, início entre
+ *   2024 e 2025, prazo de 1 a 18 meses e gerentes sorteados por Zipf
+ *   (alguns gerentes acumulam muitos projetos)
+ * - Equipes: uma a cada 10 usuários, com tamanhos de Zipf entre 2 e 200
+ *   membros (muitas equipes pequenas e poucas muito grandes)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class GeradorDados {
+    static final String[] STATUS = {"Planejado", "Em Andamento", "Concluído", "Cancelado", "Pausado"};
+    private static final int[] PESOS_STATUS = {20, 45, 20, 5, 10};
+
+    private static final String[] DOMINIOS = {"gmail.com", "hotmail.com", "automax.com.br", "outlook.com",
+            "yahoo.com.br", "uol.com.br", "bol.com.br", "icloud.com", "terra.com.br", "ig.com.br"};
+    private static final double EXPOENTE_DOMINIOS = 1.3;
+
+    private static final String[] PRIMEIROS_NOMES = {"Ana", "Bruno", "Carla", "Diego", "Eduarda", "Felipe",
+            "Gabriela", "Henrique", "Isabela", "João", "Juliana", "Lucas", "Mariana", "Mateus", "Natália",
+            "Otávio", "Paula", "Rafael", "Sofia", "Thiago", "Vitória", "Wesley"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+            "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida",
+            "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"};
+    private static final String[] PALAVRAS = {"vendas", "estoque", "oficina", "financiamento", "revisão",
+            "garantia", "seminovos", "marketing", "peças", "atendimento", "entrega", "seguro"};
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final LocalDate INICIO_PERIODO = LocalDate.of(2024, 1, 1);
+    private static final int DIAS_PERIODO = 730;
+    private static final int PRAZO_MINIMO_DIAS = 30;
+    private static final int PRAZO_MAXIMO_DIAS = 540;
+
+    private static final double EXPOENTE_GERENTES = 0.8;
+    private static final int TAMANHO_MINIMO_EQUIPE = 2;
+    private static final int TAMANHO_MAXIMO_EQUIPE = 200;
+    private static final double EXPOENTE_EQUIPES = 1.1;
+
+    private GeradorDados() {
+        // Classe utilitária, não deve ser instanciada
+    }
+
+    /**
+     * Gera um sistema populado
+     * @param totalUsuarios Número de usuários a gerar
+     * @param semente Semente do gerador aleatório
+     * @return Dados gerados
+     */
+    public static DadosSinteticos gerar(int totalUsuarios, long semente) {
+        return gerar(totalUsuarios, semente, null);
+    }
+
+    /**
+     * Gera um sistema populado, opcionalmente indexado no motor de busca
+     * As senhas são geradas com 1 iteração de PBKDF2 para que a preparação de
+     * milhões de usuários seja viável; o login do usuário i é "u" + i e sua
+     * senha é "senha" + i
+     * @param totalUsuarios Número de usuários a gerar
+     * @param semente Semente do gerador aleatório
+     * @param motorBusca Motor de busca a conectar antes da carga (ou null)
+     * @return Dados gerados
+     */
+    public static DadosSinteticos gerar(int totalUsuarios, long semente, MotorBusca motorBusca) {
+        DadosSinteticos dados = new DadosSinteticos(motorBusca);
+        Random random = new Random(semente);
+        int iteracoesOriginais = HashSenha.getIteracoes();
+        HashSenha.setIteracoes(1);
+        try {
+            silenciar(() -> {
+                popularUsuarios(dados, totalUsuarios, random);
+                popularProjetos(dados, totalUsuarios, random);
+                popularEquipes(dados, Math.max(1, totalUsuarios / 10), random);
+            });
+        } finally {
+            HashSenha.setIteracoes(iteracoesOriginais);
+        }
+        return dados;
+    }
+
+    /**
+     * Executa uma ação descartando tudo o que ela escreve em System.out
+     * (os gerenciadores imprimem uma linha por operação)
+     * @param acao Ação a executar
+     */
+    public static void silenciar(Runnable acao) {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            acao.run();
+        } finally {
+            System.setOut(original);
+        }
+    }
+
+    /**
+     * Gera um CPF aleatório com dígitos verificadores válidos
+     * @param random Gerador aleatório
+     * @return CPF no formato 000.000.000-00
+     */
+    public static String gerarCpf(Random random) {
+        int[] digitos = new int[11];
+        for (int i = 0; i < 9; i++) {
+            digitos[i] = random.nextInt(10);
+        }
+        digitos[9] = digitoVerificador(digitos, 9);
+        digitos[10] = digitoVerificador(digitos, 10);
+
+        StringBuilder cpf = new StringBuilder(14);
+        for (int i = 0; i < 11; i++) {
+            if (i == 3 || i == 6) {
+                cpf.append('.');
+            } else if (i == 9) {
+                cpf.append('-');
+            }
+            cpf.append(digitos[i]);
+        }
+        return cpf.toString();
+    }
+
+    /**
+     * Verifica os dígitos verificadores de um CPF (com ou sem pontuação)
+     * @param cpf CPF a validar
+     * @return true se o CPF tem 11 dígitos e os verificadores conferem
+     */
+    public static boolean cpfValido(String cpf) {
+        if (cpf == null) {
+            return false;
+        }
+        String numeros = cpf.replaceAll("[.-]", "");
+        if (!numeros.matches("\\d{11}")) {
+            return false;
+        }
+        int[] digitos = new int[11];
+        for (int i = 0; i < 11; i++) {
+            digitos[i] = numeros.charAt(i) - '0';
+        }
+        return digitos[9] == digitoVerificador(digitos, 9) && digitos[10] == digitoVerificador(digitos, 10);
+    }
+
+    /**
+     * Dígito verificador (módulo 11) calculado sobre os n primeiros dígitos
+     */
+    private static int digitoVerificador(int[] digitos, int n) {
+        int soma = 0;
+        for (int i = 0; i < n; i++) {
+            soma += digitos[i] * (n + 1 - i);
+        }
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+
+    private static void popularUsuarios(DadosSinteticos dados, int total, Random random) {
+        DistribuicaoZipf dominios = new DistribuicaoZipf(DOMINIOS.length, EXPOENTE_DOMINIOS);
+        for (int i = 0; i < total; i++) {
+            String nome = PRIMEIROS_NOMES[random.nextInt(PRIMEIROS_NOMES.length)] + " "
+                        + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                        + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+            String cpf = gerarCpf(random);
+            String login = "u" + i;
+            String email = login + "@" + DOMINIOS[dominios.amostrar(random)];
+            String senha = "senha" + i;
+            Usuario usuario;
+            int faixa = i % 100;
+            if (faixa == 0) {
+                usuario = new Administrador(nome, cpf, email, login, senha);
+            } else if (faixa < 10) {
+                usuario = new Gerente(nome, cpf, email, login, senha);
+                dados.gerentes.add((Gerente) usuario);
+            } else {
+                usuario = new Colaborador(nome, cpf, email, login, senha);
+                dados.colaboradores.add((Colaborador) usuario);
+            }
+            dados.gerenciadorUsuario.adicionarUsuario(usuario);
+            dados.usuarios.add(usuario);
+        }
+    }
+
+    private static void popularProjetos(DadosSinteticos dados, int total, Random random) {
+        DistribuicaoZipf gerentes = dados.gerentes.isEmpty() ? null
+                : new DistribuicaoZipf(dados.gerentes.size(), EXPOENTE_GERENTES);
+        for (int i = 0; i < total; i++) {
+            Gerente gerente = gerentes == null ? null : dados.gerentes.get(gerentes.amostrar(random));
+            String descricao = PALAVRAS[random.nextInt(PALAVRAS.length)] + " "
+                             + PALAVRAS[random.nextInt(PALAVRAS.length)];
+            LocalDate inicio = INICIO_PERIODO.plusDays(random.nextInt(DIAS_PERIODO));
+            LocalDate fim = inicio.plusDays(PRAZO_MINIMO_DIAS
+                                            + random.nextInt(PRAZO_MAXIMO_DIAS - PRAZO_MINIMO_DIAS + 1));
+            Projeto projeto = new Projeto("Projeto " + i, descricao,
+                                          inicio.format(FORMATO_DATA), fim.format(FORMATO_DATA), gerente);
+            projeto.setStatus(sortearStatus(random));
+            dados.gerenciadorProjeto.adicionarProjeto(projeto);
+            dados.projetos.add(projeto);
+        }
+    }
+
+    private static void popularEquipes(DadosSinteticos dados, int total, Random random) {
+        int maximo = Math.min(TAMANHO_MAXIMO_EQUIPE, Math.max(TAMANHO_MINIMO_EQUIPE, dados.usuarios.size()));
+        DistribuicaoZipf tamanhos = new DistribuicaoZipf(maximo - TAMANHO_MINIMO_EQUIPE + 1, EXPOENTE_EQUIPES);
+        for (int i = 0; i < total; i++) {
+            Equipe equipe = new Equipe("Equipe " + i, "Equipe de " + PALAVRAS[random.nextInt(PALAVRAS.length)]);
+            dados.gerenciadorEquipe.adicionarEquipe(equipe);
+            dados.equipes.add(equipe);
+            int tamanho = Math.min(TAMANHO_MINIMO_EQUIPE + tamanhos.amostrar(random), dados.usuarios.size());
+            while (equipe.tamanho() < tamanho) {
+                equipe.adicionarMembro(dados.usuarios.get(random.nextInt(dados.usuarios.size())));
+            }
+        }
+    }
+
+    /**
+     * Sorteia um status respeitando os pesos de PESOS_STATUS
+     * @param random Gerador aleatório
+     * @return Status sorteado
+     */
+    static String sortearStatus(Random random) {
+        int sorteio = random.nextInt(100);
+        for (int i = 0; i < STATUS.length; i++) {
+            sorteio -= PESOS_STATUS[i];
+            if (sorteio < 0) {
+                return STATUS[i];
+            }
+        }
+        return STATUS[0];
+    }
+
+    /**
+     * Conjunto de dados gerados
+     */
+    public static class DadosSinteticos {
+        public final GerenciadorUsuario gerenciadorUsuario = new GerenciadorUsuario();
+        public final GerenciadorProjeto gerenciadorProjeto = new GerenciadorProjeto();
+        public final GerenciadorEquipe gerenciadorEquipe = new GerenciadorEquipe();
+        public final MotorBusca motorBusca;
+        public final ArrayList<Usuario> usuarios = new ArrayList<>();
+        public final ArrayList<Gerente> gerentes = new ArrayList<>();
+        public final ArrayList<Colaborador> colaboradores = new ArrayList<>();
+        public final ArrayList<Projeto> projetos = new ArrayList<>();
+        public final ArrayList<Equipe> equipes = new ArrayList<>();
+
+        DadosSinteticos(MotorBusca motorBusca) {
+            this.motorBusca = motorBusca;
+            if (motorBusca != null) {
+                gerenciadorUsuario.conectarMotorBusca(motorBusca);
+                gerenciadorProjeto.conectarMotorBusca(motorBusca);
+                gerenciadorEquipe.conectarMotorBusca(motorBusca);
+            }
+        }
+    }
+}
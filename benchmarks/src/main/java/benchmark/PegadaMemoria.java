@@ -0,0 +1,152 @@
+package benchmark;
+
+import modelo.Colaborador;
+import modelo.Projeto;
+import modelo.Usuario;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pegada de memória por entidade, medida com o JOL
+ *
+ * Gera dados com o {@link GeradorDados} e soma, para cada tipo de entidade,
+ * o tamanho do objeto mais o dos valores que ele possui (Strings, vetores,
+ * listas de Strings). Referências a outras entidades e a objetos
+ * compartilhados (papéis, gerentes) contam só o ponteiro. Um valor
+ * compartilhado por várias entidades (uma String deduplicada, por exemplo)
+ * é contado uma única vez, então o resultado mostra o ganho da deduplicação.
+ *
+ * Uso:
+ *   java -cp benchmarks.jar benchmark.PegadaMemoria [--usuarios N] [--semente N]
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class PegadaMemoria {
+    private int totalUsuarios = 20000;
+    private long semente = 42;
+
+    /**
+     * Método principal da medição
+     * @param args Opções de linha de comando
+     */
+    public static void main(String[] args) {
+        PegadaMemoria pegada = new PegadaMemoria();
+        try {
+            pegada.lerOpcoes(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Erro nas opções: " + e.getMessage());
+            return;
+        }
+        pegada.executar();
+    }
+
+    private void lerOpcoes(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--usuarios":
+                    totalUsuarios = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--semente":
+                    semente = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("opção desconhecida: " + args[i]);
+            }
+        }
+        if (totalUsuarios < 100) {
+            throw new IllegalArgumentException("mínimo de 100 usuários");
+        }
+    }
+
+    private void executar() {
+        System.out.println("Gerando " + totalUsuarios + " usuários (semente " + semente + ")...");
+        GeradorDados.DadosSinteticos dados = GeradorDados.gerar(totalUsuarios, semente);
+        ArrayList<Usuario> semColaboradores = new ArrayList<>();
+        for (Usuario usuario : dados.usuarios) {
+            if (!(usuario instanceof Colaborador)) {
+                semColaboradores.add(usuario);
+            }
+        }
+        System.out.println(VM.current().details());
+        System.out.println("PEGADA DE MEMÓRIA POR ENTIDADE");
+        System.out.println("═".repeat(60));
+        medir("Usuario (admin/gerente)", semColaboradores);
+        medir("Colaborador", dados.colaboradores);
+        medir("Projeto", dados.projetos);
+    }
+
+    /**
+     * Mede e imprime a pegada média de um grupo de entidades
+     */
+    private void medir(String rotulo, List<?> entidades) {
+        if (entidades.isEmpty()) {
+            return;
+        }
+        Set<Object> contados = Collections.newSetFromMap(new IdentityHashMap<>());
+        LinkedHashMap<String, Long> porCampo = new LinkedHashMap<>();
+        long objetos = 0;
+        for (Object entidade : entidades) {
+            objetos += VM.current().sizeOf(entidade);
+            for (Class<?> classe = entidade.getClass(); classe != Object.class; classe = classe.getSuperclass()) {
+                for (Field campo : classe.getDeclaredFields()) {
+                    if (Modifier.isStatic(campo.getModifiers()) || campo.getType().isPrimitive()) {
+                        continue;
+                    }
+                    Object valor = ler(campo, entidade);
+                    if (valor != null && proprio(valor) && contados.add(valor)) {
+                        porCampo.merge(campo.getName(), GraphLayout.parseInstance(valor).totalSize(), Long::sum);
+                    }
+                }
+            }
+        }
+        long total = objetos;
+        for (long bytes : porCampo.values()) {
+            total += bytes;
+        }
+        int n = entidades.size();
+        System.out.printf(Locale.ROOT, "%s: %d entidades, %.1f bytes/entidade%n", rotulo, n, total / (double) n);
+        System.out.printf(Locale.ROOT, "   %-22s %8.1f%n", "(objeto)", objetos / (double) n);
+        for (Map.Entry<String, Long> campo : porCampo.entrySet()) {
+            System.out.printf(Locale.ROOT, "   %-22s %8.1f%n", campo.getKey(), campo.getValue() / (double) n);
+        }
+    }
+
+    /**
+     * Valores que pertencem à entidade: textos, vetores e coleções de textos
+     */
+    private static boolean proprio(Object valor) {
+        if (valor instanceof String || valor instanceof Number || valor.getClass().isArray()) {
+            return true;
+        }
+        if (valor instanceof Collection) {
+            for (Object item : (Collection<?>) valor) {
+                if (!(item instanceof String)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static Object ler(Field campo, Object entidade) {
+        try {
+            campo.setAccessible(true);
+            return campo.get(entidade);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
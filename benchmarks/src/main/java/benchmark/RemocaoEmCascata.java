@@ -0,0 +1,164 @@
+package benchmark;
+
+import modelo.Colaborador;
+import modelo.Equipe;
+import modelo.Gerente;
+import modelo.Projeto;
+import modelo.RepositorioTarefas;
+import modelo.Tarefa;
+import modelo.Usuario;
+import seguranca.GerenciadorSessao;
+import servico.GerenciadorUsuario;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Remoção em cascata de muitos usuários, com orçamento de tempo
+ *
+ * Popula o sistema com {@link GeradorDados} (equipes, projetos com gerente e
+ * duas tarefas por colaborador), faz o login de todos os usuários (uma sessão
+ * aberta por usuário e o cache de autenticação cheio), remove usuários
+ * sorteados um a um com GerenciadorUsuario.removerUsuario e confere que
+ * nenhum ficou em equipe, como gerente de projeto, como responsável por
+ * tarefa ou com sessão aberta. Termina com código 1 se alguma referência
+ * sobrou ou se o tempo passou do orçamento.
+ *
+ * Uso:
+ *   java -cp benchmarks.jar benchmark.RemocaoEmCascata [--usuarios N] [--remover N]
+ *        [--orcamento-ms N] [--semente N]
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class RemocaoEmCascata {
+    private int totalUsuarios = 200000;
+    private int remover = 100000;
+    private long orcamentoMillis = 5000;
+    private long semente = 42;
+
+    /**
+     * Método principal da medição
+     * @param args Opções de linha de comando
+     */
+    public static void main(String[] args) {
+        RemocaoEmCascata remocao = new RemocaoEmCascata();
+        try {
+            remocao.lerOpcoes(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Erro nas opções: " + e.getMessage());
+            return;
+        }
+        if (!remocao.executar()) {
+            System.exit(1);
+        }
+    }
+
+    private void lerOpcoes(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--usuarios":
+                    totalUsuarios = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--remover":
+                    remover = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--orcamento-ms":
+                    orcamentoMillis = Long.parseLong(args[i + 1]);
+                    break;
+                case "--semente":
+                    semente = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("opção desconhecida: " + args[i]);
+            }
+        }
+        if (remover < 1 || remover > totalUsuarios) {
+            throw new IllegalArgumentException("--remover deve ficar entre 1 e o total de usuários");
+        }
+    }
+
+    private boolean executar() {
+        System.out.println("Gerando " + totalUsuarios + " usuários (semente " + semente + ")...");
+        GeradorDados.DadosSinteticos dados = GeradorDados.gerar(totalUsuarios, semente);
+        GeradorDados.silenciar(() -> {
+            for (Colaborador colaborador : dados.colaboradores) {
+                colaborador.adicionarTarefa("Revisar estoque de " + colaborador.getLogin(), false);
+                colaborador.adicionarTarefa("Atender cliente de " + colaborador.getLogin(), false);
+            }
+        });
+        GerenciadorUsuario gerenciador = dados.gerenciadorUsuario;
+        GerenciadorSessao sessoes = new GerenciadorSessao(gerenciador);
+        for (Usuario usuario : dados.usuarios) {
+            // Senha do usuário "u" + i é "senha" + i (ver GeradorDados)
+            if (sessoes.login(usuario.getLogin(), "senha" + usuario.getLogin().substring(1)) == null) {
+                System.out.println("Erro ao abrir sessão de " + usuario.getLogin());
+                return false;
+            }
+        }
+
+        ArrayList<Usuario> sorteados = new ArrayList<>(dados.usuarios);
+        Collections.shuffle(sorteados, new Random(semente));
+        ArrayList<Usuario> removidos = new ArrayList<>(sorteados.subList(0, remover));
+        int[] falhas = new int[1];
+
+        System.gc(); // Lixo da carga não entra na medição
+        long inicio = System.nanoTime();
+        GeradorDados.silenciar(() -> {
+            for (Usuario usuario : removidos) {
+                if (!gerenciador.removerUsuario(usuario.getLogin())) {
+                    falhas[0]++;
+                }
+            }
+        });
+        long decorrido = System.nanoTime() - inicio;
+
+        int sobras = falhas[0] + conferir(dados, new HashSet<>(removidos));
+        // Cada usuário abriu uma sessão: só as dos que ficaram podem restar
+        sobras += Math.max(0, sessoes.getTotalSessoes() - (totalUsuarios - remover));
+        double millis = decorrido / 1e6;
+        System.out.printf(Locale.ROOT, "%d usuários removidos em %.1f ms (%.2f µs/usuário); restam %d (%d lápides)%n",
+                          remover, millis, decorrido / 1e3 / remover, gerenciador.getTotalUsuarios(),
+                          gerenciador.getLapides());
+        if (sobras > 0) {
+            System.out.println("FALHA: " + sobras + " referência(s) a usuários removidos");
+        }
+        boolean dentro = millis <= orcamentoMillis;
+        System.out.println(dentro ? "Dentro do orçamento de " + orcamentoMillis + " ms"
+                                  : "FALHA: orçamento de " + orcamentoMillis + " ms excedido");
+        return dentro && sobras == 0;
+    }
+
+    /**
+     * Conta as referências que sobraram a usuários removidos
+     */
+    private static int conferir(GeradorDados.DadosSinteticos dados, HashSet<Usuario> removidos) {
+        int sobras = 0;
+        for (Usuario usuario : removidos) {
+            if (dados.gerenciadorUsuario.buscarPorLogin(usuario.getLogin()) != null) {
+                sobras++;
+            }
+        }
+        for (Equipe equipe : dados.equipes) {
+            for (Usuario membro : equipe.getMembros()) {
+                if (removidos.contains(membro)) {
+                    sobras++;
+                }
+            }
+        }
+        for (Projeto projeto : dados.projetos) {
+            Gerente gerente = projeto.getGerenteResponsavel();
+            if (gerente != null && removidos.contains(gerente)) {
+                sobras++;
+            }
+        }
+        for (Tarefa tarefa : RepositorioTarefas.global().listarPendentes()) {
+            if (removidos.contains(tarefa.getResponsavel())) {
+                sobras++;
+            }
+        }
+        return sobras;
+    }
+}
@@ -0,0 +1,337 @@
+package agenda;
+
+import eventos.Assinatura;
+import eventos.BarramentoEventos;
+import eventos.EventoDominio;
+import eventos.TipoEvento;
+import modelo.Projeto;
+import servico.GerenciadorProjeto;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Agendador de alertas de prazo dos projetos
+ *
+ * Cada projeto em aberto (nem concluído nem cancelado) com data fim prevista
+ * válida tem um temporizador em uma {@link RodaTemporizacao}: primeiro para o
+ * início da antecedência (alerta PRAZO_PROXIMO) e, depois dele, para o dia
+ * seguinte ao prazo (alerta ATRASADO). Cada alerta é emitido uma vez por
+ * prazo; mudar o prazo rearma o projeto do zero.
+ *
+ * O agendador assina o barramento de eventos: inclusão, remoção, mudança de
+ * status ({@link Projeto#atualizarStatus}) e de prazo
+ * ({@link Projeto#setDataFimPrevista}) entram em uma fila e são aplicadas
+ * pela única thread do agendador, que também avança a roda. Agendar,
+ * rearmar e disparar custam O(1), e entre um trabalho e outro a thread
+ * dorme até o próximo instante da roda.
+ *
+ * O relógio é configurável: nos testes, sem {@link #iniciar()}, basta
+ * avançar o relógio e chamar {@link #executarCiclo()}.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class AgendadorPrazos {
+    /** Tipos de alerta */
+    public enum Alerta { PRAZO_PROXIMO, ATRASADO }
+
+    public static final int DIAS_ANTECEDENCIA_PADRAO = 3;
+    private static final long RESOLUCAO_MILLIS = 1000;
+    // Teto da espera, para perceber ajustes no relógio
+    private static final long ESPERA_MAXIMA_MILLIS = 1000;
+    private static final int SEM_PRAZO = Projeto.SEM_DATA;
+
+    private final Clock relogio;
+    private final int diasAntecedencia;
+    private final OuvintePrazos ouvinte;
+    // Roda e estados só são tocados em executarCiclo (sob a trava do agendador)
+    private final RodaTemporizacao<EstadoPrazo> roda;
+    private final HashMap<Projeto, EstadoPrazo> estados = new HashMap<>();
+    private final ConcurrentLinkedQueue<Pendencia> pendentes = new ConcurrentLinkedQueue<>();
+    private final AtomicLong alertasEmitidos = new AtomicLong();
+    private Assinatura assinatura;
+    private volatile Thread thread;
+    private volatile boolean ativo;
+
+    /**
+     * Construtor do agendador usando o relógio do sistema e 3 dias de antecedência
+     * @param ouvinte Quem recebe os alertas
+     */
+    public AgendadorPrazos(OuvintePrazos ouvinte) {
+        this(Clock.systemDefaultZone(), DIAS_ANTECEDENCIA_PADRAO, ouvinte);
+    }
+
+    /**
+     * Construtor do agendador
+     * @param relogio Relógio (e fuso) que decide quando cada dia começa
+     * @param diasAntecedencia Dias antes do prazo para o alerta PRAZO_PROXIMO (0 desliga)
+     * @param ouvinte Quem recebe os alertas
+     */
+    public AgendadorPrazos(Clock relogio, int diasAntecedencia, OuvintePrazos ouvinte) {
+        if (diasAntecedencia < 0) {
+            throw new IllegalArgumentException("Antecedência não pode ser negativa: " + diasAntecedencia);
+        }
+        this.relogio = relogio;
+        this.diasAntecedencia = diasAntecedencia;
+        this.ouvinte = ouvinte;
+        this.roda = new RodaTemporizacao<>(RESOLUCAO_MILLIS, relogio.millis());
+    }
+
+    /**
+     * Passa a acompanhar os projetos cadastrados e as alterações publicadas
+     * Assina antes de enfileirar os projetos atuais, então nada se perde entre
+     * uma coisa e outra (repetições são inofensivas).
+     * @param barramento Barramento em que os projetos publicam
+     * @param gerenciadorProjeto Gerenciador com os projetos já cadastrados
+     */
+    public synchronized void conectar(BarramentoEventos barramento, GerenciadorProjeto gerenciadorProjeto) {
+        desconectar();
+        assinatura = barramento.assinar("prazos",
+                EnumSet.of(TipoEvento.PROJETO_ADICIONADO, TipoEvento.PROJETO_REMOVIDO,
+                           TipoEvento.PROJETO_ATUALIZADO, TipoEvento.STATUS_PROJETO_ALTERADO),
+                256, this::receber);
+        for (Projeto projeto : gerenciadorProjeto.listarProjetosList()) {
+            acompanhar(projeto);
+        }
+    }
+
+    /**
+     * Deixa de receber as alterações do barramento (os temporizadores continuam)
+     */
+    public synchronized void desconectar() {
+        if (assinatura != null) {
+            assinatura.cancelar();
+            assinatura = null;
+        }
+    }
+
+    /**
+     * Inicia a thread do agendador
+     */
+    public synchronized void iniciar() {
+        if (thread != null) {
+            return;
+        }
+        ativo = true;
+        Thread nova = new Thread(this::executar, "agendador-prazos");
+        nova.setDaemon(true);
+        thread = nova;
+        nova.start();
+    }
+
+    /**
+     * Para a thread do agendador e a assinatura do barramento
+     */
+    public void parar() {
+        desconectar();
+        Thread atual = thread;
+        ativo = false;
+        if (atual != null) {
+            LockSupport.unpark(atual);
+            try {
+                atual.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Agenda (ou rearma) os alertas de um projeto
+     * @param projeto Projeto a acompanhar
+     */
+    public void acompanhar(Projeto projeto) {
+        enfileirar(projeto, false);
+    }
+
+    /**
+     * Cancela os alertas de um projeto
+     * @param projeto Projeto que deixa de ser acompanhado
+     */
+    public void esquecer(Projeto projeto) {
+        enfileirar(projeto, true);
+    }
+
+    /**
+     * Aplica as alterações pendentes e dispara o que venceu até agora
+     * É o trabalho da thread do agendador; sem {@link #iniciar()}, quem usa
+     * o agendador (ex.: um teste com relógio controlado) chama este método.
+     * @return Quantidade de alertas disparados
+     */
+    public synchronized int executarCiclo() {
+        Pendencia pendencia;
+        while ((pendencia = pendentes.poll()) != null) {
+            if (pendencia.remover) {
+                EstadoPrazo estado = estados.remove(pendencia.projeto);
+                if (estado != null && estado.temporizador != null) {
+                    roda.cancelar(estado.temporizador);
+                }
+            } else {
+                sincronizar(pendencia.projeto);
+            }
+        }
+        return roda.avancar(relogio.millis(), this::disparar);
+    }
+
+    /**
+     * @return Alertas ainda agendados (um por projeto acompanhado)
+     */
+    public synchronized int getAlertasAgendados() {
+        return roda.tamanho();
+    }
+
+    /**
+     * @return Alertas entregues ao ouvinte desde a criação
+     */
+    public long getAlertasEmitidos() {
+        return alertasEmitidos.get();
+    }
+
+    public int getDiasAntecedencia() {
+        return diasAntecedencia;
+    }
+
+    /**
+     * Laço da thread do agendador
+     */
+    private void executar() {
+        while (ativo) {
+            try {
+                executarCiclo();
+                long espera;
+                synchronized (this) {
+                    espera = roda.proximoInstante() - relogio.millis();
+                }
+                espera = Math.min(espera, ESPERA_MAXIMA_MILLIS);
+                if (espera > 0 && pendentes.isEmpty()) {
+                    LockSupport.parkNanos(this, espera * 1_000_000L);
+                }
+            } catch (Exception e) {
+                System.out.println("Erro no agendador de prazos: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Recebe um lote do barramento (thread da assinatura)
+     */
+    private void receber(List<EventoDominio> lote) {
+        for (EventoDominio evento : lote) {
+            if (evento.getEntidade() instanceof Projeto) {
+                enfileirar((Projeto) evento.getEntidade(), evento.getTipo() == TipoEvento.PROJETO_REMOVIDO);
+            }
+        }
+    }
+
+    private void enfileirar(Projeto projeto, boolean remover) {
+        pendentes.add(new Pendencia(projeto, remover));
+        Thread atual = thread;
+        if (atual != null) {
+            LockSupport.unpark(atual);
+        }
+    }
+
+    /**
+     * Ajusta o temporizador de um projeto ao seu status e prazo atuais
+     */
+    private void sincronizar(Projeto projeto) {
+        int prazo = projeto.foiFinalizado() ? SEM_PRAZO : projeto.getDiaFimPrevisto();
+        EstadoPrazo estado = estados.get(projeto);
+        if (prazo == SEM_PRAZO) {
+            if (estado != null) {
+                estados.remove(projeto);
+                if (estado.temporizador != null) {
+                    roda.cancelar(estado.temporizador);
+                }
+            }
+            return;
+        }
+        if (estado == null) {
+            estado = new EstadoPrazo(projeto);
+            estados.put(projeto, estado);
+        } else if (estado.prazo == prazo) {
+            return; // Nome, gerente ou status em aberto mudaram: o alerta continua o mesmo
+        }
+        estado.prazo = prazo;
+        estado.ultimoAlerta = null;
+        armar(estado);
+    }
+
+    /**
+     * Agenda o próximo alerta ainda não emitido para o prazo do projeto
+     */
+    private void armar(EstadoPrazo estado) {
+        long atraso = inicioDoDia(estado.prazo + 1L);
+        Alerta proximo;
+        long instante;
+        if (estado.ultimoAlerta == null && diasAntecedencia > 0 && relogio.millis() < atraso) {
+            proximo = Alerta.PRAZO_PROXIMO;
+            instante = inicioDoDia(estado.prazo + 1L - diasAntecedencia);
+        } else if (estado.ultimoAlerta != Alerta.ATRASADO) {
+            proximo = Alerta.ATRASADO;
+            instante = atraso;
+        } else {
+            return; // Já avisado do atraso: nada mais a disparar para este prazo
+        }
+        estado.proximoAlerta = proximo;
+        if (estado.temporizador == null) {
+            estado.temporizador = roda.agendar(instante, estado);
+        } else {
+            roda.reagendar(estado.temporizador, instante);
+        }
+    }
+
+    /**
+     * Disparo de um temporizador (dentro de executarCiclo)
+     */
+    private void disparar(EstadoPrazo estado) {
+        Alerta alerta = estado.proximoAlerta;
+        estado.ultimoAlerta = alerta;
+        armar(estado);
+        alertasEmitidos.incrementAndGet();
+        try {
+            ouvinte.aoAlertar(estado.projeto, alerta, LocalDate.ofEpochDay(estado.prazo));
+        } catch (Exception e) {
+            System.out.println("Erro ao entregar alerta de prazo: " + e.getMessage());
+        }
+    }
+
+    private long inicioDoDia(long diaDaEpoca) {
+        return LocalDate.ofEpochDay(diaDaEpoca).atStartOfDay(relogio.getZone()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Prazo acompanhado de um projeto e o alerta agendado para ele
+     */
+    private static final class EstadoPrazo {
+        final Projeto projeto;
+        int prazo;
+        Alerta proximoAlerta;
+        Alerta ultimoAlerta;
+        RodaTemporizacao.Temporizador<EstadoPrazo> temporizador;
+
+        EstadoPrazo(Projeto projeto) {
+            this.projeto = projeto;
+        }
+    }
+
+    /**
+     * Alteração recebida e ainda não aplicada
+     */
+    private static final class Pendencia {
+        final Projeto projeto;
+        final boolean remover;
+
+        Pendencia(Projeto projeto, boolean remover) {
+            this.projeto = projeto;
+            this.remover = remover;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package agenda;
+
+import modelo.Projeto;
+import java.time.LocalDate;
+
+/**
+ * Recebe os alertas de prazo disparados pelo {@link AgendadorPrazos}
+ * Chamado na thread do agendador: deve ser rápido e não pode bloquear.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface OuvintePrazos {
+    /**
+     * Um projeto entrou na antecedência do prazo ou passou dele
+     * @param projeto Projeto alertado
+     * @param alerta Tipo do alerta
+     * @param prazo Data fim prevista a que o alerta se refere
+     */
+    void aoAlertar(Projeto projeto, AgendadorPrazos.Alerta alerta, LocalDate prazo);
+}
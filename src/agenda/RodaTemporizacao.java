@@ -0,0 +1,280 @@
+package agenda;
+
+import java.util.function.Consumer;
+
+/**
+ * Roda de temporização hierárquica
+ *
+ * O tempo é contado em ticks. Há 11 níveis de 64 posições: o nível n agrupa
+ * 64^n ticks por posição, então qualquer instante futuro cabe em algum nível.
+ * Um temporizador fica no nível do bloco de 6 bits mais alto em que seu tick
+ * difere do tick atual; quando o tempo entra na posição dele, desce para um
+ * nível mais fino (no máximo 10 vezes) até disparar no nível 0.
+ *
+ * Cada nível tem um mapa de bits das posições ocupadas, então avançar o tempo
+ * salta direto para o próximo tick com trabalho a fazer, por maior que seja o
+ * salto. Agendar e cancelar custam O(1) (listas duplamente ligadas).
+ *
+ * Não é thread-safe: deve ser usada por uma única thread.
+ *
+ * @param <T> Tipo do valor associado a cada temporizador
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class RodaTemporizacao<T> {
+    private static final int BITS = 6;
+    private static final int POSICOES = 1 << BITS;
+    private static final int NIVEIS = (Long.SIZE + BITS - 1) / BITS;
+
+    private final long resolucaoMillis;
+    // Tick até o qual (inclusive) tudo já foi disparado
+    private long atual;
+    private final Temporizador<T>[][] posicoes;
+    private final long[] ocupadas = new long[NIVEIS];
+    // Vencidos ao agendar ou ao descer de nível, disparados no próximo avanço
+    private Temporizador<T> vencidos;
+    private int tamanho;
+
+    /**
+     * Construtor da roda
+     * @param resolucaoMillis Duração de um tick em milissegundos
+     * @param agoraMillis Instante inicial (ms desde a época)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RodaTemporizacao(long resolucaoMillis, long agoraMillis) {
+        if (resolucaoMillis <= 0) {
+            throw new IllegalArgumentException("Resolução deve ser positiva: " + resolucaoMillis);
+        }
+        this.resolucaoMillis = resolucaoMillis;
+        this.atual = Math.floorDiv(agoraMillis, resolucaoMillis);
+        this.posicoes = new Temporizador[NIVEIS][POSICOES];
+    }
+
+    /**
+     * Agenda um valor para um instante
+     * Instantes que já passaram disparam no próximo avanço.
+     * @param instanteMillis Instante de disparo (ms desde a época)
+     * @param valor Valor entregue ao disparar
+     * @return Temporizador, para cancelar
+     */
+    public Temporizador<T> agendar(long instanteMillis, T valor) {
+        Temporizador<T> temporizador = new Temporizador<>(valor);
+        reagendar(temporizador, instanteMillis);
+        return temporizador;
+    }
+
+    /**
+     * Move um temporizador (agendado, cancelado ou já disparado) para outro instante
+     * @param temporizador Temporizador criado por esta roda
+     * @param instanteMillis Novo instante de disparo (ms desde a época)
+     */
+    public void reagendar(Temporizador<T> temporizador, long instanteMillis) {
+        cancelar(temporizador);
+        // Arredonda para cima: nunca dispara antes do instante pedido
+        temporizador.tick = Math.floorDiv(instanteMillis, resolucaoMillis)
+                          + (Math.floorMod(instanteMillis, resolucaoMillis) == 0 ? 0 : 1);
+        inserir(temporizador);
+        tamanho++;
+    }
+
+    /**
+     * Cancela um temporizador (sem efeito se já disparou ou foi cancelado)
+     * @param temporizador Temporizador criado por esta roda
+     * @return true se estava agendado
+     */
+    public boolean cancelar(Temporizador<T> temporizador) {
+        if (temporizador.nivel == Temporizador.FORA) {
+            return false;
+        }
+        desligar(temporizador);
+        tamanho--;
+        return true;
+    }
+
+    /**
+     * Avança o tempo disparando, em ordem de instante, tudo o que venceu
+     * @param agoraMillis Instante atual (ms desde a época); recuos são ignorados
+     * @param aoDisparar Recebe o valor de cada temporizador vencido
+     * @return Quantidade de temporizadores disparados
+     */
+    public int avancar(long agoraMillis, Consumer<? super T> aoDisparar) {
+        long alvo = Math.floorDiv(agoraMillis, resolucaoMillis);
+        int disparados = dispararVencidos(aoDisparar);
+        while (atual < alvo) {
+            long proximo = proximoTick();
+            if (proximo > alvo) {
+                atual = alvo;
+                break;
+            }
+            atual = proximo;
+            // Desce os níveis cuja posição o tempo acabou de alcançar, do mais alto ao mais fino
+            for (int nivel = NIVEIS - 1; nivel > 0; nivel--) {
+                int deslocamento = BITS * nivel;
+                if ((atual & ((1L << deslocamento) - 1)) == 0) {
+                    int posicao = (int) (atual >>> deslocamento) & (POSICOES - 1);
+                    Temporizador<T> lista = esvaziar(nivel, posicao);
+                    while (lista != null) {
+                        Temporizador<T> seguinte = lista.proximo;
+                        inserir(lista);
+                        lista = seguinte;
+                    }
+                }
+            }
+            Temporizador<T> lista = esvaziar(0, (int) atual & (POSICOES - 1));
+            while (lista != null) {
+                Temporizador<T> seguinte = lista.proximo;
+                colocarEmVencidos(lista);
+                lista = seguinte;
+            }
+            disparados += dispararVencidos(aoDisparar);
+        }
+        return disparados;
+    }
+
+    /**
+     * @return Instante (ms) do próximo trabalho da roda: um disparo ou uma descida
+     *         de nível; Long.MAX_VALUE se vazia. Útil para saber quanto dormir.
+     */
+    public long proximoInstante() {
+        if (vencidos != null) {
+            return atual * resolucaoMillis;
+        }
+        long proximo = proximoTick();
+        return proximo == Long.MAX_VALUE ? proximo : proximo * resolucaoMillis;
+    }
+
+    /**
+     * @return Temporizadores agendados
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public long getResolucaoMillis() {
+        return resolucaoMillis;
+    }
+
+    /**
+     * Menor tick futuro com uma posição ocupada (disparo no nível 0 ou descida)
+     * Toda posição ocupada de um nível está à frente da posição atual dele no
+     * mesmo bloco do nível de cima, então basta o bit mais baixo de cada mapa.
+     */
+    private long proximoTick() {
+        long menor = Long.MAX_VALUE;
+        for (int nivel = 0; nivel < NIVEIS; nivel++) {
+            if (ocupadas[nivel] != 0) {
+                int deslocamento = BITS * nivel;
+                int posicao = Long.numberOfTrailingZeros(ocupadas[nivel]);
+                long bloco = deslocamento + BITS >= Long.SIZE ? 0 : (atual >>> (deslocamento + BITS)) << (deslocamento + BITS);
+                long tick = bloco | ((long) posicao << deslocamento);
+                menor = Math.min(menor, tick);
+            }
+        }
+        return menor;
+    }
+
+    private void inserir(Temporizador<T> temporizador) {
+        if (temporizador.tick <= atual) {
+            colocarEmVencidos(temporizador);
+            return;
+        }
+        // Nível do bloco de 6 bits mais alto em que o tick difere do atual
+        int nivel = (Long.SIZE - 1 - Long.numberOfLeadingZeros(temporizador.tick ^ atual)) / BITS;
+        int posicao = (int) (temporizador.tick >>> (BITS * nivel)) & (POSICOES - 1);
+        temporizador.nivel = nivel;
+        temporizador.posicao = posicao;
+        temporizador.anterior = null;
+        temporizador.proximo = posicoes[nivel][posicao];
+        if (temporizador.proximo != null) {
+            temporizador.proximo.anterior = temporizador;
+        }
+        posicoes[nivel][posicao] = temporizador;
+        ocupadas[nivel] |= 1L << posicao;
+    }
+
+    private void colocarEmVencidos(Temporizador<T> temporizador) {
+        temporizador.nivel = Temporizador.VENCIDO;
+        temporizador.anterior = null;
+        temporizador.proximo = vencidos;
+        if (vencidos != null) {
+            vencidos.anterior = temporizador;
+        }
+        vencidos = temporizador;
+    }
+
+    private void desligar(Temporizador<T> temporizador) {
+        if (temporizador.anterior != null) {
+            temporizador.anterior.proximo = temporizador.proximo;
+        } else if (temporizador.nivel == Temporizador.VENCIDO) {
+            vencidos = temporizador.proximo;
+        } else {
+            posicoes[temporizador.nivel][temporizador.posicao] = temporizador.proximo;
+            if (temporizador.proximo == null) {
+                ocupadas[temporizador.nivel] &= ~(1L << temporizador.posicao);
+            }
+        }
+        if (temporizador.proximo != null) {
+            temporizador.proximo.anterior = temporizador.anterior;
+        }
+        temporizador.nivel = Temporizador.FORA;
+        temporizador.anterior = null;
+        temporizador.proximo = null;
+    }
+
+    /**
+     * Retira a lista inteira de uma posição (os nós mantêm o encadeamento)
+     */
+    private Temporizador<T> esvaziar(int nivel, int posicao) {
+        Temporizador<T> lista = posicoes[nivel][posicao];
+        posicoes[nivel][posicao] = null;
+        ocupadas[nivel] &= ~(1L << posicao);
+        return lista;
+    }
+
+    /**
+     * Dispara os vencidos; o consumidor pode agendar e cancelar à vontade
+     */
+    private int dispararVencidos(Consumer<? super T> aoDisparar) {
+        int disparados = 0;
+        while (vencidos != null) {
+            Temporizador<T> temporizador = vencidos;
+            desligar(temporizador);
+            tamanho--;
+            disparados++;
+            aoDisparar.accept(temporizador.valor);
+        }
+        return disparados;
+    }
+
+    /**
+     * Temporizador agendado na roda
+     *
+     * @param <T> Tipo do valor associado
+     */
+    public static final class Temporizador<T> {
+        private static final int FORA = -1;
+        private static final int VENCIDO = -2;
+
+        private final T valor;
+        private long tick;
+        private int nivel = FORA;
+        private int posicao;
+        private Temporizador<T> anterior;
+        private Temporizador<T> proximo;
+
+        private Temporizador(T valor) {
+            this.valor = valor;
+        }
+
+        public T getValor() {
+            return valor;
+        }
+
+        /**
+         * @return true se ainda vai disparar
+         */
+        public boolean isAgendado() {
+            return nivel != FORA;
+        }
+    }
+}
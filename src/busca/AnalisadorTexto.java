@@ -0,0 +1,123 @@
+package busca;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Analisador de texto em português para indexação e busca
+ * Converte o texto em termos: remove acentos, converte para minúsculas,
+ * separa por caracteres não alfanuméricos, descarta palavras vazias e
+ * aplica um radicalizador simples (plural e advérbios em -mente)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class AnalisadorTexto {
+    private static final Set<String> PALAVRAS_VAZIAS = new HashSet<>(Arrays.asList(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "no", "na",
+            "nos", "nas", "um", "uma", "uns", "umas", "para", "por", "com", "sem", "que",
+            "se", "ao", "aos", "ou"));
+
+    private static final int TAMANHO_MINIMO_RADICAL = 3;
+
+    private AnalisadorTexto() {
+        // Classe utilitária, não deve ser instanciada
+    }
+
+    /**
+     * Analisa o texto e retorna a lista de termos (com repetições)
+     * @param texto Texto de entrada
+     * @return Lista de termos radicalizados
+     */
+    public static ArrayList<String> analisar(String texto) {
+        ArrayList<String> termos = new ArrayList<>();
+        for (String token : tokenizar(texto)) {
+            if (!PALAVRAS_VAZIAS.contains(token)) {
+                termos.add(radicalizar(token));
+            }
+        }
+        return termos;
+    }
+
+    /**
+     * Normaliza e separa o texto em tokens, sem radicalização
+     * Usado também para prefixos de consulta
+     * @param texto Texto de entrada
+     * @return Lista de tokens normalizados
+     */
+    public static ArrayList<String> tokenizar(String texto) {
+        ArrayList<String> tokens = new ArrayList<>();
+        if (texto == null || texto.isEmpty()) {
+            return tokens;
+        }
+        String normalizado = normalizar(texto);
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean alfanumerico = i < normalizado.length()
+                    && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (alfanumerico && inicio < 0) {
+                inicio = i;
+            } else if (!alfanumerico && inicio >= 0) {
+                tokens.add(normalizado.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Remove acentos e converte para minúsculas
+     * @param texto Texto de entrada
+     * @return Texto normalizado
+     */
+    public static String normalizar(String texto) {
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Radicalizador simplificado para português (texto já sem acentos)
+     * Reduz plurais comuns e remove o sufixo -mente
+     * @param termo Termo normalizado
+     * @return Radical do termo
+     */
+    public static String radicalizar(String termo) {
+        int n = termo.length();
+        if (n <= TAMANHO_MINIMO_RADICAL) {
+            return termo;
+        }
+        if (termo.endsWith("mente") && n - 5 >= TAMANHO_MINIMO_RADICAL) {
+            return termo.substring(0, n - 5);
+        }
+        if (termo.endsWith("oes") || termo.endsWith("aes")) {
+            return termo.substring(0, n - 3) + "ao";      // projeções -> projecao
+        }
+        if (termo.endsWith("ais")) {
+            return termo.substring(0, n - 3) + "al";      // gerenciais -> gerencial
+        }
+        if (termo.endsWith("eis") && n > 4) {
+            return termo.substring(0, n - 3) + "el";      // papéis -> papel
+        }
+        if (termo.endsWith("ns")) {
+            return termo.substring(0, n - 2) + "m";       // garagens -> garagem
+        }
+        if (termo.endsWith("res") || termo.endsWith("zes") || termo.endsWith("ses")) {
+            return termo.substring(0, n - 2);             // motores -> motor
+        }
+        if (termo.endsWith("s") && !termo.endsWith("ss") && !termo.endsWith("us") && !termo.endsWith("is")) {
+            return termo.substring(0, n - 1);             // vendas -> venda
+        }
+        return termo;
+    }
+}
@@ -0,0 +1,563 @@
+package busca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória com ranqueamento BM25
+ *
+ * Cada documento recebe um número interno crescente; as listas de postagens
+ * ficam portanto sempre ordenadas. Atualizações são feitas como remoção +
+ * inserção e documentos removidos são apenas marcados, sendo descartados em
+ * uma compactação automática quando passam a ser maioria.
+ *
+ * Consultas suportam E (todos os termos), OU (qualquer termo) e prefixo
+ * (termo terminado em '*'). Leituras concorrentes são permitidas; escritas
+ * são exclusivas.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class IndiceInvertido {
+    // Parâmetros do BM25
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Dicionário ordenado (permite expansão de prefixos)
+    private final TreeMap<String, Postagens> dicionario = new TreeMap<>();
+    private final HashMap<String, Integer> documentoPorChave = new HashMap<>();
+
+    // Dados por documento, indexados pelo número interno
+    private String[] chaves = new String[1024];
+    private Object[] entidades = new Object[1024];
+    private int[] comprimentos = new int[1024];
+    private byte[] tipos = new byte[1024];
+    private String[][] termosDistintos = new String[1024][];
+    private int proximoDocumento;
+
+    private int documentosVivos;
+    private long somaComprimentos;
+
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    // Acumuladores reaproveitados entre consultas (um conjunto por thread)
+    private final ThreadLocal<Acumulador> acumuladores = ThreadLocal.withInitial(Acumulador::new);
+
+    /** Tipo que representa "qualquer tipo" no filtro das consultas */
+    public static final byte QUALQUER_TIPO = -1;
+
+    /**
+     * Modo de combinação dos termos da consulta
+     */
+    public enum Modo {
+        E, OU
+    }
+
+    /**
+     * Indexa (ou reindexa) um documento
+     * @param chave Chave única da entidade (ex.: "P:12")
+     * @param entidade Objeto retornado nos resultados
+     * @param tipo Tipo da entidade (usado como filtro nas consultas)
+     * @param termos Termos analisados do documento (com repetições)
+     */
+    public void indexar(String chave, Object entidade, byte tipo, List<String> termos) {
+        trava.writeLock().lock();
+        try {
+            removerInterno(chave);
+
+            HashMap<String, Integer> frequencias = new HashMap<>();
+            for (String termo : termos) {
+                frequencias.merge(termo, 1, Integer::sum);
+            }
+
+            int doc = proximoDocumento++;
+            garantirCapacidade(doc + 1);
+            chaves[doc] = chave;
+            entidades[doc] = entidade;
+            comprimentos[doc] = termos.size();
+            tipos[doc] = tipo;
+            termosDistintos[doc] = frequencias.keySet().toArray(new String[0]);
+            documentoPorChave.put(chave, doc);
+            documentosVivos++;
+            somaComprimentos += termos.size();
+
+            for (Map.Entry<String, Integer> entrada : frequencias.entrySet()) {
+                dicionario.computeIfAbsent(entrada.getKey(), t -> new Postagens())
+                          .adicionar(doc, entrada.getValue());
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um documento do índice
+     * @param chave Chave única da entidade
+     * @return true se o documento existia
+     */
+    public boolean remover(String chave) {
+        trava.writeLock().lock();
+        try {
+            boolean removido = removerInterno(chave);
+            int mortos = proximoDocumento - documentosVivos;
+            if (mortos > 1024 && mortos > documentosVivos) {
+                compactar();
+            }
+            return removido;
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Executa uma consulta e retorna os melhores resultados
+     * @param consulta Texto da consulta (termos terminados em '*' são prefixos)
+     * @param modo E para exigir todos os termos, OU para qualquer termo
+     * @param limite Número máximo de resultados
+     * @param tipo Tipo de entidade desejado ou QUALQUER_TIPO
+     * @return Resultados ordenados por pontuação decrescente (empates na ordem de indexação)
+     */
+    public List<Resultado> buscar(String consulta, Modo modo, int limite, byte tipo) {
+        ArrayList<Resultado> resultados = new ArrayList<>();
+        if (consulta == null || limite <= 0) {
+            return resultados;
+        }
+
+        trava.readLock().lock();
+        try {
+            // Cada grupo é o conjunto de postagens que satisfaz um termo da consulta
+            ArrayList<ArrayList<Postagens>> grupos = new ArrayList<>();
+            for (String parte : consulta.trim().split("\\s+")) {
+                ArrayList<Postagens> grupo = expandir(parte);
+                if (grupo == null) {
+                    continue; // Palavra vazia ou sem termos
+                }
+                if (grupo.isEmpty() && modo == Modo.E) {
+                    return resultados; // Um termo sem ocorrências anula a consulta E
+                }
+                if (!grupo.isEmpty()) {
+                    grupos.add(grupo);
+                }
+            }
+            if (grupos.isEmpty()) {
+                return resultados;
+            }
+            if (modo == Modo.E) {
+                grupos.sort((a, b) -> Integer.compare(tamanho(a), tamanho(b))); // Mais raro primeiro
+            }
+
+            Acumulador acc = acumuladores.get();
+            acc.preparar(proximoDocumento);
+            float mediaComprimento = documentosVivos > 0 ? (float) somaComprimentos / documentosVivos : 1f;
+
+            if (grupos.size() == 1 && grupos.get(0).size() == 1) {
+                // Um único termo: cada documento aparece uma vez, dispensa os acumuladores
+                Postagens postagens = grupos.get(0).get(0);
+                float idf = idf(postagens);
+                acc.iniciarSelecao(Math.min(limite, postagens.vivos));
+                for (int i = 0; i < postagens.tamanho; i++) {
+                    int doc = postagens.documentos[i];
+                    if (entidades[doc] != null && (tipo == QUALQUER_TIPO || tipos[doc] == tipo)) {
+                        acc.oferecer(doc, pontuar(postagens.frequencias[i], doc, idf, mediaComprimento));
+                    }
+                }
+            } else {
+                for (int g = 0; g < grupos.size(); g++) {
+                    // Em consultas E só interessam documentos que casaram os grupos anteriores:
+                    // se forem poucos, cada um é procurado nas postagens por busca binária
+                    int candidatos = modo == Modo.E && g > 0 ? acc.separarCandidatos(g) : -1;
+                    for (Postagens postagens : grupos.get(g)) {
+                        float idf = idf(postagens);
+                        if (candidatos >= 0 && (long) candidatos * (32 - Integer.numberOfLeadingZeros(postagens.tamanho))
+                                               < postagens.tamanho) {
+                            for (int c = 0; c < candidatos; c++) {
+                                int doc = acc.candidatos[c];
+                                int i = Arrays.binarySearch(postagens.documentos, 0, postagens.tamanho, doc);
+                                if (i >= 0) {
+                                    acc.somar(doc, pontuar(postagens.frequencias[i], doc, idf, mediaComprimento), g);
+                                }
+                            }
+                            continue;
+                        }
+                        for (int i = 0; i < postagens.tamanho; i++) {
+                            int doc = postagens.documentos[i];
+                            if (entidades[doc] == null || (tipo != QUALQUER_TIPO && tipos[doc] != tipo)) {
+                                continue; // Documento removido ou de outro tipo
+                            }
+                            if (modo == Modo.E && acc.grupos[doc] < g) {
+                                continue;
+                            }
+                            acc.somar(doc, pontuar(postagens.frequencias[i], doc, idf, mediaComprimento), g);
+                        }
+                    }
+                }
+
+                int gruposExigidos = modo == Modo.E ? grupos.size() : 0;
+                acc.iniciarSelecao(Math.min(limite, acc.totalTocados));
+                for (int i = 0; i < acc.totalTocados; i++) {
+                    int doc = acc.tocados[i];
+                    if (acc.grupos[doc] >= gruposExigidos) {
+                        acc.oferecer(doc, acc.pontuacoes[doc]);
+                    }
+                }
+                acc.limpar();
+            }
+
+            // O heap de mínimo é esvaziado do pior para o melhor
+            Resultado[] ordenados = new Resultado[acc.totalSelecionados];
+            for (int i = ordenados.length - 1; i >= 0; i--) {
+                int doc = acc.selecionados[0];
+                ordenados[i] = new Resultado(chaves[doc], entidades[doc], acc.pontuacoesSelecionadas[0]);
+                acc.retirarPior();
+            }
+            resultados.addAll(Arrays.asList(ordenados));
+            return resultados;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private float idf(Postagens postagens) {
+        return (float) Math.log(1 + (documentosVivos - postagens.vivos + 0.5) / (postagens.vivos + 0.5));
+    }
+
+    private float pontuar(float tf, int doc, float idf, float mediaComprimento) {
+        float norma = K1 * (1 - B + B * comprimentos[doc] / mediaComprimento);
+        return idf * tf * (K1 + 1) / (tf + norma);
+    }
+
+    /**
+     * Obtém o número de documentos indexados
+     * @return Total de documentos vivos
+     */
+    public int getTotalDocumentos() {
+        trava.readLock().lock();
+        try {
+            return documentosVivos;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtém o número de termos distintos do dicionário
+     * @return Tamanho do vocabulário
+     */
+    public int getTotalTermos() {
+        trava.readLock().lock();
+        try {
+            return dicionario.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Expande uma parte da consulta para as postagens correspondentes
+     * @return null se a parte não gera termos; lista vazia se não há ocorrências
+     */
+    private ArrayList<Postagens> expandir(String parte) {
+        ArrayList<Postagens> grupo = new ArrayList<>();
+        if (parte.endsWith("*")) {
+            ArrayList<String> tokens = AnalisadorTexto.tokenizar(parte);
+            if (tokens.isEmpty()) {
+                return null;
+            }
+            // Os termos indexados são radicais: expande tanto o prefixo digitado quanto o seu radical
+            String prefixo = tokens.get(tokens.size() - 1);
+            LinkedHashSet<Postagens> encontradas = new LinkedHashSet<>();
+            adicionarPrefixo(prefixo, encontradas);
+            String radical = AnalisadorTexto.radicalizar(prefixo);
+            if (!radical.equals(prefixo)) {
+                adicionarPrefixo(radical, encontradas);
+            }
+            grupo.addAll(encontradas);
+            return grupo;
+        }
+        ArrayList<String> termos = AnalisadorTexto.analisar(parte);
+        if (termos.isEmpty()) {
+            return null;
+        }
+        // Palavras compostas (ex.: "e-mail") viram vários termos; usa o mais raro
+        Postagens escolhida = null;
+        for (String termo : termos) {
+            Postagens p = dicionario.get(termo);
+            if (p == null || p.vivos == 0) {
+                return grupo;
+            }
+            if (escolhida == null || p.vivos < escolhida.vivos) {
+                escolhida = p;
+            }
+        }
+        grupo.add(escolhida);
+        return grupo;
+    }
+
+    private void adicionarPrefixo(String prefixo, LinkedHashSet<Postagens> destino) {
+        for (Postagens p : dicionario.subMap(prefixo, true, prefixo + Character.MAX_VALUE, false).values()) {
+            if (p.vivos > 0) {
+                destino.add(p);
+            }
+        }
+    }
+
+    private static int tamanho(ArrayList<Postagens> grupo) {
+        int total = 0;
+        for (Postagens p : grupo) {
+            total += p.vivos;
+        }
+        return total;
+    }
+
+    /**
+     * Remove um documento (chamado com a trava de escrita)
+     */
+    private boolean removerInterno(String chave) {
+        Integer doc = documentoPorChave.remove(chave);
+        if (doc == null) {
+            return false;
+        }
+        for (String termo : termosDistintos[doc]) {
+            Postagens p = dicionario.get(termo);
+            p.vivos--;
+            if (p.vivos == 0) {
+                dicionario.remove(termo);
+            }
+        }
+        entidades[doc] = null;
+        termosDistintos[doc] = null;
+        chaves[doc] = null;
+        documentosVivos--;
+        somaComprimentos -= comprimentos[doc];
+        return true;
+    }
+
+    /**
+     * Renumera os documentos vivos e reconstrói as postagens sem os removidos
+     */
+    private void compactar() {
+        int[] novoNumero = new int[proximoDocumento];
+        int n = 0;
+        for (int doc = 0; doc < proximoDocumento; doc++) {
+            if (entidades[doc] != null) {
+                novoNumero[doc] = n;
+                chaves[n] = chaves[doc];
+                entidades[n] = entidades[doc];
+                comprimentos[n] = comprimentos[doc];
+                tipos[n] = tipos[doc];
+                termosDistintos[n] = termosDistintos[doc];
+                documentoPorChave.put(chaves[n], n);
+                n++;
+            } else {
+                novoNumero[doc] = -1;
+            }
+        }
+        Arrays.fill(entidades, n, proximoDocumento, null);
+        Arrays.fill(chaves, n, proximoDocumento, null);
+        Arrays.fill(termosDistintos, n, proximoDocumento, null);
+        for (Postagens p : dicionario.values()) {
+            p.renumerar(novoNumero);
+        }
+        proximoDocumento = n;
+    }
+
+    private void garantirCapacidade(int capacidade) {
+        if (capacidade > chaves.length) {
+            int nova = Math.max(capacidade, chaves.length * 2);
+            chaves = Arrays.copyOf(chaves, nova);
+            entidades = Arrays.copyOf(entidades, nova);
+            comprimentos = Arrays.copyOf(comprimentos, nova);
+            tipos = Arrays.copyOf(tipos, nova);
+            termosDistintos = Arrays.copyOf(termosDistintos, nova);
+        }
+    }
+
+    /**
+     * Lista de postagens de um termo (documentos em ordem crescente)
+     */
+    private static class Postagens {
+        private int[] documentos = new int[4];
+        private int[] frequencias = new int[4];
+        private int tamanho;
+        private int vivos;
+
+        void adicionar(int doc, int frequencia) {
+            if (tamanho == documentos.length) {
+                documentos = Arrays.copyOf(documentos, tamanho * 2);
+                frequencias = Arrays.copyOf(frequencias, tamanho * 2);
+            }
+            documentos[tamanho] = doc;
+            frequencias[tamanho] = frequencia;
+            tamanho++;
+            vivos++;
+        }
+
+        void renumerar(int[] novoNumero) {
+            int n = 0;
+            for (int i = 0; i < tamanho; i++) {
+                int novo = novoNumero[documentos[i]];
+                if (novo >= 0) {
+                    documentos[n] = novo;
+                    frequencias[n] = frequencias[i];
+                    n++;
+                }
+            }
+            tamanho = n;
+            if (documentos.length > 16 && n < documentos.length / 4) {
+                documentos = Arrays.copyOf(documentos, Math.max(4, n * 2));
+                frequencias = Arrays.copyOf(frequencias, Math.max(4, n * 2));
+            }
+        }
+    }
+
+    /**
+     * Acumuladores de pontuação reaproveitados entre consultas
+     */
+    private static class Acumulador {
+        private float[] pontuacoes = new float[0];
+        private int[] grupos = new int[0];       // Quantos grupos o documento já casou
+        private boolean[] marcados = new boolean[0];
+        private int[] tocados = new int[0];
+        private int totalTocados;
+        private int[] candidatos = new int[0];
+        // Heap de mínimo com os k melhores documentos da consulta
+        private int[] selecionados = new int[0];
+        private float[] pontuacoesSelecionadas = new float[0];
+        private int capacidadeSelecao;
+        private int totalSelecionados;
+
+        void preparar(int totalDocumentos) {
+            if (pontuacoes.length < totalDocumentos) {
+                int tamanho = Math.max(totalDocumentos, pontuacoes.length * 2);
+                pontuacoes = new float[tamanho];
+                grupos = new int[tamanho];
+                marcados = new boolean[tamanho];
+                tocados = new int[tamanho];
+                candidatos = new int[tamanho];
+            }
+            totalTocados = 0;
+        }
+
+        void somar(int doc, float pontuacao, int grupo) {
+            if (!marcados[doc]) {
+                marcados[doc] = true;
+                tocados[totalTocados++] = doc;
+            }
+            pontuacoes[doc] += pontuacao;
+            // Conta o grupo apenas uma vez (prefixos podem casar vários termos)
+            if (grupos[doc] == grupo) {
+                grupos[doc] = grupo + 1;
+            }
+        }
+
+        void limpar() {
+            for (int i = 0; i < totalTocados; i++) {
+                int doc = tocados[i];
+                pontuacoes[doc] = 0;
+                grupos[doc] = 0;
+                marcados[doc] = false;
+            }
+            totalTocados = 0;
+        }
+
+        /**
+         * Copia para "candidatos" os documentos que casaram todos os grupos
+         * anteriores a "grupo"
+         * @return Número de candidatos
+         */
+        int separarCandidatos(int grupo) {
+            int n = 0;
+            for (int i = 0; i < totalTocados; i++) {
+                int doc = tocados[i];
+                if (grupos[doc] >= grupo) {
+                    candidatos[n++] = doc;
+                }
+            }
+            return n;
+        }
+
+        /**
+         * Prepara o heap de mínimo que guarda os k melhores documentos
+         */
+        void iniciarSelecao(int k) {
+            if (selecionados.length < k) {
+                selecionados = new int[k];
+                pontuacoesSelecionadas = new float[k];
+            }
+            capacidadeSelecao = k;
+            totalSelecionados = 0;
+        }
+
+        /**
+         * Oferece um documento ao heap dos k melhores (sem alocar)
+         */
+        void oferecer(int doc, float pontuacao) {
+            if (totalSelecionados < capacidadeSelecao) {
+                int i = totalSelecionados++;
+                while (i > 0) {
+                    int pai = (i - 1) >>> 1;
+                    if (!pior(pontuacao, doc, pontuacoesSelecionadas[pai], selecionados[pai])) {
+                        break;
+                    }
+                    selecionados[i] = selecionados[pai];
+                    pontuacoesSelecionadas[i] = pontuacoesSelecionadas[pai];
+                    i = pai;
+                }
+                selecionados[i] = doc;
+                pontuacoesSelecionadas[i] = pontuacao;
+            } else if (capacidadeSelecao > 0
+                       && pior(pontuacoesSelecionadas[0], selecionados[0], pontuacao, doc)) {
+                descer(doc, pontuacao);
+            }
+        }
+
+        /**
+         * Retira a raiz do heap (o pior dos selecionados)
+         */
+        void retirarPior() {
+            totalSelecionados--;
+            if (totalSelecionados > 0) {
+                descer(selecionados[totalSelecionados], pontuacoesSelecionadas[totalSelecionados]);
+            }
+        }
+
+        private void descer(int doc, float pontuacao) {
+            int i = 0;
+            while (true) {
+                int filho = 2 * i + 1;
+                if (filho >= totalSelecionados) {
+                    break;
+                }
+                if (filho + 1 < totalSelecionados && pior(pontuacoesSelecionadas[filho + 1], selecionados[filho + 1],
+                                                          pontuacoesSelecionadas[filho], selecionados[filho])) {
+                    filho++;
+                }
+                if (!pior(pontuacoesSelecionadas[filho], selecionados[filho], pontuacao, doc)) {
+                    break;
+                }
+                selecionados[i] = selecionados[filho];
+                pontuacoesSelecionadas[i] = pontuacoesSelecionadas[filho];
+                i = filho;
+            }
+            selecionados[i] = doc;
+            pontuacoesSelecionadas[i] = pontuacao;
+        }
+
+        /**
+         * Ordena por pontuação e, no empate, pela ordem de indexação (empates
+         * são comuns e comparar números evita ler as chaves)
+         */
+        private static boolean pior(float p, int doc, float outraP, int outroDoc) {
+            if (p != outraP) {
+                return p < outraP;
+            }
+            return doc > outroDoc;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package busca;
+
+import modelo.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Motor de busca textual único para projetos, equipes e usuários
+ * Os gerenciadores conectados mantêm o índice atualizado a cada
+ * cadastro, alteração e remoção
+ *
+ * Sintaxe da consulta: termos separados por espaço; termos terminados
+ * em '*' são buscados por prefixo (ex.: "vend* estoque").
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class MotorBusca {
+    private static final String PREFIXO_PROJETO = "P:";
+    private static final String PREFIXO_EQUIPE = "E:";
+    private static final String PREFIXO_USUARIO = "U:";
+
+    private static final byte TIPO_PROJETO = 0;
+    private static final byte TIPO_EQUIPE = 1;
+    private static final byte TIPO_USUARIO = 2;
+
+    private final IndiceInvertido indice;
+
+    /**
+     * Construtor do motor de busca
+     */
+    public MotorBusca() {
+        this.indice = new IndiceInvertido();
+    }
+
+    /**
+     * Indexa (ou reindexa) um projeto: nome (peso 2) e descrição
+     * @param projeto Projeto a ser indexado
+     */
+    public void indexarProjeto(Projeto projeto) {
+        indice.indexar(PREFIXO_PROJETO + projeto.getId(), projeto, TIPO_PROJETO,
+                       termosComPeso(projeto.getNome(), projeto.getDescricao()));
+    }
+
+    public void removerProjeto(Projeto projeto) {
+        indice.remover(PREFIXO_PROJETO + projeto.getId());
+    }
+
+    /**
+     * Indexa (ou reindexa) uma equipe: nome (peso 2) e descrição
+     * @param equipe Equipe a ser indexada
+     */
+    public void indexarEquipe(Equipe equipe) {
+        indice.indexar(PREFIXO_EQUIPE + equipe.getId(), equipe, TIPO_EQUIPE,
+                       termosComPeso(equipe.getNome(), equipe.getDescricao()));
+    }
+
+    public void removerEquipe(Equipe equipe) {
+        indice.remover(PREFIXO_EQUIPE + equipe.getId());
+    }
+
+    /**
+     * Indexa (ou reindexa) um usuário: nome (peso 2) e email
+     * @param usuario Usuário a ser indexado
+     */
+    public void indexarUsuario(Usuario usuario) {
+        indice.indexar(PREFIXO_USUARIO + usuario.getLogin(), usuario, TIPO_USUARIO,
+                       termosComPeso(usuario.getNome(), usuario.getEmail()));
+    }
+
+    public void removerUsuario(Usuario usuario) {
+        indice.remover(PREFIXO_USUARIO + usuario.getLogin());
+    }
+
+    /**
+     * Busca em todas as entidades
+     * @param consulta Texto da consulta
+     * @param modo E (todos os termos) ou OU (qualquer termo)
+     * @param limite Número máximo de resultados
+     * @return Resultados ordenados por relevância
+     */
+    public List<Resultado> buscar(String consulta, IndiceInvertido.Modo modo, int limite) {
+        return indice.buscar(consulta, modo, limite, IndiceInvertido.QUALQUER_TIPO);
+    }
+
+    /**
+     * Busca apenas projetos
+     * @param consulta Texto da consulta
+     * @param modo E ou OU
+     * @param limite Número máximo de resultados
+     * @return Projetos encontrados, do mais ao menos relevante
+     */
+    public ArrayList<Projeto> buscarProjetos(String consulta, IndiceInvertido.Modo modo, int limite) {
+        return filtrar(consulta, modo, limite, TIPO_PROJETO, Projeto.class);
+    }
+
+    /**
+     * Busca apenas equipes
+     * @param consulta Texto da consulta
+     * @param modo E ou OU
+     * @param limite Número máximo de resultados
+     * @return Equipes encontradas, da mais à menos relevante
+     */
+    public ArrayList<Equipe> buscarEquipes(String consulta, IndiceInvertido.Modo modo, int limite) {
+        return filtrar(consulta, modo, limite, TIPO_EQUIPE, Equipe.class);
+    }
+
+    /**
+     * Busca apenas usuários
+     * @param consulta Texto da consulta
+     * @param modo E ou OU
+     * @param limite Número máximo de resultados
+     * @return Usuários encontrados, do mais ao menos relevante
+     */
+    public ArrayList<Usuario> buscarUsuarios(String consulta, IndiceInvertido.Modo modo, int limite) {
+        return filtrar(consulta, modo, limite, TIPO_USUARIO, Usuario.class);
+    }
+
+    /**
+     * Converte uma palavra-chave livre em consulta de prefixo por termo
+     * (ex.: "venda carr" vira "venda* carr*")
+     * @param palavraChave Texto digitado pelo usuário
+     * @return Consulta no formato aceito pelo índice
+     */
+    public static String consultaPorPrefixo(String palavraChave) {
+        StringBuilder consulta = new StringBuilder();
+        for (String token : AnalisadorTexto.tokenizar(palavraChave)) {
+            consulta.append(token).append("* ");
+        }
+        return consulta.toString().trim();
+    }
+
+    public int getTotalDocumentos() {
+        return indice.getTotalDocumentos();
+    }
+
+    /**
+     * Busca apenas um tipo de entidade e converte os resultados
+     */
+    private <T> ArrayList<T> filtrar(String consulta, IndiceInvertido.Modo modo, int limite,
+                                     byte tipoIndice, Class<T> tipo) {
+        ArrayList<T> encontrados = new ArrayList<>();
+        for (Resultado resultado : indice.buscar(consulta, modo, limite, tipoIndice)) {
+            encontrados.add(tipo.cast(resultado.getEntidade()));
+        }
+        return encontrados;
+    }
+
+    /**
+     * Analisa o título (repetido para peso 2) e o texto complementar
+     */
+    private static ArrayList<String> termosComPeso(String titulo, String complemento) {
+        ArrayList<String> termosTitulo = AnalisadorTexto.analisar(titulo);
+        ArrayList<String> termos = new ArrayList<>(termosTitulo);
+        termos.addAll(termosTitulo);
+        termos.addAll(AnalisadorTexto.analisar(complemento));
+        return termos;
+    }
+}
@@ -0,0 +1,54 @@
+package busca;
+
+/**
+ * Resultado de uma busca textual com sua pontuação BM25
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class Resultado implements Comparable<Resultado> {
+    private final String chave;
+    private final Object entidade;
+    private final float pontuacao;
+
+    /**
+     * Construtor do resultado
+     * @param chave Chave da entidade no índice
+     * @param entidade Entidade encontrada (Projeto, Equipe ou Usuario)
+     * @param pontuacao Pontuação de relevância
+     */
+    public Resultado(String chave, Object entidade, float pontuacao) {
+        this.chave = chave;
+        this.entidade = entidade;
+        this.pontuacao = pontuacao;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public Object getEntidade() {
+        return entidade;
+    }
+
+    public float getPontuacao() {
+        return pontuacao;
+    }
+
+    /**
+     * Ordena por pontuação (desempate pela chave para resultados estáveis)
+     */
+    @Override
+    public int compareTo(Resultado outro) {
+        int comparacao = Float.compare(pontuacao, outro.pontuacao);
+        return comparacao != 0 ? comparacao : outro.chave.compareTo(chave);
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return entidade + " [" + String.format("%.3f", pontuacao) + "]";
+    }
+}
@@ -0,0 +1,21 @@
+package eventos;
+
+import java.util.List;
+
+/**
+ * Consumidor de eventos do barramento
+ *
+ * Cada assinante roda em uma thread própria e recebe os eventos em lotes,
+ * na ordem de publicação. O lote só é válido durante a chamada.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface AssinanteEventos {
+    /**
+     * Processa um lote de eventos
+     * @param lote Eventos em ordem de sequência (nunca vazio)
+     */
+    void aoReceber(List<EventoDominio> lote);
+}
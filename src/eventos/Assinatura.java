@@ -0,0 +1,172 @@
+package eventos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Assinatura ativa no barramento: thread consumidora, cursor e estatísticas
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class Assinatura {
+    // Tentativas de leitura (girando e cedendo a CPU) antes de parar a thread
+    private static final int TENTATIVAS_ANTES_DE_PARAR = 120;
+
+    private final BarramentoEventos barramento;
+    private final String nome;
+    private final EnumSet<TipoEvento> tipos;
+    private final int tamanhoLote;
+    private final AssinanteEventos assinante;
+    // Última sequência processada (lida por quem publica para não sobrescrever)
+    private final AtomicLong consumido;
+    private final AtomicLong entregues = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean ativa = true;
+    // A thread consumidora está parada esperando ser acordada por quem publica
+    private volatile boolean parada;
+
+    /**
+     * Construtor da assinatura (criada pelo barramento)
+     */
+    Assinatura(BarramentoEventos barramento, String nome, EnumSet<TipoEvento> tipos, int tamanhoLote,
+               AssinanteEventos assinante, long inicio) {
+        this.barramento = barramento;
+        this.nome = nome;
+        this.tipos = tipos;
+        this.tamanhoLote = tamanhoLote;
+        this.assinante = assinante;
+        this.consumido = new AtomicLong(inicio);
+        this.thread = new Thread(this::consumir, "eventos-" + nome);
+        this.thread.setDaemon(true);
+    }
+
+    void iniciar() {
+        thread.start();
+    }
+
+    /**
+     * Laço da thread consumidora: lê em lotes tudo o que já foi publicado
+     */
+    private void consumir() {
+        ArrayList<EventoDominio> lote = new ArrayList<>(tamanhoLote);
+        List<EventoDominio> visao = Collections.unmodifiableList(lote);
+        int tentativas = 0;
+        while (ativa) {
+            long proximo = consumido.get() + 1;
+            int lidos = 0;
+            while (lidos < tamanhoLote) {
+                EventoDominio evento = barramento.ler(proximo + lidos);
+                if (evento == null) {
+                    break;
+                }
+                if (tipos.contains(evento.getTipo())) {
+                    lote.add(evento);
+                }
+                lidos++;
+            }
+            if (lidos == 0) {
+                if (tentativas < TENTATIVAS_ANTES_DE_PARAR) {
+                    BarramentoEventos.esperar(tentativas++);
+                    continue;
+                }
+                // Marca antes de conferir de novo: quem gravar depois da conferência vê a marca e acorda
+                parada = true;
+                if (ativa && barramento.ler(proximo) == null) {
+                    LockSupport.park(this);
+                }
+                parada = false;
+                continue;
+            }
+            tentativas = 0;
+            if (!lote.isEmpty()) {
+                try {
+                    assinante.aoReceber(visao);
+                    entregues.addAndGet(lote.size());
+                } catch (Exception e) {
+                    falhas.incrementAndGet();
+                    System.out.println("Erro no assinante de eventos '" + nome + "': " + e.getMessage());
+                }
+                lote.clear();
+            }
+            // Libera as posições lidas para reutilização
+            consumido.lazySet(proximo + lidos - 1);
+        }
+    }
+
+    /**
+     * Encerra a thread consumidora e libera o barramento desta assinatura
+     */
+    public void cancelar() {
+        ativa = false;
+        barramento.remover(this);
+        LockSupport.unpark(thread);
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Acorda a thread consumidora se ela estiver parada (chamado após publicar)
+     */
+    void acordar() {
+        if (parada) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    boolean isThreadConsumidora() {
+        return Thread.currentThread() == thread;
+    }
+
+    long getConsumido() {
+        return consumido.get();
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    /**
+     * @return Eventos entregues ao assinante
+     */
+    public long getEntregues() {
+        return entregues.get();
+    }
+
+    /**
+     * @return Lotes em que o assinante lançou exceção
+     */
+    public long getFalhas() {
+        return falhas.get();
+    }
+
+    /**
+     * @return Eventos publicados que esta assinatura ainda não leu
+     */
+    public long getAtraso() {
+        return Math.max(0, barramento.getCursor() - consumido.get());
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return "Assinatura '" + nome + "': " + entregues.get() + " entregues, atraso " + getAtraso()
+             + ", " + falhas.get() + " falha(s)";
+    }
+}
@@ -0,0 +1,304 @@
+package eventos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barramento de eventos de domínio em memória
+ *
+ * Os eventos ficam em um buffer circular de tamanho fixo (potência de dois)
+ * compartilhado por todos os assinantes, no estilo do Disruptor:
+ * - quem publica reserva a próxima sequência com um CAS no cursor e grava o
+ *   evento na posição (sequência & máscara), sem travas;
+ * - cada assinante tem sua própria thread e seu próprio cursor, e lê em
+ *   lotes tudo o que já foi publicado depois dele;
+ * - uma posição só é reutilizada depois que todos os assinantes passaram por
+ *   ela. Com o buffer cheio vale a política: BLOQUEAR espera o assinante
+ *   mais lento (nenhum evento é perdido) e DESCARTAR devolve false e conta o
+ *   evento descartado (quem publica nunca espera).
+ *
+ * Sem assinantes, publicar custa uma leitura de campo e nada é gravado.
+ * Um assinante sem eventos para ler gira um pouco e depois para a thread;
+ * quem publica a acorda. Assinantes não devem alterar o domínio: com
+ * BLOQUEAR e o buffer cheio, publicar a partir da thread de um assinante
+ * lança IllegalStateException em vez de esperar pelo próprio assinante.
+ *
+ * O barramento global ({@link #global()}) é configurado pelas propriedades
+ * de sistema "automax.eventos.capacidade" (padrão 65536) e
+ * "automax.eventos.politica" (BLOQUEAR ou DESCARTAR, padrão BLOQUEAR).
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class BarramentoEventos {
+    /**
+     * O que fazer quando o buffer está cheio
+     */
+    public enum Politica { BLOQUEAR, DESCARTAR }
+
+    private static final int LOTE_PADRAO = 256;
+    private static final BarramentoEventos GLOBAL = new BarramentoEventos(
+            Integer.getInteger("automax.eventos.capacidade", 65536),
+            Politica.valueOf(System.getProperty("automax.eventos.politica", "BLOQUEAR").toUpperCase()));
+
+    private final int capacidade;
+    private final int mascara;
+    private final Politica politica;
+    private final AtomicReferenceArray<EventoDominio> buffer;
+    // Última sequência reservada para publicação
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // Menor sequência já consumida por todos (cópia que só fica atrasada, nunca adiantada)
+    private volatile long consumidoPorTodos = -1;
+    private final AtomicLong descartados = new AtomicLong();
+    // Cópia na escrita: publicar lê o vetor sem trava
+    private volatile Assinatura[] assinaturas = new Assinatura[0];
+
+    /**
+     * Construtor do barramento
+     * @param capacidade Número de posições do buffer (arredondado para potência de dois)
+     * @param politica Política com o buffer cheio
+     */
+    public BarramentoEventos(int capacidade, Politica politica) {
+        if (capacidade < 2) {
+            throw new IllegalArgumentException("Capacidade mínima é 2");
+        }
+        this.capacidade = Integer.highestOneBit(capacidade - 1) << 1;
+        this.mascara = this.capacidade - 1;
+        this.politica = politica;
+        this.buffer = new AtomicReferenceArray<>(this.capacidade);
+    }
+
+    /**
+     * Barramento compartilhado pelas classes de modelo e serviço
+     * @return Instância global
+     */
+    public static BarramentoEventos global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Publica uma alteração
+     * @param tipo Tipo da alteração
+     * @param entidade Objeto alterado
+     * @param relacionado Outro lado da relação (ou null)
+     * @param valorAnterior Valor anterior (ou null)
+     * @param valorNovo Valor novo (ou null)
+     * @return true se o evento entrou no buffer; false se não há assinantes
+     *         ou se foi descartado pela política DESCARTAR
+     * @throws IllegalStateException se o buffer está cheio, a política é
+     *         BLOQUEAR e quem publica é a thread de um assinante
+     */
+    public boolean publicar(TipoEvento tipo, Object entidade, Object relacionado,
+                            String valorAnterior, String valorNovo) {
+        Assinatura[] atuais = assinaturas;
+        if (atuais.length == 0) {
+            return false;
+        }
+        int tentativas = 0;
+        long sequencia;
+        while (true) {
+            long atual = cursor.get();
+            sequencia = atual + 1;
+            // A posição da nova sequência guardava (sequencia - capacidade): todos já a leram?
+            long posicaoReutilizada = sequencia - capacidade;
+            if (posicaoReutilizada > consumidoPorTodos) {
+                long minimo = menorConsumido(atuais, atual);
+                consumidoPorTodos = minimo;
+                if (posicaoReutilizada > minimo) {
+                    if (politica == Politica.DESCARTAR) {
+                        descartados.incrementAndGet();
+                        return false;
+                    }
+                    if (tentativas == 0) {
+                        verificarThreadPublicadora(atuais);
+                    }
+                    esperar(tentativas++);
+                    atuais = assinaturas;
+                    if (atuais.length == 0) {
+                        return false;
+                    }
+                    continue;
+                }
+            }
+            if (cursor.compareAndSet(atual, sequencia)) {
+                break;
+            }
+        }
+        buffer.set((int) sequencia & mascara,
+                   new EventoDominio(sequencia, tipo, entidade, relacionado, valorAnterior, valorNovo));
+        // Relê as assinaturas: uma assinatura nova pode estar esperando este evento
+        for (Assinatura assinatura : assinaturas) {
+            assinatura.acordar();
+        }
+        return true;
+    }
+
+    /**
+     * Publica uma alteração sem valores
+     * @param tipo Tipo da alteração
+     * @param entidade Objeto alterado
+     * @return true se o evento entrou no buffer
+     */
+    public boolean publicar(TipoEvento tipo, Object entidade) {
+        return publicar(tipo, entidade, null, null, null);
+    }
+
+    /**
+     * Indica se há alguém ouvindo (permite evitar montar valores caros à toa)
+     * @return true se existe ao menos uma assinatura ativa
+     */
+    public boolean temAssinantes() {
+        return assinaturas.length > 0;
+    }
+
+    /**
+     * Assina todos os tipos de evento
+     * @param nome Nome da assinatura (usado na thread consumidora)
+     * @param assinante Consumidor
+     * @return Assinatura ativa
+     */
+    public Assinatura assinar(String nome, AssinanteEventos assinante) {
+        return assinar(nome, EnumSet.allOf(TipoEvento.class), LOTE_PADRAO, assinante);
+    }
+
+    /**
+     * Assina alguns tipos de evento
+     * A assinatura recebe apenas o que for publicado depois dela.
+     * @param nome Nome da assinatura (usado na thread consumidora)
+     * @param tipos Tipos de interesse (os demais são pulados sem chamar o assinante)
+     * @param tamanhoLote Máximo de eventos por chamada ao assinante
+     * @param assinante Consumidor
+     * @return Assinatura ativa
+     */
+    public synchronized Assinatura assinar(String nome, Set<TipoEvento> tipos, int tamanhoLote,
+                                           AssinanteEventos assinante) {
+        Assinatura assinatura = new Assinatura(this, nome, EnumSet.copyOf(tipos),
+                                               Math.max(1, tamanhoLote), assinante, cursor.get());
+        Assinatura[] novas = Arrays.copyOf(assinaturas, assinaturas.length + 1);
+        novas[novas.length - 1] = assinatura;
+        assinaturas = novas;
+        assinatura.iniciar();
+        return assinatura;
+    }
+
+    /**
+     * Remove uma assinatura (chamado por {@link Assinatura#cancelar()})
+     */
+    synchronized void remover(Assinatura assinatura) {
+        ArrayList<Assinatura> restantes = new ArrayList<>(Arrays.asList(assinaturas));
+        if (restantes.remove(assinatura)) {
+            assinaturas = restantes.toArray(new Assinatura[0]);
+        }
+    }
+
+    /**
+     * Aguarda até que todos os assinantes tenham processado o que já foi publicado
+     * @param tempoMaximoMillis Tempo máximo de espera
+     * @return true se todos alcançaram o cursor no prazo
+     */
+    public boolean aguardarConsumo(long tempoMaximoMillis) {
+        long alvo = cursor.get();
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tempoMaximoMillis);
+        int tentativas = 0;
+        while (menorConsumido(assinaturas, alvo) < alvo) {
+            if (System.nanoTime() > limite) {
+                return false;
+            }
+            esperar(tentativas++);
+        }
+        return true;
+    }
+
+    /**
+     * Cancela todas as assinaturas
+     */
+    public void parar() {
+        for (Assinatura assinatura : assinaturas) {
+            assinatura.cancelar();
+        }
+    }
+
+    /**
+     * Lê o evento de uma sequência, se já foi publicado
+     * @return Evento, ou null se a posição ainda guarda um evento anterior
+     */
+    EventoDominio ler(long sequencia) {
+        EventoDominio evento = buffer.get((int) sequencia & mascara);
+        return evento != null && evento.getSequencia() == sequencia ? evento : null;
+    }
+
+    long getCursor() {
+        return cursor.get();
+    }
+
+    private static long menorConsumido(Assinatura[] atuais, long padrao) {
+        long minimo = padrao;
+        for (Assinatura assinatura : atuais) {
+            minimo = Math.min(minimo, assinatura.getConsumido());
+        }
+        return minimo;
+    }
+
+    /**
+     * Com o buffer cheio, quem publica espera o assinante mais lento; se for
+     * a thread de um assinante, ela esperaria por si mesma
+     */
+    private static void verificarThreadPublicadora(Assinatura[] atuais) {
+        for (Assinatura assinatura : atuais) {
+            if (assinatura.isThreadConsumidora()) {
+                throw new IllegalStateException("Assinante '" + assinatura.getNome()
+                        + "' publicou com o buffer de eventos cheio");
+            }
+        }
+    }
+
+    /**
+     * Espera progressiva de quem publica com o buffer cheio (e de
+     * aguardarConsumo): gira, cede a CPU e por fim dorme até 1 ms
+     */
+    static void esperar(int tentativas) {
+        if (tentativas < 100) {
+            Thread.onSpinWait();
+        } else if (tentativas < 120) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(1_000_000L, 1_000L << Math.min(10, tentativas - 120)));
+        }
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public Politica getPolitica() {
+        return politica;
+    }
+
+    /**
+     * @return Total de eventos que entraram no buffer
+     */
+    public long getPublicados() {
+        return cursor.get() + 1;
+    }
+
+    /**
+     * @return Eventos descartados pela política DESCARTAR
+     */
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    /**
+     * @return Assinaturas ativas
+     */
+    public List<Assinatura> getAssinaturas() {
+        return List.of(assinaturas);
+    }
+}
@@ -0,0 +1,83 @@
+package eventos;
+
+/**
+ * Evento imutável que descreve uma alteração no domínio
+ *
+ * A entidade é o objeto alterado (Projeto, Equipe ou Usuario) e o
+ * relacionado, quando existe, é o outro lado da relação (ex.: o usuário que
+ * entrou na equipe). Os valores anterior e novo dependem do tipo (ver
+ * {@link TipoEvento}). Os objetos referenciados são os do domínio, não
+ * cópias: quem consome em outra thread deve ler deles apenas o que não muda
+ * (ids, logins) ou usar os valores do próprio evento.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class EventoDominio {
+    private final long sequencia;
+    private final long instante;
+    private final TipoEvento tipo;
+    private final Object entidade;
+    private final Object relacionado;
+    private final String valorAnterior;
+    private final String valorNovo;
+
+    /**
+     * Construtor do evento (criado pelo barramento ao publicar)
+     */
+    EventoDominio(long sequencia, TipoEvento tipo, Object entidade, Object relacionado,
+                  String valorAnterior, String valorNovo) {
+        this.sequencia = sequencia;
+        this.instante = System.currentTimeMillis();
+        this.tipo = tipo;
+        this.entidade = entidade;
+        this.relacionado = relacionado;
+        this.valorAnterior = valorAnterior;
+        this.valorNovo = valorNovo;
+    }
+
+    /**
+     * Posição do evento no barramento (crescente, sem lacunas entre os publicados)
+     * @return Número de sequência
+     */
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    /**
+     * @return Instante da publicação, em milissegundos desde a época
+     */
+    public long getInstante() {
+        return instante;
+    }
+
+    public TipoEvento getTipo() {
+        return tipo;
+    }
+
+    public Object getEntidade() {
+        return entidade;
+    }
+
+    public Object getRelacionado() {
+        return relacionado;
+    }
+
+    public String getValorAnterior() {
+        return valorAnterior;
+    }
+
+    public String getValorNovo() {
+        return valorNovo;
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return "#" + sequencia + " " + tipo + " " + entidade
+             + (relacionado != null ? " / " + relacionado : "")
+             + (valorAnterior != null || valorNovo != null ? " (" + valorAnterior + " → " + valorNovo + ")" : "");
+    }
+}
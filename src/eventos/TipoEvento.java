@@ -0,0 +1,49 @@
+package eventos;
+
+/**
+ * Tipos de alteração publicados no barramento de eventos
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public enum TipoEvento {
+    /** Projeto cadastrado (entidade: Projeto) */
+    PROJETO_ADICIONADO,
+    /** Projeto removido (entidade: Projeto) */
+    PROJETO_REMOVIDO,
+    /**
+     * Dados do projeto alterados (entidade: Projeto). Valores: nome anterior e novo
+     * (nome, descrição ou gerente), ou data anterior e nova (início ou prazo)
+     */
+    PROJETO_ATUALIZADO,
+    /** Status do projeto alterado (entidade: Projeto; valores: status anterior e novo) */
+    STATUS_PROJETO_ALTERADO,
+    /** Equipe cadastrada (entidade: Equipe) */
+    EQUIPE_ADICIONADA,
+    /** Equipe removida (entidade: Equipe) */
+    EQUIPE_REMOVIDA,
+    /** Nome ou descrição da equipe alterados (entidade: Equipe; valores: nome anterior e novo) */
+    EQUIPE_ATUALIZADA,
+    /** Membro entrou na equipe (entidade: Equipe; relacionado: Usuario) */
+    MEMBRO_ADICIONADO,
+    /** Membro saiu da equipe (entidade: Equipe; relacionado: Usuario) */
+    MEMBRO_REMOVIDO,
+    /** Equipe alocada a um projeto (entidade: Projeto; relacionado: Equipe) */
+    EQUIPE_ALOCADA,
+    /** Equipe retirada de um projeto (entidade: Projeto; relacionado: Equipe) */
+    EQUIPE_DESALOCADA,
+    /** Usuário cadastrado (entidade: Usuario; valor anterior: papel; valor novo: email) */
+    USUARIO_ADICIONADO,
+    /** Usuário removido (entidade: Usuario; valor anterior: papel; valor novo: email) */
+    USUARIO_REMOVIDO,
+    /** Email ou senha do usuário alterados (entidade: Usuario; valores: email anterior e novo) */
+    USUARIO_ATUALIZADO,
+    /** Papel do usuário alterado (entidade: Usuario; valores: papel anterior e novo) */
+    PAPEL_ALTERADO,
+    /** Tarefa atribuída ao colaborador (entidade: Colaborador; valor novo: tarefa) */
+    TAREFA_ADICIONADA,
+    /** Tarefa concluída (entidade: Colaborador; valor anterior: tarefa) */
+    TAREFA_CONCLUIDA,
+    /** Tarefa removida (entidade: Colaborador; valor anterior: tarefa) */
+    TAREFA_REMOVIDA
+}
@@ -1,7 +1,16 @@
 package main;
 
+import agenda.AgendadorPrazos;
+import busca.MotorBusca;
+import eventos.BarramentoEventos;
+import metricas.RegistroMetricas;
 import modelo.*;
+import painel.PainelIndicadores;
+import seguranca.GerenciadorSessao;
+import seguranca.Permissao;
 import servico.*;
+import servidor.ServidorHttp;
+import java.time.LocalDate;
 import java.util.Scanner;
 
 /**
@@ -16,6 +25,13 @@ public class Main {
     private static GerenciadorUsuario gerenciadorUsuario = new GerenciadorUsuario();
     private static GerenciadorProjeto gerenciadorProjeto = new GerenciadorProjeto();
     private static GerenciadorEquipe gerenciadorEquipe = new GerenciadorEquipe();
+    private static GerenciadorSessao gerenciadorSessao = new GerenciadorSessao(gerenciadorUsuario);
+    private static PainelIndicadores painel = new PainelIndicadores();
+    private static AgendadorPrazos agendadorPrazos = new AgendadorPrazos(Main::alertarPrazo);
+    private static RankingProdutividade rankingProdutividade = new RankingProdutividade();
+    private static GrafoColaboracao grafoColaboracao = new GrafoColaboracao();
+    private static GerenciadorAlocacao gerenciadorAlocacao = new GerenciadorAlocacao();
+    private static String tokenSessao = null;
     private static Usuario usuarioLogado = null;
 
     public static void main(String[] args) {
@@ -23,12 +39,57 @@ public class Main {
         System.out.println("   SISTEMA AUTOMAX - GESTAO DE PROJETOS");
         System.out.println("=".repeat(50));
         
+        // Conectar o motor de busca textual aos gerenciadores
+        MotorBusca motorBusca = new MotorBusca();
+        gerenciadorUsuario.conectarMotorBusca(motorBusca);
+        gerenciadorProjeto.conectarMotorBusca(motorBusca);
+        gerenciadorEquipe.conectarMotorBusca(motorBusca);
+        
+        // Publicar as metricas de desempenho no JMX (JConsole/VisualVM)
+        RegistroMetricas.global().registrarJmx();
+        
         // Cadastrar usuario administrador padrao
         inicializarSistema();
+        gerenciadorSessao.iniciar();
+        
+        // Painel de indicadores mantido pelos eventos (relatorios sem varrer os dados)
+        painel.conectar(BarramentoEventos.global(), gerenciadorUsuario, gerenciadorProjeto, gerenciadorEquipe);
+        
+        // Alertas de prazo proximo e de atraso entregues aos gerentes responsaveis
+        agendadorPrazos.conectar(BarramentoEventos.global(), gerenciadorProjeto);
+        agendadorPrazos.iniciar();
+        
+        // Ranking de produtividade mantido a cada tarefa atribuida, concluida ou removida
+        rankingProdutividade.conectar(BarramentoEventos.global(), gerenciadorUsuario);
+        
+        // Grafo de colaboracao (quem divide equipe com quem) mantido a cada entrada ou saida de membro
+        grafoColaboracao.conectar(BarramentoEventos.global(), gerenciadorEquipe);
+        
+        // Alocacao de equipes a projetos (projeto -> equipes -> pessoas) mantida a cada mudanca de membros
+        gerenciadorAlocacao.conectar(BarramentoEventos.global());
+        
+        // "--servidor [porta]" expoe a API HTTP/JSON no lugar do menu de console
+        if (args.length > 0 && args[0].equals("--servidor")) {
+            int porta = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+            ServidorHttp servidor = new ServidorHttp(gerenciadorUsuario, gerenciadorProjeto,
+                                                     gerenciadorEquipe, gerenciadorSessao, motorBusca);
+            if (!servidor.iniciar(porta)) {
+                System.exit(1);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(servidor::parar));
+            return;
+        }
         
         // Loop principal do sistema
         while (true) {
             try {
+                // Cada iteracao resolve o usuario pela sessao (sem reautenticar)
+                usuarioLogado = gerenciadorSessao.obterUsuario(tokenSessao);
+                if (usuarioLogado == null && tokenSessao != null) {
+                    tokenSessao = null;
+                    System.out.println("[AVISO] Sessao expirada. Faca login novamente.\n");
+                }
+                
                 if (usuarioLogado == null) {
                     menuLogin();
                 } else {
@@ -41,6 +102,23 @@ public class Main {
         }
     }
 
+    /**
+     * Entrega um alerta de prazo ao gerente do projeto (thread do agendador)
+     */
+    private static void alertarPrazo(Projeto projeto, AgendadorPrazos.Alerta alerta, LocalDate prazo) {
+        Gerente gerente = projeto.getGerenteResponsavel();
+        if (gerente == null) {
+            return;
+        }
+        if (alerta == AgendadorPrazos.Alerta.ATRASADO) {
+            gerente.receberAlerta("[ATRASO] Projeto '" + projeto.getNome() + "' passou do prazo ("
+                                  + projeto.getDataFimPrevista() + ")");
+        } else {
+            gerente.receberAlerta("[PRAZO] Projeto '" + projeto.getNome() + "' vence em "
+                                  + projeto.getDataFimPrevista());
+        }
+    }
+
     /**
      * Inicializa o sistema com dados basicos
      */
@@ -96,7 +174,8 @@ public class Main {
         System.out.print("Senha: ");
         String senha = scanner.nextLine();
         
-        usuarioLogado = gerenciadorUsuario.autenticar(login, senha);
+        tokenSessao = gerenciadorSessao.login(login, senha);
+        usuarioLogado = gerenciadorSessao.obterUsuario(tokenSessao);
         
         if (usuarioLogado != null) {
             System.out.println("[OK] Login realizado com sucesso!");
@@ -111,6 +190,11 @@ public class Main {
      * Menu principal apos login
      */
     private static void menuPrincipal() {
+        if (usuarioLogado instanceof Gerente) {
+            for (String alerta : ((Gerente) usuarioLogado).retirarAlertas()) {
+                System.out.println(alerta);
+            }
+        }
         System.out.println("[MENU] MENU PRINCIPAL - " + usuarioLogado.getNome());
         System.out.println("1. Gerenciar Usuarios");
         System.out.println("2. Gerenciar Projetos");
@@ -139,6 +223,8 @@ public class Main {
                 exibirMeuPerfil();
                 break;
             case 6:
+                gerenciadorSessao.encerrar(tokenSessao);
+                tokenSessao = null;
                 usuarioLogado = null;
                 System.out.println("[OK] Logout realizado com sucesso!\n");
                 break;
@@ -151,7 +237,7 @@ public class Main {
      * Menu de gerenciamento de usuarios
      */
     private static void menuUsuarios() {
-        if (!(usuarioLogado instanceof Administrador)) {
+        if (!gerenciadorSessao.autorizar(tokenSessao, Permissao.GERENCIAR_USUARIOS)) {
             System.out.println("[ERRO] Acesso negado! Apenas administradores podem gerenciar usuarios.\n");
             return;
         }
@@ -238,7 +324,9 @@ public class Main {
         System.out.println("1. Cadastrar Projeto");
         System.out.println("2. Listar Projetos");
         System.out.println("3. Atualizar Status");
-        System.out.println("4. Voltar");
+        System.out.println("4. Alocar Equipe ao Projeto");
+        System.out.println("5. Meus Projetos");
+        System.out.println("6. Voltar");
         System.out.print("Escolha uma opcao: ");
         
         int opcao = lerOpcao();
@@ -254,6 +342,12 @@ public class Main {
                 atualizarStatusProjeto();
                 break;
             case 4:
+                alocarEquipeProjeto();
+                break;
+            case 5:
+                gerenciadorAlocacao.exibirProjetosDoUsuario(usuarioLogado);
+                break;
+            case 6:
                 return;
             default:
                 System.out.println("[ERRO] Opcao invalida!\n");
@@ -264,7 +358,7 @@ public class Main {
      * Cadastra um novo projeto
      */
     private static void cadastrarProjeto() {
-        if (!(usuarioLogado instanceof Administrador) && !(usuarioLogado instanceof Gerente)) {
+        if (!gerenciadorSessao.autorizar(tokenSessao, Permissao.CRIAR_PROJETOS)) {
             System.out.println("[ERRO] Acesso negado! Apenas administradores e gerentes podem cadastrar projetos.\n");
             return;
         }
@@ -354,6 +448,64 @@ public class Main {
         }
     }
 
+    /**
+     * Aloca uma equipe a um projeto
+     */
+    private static void alocarEquipeProjeto() {
+        if (!gerenciadorSessao.autorizar(tokenSessao, Permissao.CRIAR_PROJETOS)) {
+            System.out.println("[ERRO] Acesso negado! Apenas administradores e gerentes podem alocar equipes.\n");
+            return;
+        }
+        
+        var projetos = gerenciadorProjeto.listarProjetosList();
+        var equipes = gerenciadorEquipe.listarEquipesList();
+        
+        if (projetos.isEmpty()) {
+            System.out.println("[ERRO] Nenhum projeto cadastrado!\n");
+            return;
+        }
+        
+        if (equipes.isEmpty()) {
+            System.out.println("[ERRO] Nenhuma equipe cadastrada!\n");
+            return;
+        }
+        
+        System.out.println("[ALOCACAO] ALOCAR EQUIPE AO PROJETO");
+        
+        // Selecionar projeto
+        System.out.println("Projetos disponiveis:");
+        for (int i = 0; i < projetos.size(); i++) {
+            System.out.println((i + 1) + ". " + projetos.get(i).getNome() + 
+                             " (" + gerenciadorAlocacao.listarEquipesDoProjeto(projetos.get(i)).size() + " equipes)");
+        }
+        
+        System.out.print("Escolha o projeto: ");
+        int indiceProjeto = lerOpcao() - 1;
+        
+        if (indiceProjeto < 0 || indiceProjeto >= projetos.size()) {
+            System.out.println("[ERRO] Projeto invalido!\n");
+            return;
+        }
+        
+        // Selecionar equipe
+        System.out.println("Equipes disponiveis:");
+        for (int i = 0; i < equipes.size(); i++) {
+            System.out.println((i + 1) + ". " + equipes.get(i).getNome());
+        }
+        
+        System.out.print("Escolha a equipe: ");
+        int indiceEquipe = lerOpcao() - 1;
+        
+        if (indiceEquipe < 0 || indiceEquipe >= equipes.size()) {
+            System.out.println("[ERRO] Equipe invalida!\n");
+            return;
+        }
+        
+        if (gerenciadorAlocacao.alocarEquipe(projetos.get(indiceProjeto), equipes.get(indiceEquipe))) {
+            System.out.println("[OK] Equipe alocada com sucesso!\n");
+        }
+    }
+
     /**
      * Menu de gerenciamento de equipes
      */
@@ -362,7 +514,8 @@ public class Main {
         System.out.println("1. Criar Equipe");
         System.out.println("2. Listar Equipes");
         System.out.println("3. Adicionar Membro");
-        System.out.println("4. Voltar");
+        System.out.println("4. Meus Colaboradores");
+        System.out.println("5. Voltar");
         System.out.print("Escolha uma opcao: ");
         
         int opcao = lerOpcao();
@@ -378,6 +531,9 @@ public class Main {
                 adicionarMembroEquipe();
                 break;
             case 4:
+                grafoColaboracao.exibirColaboradores(usuarioLogado);
+                break;
+            case 5:
                 return;
             default:
                 System.out.println("[ERRO] Opcao invalida!\n");
@@ -388,7 +544,7 @@ public class Main {
      * Cria uma nova equipe
      */
     private static void criarEquipe() {
-        if (!(usuarioLogado instanceof Administrador) && !(usuarioLogado instanceof Gerente)) {
+        if (!gerenciadorSessao.autorizar(tokenSessao, Permissao.GERENCIAR_EQUIPES)) {
             System.out.println("[ERRO] Acesso negado! Apenas administradores e gerentes podem criar equipes.\n");
             return;
         }
@@ -444,7 +600,7 @@ public class Main {
         System.out.println("Usuarios disponiveis:");
         for (int i = 0; i < usuarios.size(); i++) {
             System.out.println((i + 1) + ". " + usuarios.get(i).getNome() + 
-                             " (" + usuarios.get(i).getClass().getSimpleName() + ")");
+                             " (" + usuarios.get(i).getPapel().getNome() + ")");
         }
         
         System.out.print("Escolha o usuario: ");
@@ -463,11 +619,14 @@ public class Main {
      * Menu de relatorios
      */
     private static void menuRelatorios() {
+        painel.getResumo().exibir();
         System.out.println("[RELATORIOS] RELATORIOS");
         System.out.println("1. Relatorio de Projetos");
         System.out.println("2. Relatorio de Equipes");
         System.out.println("3. Relatorio de Usuarios");
-        System.out.println("4. Voltar");
+        System.out.println("4. Metricas de Desempenho");
+        System.out.println("5. Ranking de Produtividade");
+        System.out.println("6. Voltar");
         System.out.print("Escolha uma opcao: ");
         
         int opcao = lerOpcao();
@@ -483,12 +642,43 @@ public class Main {
                 gerenciadorUsuario.gerarRelatorio();
                 break;
             case 4:
+                exibirMetricas();
+                break;
+            case 5:
+                exibirRanking();
+                break;
+            case 6:
                 return;
             default:
                 System.out.println("[ERRO] Opcao invalida!\n");
         }
     }
 
+    /**
+     * Exibe as metricas de latencia das operacoes (apenas administradores)
+     */
+    private static void exibirMetricas() {
+        if (!gerenciadorSessao.autorizar(tokenSessao, Permissao.ACESSAR_RELATORIOS_ADMIN)) {
+            System.out.println("[ERRO] Acesso negado! Apenas administradores podem ver as metricas.\n");
+            return;
+        }
+        
+        System.out.println("[METRICAS] LATENCIA DAS OPERACOES");
+        System.out.print(RegistroMetricas.global().exportarTexto());
+        System.out.println();
+    }
+
+    /**
+     * Exibe os colaboradores mais produtivos e a posicao do usuario logado
+     */
+    private static void exibirRanking() {
+        rankingProdutividade.exibirTop(10);
+        if (usuarioLogado instanceof Colaborador) {
+            int posicao = rankingProdutividade.getPosicao((Colaborador) usuarioLogado);
+            System.out.println("Sua posicao: " + posicao + " de " + rankingProdutividade.tamanho() + "\n");
+        }
+    }
+
     /**
      * Exibe informacoes do perfil do usuario logado
      */
@@ -0,0 +1,58 @@
+package metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contador concorrente dividido em listras
+ *
+ * Cada thread incrementa a listra escolhida pelo seu id, e as listras ficam
+ * em linhas de cache distintas (64 bytes de distância), o que evita a
+ * disputa de um único AtomicLong. O incremento é um único getAndIncrement
+ * (sem laço de CAS, ao contrário do LongAdder); a leitura soma as listras.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class ContadorListrado {
+    static final int LISTRAS = Math.min(8, Integer.highestOneBit(
+            Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+    private static final int ESPACAMENTO = 8; // 8 longs = 64 bytes por listra
+
+    private final AtomicLongArray valores = new AtomicLongArray(LISTRAS * ESPACAMENTO);
+
+    /**
+     * Incrementa o contador
+     * @return Valor anterior da listra usada (útil para amostragem 1 a cada N)
+     */
+    public long incrementar() {
+        return valores.getAndIncrement(listraAtual() * ESPACAMENTO);
+    }
+
+    /**
+     * Soma todas as listras
+     * @return Valor atual do contador
+     */
+    public long somar() {
+        long total = 0;
+        for (int i = 0; i < LISTRAS; i++) {
+            total += valores.get(i * ESPACAMENTO);
+        }
+        return total;
+    }
+
+    /**
+     * Zera o contador
+     */
+    public void zerar() {
+        for (int i = 0; i < LISTRAS; i++) {
+            valores.set(i * ESPACAMENTO, 0);
+        }
+    }
+
+    /**
+     * Listra da thread atual
+     */
+    static int listraAtual() {
+        return (int) Thread.currentThread().getId() & (LISTRAS - 1);
+    }
+}
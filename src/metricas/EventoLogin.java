@@ -0,0 +1,48 @@
+package metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do Java Flight Recorder para cada tentativa de login
+ * A duração do evento é o tempo da autenticação (inclui o PBKDF2 quando a
+ * verificação não vem do cache). Sem gravação ativa o custo é desprezível:
+ * o JIT elimina a alocação e shouldCommit() retorna false.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@Name("br.com.automax.Login")
+@Label("Tentativa de Login")
+@Category({"AutoMax", "Segurança"})
+@Description("Autenticação de usuário em GerenciadorUsuario.autenticar")
+@StackTrace(false)
+public class EventoLogin extends Event {
+    @Label("Login")
+    String login;
+
+    @Label("Sucesso")
+    boolean sucesso;
+
+    @Label("Atendido pelo Cache")
+    boolean viaCache;
+
+    /**
+     * Preenche e grava o evento, se houver gravação interessada nele
+     * @param login Login informado
+     * @param sucesso Se as credenciais eram válidas
+     * @param viaCache Se a verificação veio do cache de autenticação
+     */
+    public void concluir(String login, boolean sucesso, boolean viaCache) {
+        if (shouldCommit()) {
+            this.login = login;
+            this.sucesso = sucesso;
+            this.viaCache = viaCache;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do Java Flight Recorder para entrada e saída de membros de equipe
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@Name("br.com.automax.MembroEquipe")
+@Label("Alteração de Membro de Equipe")
+@Category({"AutoMax", "Equipes"})
+@Description("Chamada de Equipe.adicionarMembro ou Equipe.removerMembro")
+@StackTrace(false)
+public class EventoMembroEquipe extends Event {
+    public static final String ADICAO = "adicao";
+    public static final String REMOCAO = "remocao";
+
+    @Label("ID da Equipe")
+    int equipeId;
+
+    @Label("Login do Membro")
+    String login;
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Aplicada")
+    boolean aplicada;
+
+    @Label("Tamanho da Equipe")
+    int tamanhoEquipe;
+
+    /**
+     * Preenche e grava o evento, se houver gravação interessada nele
+     * @param equipeId ID da equipe
+     * @param login Login do usuário (null se inválido)
+     * @param operacao ADICAO ou REMOCAO
+     * @param aplicada Se a equipe foi de fato alterada
+     * @param tamanhoEquipe Número de membros após a operação
+     */
+    public void concluir(int equipeId, String login, String operacao, boolean aplicada, int tamanhoEquipe) {
+        if (shouldCommit()) {
+            this.equipeId = equipeId;
+            this.login = login;
+            this.operacao = operacao;
+            this.aplicada = aplicada;
+            this.tamanhoEquipe = tamanhoEquipe;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do Java Flight Recorder para a geração de relatórios
+ * A duração cobre o cálculo e a impressão do relatório inteiro
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@Name("br.com.automax.Relatorio")
+@Label("Geração de Relatório")
+@Category({"AutoMax", "Relatórios"})
+@Description("Chamada de gerarRelatorio em um dos gerenciadores")
+@StackTrace(false)
+public class EventoRelatorio extends Event {
+    @Label("Tipo")
+    String tipo;
+
+    @Label("Registros")
+    int registros;
+
+    /**
+     * Preenche e grava o evento, se houver gravação interessada nele
+     * @param tipo Tipo do relatório ("usuarios", "projetos" ou "equipes")
+     * @param registros Número de registros considerados
+     */
+    public void concluir(String tipo, int registros) {
+        if (shouldCommit()) {
+            this.tipo = tipo;
+            this.registros = registros;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do Java Flight Recorder para transições de status de projeto
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@Name("br.com.automax.StatusProjeto")
+@Label("Transição de Status de Projeto")
+@Category({"AutoMax", "Projetos"})
+@Description("Chamada de Projeto.atualizarStatus")
+@StackTrace(false)
+public class EventoStatusProjeto extends Event {
+    @Label("ID do Projeto")
+    int projetoId;
+
+    @Label("Status Anterior")
+    String statusAnterior;
+
+    @Label("Status Solicitado")
+    String statusNovo;
+
+    @Label("Aceito")
+    boolean aceito;
+
+    /**
+     * Preenche e grava o evento, se houver gravação interessada nele
+     * @param projetoId ID do projeto
+     * @param statusAnterior Status antes da chamada
+     * @param statusNovo Status solicitado
+     * @param aceito Se o status solicitado era válido e foi aplicado
+     */
+    public void concluir(int projetoId, String statusAnterior, String statusNovo, boolean aceito) {
+        if (shouldCommit()) {
+            this.projetoId = projetoId;
+            this.statusAnterior = statusAnterior;
+            this.statusNovo = statusNovo;
+            this.aceito = aceito;
+            commit();
+        }
+    }
+}
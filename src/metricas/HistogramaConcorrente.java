@@ -0,0 +1,130 @@
+package metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Histograma de latências seguro para uso concorrente
+ *
+ * As faixas são log-lineares: valores até 15 são exatos e cada potência de
+ * dois acima disso é dividida em 8 faixas (erro relativo máximo de 12,5%).
+ * As contagens ficam em várias listras (as mesmas de {@link ContadorListrado})
+ * para que threads diferentes raramente disputem a mesma linha de cache; a
+ * última posição de cada listra guarda a soma dos valores. A leitura soma
+ * as listras.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class HistogramaConcorrente {
+    private static final int BITS_SUBFAIXA = 3;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+    private static final int LIMITE_EXATO = SUBFAIXAS * 2;
+    private static final int TOTAL_FAIXAS = LIMITE_EXATO + (63 - BITS_SUBFAIXA) * SUBFAIXAS;
+    private static final int POSICAO_SOMA = TOTAL_FAIXAS;
+
+    private final AtomicLongArray[] listras = new AtomicLongArray[ContadorListrado.LISTRAS];
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Construtor do histograma
+     */
+    public HistogramaConcorrente() {
+        for (int i = 0; i < listras.length; i++) {
+            listras[i] = new AtomicLongArray(TOTAL_FAIXAS + 1);
+        }
+    }
+
+    /**
+     * Registra um valor (negativos são tratados como zero)
+     * @param valor Valor em nanossegundos
+     */
+    public void registrar(long valor) {
+        if (valor < 0) {
+            valor = 0;
+        }
+        AtomicLongArray listra = listras[ContadorListrado.listraAtual()];
+        listra.getAndIncrement(indice(valor));
+        listra.getAndAdd(POSICAO_SOMA, valor);
+        maximo.accumulate(valor);
+    }
+
+    /**
+     * Soma as listras em um retrato das contagens atuais
+     * @return Contagem por faixa
+     */
+    long[] copiarContagens() {
+        long[] contagens = new long[TOTAL_FAIXAS];
+        for (AtomicLongArray listra : listras) {
+            for (int i = 0; i < TOTAL_FAIXAS; i++) {
+                contagens[i] += listra.get(i);
+            }
+        }
+        return contagens;
+    }
+
+    long getSoma() {
+        long soma = 0;
+        for (AtomicLongArray listra : listras) {
+            soma += listra.get(POSICAO_SOMA);
+        }
+        return soma;
+    }
+
+    long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Zera todas as contagens
+     */
+    public void zerar() {
+        for (AtomicLongArray listra : listras) {
+            for (int i = 0; i <= TOTAL_FAIXAS; i++) {
+                listra.set(i, 0);
+            }
+        }
+        maximo.reset();
+    }
+
+    /**
+     * Valor de um percentil a partir de um retrato das contagens
+     * @param contagens Contagens obtidas com copiarContagens
+     * @param total Soma das contagens
+     * @param percentil Percentil entre 0 e 100
+     * @return Maior valor equivalente da faixa do percentil
+     */
+    static long percentil(long[] contagens, long total, double percentil) {
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(percentil / 100.0 * total));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) {
+                return maiorValorDaFaixa(i);
+            }
+        }
+        return maiorValorDaFaixa(contagens.length - 1);
+    }
+
+    private static int indice(long valor) {
+        if (valor < LIMITE_EXATO) {
+            return (int) valor;
+        }
+        int deslocamento = 63 - Long.numberOfLeadingZeros(valor) - BITS_SUBFAIXA;
+        int mantissa = (int) (valor >>> deslocamento);
+        return LIMITE_EXATO + (deslocamento - 1) * SUBFAIXAS + (mantissa - SUBFAIXAS);
+    }
+
+    private static long maiorValorDaFaixa(int indice) {
+        if (indice < LIMITE_EXATO) {
+            return indice;
+        }
+        int deslocamento = (indice - LIMITE_EXATO) / SUBFAIXAS + 1;
+        long mantissa = SUBFAIXAS + (indice - LIMITE_EXATO) % SUBFAIXAS;
+        long maior = ((mantissa + 1) << deslocamento) - 1;
+        return maior < 0 ? Long.MAX_VALUE : maior;
+    }
+}
@@ -0,0 +1,149 @@
+package metricas;
+
+/**
+ * Métrica de uma operação: número de chamadas e histograma de latência
+ *
+ * Uso típico em um método instrumentado:
+ * <pre>
+ *     long inicio = METRICA.iniciar();
+ *     try {
+ *         ...
+ *     } finally {
+ *         METRICA.registrar(inicio);
+ *     }
+ * </pre>
+ *
+ * Com o registro desabilitado, iniciar/registrar custam uma leitura de campo.
+ * Habilitado, o custo é dominado pelas duas leituras de System.nanoTime;
+ * com amostragem N, todas as chamadas são contadas (um incremento atômico)
+ * mas apenas 1 a cada N tem a latência medida.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class MetricaOperacao implements MetricaOperacaoMBean {
+    private static final long NAO_MEDIDA = Long.MIN_VALUE;
+
+    private final String nome;
+    private final RegistroMetricas registro;
+    private final ContadorListrado chamadas = new ContadorListrado();
+    private final HistogramaConcorrente latencias = new HistogramaConcorrente();
+
+    /**
+     * Construtor da métrica (criada pelo registro)
+     * @param nome Nome da operação (ex.: "usuario.autenticar")
+     * @param registro Registro ao qual a métrica pertence
+     */
+    MetricaOperacao(String nome, RegistroMetricas registro) {
+        this.nome = nome;
+        this.registro = registro;
+    }
+
+    /**
+     * Marca o início de uma chamada
+     * @return Instante de início, ou um marcador se a chamada não será medida
+     */
+    public long iniciar() {
+        if (!registro.isHabilitado()) {
+            return NAO_MEDIDA;
+        }
+        long chamada = chamadas.incrementar();
+        if ((chamada & registro.getMascaraAmostragem()) != 0) {
+            return NAO_MEDIDA;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Marca o fim de uma chamada iniciada com {@link #iniciar()}
+     * @param inicio Valor retornado por iniciar
+     */
+    public void registrar(long inicio) {
+        if (inicio != NAO_MEDIDA) {
+            latencias.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Obtém um retrato consistente o suficiente para relatórios
+     * @return Resumo atual da métrica
+     */
+    public ResumoMetrica resumir() {
+        long[] contagens = latencias.copiarContagens();
+        long total = 0;
+        for (long contagem : contagens) {
+            total += contagem;
+        }
+        long maximo = latencias.getMaximo();
+        // O percentil devolve o limite superior da faixa, que pode passar do máximo observado
+        return new ResumoMetrica(nome, chamadas.somar(), total,
+                                 total == 0 ? 0 : (double) latencias.getSoma() / total,
+                                 Math.min(maximo, HistogramaConcorrente.percentil(contagens, total, 50)),
+                                 Math.min(maximo, HistogramaConcorrente.percentil(contagens, total, 90)),
+                                 Math.min(maximo, HistogramaConcorrente.percentil(contagens, total, 99)),
+                                 Math.min(maximo, HistogramaConcorrente.percentil(contagens, total, 99.9)),
+                                 maximo);
+    }
+
+    @Override
+    public String getNome() {
+        return nome;
+    }
+
+    @Override
+    public long getChamadas() {
+        return chamadas.somar();
+    }
+
+    @Override
+    public long getAmostras() {
+        return resumir().getAmostras();
+    }
+
+    @Override
+    public double getMediaMicros() {
+        return resumir().getMediaNanos() / 1000.0;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return resumir().getP50Nanos() / 1000.0;
+    }
+
+    @Override
+    public double getP90Micros() {
+        return resumir().getP90Nanos() / 1000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return resumir().getP99Nanos() / 1000.0;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return resumir().getP999Nanos() / 1000.0;
+    }
+
+    @Override
+    public double getMaximoMicros() {
+        return latencias.getMaximo() / 1000.0;
+    }
+
+    /**
+     * Zera contadores e histograma
+     */
+    @Override
+    public void zerar() {
+        chamadas.zerar();
+        latencias.zerar();
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return resumir().toString();
+    }
+}
@@ -0,0 +1,30 @@
+package metricas;
+
+/**
+ * Interface de gerenciamento (JMX) de uma métrica de operação
+ * Os tempos são expostos em microssegundos
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public interface MetricaOperacaoMBean {
+    String getNome();
+
+    long getChamadas();
+
+    long getAmostras();
+
+    double getMediaMicros();
+
+    double getP50Micros();
+
+    double getP90Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaximoMicros();
+
+    void zerar();
+}
@@ -0,0 +1,181 @@
+package metricas;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registro das métricas de operação do sistema
+ *
+ * Os gerenciadores obtêm suas métricas uma única vez (campos estáticos) e o
+ * registro permite habilitar/desabilitar a coleta, ajustar a amostragem e
+ * exportar os resultados como texto, JSON ou MBeans JMX.
+ *
+ * Propriedades de sistema:
+ * - automax.metricas: "false" desabilita a coleta (padrão: habilitada)
+ * - automax.metricas.amostragem: mede a latência de 1 a cada N chamadas,
+ *   N potência de dois (padrão: 1, todas as chamadas)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class RegistroMetricas {
+    private static final String DOMINIO_JMX = "br.com.automax";
+    private static final RegistroMetricas GLOBAL = new RegistroMetricas(
+            !"false".equalsIgnoreCase(System.getProperty("automax.metricas")),
+            Integer.getInteger("automax.metricas.amostragem", 1));
+
+    private final ConcurrentHashMap<String, MetricaOperacao> metricas = new ConcurrentHashMap<>();
+    private volatile boolean habilitado;
+    private volatile int mascaraAmostragem;
+    private volatile boolean jmxAtivo;
+
+    /**
+     * Construtor do registro
+     * @param habilitado Se a coleta começa habilitada
+     * @param amostragem Medir 1 a cada N chamadas (N potência de dois)
+     */
+    public RegistroMetricas(boolean habilitado, int amostragem) {
+        this.habilitado = habilitado;
+        setAmostragem(amostragem);
+    }
+
+    /**
+     * Registro compartilhado por todos os gerenciadores
+     * @return Registro global
+     */
+    public static RegistroMetricas global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Obtém (criando se necessário) a métrica de uma operação
+     * @param nome Nome da operação (ex.: "usuario.autenticar")
+     * @return Métrica da operação
+     */
+    public MetricaOperacao operacao(String nome) {
+        MetricaOperacao existente = metricas.get(nome);
+        if (existente != null) {
+            return existente;
+        }
+        MetricaOperacao nova = new MetricaOperacao(nome, this);
+        existente = metricas.putIfAbsent(nome, nova);
+        if (existente != null) {
+            return existente;
+        }
+        if (jmxAtivo) {
+            registrarMBean(nova);
+        }
+        return nova;
+    }
+
+    /**
+     * Lista as métricas em ordem alfabética de nome
+     * @return Resumos das métricas
+     */
+    public ArrayList<ResumoMetrica> listar() {
+        ArrayList<ResumoMetrica> resumos = new ArrayList<>();
+        for (MetricaOperacao metrica : metricas.values()) {
+            resumos.add(metrica.resumir());
+        }
+        Collections.sort(resumos, Comparator.comparing(ResumoMetrica::getNome));
+        return resumos;
+    }
+
+    /**
+     * Exporta as métricas como texto (uma linha por operação chamada)
+     * @return Texto formatado
+     */
+    public String exportarTexto() {
+        StringBuilder texto = new StringBuilder();
+        for (ResumoMetrica resumo : listar()) {
+            if (resumo.getChamadas() > 0) {
+                texto.append(resumo).append('\n');
+            }
+        }
+        return texto.length() > 0 ? texto.toString() : "Nenhuma operação registrada.\n";
+    }
+
+    /**
+     * Exporta todas as métricas como JSON
+     * @return Objeto JSON com a lista "metricas"
+     */
+    public String exportarJson() {
+        StringBuilder json = new StringBuilder("{\"habilitado\":").append(habilitado).append(",\"metricas\":[");
+        boolean primeira = true;
+        for (ResumoMetrica resumo : listar()) {
+            if (!primeira) {
+                json.append(',');
+            }
+            json.append(resumo.paraJson());
+            primeira = false;
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Publica cada métrica (atual e futura) como MBean na plataforma JMX,
+     * visível no JConsole/VisualVM em br.com.automax:type=Operacao
+     * @return true se registrado com sucesso
+     */
+    public boolean registrarJmx() {
+        try {
+            jmxAtivo = true;
+            for (MetricaOperacao metrica : metricas.values()) {
+                registrarMBean(metrica);
+            }
+            return true;
+        } catch (Exception e) {
+            System.out.println("Erro ao registrar métricas no JMX: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Zera todas as métricas
+     */
+    public void zerar() {
+        for (MetricaOperacao metrica : metricas.values()) {
+            metrica.zerar();
+        }
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void setHabilitado(boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    int getMascaraAmostragem() {
+        return mascaraAmostragem;
+    }
+
+    /**
+     * Define a amostragem de latência
+     * @param amostragem Medir 1 a cada N chamadas (N potência de dois, N >= 1)
+     */
+    public void setAmostragem(int amostragem) {
+        if (amostragem < 1 || Integer.bitCount(amostragem) != 1) {
+            throw new IllegalArgumentException("A amostragem deve ser uma potência de dois: " + amostragem);
+        }
+        this.mascaraAmostragem = amostragem - 1;
+    }
+
+    private void registrarMBean(MetricaOperacao metrica) {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName nome = new ObjectName(DOMINIO_JMX + ":type=Operacao,name=" + ObjectName.quote(metrica.getNome()));
+            if (!servidor.isRegistered(nome)) {
+                servidor.registerMBean(metrica, nome);
+            }
+        } catch (Exception e) {
+            System.out.println("Erro ao registrar métrica " + metrica.getNome() + " no JMX: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package metricas;
+
+import java.util.Locale;
+
+/**
+ * Retrato imutável de uma métrica de operação (tempos em nanossegundos)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class ResumoMetrica {
+    private final String nome;
+    private final long chamadas;
+    private final long amostras;
+    private final double mediaNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maximoNanos;
+
+    ResumoMetrica(String nome, long chamadas, long amostras, double mediaNanos, long p50Nanos,
+                  long p90Nanos, long p99Nanos, long p999Nanos, long maximoNanos) {
+        this.nome = nome;
+        this.chamadas = chamadas;
+        this.amostras = amostras;
+        this.mediaNanos = mediaNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maximoNanos = maximoNanos;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getChamadas() {
+        return chamadas;
+    }
+
+    public long getAmostras() {
+        return amostras;
+    }
+
+    public double getMediaNanos() {
+        return mediaNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaximoNanos() {
+        return maximoNanos;
+    }
+
+    /**
+     * Representação em JSON (um objeto)
+     * @return Texto JSON
+     */
+    public String paraJson() {
+        return String.format(Locale.ROOT,
+                "{\"nome\":\"%s\",\"chamadas\":%d,\"amostras\":%d,\"mediaNanos\":%.1f,"
+                + "\"p50Nanos\":%d,\"p90Nanos\":%d,\"p99Nanos\":%d,\"p999Nanos\":%d,\"maximoNanos\":%d}",
+                nome.replace("\\", "\\\\").replace("\"", "\\\""), chamadas, amostras, mediaNanos,
+                p50Nanos, p90Nanos, p99Nanos, p999Nanos, maximoNanos);
+    }
+
+    /**
+     * Método sobrescrito toString (uma linha, tempos em microssegundos)
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%-34s chamadas=%-9d media=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                nome, chamadas, mediaNanos / 1000.0, p50Nanos / 1000.0, p90Nanos / 1000.0,
+                p99Nanos / 1000.0, p999Nanos / 1000.0, maximoNanos / 1000.0);
+    }
+}
@@ -18,7 +18,7 @@ public class Administrador extends Usuario {
      * @param senha Senha para acesso ao sistema
      */
     public Administrador(String nome, String cpf, String email, String login, String senha) {
-        super(nome, cpf, email, login, senha); // Chama o construtor da classe pai
+        super(nome, cpf, email, login, senha, Papel.ADMINISTRADOR); // Chama o construtor da classe pai
     }
 
     /**
@@ -60,22 +60,6 @@ public class Administrador extends Usuario {
         System.out.println("Pode: Gerenciar usuários, projetos, equipes e configurações");
     }
 
-    /**
-     * Método para validar se pode executar operações administrativas
-     * @return true sempre, pois administrador tem acesso total
-     */
-    public boolean podeGerenciarUsuarios() {
-        return true;
-    }
-
-    /**
-     * Método para validar se pode acessar relatórios administrativos
-     * @return true sempre, pois administrador tem acesso total
-     */
-    public boolean podeAcessarRelatoriosAdmin() {
-        return true;
-    }
-
     /**
      * Método para resetar senhas de outros usuários
      * @param usuario Usuário que terá a senha resetada
@@ -1,6 +1,11 @@
 package modelo;
 
+import eventos.BarramentoEventos;
+import eventos.TipoEvento;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Classe que representa um usuário colaborador
@@ -10,9 +15,14 @@ import java.util.ArrayList;
  * @version 1.0
  */
 public class Colaborador extends Usuario {
-    // Atributos específicos do colaborador (coleções)
-    private ArrayList<String> tarefasAtribuidas;
+    private static final int[] SEM_TAREFAS = new int[0];
+
+    // Atributos específicos do colaborador: IDs das tarefas, guardadas no RepositorioTarefas
+    private int[] idsTarefas;
+    private int totalTarefas;
     private String especialidade;
+    // Tarefas ainda não concluídas (mantido a cada alteração, para a produtividade em O(1))
+    private int tarefasPendentes;
 
     /**
      * Construtor da classe Colaborador
@@ -23,8 +33,8 @@ public class Colaborador extends Usuario {
      * @param senha Senha para acesso ao sistema
      */
     public Colaborador(String nome, String cpf, String email, String login, String senha) {
-        super(nome, cpf, email, login, senha); // Chama o construtor da classe pai
-        this.tarefasAtribuidas = new ArrayList<>(); // Inicializa a coleção
+        super(nome, cpf, email, login, senha, Papel.COLABORADOR); // Chama o construtor da classe pai
+        this.idsTarefas = SEM_TAREFAS;
         this.especialidade = "Geral"; // Especialidade padrão
     }
 
@@ -38,9 +48,9 @@ public class Colaborador extends Usuario {
      * @param especialidade Especialidade do colaborador
      */
     public Colaborador(String nome, String cpf, String email, String login, String senha, String especialidade) {
-        super(nome, cpf, email, login, senha);
-        this.tarefasAtribuidas = new ArrayList<>();
-        this.especialidade = especialidade;
+        super(nome, cpf, email, login, senha, Papel.COLABORADOR);
+        this.idsTarefas = SEM_TAREFAS;
+        this.especialidade = Dicionario.ESPECIALIDADES.internar(especialidade);
     }
 
     /**
@@ -51,7 +61,7 @@ public class Colaborador extends Usuario {
     public void exibirPerfil() {
         System.out.println("Perfil: Colaborador - " + getNome());
         System.out.println("Especialidade: " + especialidade);
-        System.out.println("Tarefas atribuídas: " + tarefasAtribuidas.size());
+        System.out.println("Tarefas atribuídas: " + totalTarefas);
         System.out.println("Permissões: Visualizar projetos e executar tarefas");
     }
 
@@ -60,16 +70,41 @@ public class Colaborador extends Usuario {
      * @param tarefa Descrição da tarefa
      */
     public void adicionarTarefa(String tarefa) {
+        adicionarTarefa(tarefa, true);
+    }
+
+    /**
+     * Adiciona tarefa ao colaborador (sobrecarga usada na distribuição em lote)
+     * @param tarefa Descrição da tarefa
+     * @param exibirMensagem Se deve informar a atribuição no console
+     * @return true se a tarefa foi atribuída
+     */
+    public boolean adicionarTarefa(String tarefa, boolean exibirMensagem) {
         try {
             if (tarefa != null && !tarefa.trim().isEmpty()) {
-                tarefasAtribuidas.add(tarefa);
-                System.out.println("Tarefa atribuída a " + getNome() + ": " + tarefa);
-            } else {
+                int totalAntes = totalTarefas;
+                int pendentesAntes = tarefasPendentes;
+                Tarefa criada = RepositorioTarefas.global().criar(this, tarefa);
+                if (totalTarefas == idsTarefas.length) {
+                    idsTarefas = Arrays.copyOf(idsTarefas, Math.max(4, totalTarefas * 2));
+                }
+                idsTarefas[totalTarefas++] = criada.getId();
+                if (!criada.isConcluida()) {
+                    tarefasPendentes++;
+                }
+                avisarEquipes(totalAntes, pendentesAntes);
+                BarramentoEventos.global().publicar(TipoEvento.TAREFA_ADICIONADA, this, null, null, tarefa);
+                if (exibirMensagem) {
+                    System.out.println("Tarefa atribuída a " + getNome() + ": " + tarefa);
+                }
+                return true;
+            } else if (exibirMensagem) {
                 System.out.println("Tarefa inválida!");
             }
         } catch (Exception e) {
             System.out.println("Erro ao adicionar tarefa: " + e.getMessage());
         }
+        return false;
     }
 
     /**
@@ -78,10 +113,12 @@ public class Colaborador extends Usuario {
      */
     public void concluirTarefa(int indiceTarefa) {
         try {
-            if (indiceTarefa >= 0 && indiceTarefa < tarefasAtribuidas.size()) {
-                String tarefa = tarefasAtribuidas.get(indiceTarefa);
-                if (!tarefa.contains("[CONCLUÍDA]")) {
-                    tarefasAtribuidas.set(indiceTarefa, tarefa + " [CONCLUÍDA]");
+            if (indiceTarefa >= 0 && indiceTarefa < totalTarefas) {
+                String tarefa = RepositorioTarefas.global().buscarPorId(idsTarefas[indiceTarefa]).getTexto();
+                if (RepositorioTarefas.global().concluir(idsTarefas[indiceTarefa])) {
+                    tarefasPendentes--;
+                    avisarEquipes(totalTarefas, tarefasPendentes + 1);
+                    BarramentoEventos.global().publicar(TipoEvento.TAREFA_CONCLUIDA, this, null, tarefa, tarefa + " [CONCLUÍDA]");
                     System.out.println("Tarefa concluída: " + tarefa);
                 } else {
                     System.out.println("Tarefa já estava concluída!");
@@ -99,12 +136,14 @@ public class Colaborador extends Usuario {
      */
     public void listarTarefas() {
         System.out.println("TAREFAS DE " + getNome().toUpperCase());
-        if (tarefasAtribuidas.isEmpty()) {
+        if (totalTarefas == 0) {
             System.out.println("Nenhuma tarefa atribuída.");
         } else {
-            for (int i = 0; i < tarefasAtribuidas.size(); i++) {
-                String status = tarefasAtribuidas.get(i).contains("[CONCLUÍDA]") ? "OK" : "Aguarde";
-                System.out.println(status + " " + (i + 1) + ". " + tarefasAtribuidas.get(i));
+            List<Tarefa> tarefas = getTarefas();
+            for (int i = 0; i < tarefas.size(); i++) {
+                Tarefa tarefa = tarefas.get(i);
+                String status = tarefa.isConcluida() ? "OK" : "Aguarde";
+                System.out.println(status + " " + (i + 1) + ". " + tarefa.getTexto());
             }
         }
         System.out.println();
@@ -129,13 +168,7 @@ public class Colaborador extends Usuario {
      * @return Número de tarefas pendentes
      */
     private int contarTarefasPendentes() {
-        int contador = 0;
-        for (String tarefa : tarefasAtribuidas) {
-            if (!tarefa.contains("[CONCLUÍDA]")) {
-                contador++;
-            }
-        }
-        return contador;
+        return tarefasPendentes;
     }
 
     /**
@@ -143,13 +176,7 @@ public class Colaborador extends Usuario {
      * @return Número de tarefas concluídas
      */
     private int contarTarefasConcluidas() {
-        int contador = 0;
-        for (String tarefa : tarefasAtribuidas) {
-            if (tarefa.contains("[CONCLUÍDA]")) {
-                contador++;
-            }
-        }
-        return contador;
+        return totalTarefas - tarefasPendentes;
     }
 
     /**
@@ -161,7 +188,7 @@ public class Colaborador extends Usuario {
         System.out.println("Privilégios: Colaborador");
         System.out.println("Pode: Visualizar projetos, executar tarefas, enviar relatórios");
         System.out.println("Especialidade: " + especialidade);
-        System.out.println("Total de tarefas: " + tarefasAtribuidas.size());
+        System.out.println("Total de tarefas: " + totalTarefas);
         System.out.println("Produtividade: " + String.format("%.1f", calcularProdutividade()) + "%");
     }
 
@@ -171,8 +198,17 @@ public class Colaborador extends Usuario {
      */
     public void removerTarefa(int indiceTarefa) {
         try {
-            if (indiceTarefa >= 0 && indiceTarefa < tarefasAtribuidas.size()) {
-                String tarefaRemovida = tarefasAtribuidas.remove(indiceTarefa);
+            if (indiceTarefa >= 0 && indiceTarefa < totalTarefas) {
+                int pendentesAntes = tarefasPendentes;
+                Tarefa removida = RepositorioTarefas.global().remover(idsTarefas[indiceTarefa]);
+                System.arraycopy(idsTarefas, indiceTarefa + 1, idsTarefas, indiceTarefa, totalTarefas - indiceTarefa - 1);
+                totalTarefas--;
+                if (!removida.isConcluida()) {
+                    tarefasPendentes--;
+                }
+                avisarEquipes(totalTarefas + 1, pendentesAntes);
+                String tarefaRemovida = removida.getTexto();
+                BarramentoEventos.global().publicar(TipoEvento.TAREFA_REMOVIDA, this, null, tarefaRemovida, null);
                 System.out.println("Tarefa removida: " + tarefaRemovida);
             } else {
                 System.out.println("Índice de tarefa inválido!");
@@ -182,21 +218,108 @@ public class Colaborador extends Usuario {
         }
     }
 
+    /**
+     * Método para remover todas as tarefas (ex.: colaborador removido do sistema)
+     * @return Quantidade de tarefas removidas
+     */
+    public int removerTodasTarefas() {
+        try {
+            int removidas = totalTarefas;
+            int pendentesAntes = tarefasPendentes;
+            for (int i = 0; i < removidas; i++) {
+                Tarefa removida = RepositorioTarefas.global().remover(idsTarefas[i]);
+                if (removida != null) {
+                    BarramentoEventos.global().publicar(TipoEvento.TAREFA_REMOVIDA, this, null, removida.getTexto(), null);
+                }
+            }
+            idsTarefas = SEM_TAREFAS;
+            totalTarefas = 0;
+            tarefasPendentes = 0;
+            if (removidas > 0) {
+                avisarEquipes(removidas, pendentesAntes);
+            }
+            return removidas;
+        } catch (Exception e) {
+            System.out.println("Erro ao remover tarefas: " + e.getMessage());
+            return 0;
+        }
+    }
+
     // Getters e Setters específicos (encapsulamento)
     public String getEspecialidade() {
         return especialidade;
     }
 
     public void setEspecialidade(String especialidade) {
-        this.especialidade = especialidade;
+        this.especialidade = Dicionario.ESPECIALIDADES.internar(especialidade);
     }
 
     /**
-     * Getter que retorna cópia da lista para preservar encapsulamento
-     * @return Cópia da lista de tarefas
+     * Getter que monta a lista de textos das tarefas (concluídas com a marca [CONCLUÍDA])
+     * Para percorrer sem montar listas, use {@link #getTarefas()}.
+     * @return Textos das tarefas, na ordem de atribuição
      */
     public ArrayList<String> getTarefasAtribuidas() {
-        return new ArrayList<>(tarefasAtribuidas);
+        ArrayList<String> textos = new ArrayList<>(totalTarefas);
+        for (Tarefa tarefa : getTarefas()) {
+            textos.add(tarefa.getTexto());
+        }
+        return textos;
+    }
+
+    /**
+     * Visão somente leitura das tarefas, resolvidas pelo ID no repositório (sem cópia)
+     * @return Tarefas na ordem de atribuição
+     */
+    public List<Tarefa> getTarefas() {
+        return new AbstractList<Tarefa>() {
+            @Override
+            public Tarefa get(int indice) {
+                if (indice < 0 || indice >= totalTarefas) {
+                    throw new IndexOutOfBoundsException("Índice de tarefa inválido: " + indice);
+                }
+                return RepositorioTarefas.global().buscarPorId(idsTarefas[indice]);
+            }
+
+            @Override
+            public int size() {
+                return totalTarefas;
+            }
+        };
+    }
+
+    /**
+     * Parcela deste colaborador na produtividade somada pelas equipes
+     * @return Produtividade em escala inteira (ver Equipe.parcelaProdutividade)
+     */
+    long parcelaProdutividade() {
+        return Equipe.parcelaProdutividade(totalTarefas - tarefasPendentes, totalTarefas);
+    }
+
+    /**
+     * Avisa as equipes do colaborador sobre a mudança nas suas tarefas
+     * @param totalAntes Total de tarefas antes da mudança
+     * @param pendentesAntes Pendentes antes da mudança
+     */
+    private void avisarEquipes(int totalAntes, int pendentesAntes) {
+        long parcelaAntes = Equipe.parcelaProdutividade(totalAntes - pendentesAntes, totalAntes);
+        avisarEquipesTarefas(totalTarefas - totalAntes, tarefasPendentes - pendentesAntes,
+                             parcelaProdutividade() - parcelaAntes);
+    }
+
+    /**
+     * Acrescenta as tarefas deste colaborador a uma lista (consultas do repositório)
+     */
+    void coletarTarefas(RepositorioTarefas repositorio, boolean incluirConcluidas, ArrayList<Tarefa> destino) {
+        if (!incluirConcluidas && tarefasPendentes == 0) {
+            return;
+        }
+        for (int i = 0; i < totalTarefas; i++) {
+            Tarefa tarefa = repositorio.buscarPorId(idsTarefas[i]);
+            if (tarefa != null && (incluirConcluidas || !tarefa.isConcluida())) {
+                destino.add(tarefa);
+            }
+        }
     }
 
     /**
@@ -213,11 +336,11 @@ public class Colaborador extends Usuario {
      * @return Percentual de tarefas concluídas
      */
     public double calcularProdutividade() {
-        if (tarefasAtribuidas.isEmpty()) {
+        if (totalTarefas == 0) {
             return 0.0;
         }
         double concluidas = contarTarefasConcluidas();
-        return (concluidas / tarefasAtribuidas.size()) * 100;
+        return (concluidas / totalTarefas) * 100;
     }
 
     /**
@@ -237,13 +360,18 @@ public class Colaborador extends Usuario {
     public void concluirTodasTarefas() {
         try {
             int tarefasConcluidas = 0;
-            for (int i = 0; i < tarefasAtribuidas.size(); i++) {
-                String tarefa = tarefasAtribuidas.get(i);
-                if (!tarefa.contains("[CONCLUÍDA]")) {
-                    tarefasAtribuidas.set(i, tarefa + " [CONCLUÍDA]");
+            int pendentesAntes = tarefasPendentes;
+            for (int i = 0; i < totalTarefas; i++) {
+                String tarefa = RepositorioTarefas.global().buscarPorId(idsTarefas[i]).getTexto();
+                if (RepositorioTarefas.global().concluir(idsTarefas[i])) {
                     tarefasConcluidas++;
+                    tarefasPendentes--;
+                    BarramentoEventos.global().publicar(TipoEvento.TAREFA_CONCLUIDA, this, null, tarefa, tarefa + " [CONCLUÍDA]");
                 }
             }
+            if (tarefasConcluidas > 0) {
+                avisarEquipes(totalTarefas, pendentesAntes);
+            }
             System.out.println("OK" + tarefasConcluidas + " tarefas marcadas como concluídas!");
         } catch (Exception e) {
             System.out.println("Erro ao concluir tarefas: " + e.getMessage());
@@ -255,6 +383,14 @@ public class Colaborador extends Usuario {
      * @return Total de tarefas atribuídas
      */
     public int getTotalTarefas() {
-        return tarefasAtribuidas.size();
+        return totalTarefas;
+    }
+
+    /**
+     * Método para obter número de tarefas ainda não concluídas (custo constante)
+     * @return Tarefas pendentes
+     */
+    public int getTarefasPendentes() {
+        return tarefasPendentes;
     }
 }
\ No newline at end of file
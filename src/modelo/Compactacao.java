@@ -0,0 +1,142 @@
+package modelo;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Codificação compacta de CPFs e datas em tipos primitivos
+ *
+ * Um CPF ("000.000.000-00" ou só dígitos) cabe em um long e uma data
+ * dd/MM/yyyy cabe em um int (aaaammdd, que também ordena cronologicamente),
+ * em vez de um objeto String com seu vetor de bytes. A conversão devolve
+ * exatamente o texto original; valores fora desses formatos não são
+ * compactados e continuam guardados como String pela entidade.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+final class Compactacao {
+    /** Valor que indica "não compactado" */
+    static final long NAO_COMPACTADO = -1;
+    // Bit que registra se o CPF veio com pontuação (11 dígitos ocupam 37 bits)
+    private static final long CPF_FORMATADO = 1L << 40;
+
+    private Compactacao() {
+    }
+
+    /**
+     * Compacta um CPF
+     * @param cpf CPF no formato 000.000.000-00 ou com 11 dígitos
+     * @return Código do CPF, ou NAO_COMPACTADO se o formato não for reconhecido
+     */
+    static long compactarCpf(String cpf) {
+        if (cpf == null) {
+            return NAO_COMPACTADO;
+        }
+        boolean formatado = cpf.length() == 14;
+        if (!formatado && cpf.length() != 11) {
+            return NAO_COMPACTADO;
+        }
+        long digitos = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (formatado && (i == 3 || i == 7)) {
+                if (c != '.') {
+                    return NAO_COMPACTADO;
+                }
+            } else if (formatado && i == 11) {
+                if (c != '-') {
+                    return NAO_COMPACTADO;
+                }
+            } else if (c >= '0' && c <= '9') {
+                digitos = digitos * 10 + (c - '0');
+            } else {
+                return NAO_COMPACTADO;
+            }
+        }
+        return formatado ? digitos | CPF_FORMATADO : digitos;
+    }
+
+    /**
+     * Reconstrói o texto de um CPF compactado
+     * @param codigo Código gerado por {@link #compactarCpf(String)}
+     * @return CPF no formato original
+     */
+    static String expandirCpf(long codigo) {
+        char[] texto = new char[(codigo & CPF_FORMATADO) != 0 ? 14 : 11];
+        long digitos = codigo & ~CPF_FORMATADO;
+        for (int i = texto.length - 1; i >= 0; i--) {
+            if (texto.length == 14 && (i == 3 || i == 7 || i == 11)) {
+                texto[i] = i == 11 ? '-' : '.';
+            } else {
+                texto[i] = (char) ('0' + digitos % 10);
+                digitos /= 10;
+            }
+        }
+        return new String(texto);
+    }
+
+    /**
+     * Compacta uma data dd/MM/yyyy em aaaammdd
+     * @param data Data no formato dd/MM/yyyy
+     * @return Data compactada, ou NAO_COMPACTADO se o formato não for reconhecido
+     */
+    static int compactarData(String data) {
+        if (data == null || data.length() != 10 || data.charAt(2) != '/' || data.charAt(5) != '/') {
+            return (int) NAO_COMPACTADO;
+        }
+        int dia = digitos(data, 0, 2);
+        int mes = digitos(data, 3, 5);
+        int ano = digitos(data, 6, 10);
+        if (dia < 0 || mes < 0 || ano < 0) {
+            return (int) NAO_COMPACTADO;
+        }
+        return ano * 10000 + mes * 100 + dia;
+    }
+
+    /**
+     * Reconstrói o texto de uma data compactada
+     * @param codigo Data no formato aaaammdd
+     * @return Data no formato dd/MM/yyyy
+     */
+    static String expandirData(int codigo) {
+        int ano = codigo / 10000;
+        int mes = codigo / 100 % 100;
+        int dia = codigo % 100;
+        return new String(new char[] {
+            (char) ('0' + dia / 10), (char) ('0' + dia % 10), '/',
+            (char) ('0' + mes / 10), (char) ('0' + mes % 10), '/',
+            (char) ('0' + ano / 1000), (char) ('0' + ano / 100 % 10),
+            (char) ('0' + ano / 10 % 10), (char) ('0' + ano % 10)
+        });
+    }
+
+    /**
+     * Converte uma data compactada em dias desde a época (1970-01-01)
+     * @param codigo Data no formato aaaammdd
+     * @param semData Valor devolvido se a data for ilegível ou inexistente
+     * @return Dia da época, ou semData
+     */
+    static int diaDaEpoca(int codigo, int semData) {
+        if (codigo < 0) {
+            return semData;
+        }
+        try {
+            return (int) LocalDate.of(codigo / 10000, codigo / 100 % 100, codigo % 100).toEpochDay();
+        } catch (DateTimeException e) {
+            return semData; // Ex.: 31/02
+        }
+    }
+
+    private static int digitos(String texto, int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,77 @@
+package modelo;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionário de valores repetidos (status, especialidades, domínios de email)
+ *
+ * Campos com poucos valores distintos guardam a mesma instância de String
+ * em todas as entidades, em vez de uma cópia por entidade. O dicionário tem
+ * limite de entradas: passado o limite, valores novos são devolvidos como
+ * vieram (sem deduplicação), para que um campo com valores inesperadamente
+ * variados não vire vazamento de memória.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class Dicionario {
+    /** Status de projeto */
+    public static final Dicionario STATUS = new Dicionario("status", 64);
+    /** Especialidades de colaboradores */
+    public static final Dicionario ESPECIALIDADES = new Dicionario("especialidades", 1024);
+    /** Domínios de email de usuários */
+    public static final Dicionario DOMINIOS_EMAIL = new Dicionario("dominios", 4096);
+
+    private final String nome;
+    private final int limite;
+    private final ConcurrentHashMap<String, String> valores = new ConcurrentHashMap<>();
+
+    /**
+     * Construtor do dicionário
+     * @param nome Nome do dicionário (para exibição)
+     * @param limite Número máximo de valores distintos guardados
+     */
+    public Dicionario(String nome, int limite) {
+        this.nome = nome;
+        this.limite = limite;
+    }
+
+    /**
+     * Devolve a instância canônica de um valor
+     * @param valor Valor a deduplicar (pode ser null)
+     * @return Instância compartilhada igual a valor, ou o próprio valor se o limite foi atingido
+     */
+    public String internar(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        String canonico = valores.get(valor);
+        if (canonico != null) {
+            return canonico;
+        }
+        if (valores.size() >= limite) {
+            return valor;
+        }
+        canonico = valores.putIfAbsent(valor, valor);
+        return canonico != null ? canonico : valor;
+    }
+
+    /**
+     * @return Número de valores distintos guardados
+     */
+    public int tamanho() {
+        return valores.size();
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return "Dicionario '" + nome + "': " + valores.size() + "/" + limite + " valores";
+    }
+}
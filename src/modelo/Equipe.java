@@ -1,6 +1,12 @@
 package modelo;
 
+import eventos.BarramentoEventos;
+import eventos.TipoEvento;
+import metricas.EventoMembroEquipe;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 
 /**
  * Classe que representa uma equipe de trabalho
@@ -13,10 +19,22 @@ public class Equipe {
     // Atributos privados (encapsulamento)
     private String nome;
     private String descricao;
-    private ArrayList<Usuario> membros; // Coleção para armazenar membros da equipe
+    private LinkedHashMap<Integer, Usuario> membros; // Membros pelo ID (Usuario.getId), na ordem de entrada
     private static int contadorEquipes = 0; // Contador estático para IDs únicos
     private int id;
 
+    // Agregados mantidos a cada alteração: a equipe ajusta ao ganhar ou perder
+    // membros, e os membros avisam (referência de volta) quando papel ou tarefas mudam
+    private int[] membrosPorPapel = new int[Papel.total()];
+    private int colaboradores;
+    private long totalTarefas;
+    private long tarefasPendentes;
+    private long somaProdutividade; // Soma das parcelas dos colaboradores (ver parcelaProdutividade)
+    private final MapaBits idsMembros = new MapaBits(); // IDs dos membros (Usuario.getId), para operações de conjunto
+
+    /** Escala inteira da produtividade somada (evita acumular erro de ponto flutuante) */
+    static final long ESCALA_PRODUTIVIDADE = 1_000_000_000L;
+
     /**
      * Construtor parametrizado da classe Equipe
      * @param nome Nome da equipe
@@ -26,7 +44,7 @@ public class Equipe {
         this.id = ++contadorEquipes; // Incrementa contador e atribui ID único
         this.nome = nome;
         this.descricao = descricao;
-        this.membros = new ArrayList<>(); // Inicializa a coleção
+        this.membros = new LinkedHashMap<>(); // Inicializa a coleção
     }
 
     /**
@@ -43,34 +61,81 @@ public class Equipe {
      * @return true se adicionado com sucesso, false se já era membro
      */
     public boolean adicionarMembro(Usuario usuario) {
+        EventoMembroEquipe evento = new EventoMembroEquipe();
+        evento.begin();
+        boolean adicionado = false;
         try {
             if (usuario == null) {
                 System.out.println("Usuário inválido!");
                 return false;
             }
 
-            if (membros.contains(usuario)) {
+            if (idsMembros.contem(usuario.getId())) {
                 System.out.println(" " + usuario.getNome() + " já é membro da equipe " + nome);
                 return false;
             }
 
-            membros.add(usuario);
+            membros.put(usuario.getId(), usuario);
+            contabilizar(usuario, 1);
+            idsMembros.adicionar(usuario.getId());
+            usuario.vincularEquipe(this);
+            adicionado = true;
+            BarramentoEventos.global().publicar(TipoEvento.MEMBRO_ADICIONADO, this, usuario, null, null);
             System.out.println(" " + usuario.getNome() + " adicionado à equipe " + nome);
             return true;
         } catch (Exception e) {
             System.out.println(" Erro ao adicionar membro: " + e.getMessage());
             return false;
+        } finally {
+            evento.concluir(id, usuario != null ? usuario.getLogin() : null,
+                            EventoMembroEquipe.ADICAO, adicionado, membros.size());
         }
     }
 
+    /**
+     * Adiciona vários membros de uma vez, com uma única mensagem no console
+     * Usuários nulos, que já são membros ou repetidos na coleção são ignorados.
+     * @param usuarios Usuários a adicionar
+     * @return Quantidade de membros efetivamente adicionados
+     */
+    public int adicionarMembros(Collection<? extends Usuario> usuarios) {
+        BarramentoEventos eventos = BarramentoEventos.global();
+        int adicionados = 0;
+        for (Usuario usuario : usuarios) {
+            // O mapa de bits já inclui os adicionados neste lote: repetidos são ignorados
+            if (usuario != null && !idsMembros.contem(usuario.getId())) {
+                EventoMembroEquipe evento = new EventoMembroEquipe();
+                evento.begin();
+                membros.put(usuario.getId(), usuario);
+                contabilizar(usuario, 1);
+                idsMembros.adicionar(usuario.getId());
+                usuario.vincularEquipe(this);
+                adicionados++;
+                eventos.publicar(TipoEvento.MEMBRO_ADICIONADO, this, usuario, null, null);
+                evento.concluir(id, usuario.getLogin(), EventoMembroEquipe.ADICAO, true, membros.size());
+            }
+        }
+        System.out.println(" " + adicionados + " membro(s) adicionado(s) à equipe " + nome);
+        return adicionados;
+    }
+
     /**
      * Método para remover membro da equipe
      * @param usuario Usuário a ser removido
      * @return true se removido com sucesso, false caso contrário
      */
     public boolean removerMembro(Usuario usuario) {
+        EventoMembroEquipe evento = new EventoMembroEquipe();
+        evento.begin();
+        boolean removido = false;
         try {
-            if (membros.remove(usuario)) {
+            Usuario membro = membros.remove(usuario.getId());
+            if (membro != null) {
+                contabilizar(membro, -1);
+                idsMembros.remover(membro.getId());
+                membro.desvincularEquipe(this);
+                removido = true;
+                BarramentoEventos.global().publicar(TipoEvento.MEMBRO_REMOVIDO, this, membro, null, null);
                 System.out.println("" + usuario.getNome() + " removido da equipe " + nome);
                 return true;
             } else {
@@ -80,6 +145,9 @@ public class Equipe {
         } catch (Exception e) {
             System.out.println("Erro ao remover membro: " + e.getMessage());
             return false;
+        } finally {
+            evento.concluir(id, usuario != null ? usuario.getLogin() : null,
+                            EventoMembroEquipe.REMOCAO, removido, membros.size());
         }
     }
 
@@ -95,9 +163,9 @@ public class Equipe {
         if (membros.isEmpty()) {
             System.out.println("Nenhum membro cadastrado na equipe.");
         } else {
-            for (int i = 0; i < membros.size(); i++) {
-                Usuario membro = membros.get(i);
-                System.out.println((i + 1) + ". " + membro.getNome() + 
+            int numero = 0;
+            for (Usuario membro : membros.values()) {
+                System.out.println(++numero + ". " + membro.getNome() + 
                                  " (" + membro.getClass().getSimpleName() + ")");
                 System.out.println("" + membro.getEmail());
             }
@@ -111,7 +179,7 @@ public class Equipe {
      * @return Usuario encontrado ou null se não encontrado
      */
     public Usuario buscarMembroPorNome(String nome) {
-        for (Usuario membro : membros) {
+        for (Usuario membro : membros.values()) {
             if (membro.getNome().toLowerCase().contains(nome.toLowerCase())) {
                 return membro;
             }
@@ -123,35 +191,150 @@ public class Equipe {
      * Método para contar membros por tipo (Administrador, Gerente, Colaborador)
      */
     public void exibirEstatisticasMembros() {
-        int administradores = 0;
-        int gerentes = 0;
-        int colaboradores = 0;
-
-        for (Usuario membro : membros) {
-            if (membro instanceof Administrador) {
-                administradores++;
-            } else if (membro instanceof Gerente) {
-                gerentes++;
-            } else if (membro instanceof Colaborador) {
-                colaboradores++;
-            }
-        }
-
         System.out.println("ESTATÍSTICAS DA EQUIPE: " + nome);
-        System.out.println("Administradores: " + administradores);
-        System.out.println("Gerentes: " + gerentes);
-        System.out.println("Colaboradores: " + colaboradores);
+        System.out.println("Administradores: " + contarMembros(Papel.ADMINISTRADOR));
+        System.out.println("Gerentes: " + contarMembros(Papel.GERENTE));
+        System.out.println("Colaboradores: " + contarMembros(Papel.COLABORADOR));
         System.out.println("Total: " + membros.size() + " membros");
+        System.out.println("Tarefas: " + totalTarefas + " (" + tarefasPendentes + " pendentes, "
+                         + getTarefasConcluidas() + " concluídas)");
+        System.out.println("Produtividade média: " + String.format("%.1f", calcularProdutividadeMedia()) + "%");
         System.out.println();
     }
 
+    /**
+     * Conta os membros da equipe agrupados pelo ordinal do papel
+     * @return Vetor indexado por Papel.getOrdinal() com a contagem de membros
+     */
+    public int[] contarMembrosPorPapel() {
+        return Arrays.copyOf(membrosPorPapel, Papel.total());
+    }
+
+    /**
+     * Conta os membros com um papel (custo constante)
+     * Conta pelo papel atual: um Gerente com papel personalizado conta no
+     * papel personalizado, não em GERENTE
+     * @param papel Papel desejado
+     * @return Quantidade de membros com o papel
+     */
+    public int contarMembros(Papel papel) {
+        int ordinal = papel.getOrdinal();
+        return ordinal < membrosPorPapel.length ? membrosPorPapel[ordinal] : 0;
+    }
+
+    /**
+     * @return Membros da classe Colaborador (os que têm tarefas), qualquer que seja o papel
+     */
+    public int contarColaboradores() {
+        return colaboradores;
+    }
+
+    /**
+     * @return Soma das tarefas dos colaboradores da equipe
+     */
+    public long getTotalTarefas() {
+        return totalTarefas;
+    }
+
+    /**
+     * @return Soma das tarefas pendentes dos colaboradores da equipe
+     */
+    public long getTarefasPendentes() {
+        return tarefasPendentes;
+    }
+
+    /**
+     * @return Soma das tarefas concluídas dos colaboradores da equipe
+     */
+    public long getTarefasConcluidas() {
+        return totalTarefas - tarefasPendentes;
+    }
+
+    /**
+     * Média da produtividade dos colaboradores da equipe (custo constante)
+     * @return Média de Colaborador.calcularProdutividade() dos membros, ou 0 sem colaboradores
+     */
+    public double calcularProdutividadeMedia() {
+        if (colaboradores == 0) {
+            return 0.0;
+        }
+        return somaProdutividade * 100.0 / ESCALA_PRODUTIVIDADE / colaboradores;
+    }
+
+    /**
+     * Desfaz o vínculo dos membros com a equipe (chamado quando a equipe é removida)
+     * A lista de membros é mantida; apenas deixam de avisar a equipe.
+     */
+    public void desvincularMembros() {
+        for (Usuario membro : membros.values()) {
+            membro.desvincularEquipe(this);
+        }
+    }
+
+    /**
+     * Produtividade em escala inteira, somada e subtraída sem erro acumulado
+     * @param concluidas Tarefas concluídas
+     * @param total Total de tarefas
+     * @return concluidas / total × ESCALA_PRODUTIVIDADE (0 sem tarefas)
+     */
+    static long parcelaProdutividade(int concluidas, int total) {
+        return total == 0 ? 0 : concluidas * ESCALA_PRODUTIVIDADE / total;
+    }
+
+    /**
+     * Soma (sinal 1) ou retira (sinal -1) a contribuição de um membro
+     */
+    private void contabilizar(Usuario membro, int sinal) {
+        int ordinal = membro.getPapel().getOrdinal();
+        if (ordinal >= membrosPorPapel.length) {
+            membrosPorPapel = Arrays.copyOf(membrosPorPapel, Papel.total());
+        }
+        membrosPorPapel[ordinal] += sinal;
+        if (membro instanceof Colaborador) {
+            Colaborador colaborador = (Colaborador) membro;
+            colaboradores += sinal;
+            totalTarefas += sinal * colaborador.getTotalTarefas();
+            tarefasPendentes += sinal * colaborador.getTarefasPendentes();
+            somaProdutividade += sinal * colaborador.parcelaProdutividade();
+        }
+    }
+
+    /**
+     * Um membro mudou de papel (aviso do Usuario)
+     */
+    void ajustarPapel(Papel anterior, Papel novo) {
+        if (novo.getOrdinal() >= membrosPorPapel.length) {
+            membrosPorPapel = Arrays.copyOf(membrosPorPapel, Papel.total());
+        }
+        membrosPorPapel[anterior.getOrdinal()]--;
+        membrosPorPapel[novo.getOrdinal()]++;
+    }
+
+    /**
+     * As tarefas de um colaborador membro mudaram (aviso do Colaborador)
+     */
+    void ajustarTarefas(int variacaoTotal, int variacaoPendentes, long variacaoProdutividade) {
+        totalTarefas += variacaoTotal;
+        tarefasPendentes += variacaoPendentes;
+        somaProdutividade += variacaoProdutividade;
+    }
+
+    /**
+     * Método para verificar se a equipe tem membro com determinado papel
+     * @param papel Papel procurado
+     * @return true se tem pelo menos um membro com o papel
+     */
+    public boolean temMembroComPapel(Papel papel) {
+        return contarMembros(papel) > 0;
+    }
+
     /**
      * Método para verificar se a equipe tem um determinado tipo de usuário
      * @param tipoUsuario Classe do tipo de usuário (ex: Gerente.class)
      * @return true se tem pelo menos um membro do tipo especificado
      */
     public boolean temMembroDoTipo(Class<? extends Usuario> tipoUsuario) {
-        for (Usuario membro : membros) {
+        for (Usuario membro : membros.values()) {
             if (tipoUsuario.isInstance(membro)) {
                 return true;
             }
@@ -165,14 +348,23 @@ public class Equipe {
      */
     public ArrayList<Gerente> obterGerentes() {
         ArrayList<Gerente> gerentes = new ArrayList<>();
-        for (Usuario membro : membros) {
-            if (membro instanceof Gerente) {
+        for (Usuario membro : membros.values()) {
+            if (membro.getPapel() == Papel.GERENTE) {
                 gerentes.add((Gerente) membro);
             }
         }
         return gerentes;
     }
 
+    /**
+     * Método para obter as tarefas pendentes dos membros da equipe
+     * Consulta o repositório de tarefas sem copiar listas de membros ou de tarefas.
+     * @return Tarefas pendentes, agrupadas por colaborador
+     */
+    public ArrayList<Tarefa> listarTarefasPendentes() {
+        return RepositorioTarefas.global().listarPendentes(membros.values());
+    }
+
     /**
      * Método para gerar relatório da equipe
      */
@@ -226,7 +418,77 @@ public class Equipe {
      * @return Cópia da lista de membros
      */
     public ArrayList<Usuario> getMembros() {
-        return new ArrayList<>(membros);
+        return new ArrayList<>(membros.values());
+    }
+
+    /**
+     * Verifica se um usuário é membro da equipe (consulta no mapa de bits)
+     * @param usuario Usuário procurado
+     * @return true se é membro
+     */
+    public boolean contemMembro(Usuario usuario) {
+        return usuario != null && idsMembros.contem(usuario.getId());
+    }
+
+    /**
+     * IDs dos membros
+     * @return Cópia do mapa de bits com o Usuario.getId() de cada membro
+     */
+    public MapaBits getIdsMembros() {
+        return idsMembros.copiar();
+    }
+
+    /**
+     * Membros que também estão em outra equipe
+     * @param outra Outra equipe
+     * @return IDs dos membros em comum
+     */
+    public MapaBits membrosEmComum(Equipe outra) {
+        return idsMembros.e(outra.idsMembros);
+    }
+
+    /**
+     * Membros que não estão em outra equipe
+     * @param outra Outra equipe
+     * @return IDs dos membros desta equipe ausentes na outra
+     */
+    public MapaBits membrosAusentesEm(Equipe outra) {
+        return idsMembros.menos(outra.idsMembros);
+    }
+
+    /**
+     * Conta os membros em comum com outra equipe, sem montar o conjunto
+     * @param outra Outra equipe
+     * @return Quantidade de membros em comum
+     */
+    public int contarMembrosEmComum(Equipe outra) {
+        return idsMembros.cardinalidadeE(outra.idsMembros);
+    }
+
+    /**
+     * Verifica se há ao menos um membro em comum com outra equipe
+     * @param outra Outra equipe
+     * @return true se as equipes compartilham algum membro
+     */
+    public boolean temMembrosEmComum(Equipe outra) {
+        return idsMembros.intersecta(outra.idsMembros);
+    }
+
+    /**
+     * Inclui os IDs dos membros em um conjunto (união sem cópia intermediária)
+     * @param destino Conjunto que recebe os IDs
+     */
+    public void acumularMembros(MapaBits destino) {
+        destino.adicionarTodos(idsMembros);
+    }
+
+    /**
+     * Interseção dos membros desta equipe com um conjunto de IDs
+     * @param ids IDs de usuários
+     * @return IDs presentes nos dois
+     */
+    public MapaBits filtrarMembros(MapaBits ids) {
+        return idsMembros.e(ids);
     }
 
     public static int getContadorEquipes() {
@@ -1,6 +1,8 @@
 package modelo;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 
 /**
  * Classe que representa um usuário gerente
@@ -10,8 +12,12 @@ import java.util.ArrayList;
  * @version 1.0
  */
 public class Gerente extends Usuario {
-    // Atributo específico do gerente (coleções)
-    private ArrayList<Projeto> projetosGerenciados;
+    private static final int MAXIMO_ALERTAS = 50;
+
+    // Atributo específico do gerente (coleções); conjunto ordenado para retirar sem varrer a lista
+    private LinkedHashSet<Projeto> projetosGerenciados;
+    // Alertas de prazo ainda não lidos (criada no primeiro alerta)
+    private ArrayDeque<String> alertas;
 
     /**
      * Construtor da classe Gerente
@@ -22,8 +28,8 @@ public class Gerente extends Usuario {
      * @param senha Senha para acesso ao sistema
      */
     public Gerente(String nome, String cpf, String email, String login, String senha) {
-        super(nome, cpf, email, login, senha); // Chama o construtor da classe pai
-        this.projetosGerenciados = new ArrayList<>(); // Inicializa a coleção
+        super(nome, cpf, email, login, senha, Papel.GERENTE); // Chama o construtor da classe pai
+        this.projetosGerenciados = new LinkedHashSet<>(); // Inicializa a coleção
     }
 
     /**
@@ -42,12 +48,30 @@ public class Gerente extends Usuario {
      * @param projeto Projeto a ser adicionado
      */
     public void adicionarProjetoGerenciado(Projeto projeto) {
-        if (!projetosGerenciados.contains(projeto)) {
-            projetosGerenciados.add(projeto);
+        if (projetosGerenciados.add(projeto)) {
             System.out.println("Projeto '" + projeto.getNome() + "' adicionado à lista de gerenciamento");
         }
     }
 
+    /**
+     * Retira um projeto da responsabilidade do gerente (troca de gerente ou remoção do projeto)
+     * @param projeto Projeto a ser retirado
+     * @return true se o projeto estava na lista
+     */
+    public boolean removerProjetoGerenciado(Projeto projeto) {
+        return projetosGerenciados.remove(projeto);
+    }
+
+    /**
+     * Esvazia a lista de projetos gerenciados de uma vez (ex.: gerente removido)
+     * @return Projetos que estavam na lista
+     */
+    public ArrayList<Projeto> liberarProjetosGerenciados() {
+        ArrayList<Projeto> liberados = new ArrayList<>(projetosGerenciados);
+        projetosGerenciados = new LinkedHashSet<>();
+        return liberados;
+    }
+
     /**
      * Método específico para listar projetos gerenciados
      */
@@ -56,9 +80,9 @@ public class Gerente extends Usuario {
         if (projetosGerenciados.isEmpty()) {
             System.out.println("Nenhum projeto sob gerenciamento.");
         } else {
-            for (int i = 0; i < projetosGerenciados.size(); i++) {
-                Projeto projeto = projetosGerenciados.get(i);
-                System.out.println((i + 1) + ". " + projeto.getNome() + " - Status: " + projeto.getStatus());
+            int numero = 0;
+            for (Projeto projeto : projetosGerenciados) {
+                System.out.println(++numero + ". " + projeto.getNome() + " - Status: " + projeto.getStatus());
             }
         }
         System.out.println();
@@ -98,22 +122,6 @@ public class Gerente extends Usuario {
         return new ArrayList<>(projetosGerenciados); // Retorna uma cópia para manter encapsulamento
     }
 
-    /**
-     * Método para validar se pode criar projetos
-     * @return true sempre, pois gerente pode criar projetos
-     */
-    public boolean podeCriarProjetos() {
-        return true;
-    }
-
-    /**
-     * Método para validar se pode gerenciar uma equipe específica
-     * @return true sempre, pois gerente pode gerenciar equipes
-     */
-    public boolean podeGerenciarEquipes() {
-        return true;
-    }
-
     /**
      * Método para calcular a carga de trabalho do gerente
      * @return Número de projetos ativos gerenciados
@@ -127,4 +135,31 @@ public class Gerente extends Usuario {
         }
         return projetosAtivos;
     }
-}
\ No newline at end of file
+
+    /**
+     * Guarda um alerta (ex.: projeto em atraso) para o gerente ler depois
+     * Mantém apenas os alertas mais recentes.
+     * @param mensagem Texto do alerta
+     */
+    public synchronized void receberAlerta(String mensagem) {
+        if (alertas == null) {
+            alertas = new ArrayDeque<>();
+        } else if (alertas.size() == MAXIMO_ALERTAS) {
+            alertas.pollFirst();
+        }
+        alertas.addLast(mensagem);
+    }
+
+    /**
+     * Retira os alertas não lidos
+     * @return Alertas, do mais antigo ao mais recente (lista vazia se não houver)
+     */
+    public synchronized ArrayList<String> retirarAlertas() {
+        if (alertas == null || alertas.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ArrayList<String> lidos = new ArrayList<>(alertas);
+        alertas.clear();
+        return lidos;
+    }
+}
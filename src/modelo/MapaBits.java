@@ -0,0 +1,797 @@
+package modelo;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Conjunto compactado de inteiros não negativos (mapa de bits no estilo Roaring)
+ *
+ * O espaço de valores é dividido em blocos de 65536: os 16 bits altos
+ * escolhem o bloco (chaves ordenadas) e os 16 bits baixos ficam em um
+ * contêiner do bloco, que é
+ * - um vetor ordenado de char, enquanto o bloco tem até 4096 valores
+ *   (2 bytes por valor), ou
+ * - um mapa de 1024 palavras de 64 bits, acima disso (8 KB fixos); as
+ *   uniões já passam a mapa de bits acima de 1024 valores.
+ * Assim, conjuntos esparsos ocupam pouco e os densos são combinados palavra a
+ * palavra (64 valores por operação, contagem com Long.bitCount).
+ *
+ * Interseção, união e diferença devolvem conjuntos novos; as variantes de
+ * contagem e teste não montam o resultado. Não é thread-safe.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class MapaBits {
+    // Acima deste tamanho, o vetor ocupa mais que o mapa de bits do bloco
+    private static final int LIMITE_VETOR = 4096;
+    // Na união no lugar o bloco vira mapa de bits antes: somar muitos conjuntos
+    // pequenos (ex.: membros de todas as equipes) não regrava o vetor a cada um
+    private static final int LIMITE_VETOR_UNIAO = 1024;
+    private static final int PALAVRAS_BLOCO = 1024;
+
+    private char[] chaves;
+    private Conteiner[] conteineres;
+    private int blocos;
+    private int cardinalidade;
+
+    /**
+     * Construtor de conjunto vazio
+     */
+    public MapaBits() {
+        this.chaves = new char[4];
+        this.conteineres = new Conteiner[4];
+    }
+
+    private MapaBits(int capacidade) {
+        this.chaves = new char[Math.max(4, capacidade)];
+        this.conteineres = new Conteiner[Math.max(4, capacidade)];
+    }
+
+    /**
+     * Inclui um valor
+     * @param valor Valor (não negativo)
+     * @return true se ainda não estava no conjunto
+     */
+    public boolean adicionar(int valor) {
+        verificar(valor);
+        char chave = (char) (valor >>> 16);
+        int indice = buscarBloco(chave);
+        if (indice < 0) {
+            indice = -indice - 1;
+            inserirBloco(indice, chave, new ConteinerVetor());
+        }
+        Conteiner conteiner = conteineres[indice];
+        int antes = conteiner.cardinalidade();
+        conteineres[indice] = conteiner.adicionar((char) valor);
+        if (conteineres[indice].cardinalidade() == antes) {
+            return false;
+        }
+        cardinalidade++;
+        return true;
+    }
+
+    /**
+     * Retira um valor
+     * @param valor Valor a retirar
+     * @return true se estava no conjunto
+     */
+    public boolean remover(int valor) {
+        if (valor < 0) {
+            return false;
+        }
+        int indice = buscarBloco((char) (valor >>> 16));
+        if (indice < 0) {
+            return false;
+        }
+        Conteiner conteiner = conteineres[indice];
+        int antes = conteiner.cardinalidade();
+        Conteiner novo = conteiner.remover((char) valor);
+        if (novo.cardinalidade() == antes) {
+            return false;
+        }
+        cardinalidade--;
+        if (novo.cardinalidade() == 0) {
+            removerBloco(indice);
+        } else {
+            conteineres[indice] = novo;
+        }
+        return true;
+    }
+
+    /**
+     * @param valor Valor procurado
+     * @return true se o valor está no conjunto
+     */
+    public boolean contem(int valor) {
+        if (valor < 0) {
+            return false;
+        }
+        int indice = buscarBloco((char) (valor >>> 16));
+        return indice >= 0 && conteineres[indice].contem((char) valor);
+    }
+
+    /**
+     * @return Quantidade de valores no conjunto
+     */
+    public int cardinalidade() {
+        return cardinalidade;
+    }
+
+    public boolean isEmpty() {
+        return cardinalidade == 0;
+    }
+
+    /**
+     * Interseção (valores presentes nos dois conjuntos)
+     * @param outro Outro conjunto
+     * @return Conjunto novo
+     */
+    public MapaBits e(MapaBits outro) {
+        MapaBits resultado = new MapaBits(Math.min(blocos, outro.blocos));
+        int i = 0;
+        int j = 0;
+        while (i < blocos && j < outro.blocos) {
+            if (chaves[i] < outro.chaves[j]) {
+                i++;
+            } else if (chaves[i] > outro.chaves[j]) {
+                j++;
+            } else {
+                resultado.anexarBloco(chaves[i], conteineres[i].e(outro.conteineres[j]));
+                i++;
+                j++;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * União (valores presentes em qualquer um dos conjuntos)
+     * @param outro Outro conjunto
+     * @return Conjunto novo
+     */
+    public MapaBits ou(MapaBits outro) {
+        MapaBits resultado = copiar();
+        resultado.adicionarTodos(outro);
+        return resultado;
+    }
+
+    /**
+     * Diferença (valores deste conjunto que não estão no outro)
+     * @param outro Outro conjunto
+     * @return Conjunto novo
+     */
+    public MapaBits menos(MapaBits outro) {
+        MapaBits resultado = new MapaBits(blocos);
+        int j = 0;
+        for (int i = 0; i < blocos; i++) {
+            while (j < outro.blocos && outro.chaves[j] < chaves[i]) {
+                j++;
+            }
+            if (j < outro.blocos && outro.chaves[j] == chaves[i]) {
+                resultado.anexarBloco(chaves[i], conteineres[i].menos(outro.conteineres[j]));
+            } else {
+                resultado.anexarBloco(chaves[i], conteineres[i].copiar());
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Inclui neste conjunto todos os valores do outro (união no lugar)
+     * @param outro Conjunto cujos valores são incluídos
+     */
+    public void adicionarTodos(MapaBits outro) {
+        if (outro == this) {
+            return;
+        }
+        int i = 0;
+        for (int j = 0; j < outro.blocos; j++) {
+            char chave = outro.chaves[j];
+            while (i < blocos && chaves[i] < chave) {
+                i++;
+            }
+            if (i < blocos && chaves[i] == chave) {
+                int antes = conteineres[i].cardinalidade();
+                conteineres[i] = conteineres[i].ou(outro.conteineres[j]);
+                cardinalidade += conteineres[i].cardinalidade() - antes;
+            } else {
+                Conteiner copia = outro.conteineres[j].copiar();
+                inserirBloco(i, chave, copia);
+                cardinalidade += copia.cardinalidade();
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Tamanho da interseção, sem montar o conjunto
+     * @param outro Outro conjunto
+     * @return Quantidade de valores presentes nos dois
+     */
+    public int cardinalidadeE(MapaBits outro) {
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < blocos && j < outro.blocos) {
+            if (chaves[i] < outro.chaves[j]) {
+                i++;
+            } else if (chaves[i] > outro.chaves[j]) {
+                j++;
+            } else {
+                total += conteineres[i].cardinalidadeE(outro.conteineres[j]);
+                i++;
+                j++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Verifica se os conjuntos têm algum valor em comum (para no primeiro)
+     * @param outro Outro conjunto
+     * @return true se a interseção não é vazia
+     */
+    public boolean intersecta(MapaBits outro) {
+        if (blocos == 0 || outro.blocos == 0
+            || chaves[blocos - 1] < outro.chaves[0] || outro.chaves[outro.blocos - 1] < chaves[0]) {
+            return false;
+        }
+        int i = 0;
+        int j = 0;
+        while (i < blocos && j < outro.blocos) {
+            if (chaves[i] < outro.chaves[j]) {
+                i++;
+            } else if (chaves[i] > outro.chaves[j]) {
+                j++;
+            } else {
+                if (conteineres[i].intersecta(outro.conteineres[j])) {
+                    return true;
+                }
+                i++;
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Percorre os valores em ordem crescente
+     * @param acao Ação executada para cada valor
+     */
+    public void paraCada(IntConsumer acao) {
+        for (int i = 0; i < blocos; i++) {
+            conteineres[i].paraCada(chaves[i] << 16, acao);
+        }
+    }
+
+    /**
+     * @return Valores em ordem crescente
+     */
+    public int[] paraVetor() {
+        int[] valores = new int[cardinalidade];
+        int[] posicao = new int[1];
+        paraCada(valor -> valores[posicao[0]++] = valor);
+        return valores;
+    }
+
+    /**
+     * @return Cópia independente do conjunto
+     */
+    public MapaBits copiar() {
+        MapaBits copia = new MapaBits(blocos);
+        for (int i = 0; i < blocos; i++) {
+            copia.anexarBloco(chaves[i], conteineres[i].copiar());
+        }
+        return copia;
+    }
+
+    /**
+     * Método sobrescrito equals: mesmos valores
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MapaBits)) {
+            return false;
+        }
+        MapaBits outro = (MapaBits) obj;
+        return cardinalidade == outro.cardinalidade && cardinalidadeE(outro) == cardinalidade;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        paraCada(valor -> hash[0] = 31 * hash[0] + valor);
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        return "MapaBits{" + cardinalidade + " valores, " + blocos + " blocos}";
+    }
+
+    private static void verificar(int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("Valor negativo: " + valor);
+        }
+    }
+
+    private int buscarBloco(char chave) {
+        // Caso comum (IDs crescentes): o último bloco
+        if (blocos > 0 && chaves[blocos - 1] == chave) {
+            return blocos - 1;
+        }
+        return Arrays.binarySearch(chaves, 0, blocos, chave);
+    }
+
+    private void inserirBloco(int indice, char chave, Conteiner conteiner) {
+        if (blocos == chaves.length) {
+            chaves = Arrays.copyOf(chaves, blocos * 2);
+            conteineres = Arrays.copyOf(conteineres, blocos * 2);
+        }
+        System.arraycopy(chaves, indice, chaves, indice + 1, blocos - indice);
+        System.arraycopy(conteineres, indice, conteineres, indice + 1, blocos - indice);
+        chaves[indice] = chave;
+        conteineres[indice] = conteiner;
+        blocos++;
+    }
+
+    private void removerBloco(int indice) {
+        System.arraycopy(chaves, indice + 1, chaves, indice, blocos - indice - 1);
+        System.arraycopy(conteineres, indice + 1, conteineres, indice, blocos - indice - 1);
+        conteineres[--blocos] = null;
+    }
+
+    /**
+     * Acrescenta um bloco no fim (chaves chegam em ordem); ignora vazios
+     */
+    private void anexarBloco(char chave, Conteiner conteiner) {
+        if (conteiner == null || conteiner.cardinalidade() == 0) {
+            return;
+        }
+        inserirBloco(blocos, chave, conteiner);
+        cardinalidade += conteiner.cardinalidade();
+    }
+
+    /**
+     * Valores de um bloco (16 bits baixos)
+     * As operações podem devolver outro contêiner (troca de representação);
+     * as binárias nunca alteram os operandos.
+     */
+    private abstract static class Conteiner {
+        abstract int cardinalidade();
+
+        abstract boolean contem(char valor);
+
+        abstract Conteiner adicionar(char valor);
+
+        abstract Conteiner remover(char valor);
+
+        abstract Conteiner e(Conteiner outro);
+
+        /** União: pode alterar e devolver este contêiner */
+        abstract Conteiner ou(Conteiner outro);
+
+        abstract Conteiner menos(Conteiner outro);
+
+        abstract int cardinalidadeE(Conteiner outro);
+
+        abstract boolean intersecta(Conteiner outro);
+
+        abstract void paraCada(int base, IntConsumer acao);
+
+        abstract Conteiner copiar();
+    }
+
+    /**
+     * Bloco esparso: vetor ordenado de até 4096 valores
+     */
+    private static final class ConteinerVetor extends Conteiner {
+        char[] valores;
+        int tamanho;
+
+        ConteinerVetor() {
+            this.valores = new char[4];
+        }
+
+        ConteinerVetor(char[] valores, int tamanho) {
+            this.valores = valores;
+            this.tamanho = tamanho;
+        }
+
+        @Override
+        int cardinalidade() {
+            return tamanho;
+        }
+
+        @Override
+        boolean contem(char valor) {
+            return Arrays.binarySearch(valores, 0, tamanho, valor) >= 0;
+        }
+
+        @Override
+        Conteiner adicionar(char valor) {
+            int posicao = tamanho > 0 && valores[tamanho - 1] < valor ? -tamanho - 1
+                        : Arrays.binarySearch(valores, 0, tamanho, valor);
+            if (posicao >= 0) {
+                return this;
+            }
+            if (tamanho == LIMITE_VETOR) {
+                return paraBits().adicionar(valor);
+            }
+            posicao = -posicao - 1;
+            if (tamanho == valores.length) {
+                valores = Arrays.copyOf(valores, Math.max(4, Math.min(LIMITE_VETOR, tamanho * 2)));
+            }
+            System.arraycopy(valores, posicao, valores, posicao + 1, tamanho - posicao);
+            valores[posicao] = valor;
+            tamanho++;
+            return this;
+        }
+
+        @Override
+        Conteiner remover(char valor) {
+            int posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+            if (posicao >= 0) {
+                System.arraycopy(valores, posicao + 1, valores, posicao, tamanho - posicao - 1);
+                tamanho--;
+            }
+            return this;
+        }
+
+        @Override
+        Conteiner e(Conteiner outro) {
+            char[] resultado = new char[Math.min(tamanho, outro.cardinalidade())];
+            int total = 0;
+            if (outro instanceof ConteinerBits) {
+                long[] palavras = ((ConteinerBits) outro).palavras;
+                for (int i = 0; i < tamanho; i++) {
+                    if (ConteinerBits.ligado(palavras, valores[i])) {
+                        resultado[total++] = valores[i];
+                    }
+                }
+            } else {
+                ConteinerVetor vetor = (ConteinerVetor) outro;
+                int i = 0;
+                int j = 0;
+                while (i < tamanho && j < vetor.tamanho) {
+                    if (valores[i] < vetor.valores[j]) {
+                        i++;
+                    } else if (valores[i] > vetor.valores[j]) {
+                        j++;
+                    } else {
+                        resultado[total++] = valores[i];
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            return new ConteinerVetor(resultado, total);
+        }
+
+        @Override
+        Conteiner ou(Conteiner outro) {
+            if (outro instanceof ConteinerBits) {
+                ConteinerBits bits = (ConteinerBits) outro.copiar();
+                for (int i = 0; i < tamanho; i++) {
+                    bits.ligar(valores[i]);
+                }
+                return bits;
+            }
+            ConteinerVetor vetor = (ConteinerVetor) outro;
+            int maximo = tamanho + vetor.tamanho;
+            if (maximo > LIMITE_VETOR_UNIAO) {
+                return paraBits().ou(outro);
+            }
+            if (maximo > valores.length) {
+                valores = Arrays.copyOf(valores, Math.min(LIMITE_VETOR_UNIAO, Math.max(maximo, valores.length * 2)));
+            }
+            // Intercala de trás para frente no próprio vetor (sem vetor auxiliar)
+            int i = tamanho - 1;
+            int j = vetor.tamanho - 1;
+            int k = maximo - 1;
+            while (j >= 0) {
+                if (i >= 0 && valores[i] >= vetor.valores[j]) {
+                    if (valores[i] == vetor.valores[j]) {
+                        j--;
+                    }
+                    valores[k--] = valores[i--];
+                } else {
+                    valores[k--] = vetor.valores[j--];
+                }
+            }
+            // Valores repetidos deixam um vão entre o início intacto e o trecho intercalado
+            int intercalados = maximo - 1 - k;
+            if (k > i) {
+                System.arraycopy(valores, k + 1, valores, i + 1, intercalados);
+            }
+            tamanho = i + 1 + intercalados;
+            return this;
+        }
+
+        @Override
+        Conteiner menos(Conteiner outro) {
+            char[] resultado = new char[Math.max(4, tamanho)];
+            int total = 0;
+            if (outro instanceof ConteinerBits) {
+                long[] palavras = ((ConteinerBits) outro).palavras;
+                for (int i = 0; i < tamanho; i++) {
+                    if (!ConteinerBits.ligado(palavras, valores[i])) {
+                        resultado[total++] = valores[i];
+                    }
+                }
+            } else {
+                ConteinerVetor vetor = (ConteinerVetor) outro;
+                int j = 0;
+                for (int i = 0; i < tamanho; i++) {
+                    while (j < vetor.tamanho && vetor.valores[j] < valores[i]) {
+                        j++;
+                    }
+                    if (j == vetor.tamanho || vetor.valores[j] != valores[i]) {
+                        resultado[total++] = valores[i];
+                    }
+                }
+            }
+            return new ConteinerVetor(resultado, total);
+        }
+
+        @Override
+        int cardinalidadeE(Conteiner outro) {
+            int total = 0;
+            if (outro instanceof ConteinerBits) {
+                long[] palavras = ((ConteinerBits) outro).palavras;
+                for (int i = 0; i < tamanho; i++) {
+                    if (ConteinerBits.ligado(palavras, valores[i])) {
+                        total++;
+                    }
+                }
+                return total;
+            }
+            ConteinerVetor vetor = (ConteinerVetor) outro;
+            int i = 0;
+            int j = 0;
+            while (i < tamanho && j < vetor.tamanho) {
+                if (valores[i] < vetor.valores[j]) {
+                    i++;
+                } else if (valores[i] > vetor.valores[j]) {
+                    j++;
+                } else {
+                    total++;
+                    i++;
+                    j++;
+                }
+            }
+            return total;
+        }
+
+        @Override
+        boolean intersecta(Conteiner outro) {
+            if (outro instanceof ConteinerBits) {
+                long[] palavras = ((ConteinerBits) outro).palavras;
+                for (int i = 0; i < tamanho; i++) {
+                    if (ConteinerBits.ligado(palavras, valores[i])) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            ConteinerVetor vetor = (ConteinerVetor) outro;
+            int i = 0;
+            int j = 0;
+            while (i < tamanho && j < vetor.tamanho) {
+                if (valores[i] < vetor.valores[j]) {
+                    i++;
+                } else if (valores[i] > vetor.valores[j]) {
+                    j++;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void paraCada(int base, IntConsumer acao) {
+            for (int i = 0; i < tamanho; i++) {
+                acao.accept(base | valores[i]);
+            }
+        }
+
+        @Override
+        Conteiner copiar() {
+            return new ConteinerVetor(Arrays.copyOf(valores, Math.max(4, tamanho)), tamanho);
+        }
+
+        ConteinerBits paraBits() {
+            ConteinerBits bits = new ConteinerBits();
+            for (int i = 0; i < tamanho; i++) {
+                bits.ligar(valores[i]);
+            }
+            return bits;
+        }
+    }
+
+    /**
+     * Bloco denso: 65536 bits em 1024 palavras
+     */
+    private static final class ConteinerBits extends Conteiner {
+        final long[] palavras;
+        int total;
+
+        ConteinerBits() {
+            this.palavras = new long[PALAVRAS_BLOCO];
+        }
+
+        ConteinerBits(long[] palavras, int total) {
+            this.palavras = palavras;
+            this.total = total;
+        }
+
+        static boolean ligado(long[] palavras, char valor) {
+            return (palavras[valor >>> 6] & (1L << valor)) != 0;
+        }
+
+        void ligar(char valor) {
+            long antes = palavras[valor >>> 6];
+            long depois = antes | (1L << valor);
+            if (antes != depois) {
+                palavras[valor >>> 6] = depois;
+                total++;
+            }
+        }
+
+        @Override
+        int cardinalidade() {
+            return total;
+        }
+
+        @Override
+        boolean contem(char valor) {
+            return ligado(palavras, valor);
+        }
+
+        @Override
+        Conteiner adicionar(char valor) {
+            ligar(valor);
+            return this;
+        }
+
+        @Override
+        Conteiner remover(char valor) {
+            long antes = palavras[valor >>> 6];
+            long depois = antes & ~(1L << valor);
+            if (antes == depois) {
+                return this;
+            }
+            palavras[valor >>> 6] = depois;
+            total--;
+            return total <= LIMITE_VETOR ? paraVetor() : this;
+        }
+
+        @Override
+        Conteiner e(Conteiner outro) {
+            if (outro instanceof ConteinerVetor) {
+                return outro.e(this);
+            }
+            long[] deOutro = ((ConteinerBits) outro).palavras;
+            long[] resultado = new long[PALAVRAS_BLOCO];
+            int contagem = 0;
+            for (int k = 0; k < PALAVRAS_BLOCO; k++) {
+                resultado[k] = palavras[k] & deOutro[k];
+                contagem += Long.bitCount(resultado[k]);
+            }
+            return ajustar(resultado, contagem);
+        }
+
+        @Override
+        Conteiner ou(Conteiner outro) {
+            if (outro instanceof ConteinerVetor) {
+                ConteinerVetor vetor = (ConteinerVetor) outro;
+                for (int i = 0; i < vetor.tamanho; i++) {
+                    ligar(vetor.valores[i]);
+                }
+                return this;
+            }
+            long[] deOutro = ((ConteinerBits) outro).palavras;
+            int contagem = 0;
+            for (int k = 0; k < PALAVRAS_BLOCO; k++) {
+                palavras[k] |= deOutro[k];
+                contagem += Long.bitCount(palavras[k]);
+            }
+            total = contagem;
+            return this;
+        }
+
+        @Override
+        Conteiner menos(Conteiner outro) {
+            long[] resultado = palavras.clone();
+            int contagem = total;
+            if (outro instanceof ConteinerVetor) {
+                ConteinerVetor vetor = (ConteinerVetor) outro;
+                for (int i = 0; i < vetor.tamanho; i++) {
+                    char valor = vetor.valores[i];
+                    long antes = resultado[valor >>> 6];
+                    resultado[valor >>> 6] = antes & ~(1L << valor);
+                    if (antes != resultado[valor >>> 6]) {
+                        contagem--;
+                    }
+                }
+            } else {
+                long[] deOutro = ((ConteinerBits) outro).palavras;
+                contagem = 0;
+                for (int k = 0; k < PALAVRAS_BLOCO; k++) {
+                    resultado[k] &= ~deOutro[k];
+                    contagem += Long.bitCount(resultado[k]);
+                }
+            }
+            return ajustar(resultado, contagem);
+        }
+
+        @Override
+        int cardinalidadeE(Conteiner outro) {
+            if (outro instanceof ConteinerVetor) {
+                return outro.cardinalidadeE(this);
+            }
+            long[] deOutro = ((ConteinerBits) outro).palavras;
+            int contagem = 0;
+            for (int k = 0; k < PALAVRAS_BLOCO; k++) {
+                contagem += Long.bitCount(palavras[k] & deOutro[k]);
+            }
+            return contagem;
+        }
+
+        @Override
+        boolean intersecta(Conteiner outro) {
+            if (outro instanceof ConteinerVetor) {
+                return outro.intersecta(this);
+            }
+            long[] deOutro = ((ConteinerBits) outro).palavras;
+            for (int k = 0; k < PALAVRAS_BLOCO; k++) {
+                if ((palavras[k] & deOutro[k]) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void paraCada(int base, IntConsumer acao) {
+            for (int k = 0; k < PALAVRAS_BLOCO; k++) {
+                long palavra = palavras[k];
+                while (palavra != 0) {
+                    acao.accept(base | (k << 6) | Long.numberOfTrailingZeros(palavra));
+                    palavra &= palavra - 1;
+                }
+            }
+        }
+
+        @Override
+        Conteiner copiar() {
+            return new ConteinerBits(palavras.clone(), total);
+        }
+
+        /**
+         * Resultado de uma operação: volta a vetor se ficou esparso
+         */
+        private static Conteiner ajustar(long[] palavras, int contagem) {
+            ConteinerBits bits = new ConteinerBits(palavras, contagem);
+            return contagem <= LIMITE_VETOR ? bits.paraVetor() : bits;
+        }
+
+        ConteinerVetor paraVetor() {
+            char[] valores = new char[Math.max(4, total)];
+            int posicao = 0;
+            for (int k = 0; k < PALAVRAS_BLOCO; k++) {
+                long palavra = palavras[k];
+                while (palavra != 0) {
+                    valores[posicao++] = (char) ((k << 6) | Long.numberOfTrailingZeros(palavra));
+                    palavra &= palavra - 1;
+                }
+            }
+            return new ConteinerVetor(valores, posicao);
+        }
+    }
+}
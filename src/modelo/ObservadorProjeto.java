@@ -0,0 +1,22 @@
+package modelo;
+
+/**
+ * Observador síncrono das alterações de um projeto
+ *
+ * Chamado na própria thread que alterou o status, as datas ou o gerente,
+ * logo após a alteração. Serve a estruturas derivadas que não podem ficar
+ * atrasadas em relação ao objeto, como o armazenamento colunar e o índice de
+ * períodos do GerenciadorProjeto (para visões que toleram atraso, use o
+ * barramento de eventos).
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ObservadorProjeto {
+    /**
+     * Indica que status, datas ou gerente do projeto mudou
+     * @param projeto Projeto alterado
+     */
+    void aoAlterar(Projeto projeto);
+}
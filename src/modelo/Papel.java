@@ -0,0 +1,165 @@
+package modelo;
+
+import seguranca.Permissao;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe que representa um papel (perfil de acesso) de usuário
+ * Cada papel tem um número ordinal compacto e uma máscara de permissões,
+ * permitindo filtragem por papel e verificação de permissão em O(1)
+ *
+ * Os papéis de sistema (Administrador, Gerente, Colaborador) estão ligados às
+ * suas subclasses de Usuario; papéis personalizados podem ser registrados em
+ * tempo de execução sem criar novas subclasses.
+ *
+ * Listas e contagens por papel seguem o papel atual, não a classe: um
+ * Gerente que recebe um papel personalizado sai de
+ * GerenciadorUsuario.listarGerentes e de Equipe.contarMembros(GERENTE) e
+ * passa a aparecer no papel novo. A classe continua a mesma (tarefas,
+ * projetos gerenciados e {@code instanceof} não mudam).
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class Papel {
+    // Registro de todos os papéis, indexado pelo ordinal
+    private static final ArrayList<Papel> registrados = new ArrayList<>();
+
+    public static final Papel ADMINISTRADOR = new Papel("Administrador", Permissao.TODAS, Administrador.class);
+    public static final Papel GERENTE = new Papel("Gerente",
+            Permissao.CRIAR_PROJETOS | Permissao.GERENCIAR_EQUIPES, Gerente.class);
+    public static final Papel COLABORADOR = new Papel("Colaborador", Permissao.NENHUMA, Colaborador.class);
+
+    private final int ordinal;
+    private final String nome;
+    private final int permissoes;
+    private final Class<? extends Usuario> tipoExigido; // null para papéis personalizados
+
+    /**
+     * Construtor privado - papéis são criados apenas pelo registro
+     */
+    private Papel(String nome, int permissoes, Class<? extends Usuario> tipoExigido) {
+        synchronized (registrados) {
+            this.ordinal = registrados.size();
+            this.nome = nome;
+            this.permissoes = permissoes;
+            this.tipoExigido = tipoExigido;
+            registrados.add(this);
+        }
+    }
+
+    /**
+     * Registra um novo papel personalizado
+     * @param nome Nome do papel
+     * @param permissoes Máscara de permissões (ver {@link Permissao})
+     * @return Papel registrado (ou o já existente com o mesmo nome)
+     */
+    public static Papel registrar(String nome, int permissoes) {
+        if (nome == null || nome.trim().isEmpty()) {
+            throw new IllegalArgumentException("Nome do papel inválido");
+        }
+        synchronized (registrados) {
+            Papel existente = buscarPorNome(nome);
+            if (existente != null) {
+                if (existente.permissoes != permissoes) {
+                    throw new IllegalArgumentException("Papel '" + nome + "' já registrado com outras permissões");
+                }
+                return existente;
+            }
+            return new Papel(nome.trim(), permissoes, null);
+        }
+    }
+
+    /**
+     * Busca papel pelo nome (ignora maiúsculas/minúsculas)
+     * @param nome Nome do papel
+     * @return Papel encontrado ou null
+     */
+    public static Papel buscarPorNome(String nome) {
+        synchronized (registrados) {
+            for (Papel papel : registrados) {
+                if (papel.nome.equalsIgnoreCase(nome.trim())) {
+                    return papel;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Obtém papel pelo ordinal
+     * @param ordinal Ordinal do papel
+     * @return Papel correspondente
+     */
+    public static Papel porOrdinal(int ordinal) {
+        synchronized (registrados) {
+            return registrados.get(ordinal);
+        }
+    }
+
+    /**
+     * Obtém o número de papéis registrados (maior ordinal + 1)
+     * @return Total de papéis
+     */
+    public static int total() {
+        synchronized (registrados) {
+            return registrados.size();
+        }
+    }
+
+    /**
+     * Lista todos os papéis registrados
+     * @return Lista imutável de papéis
+     */
+    public static List<Papel> listarTodos() {
+        synchronized (registrados) {
+            return Collections.unmodifiableList(new ArrayList<>(registrados));
+        }
+    }
+
+    /**
+     * Verifica se este papel pode ser atribuído ao usuário informado
+     * Papéis de sistema exigem a subclasse correspondente
+     * @param usuario Usuário candidato
+     * @return true se o papel é compatível
+     */
+    public boolean aceita(Usuario usuario) {
+        return tipoExigido == null || tipoExigido.isInstance(usuario);
+    }
+
+    /**
+     * Verifica se o papel concede a permissão informada
+     * @param permissao Bit(s) de permissão
+     * @return true se todas as permissões estão presentes
+     */
+    public boolean temPermissao(int permissao) {
+        return Permissao.possui(permissoes, permissao);
+    }
+
+    public boolean ehPersonalizado() {
+        return tipoExigido == null;
+    }
+
+    // Getters (encapsulamento)
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getPermissoes() {
+        return permissoes;
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return nome;
+    }
+}
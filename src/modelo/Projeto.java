@@ -1,5 +1,10 @@
 package modelo;
 
+import eventos.BarramentoEventos;
+import eventos.TipoEvento;
+import metricas.EventoStatusProjeto;
+import java.util.List;
+
 /**
  * Classe que representa um projeto do sistema
  * Demonstra encapsulamento e relacionamento com outras classes
@@ -8,13 +13,21 @@ package modelo;
  * @version 1.0
  */
 public class Projeto {
+    // Status aceitos, na grafia oficial
+    private static final String[] STATUS_VALIDOS = {"Planejado", "Em Andamento", "Concluído", "Cancelado", "Pausado"};
+    /** Dia devolvido por {@link #getDiaInicio()} e {@link #getDiaFimPrevisto()} para datas ilegíveis */
+    public static final int SEM_DATA = Integer.MIN_VALUE;
+
     // Atributos privados (encapsulamento)
     private String nome;
     private String descricao;
-    private String dataInicio;
-    private String dataFimPrevista;
-    private String status;
+    private int dataInicio; // Datas compactadas em aaaammdd (ver Compactacao)
+    private int dataFimPrevista;
+    private String dataInicioTexto; // Datas em formato não reconhecido (guardadas como vieram)
+    private String dataFimPrevistaTexto;
+    private String status; // Sempre a instância de Dicionario.STATUS
     private Gerente gerenteResponsavel;
+    private ObservadorProjeto observador; // Estrutura derivada a avisar (ou null)
     private static int contadorProjetos = 0; // Atributo estático para contar projetos
     private int id;
 
@@ -30,9 +43,9 @@ public class Projeto {
         this.id = ++contadorProjetos; // Incrementa contador e atribui ID único
         this.nome = nome;
         this.descricao = descricao;
-        this.dataInicio = dataInicio;
-        this.dataFimPrevista = dataFimPrevista;
-        this.status = "Planejado"; // Status inicial padrão
+        guardarDataInicio(dataInicio);
+        guardarDataFimPrevista(dataFimPrevista);
+        this.status = Dicionario.STATUS.internar("Planejado"); // Status inicial padrão
         this.gerenteResponsavel = gerenteResponsavel;
         
         // Adiciona este projeto à lista do gerente (se gerente não for null)
@@ -60,8 +73,8 @@ public class Projeto {
         System.out.println("ID: " + id);
         System.out.println("Nome: " + nome);
         System.out.println("Descrição: " + descricao);
-        System.out.println("Data de Início: " + dataInicio);
-        System.out.println("Data Fim Prevista: " + dataFimPrevista);
+        System.out.println("Data de Início: " + getDataInicio());
+        System.out.println("Data Fim Prevista: " + getDataFimPrevista());
         System.out.println("Status: " + status);
         System.out.println("Progresso: " + calcularProgresso() + "%");
         System.out.println("Gerente Responsável: " + 
@@ -74,33 +87,70 @@ public class Projeto {
      * @param novoStatus Novo status do projeto
      */
     public void atualizarStatus(String novoStatus) {
+        atualizarStatus(novoStatus, true);
+    }
+
+    /**
+     * Atualiza o status do projeto, opcionalmente sem mensagens no console
+     * (usado por atualizações em lote)
+     * @param novoStatus Novo status do projeto
+     * @param exibirMensagem Se deve informar a transição no console
+     */
+    public void atualizarStatus(String novoStatus, boolean exibirMensagem) {
+        EventoStatusProjeto evento = new EventoStatusProjeto();
+        evento.begin();
+        String statusAnterior = this.status;
+        boolean statusValido = false;
         try {
-            String[] statusValidos = {"Planejado", "Em Andamento", "Concluído", "Cancelado", "Pausado"};
-            
-            // Validação do status
-            boolean statusValido = false;
-            for (String statusPermitido : statusValidos) {
-                if (statusPermitido.equalsIgnoreCase(novoStatus)) {
-                    statusValido = true;
-                    novoStatus = statusPermitido; // Padroniza a capitalização
-                    break;
-                }
-            }
+            // Validação do status (padroniza a capitalização)
+            String statusPadronizado = normalizarStatus(novoStatus);
+            statusValido = statusPadronizado != null;
             
             if (statusValido) {
-                String statusAnterior = this.status;
+                novoStatus = Dicionario.STATUS.internar(statusPadronizado);
                 this.status = novoStatus;
-                System.out.println("Status do projeto '" + nome + "' atualizado:");
-                System.out.println("   " + statusAnterior + " → " + novoStatus);
-            } else {
+                if (!novoStatus.equals(statusAnterior)) {
+                    notificarObservador();
+                    BarramentoEventos.global().publicar(TipoEvento.STATUS_PROJETO_ALTERADO, this, null,
+                                                        statusAnterior, novoStatus);
+                }
+                if (exibirMensagem) {
+                    System.out.println("Status do projeto '" + nome + "' atualizado:");
+                    System.out.println("   " + statusAnterior + " → " + novoStatus);
+                }
+            } else if (exibirMensagem) {
                 System.out.println("Status inválido: " + novoStatus);
-                System.out.println("Status válidos: Planejado, Em Andamento, Concluído, Cancelado, Pausado");
+                System.out.println("Status válidos: " + String.join(", ", STATUS_VALIDOS));
             }
         } catch (Exception e) {
             System.out.println("Erro ao atualizar status: " + e.getMessage());
+        } finally {
+            evento.concluir(id, statusAnterior, novoStatus, statusValido);
         }
     }
 
+    /**
+     * Lista os status aceitos, na grafia oficial
+     * @return Cópia da lista de status válidos
+     */
+    public static List<String> listarStatusValidos() {
+        return List.of(STATUS_VALIDOS);
+    }
+
+    /**
+     * Valida um status e padroniza sua capitalização
+     * @param status Status informado (sem distinção de maiúsculas)
+     * @return Status na grafia oficial, ou null se não for um status válido
+     */
+    public static String normalizarStatus(String status) {
+        for (String statusPermitido : STATUS_VALIDOS) {
+            if (statusPermitido.equalsIgnoreCase(status)) {
+                return statusPermitido;
+            }
+        }
+        return null;
+    }
+
     /**
      * Método para verificar se o projeto está em atraso (simulação)
      * @param dataAtual Data atual para comparação
@@ -114,8 +164,12 @@ public class Projeto {
                 return false;
             }
             
-            // Implementação simplificada de comparação de datas
-            return dataAtual.compareTo(dataFimPrevista) > 0;
+            // Datas dd/MM/yyyy comparam pelo valor aaaammdd; outros formatos, pelo texto
+            int atual = Compactacao.compactarData(dataAtual);
+            if (atual != Compactacao.NAO_COMPACTADO && dataFimPrevista != Compactacao.NAO_COMPACTADO) {
+                return atual > dataFimPrevista;
+            }
+            return dataAtual.compareTo(getDataFimPrevista()) > 0;
         } catch (Exception e) {
             System.out.println("Erro ao verificar atraso: " + e.getMessage());
             return false;
@@ -127,6 +181,18 @@ public class Projeto {
      * @return Percentual de progresso baseado no status
      */
     public int calcularProgresso() {
+        return progressoDoStatus(status);
+    }
+
+    /**
+     * Percentual de progresso associado a um status
+     * @param status Status do projeto
+     * @return Percentual de 0 a 100
+     */
+    public static int progressoDoStatus(String status) {
+        if (status == null) {
+            return 0;
+        }
         switch (status) {
             case "Planejado":
                 return 0;
@@ -151,7 +217,7 @@ public class Projeto {
         System.out.println("ID: #" + id);
         System.out.println("Status: " + status + " (" + calcularProgresso() + "%)");
         System.out.println("Gerente: " + (gerenteResponsavel != null ? gerenteResponsavel.getNome() : "N/A"));
-        System.out.println("Período: " + dataInicio + " até " + dataFimPrevista);
+        System.out.println("Período: " + getDataInicio() + " até " + getDataFimPrevista());
         System.out.println("Descrição: " + descricao);
         System.out.println("─".repeat(40));
     }
@@ -238,19 +304,96 @@ public class Projeto {
     }
 
     public String getDataInicio() {
+        return dataInicio != Compactacao.NAO_COMPACTADO ? Compactacao.expandirData(dataInicio) : dataInicioTexto;
+    }
+
+    /**
+     * Data de início como número aaaammdd (ordena cronologicamente)
+     * @return Data compactada, ou -1 se a data não está no formato dd/MM/yyyy
+     */
+    public int getDataInicioCompactada() {
         return dataInicio;
     }
 
+    /**
+     * Altera a data de início e publica PROJETO_ATUALIZADO com a data
+     * anterior e a nova (o período mudou para índices e alertas de prazo)
+     * @param dataInicio Nova data de início (dd/MM/yyyy)
+     */
     public void setDataInicio(String dataInicio) {
-        this.dataInicio = dataInicio;
+        String anterior = getDataInicio();
+        guardarDataInicio(dataInicio);
+        notificarObservador();
+        BarramentoEventos.global().publicar(TipoEvento.PROJETO_ATUALIZADO, this, null, anterior, getDataInicio());
     }
 
     public String getDataFimPrevista() {
+        return dataFimPrevista != Compactacao.NAO_COMPACTADO
+             ? Compactacao.expandirData(dataFimPrevista) : dataFimPrevistaTexto;
+    }
+
+    /**
+     * Data prevista de conclusão como número aaaammdd (ordena cronologicamente)
+     * @return Data compactada, ou -1 se a data não está no formato dd/MM/yyyy
+     */
+    public int getDataFimPrevistaCompactada() {
         return dataFimPrevista;
     }
 
+    /**
+     * Data de início em dias desde a época (1970-01-01)
+     * @return Dia da época, ou SEM_DATA se a data for ilegível ou inexistente
+     */
+    public int getDiaInicio() {
+        return Compactacao.diaDaEpoca(dataInicio, SEM_DATA);
+    }
+
+    /**
+     * Data prevista de conclusão em dias desde a época (1970-01-01)
+     * @return Dia da época, ou SEM_DATA se a data for ilegível ou inexistente
+     */
+    public int getDiaFimPrevisto() {
+        return Compactacao.diaDaEpoca(dataFimPrevista, SEM_DATA);
+    }
+
+    /**
+     * Converte uma data dd/MM/yyyy no mesmo dia usado por {@link #getDiaInicio()}
+     * @param data Data no formato dd/MM/yyyy
+     * @return Dia da época, ou SEM_DATA se a data for ilegível ou inexistente
+     */
+    public static int diaDaEpoca(String data) {
+        return Compactacao.diaDaEpoca(Compactacao.compactarData(data), SEM_DATA);
+    }
+
+    /**
+     * Converte uma data dd/MM/yyyy no mesmo número usado por {@link #getDataFimPrevistaCompactada()}
+     * @param data Data no formato dd/MM/yyyy
+     * @return Data como aaaammdd, ou -1 se o formato não for reconhecido
+     */
+    public static int compactarData(String data) {
+        return Compactacao.compactarData(data);
+    }
+
+    /**
+     * Altera a data prevista de conclusão e publica PROJETO_ATUALIZADO com a
+     * data anterior e a nova
+     * @param dataFimPrevista Nova data prevista (dd/MM/yyyy)
+     */
     public void setDataFimPrevista(String dataFimPrevista) {
-        this.dataFimPrevista = dataFimPrevista;
+        String anterior = getDataFimPrevista();
+        guardarDataFimPrevista(dataFimPrevista);
+        notificarObservador();
+        BarramentoEventos.global().publicar(TipoEvento.PROJETO_ATUALIZADO, this, null, anterior, getDataFimPrevista());
+    }
+
+    private void guardarDataInicio(String data) {
+        this.dataInicio = Compactacao.compactarData(data);
+        this.dataInicioTexto = this.dataInicio != Compactacao.NAO_COMPACTADO ? null : data;
+    }
+
+    private void guardarDataFimPrevista(String data) {
+        this.dataFimPrevista = Compactacao.compactarData(data);
+        this.dataFimPrevistaTexto = this.dataFimPrevista != Compactacao.NAO_COMPACTADO ? null : data;
     }
 
     public String getStatus() {
@@ -258,7 +401,13 @@ public class Projeto {
     }
 
     public void setStatus(String status) {
+        String statusAnterior = this.status;
+        status = Dicionario.STATUS.internar(status);
         this.status = status;
+        notificarObservador();
+        if (status != null && !status.equals(statusAnterior)) {
+            BarramentoEventos.global().publicar(TipoEvento.STATUS_PROJETO_ALTERADO, this, null, statusAnterior, status);
+        }
     }
 
     public Gerente getGerenteResponsavel() {
@@ -266,7 +415,35 @@ public class Projeto {
     }
 
     public void setGerenteResponsavel(Gerente gerenteResponsavel) {
+        // Mantém a lista de projetos gerenciados dos dois gerentes (índice reverso)
+        if (this.gerenteResponsavel != null && this.gerenteResponsavel != gerenteResponsavel) {
+            this.gerenteResponsavel.removerProjetoGerenciado(this);
+        }
         this.gerenteResponsavel = gerenteResponsavel;
+        if (gerenteResponsavel != null) {
+            gerenteResponsavel.adicionarProjetoGerenciado(this);
+        }
+        notificarObservador();
+        BarramentoEventos.global().publicar(TipoEvento.PROJETO_ATUALIZADO, this, null, nome, nome);
+    }
+
+    public ObservadorProjeto getObservador() {
+        return observador;
+    }
+
+    /**
+     * Define quem deve ser avisado quando status, datas ou gerente mudarem
+     * Um projeto tem no máximo um observador (o último definido vale).
+     * @param observador Observador, ou null para nenhum
+     */
+    public void setObservador(ObservadorProjeto observador) {
+        this.observador = observador;
+    }
+
+    private void notificarObservador() {
+        if (observador != null) {
+            observador.aoAlterar(this);
+        }
     }
 
     public static int getContadorProjetos() {
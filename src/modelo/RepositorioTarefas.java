@@ -0,0 +1,267 @@
+package modelo;
+
+import busca.AnalisadorTexto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+
+/**
+ * Repositório central das tarefas de todos os colaboradores
+ *
+ * Cada tarefa tem um ID sequencial e fica em um vetor indexado por ele. Os
+ * colaboradores guardam só os IDs das suas tarefas (o índice por
+ * responsável), e o repositório mantém:
+ * - índice por status: conjuntos densos de pendentes e de concluídas, com
+ *   inclusão e remoção em O(1) (cada tarefa sabe sua posição);
+ * - índice textual: para cada termo da descrição (mesma análise do motor
+ *   de busca), a lista ordenada dos IDs que o contêm. Remoções são
+ *   preguiçosas e a lista é compactada quando metade dela é lixo.
+ * Assim, consultas globais custam O(k) no número de tarefas devolvidas, sem
+ * percorrer usuários nem copiar listas de tarefas.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class RepositorioTarefas {
+    private static final RepositorioTarefas GLOBAL = new RepositorioTarefas();
+
+    private Tarefa[] porId = new Tarefa[1024];
+    private int proximoId = 1;
+    private int total;
+    private final ConjuntoStatus pendentes = new ConjuntoStatus();
+    private final ConjuntoStatus concluidas = new ConjuntoStatus();
+    private final HashMap<String, ListaTermo> indiceTextual = new HashMap<>();
+
+    RepositorioTarefas() {
+    }
+
+    /**
+     * Repositório usado pelos colaboradores
+     * @return Instância compartilhada
+     */
+    public static RepositorioTarefas global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Cria uma tarefa (chamado por {@link Colaborador#adicionarTarefa})
+     */
+    synchronized Tarefa criar(Colaborador responsavel, String descricao) {
+        int id = proximoId++;
+        if (id == porId.length) {
+            porId = Arrays.copyOf(porId, porId.length * 2);
+        }
+        Tarefa tarefa = new Tarefa(id, responsavel, descricao);
+        porId[id] = tarefa;
+        total++;
+        (tarefa.isConcluida() ? concluidas : pendentes).adicionar(tarefa);
+        for (String termo : termosDistintos(descricao)) {
+            indiceTextual.computeIfAbsent(termo, t -> new ListaTermo()).adicionar(id);
+        }
+        return tarefa;
+    }
+
+    /**
+     * Marca uma tarefa como concluída
+     * @return true se estava pendente
+     */
+    synchronized boolean concluir(int id) {
+        Tarefa tarefa = buscarPorId(id);
+        if (tarefa == null || tarefa.isConcluida()) {
+            return false;
+        }
+        pendentes.remover(tarefa);
+        tarefa.setConcluida(true);
+        concluidas.adicionar(tarefa);
+        return true;
+    }
+
+    /**
+     * Apaga uma tarefa (chamado por {@link Colaborador#removerTarefa})
+     */
+    synchronized Tarefa remover(int id) {
+        Tarefa tarefa = buscarPorId(id);
+        if (tarefa == null) {
+            return null;
+        }
+        porId[id] = null;
+        total--;
+        (tarefa.isConcluida() ? concluidas : pendentes).remover(tarefa);
+        for (String termo : termosDistintos(tarefa.getDescricao())) {
+            ListaTermo lista = indiceTextual.get(termo);
+            if (lista != null && lista.marcarRemovido(porId)) {
+                indiceTextual.remove(termo);
+            }
+        }
+        return tarefa;
+    }
+
+    /**
+     * Busca uma tarefa pelo ID
+     * @param id ID da tarefa
+     * @return Tarefa, ou null se não existir
+     */
+    public synchronized Tarefa buscarPorId(int id) {
+        return id > 0 && id < proximoId ? porId[id] : null;
+    }
+
+    /**
+     * Lista todas as tarefas pendentes
+     * @return Tarefas pendentes (ordem não especificada)
+     */
+    public synchronized ArrayList<Tarefa> listarPendentes() {
+        return pendentes.copiar();
+    }
+
+    /**
+     * Lista todas as tarefas concluídas
+     * @return Tarefas concluídas (ordem não especificada)
+     */
+    public synchronized ArrayList<Tarefa> listarConcluidas() {
+        return concluidas.copiar();
+    }
+
+    /**
+     * Lista as tarefas pendentes de um grupo de usuários (ex.: membros de uma equipe)
+     * Usuários que não são colaboradores são ignorados.
+     * @param usuarios Usuários cujas tarefas interessam
+     * @return Tarefas pendentes, agrupadas por responsável
+     */
+    public synchronized ArrayList<Tarefa> listarPendentes(Collection<? extends Usuario> usuarios) {
+        ArrayList<Tarefa> resultado = new ArrayList<>();
+        for (Usuario usuario : usuarios) {
+            if (usuario instanceof Colaborador) {
+                ((Colaborador) usuario).coletarTarefas(this, false, resultado);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Busca as tarefas cuja descrição contém todas as palavras da consulta
+     * (sem acento, maiúsculas ou plural importarem, como no motor de busca)
+     * @param consulta Palavras procuradas
+     * @return Tarefas encontradas, em ordem de criação
+     */
+    public synchronized ArrayList<Tarefa> buscar(String consulta) {
+        ArrayList<Tarefa> resultado = new ArrayList<>();
+        ArrayList<ListaTermo> listas = new ArrayList<>();
+        for (String termo : termosDistintos(consulta)) {
+            ListaTermo lista = indiceTextual.get(termo);
+            if (lista == null) {
+                return resultado;
+            }
+            listas.add(lista);
+        }
+        if (listas.isEmpty()) {
+            return resultado;
+        }
+        // Percorre a lista mais curta e confere as demais por busca binária
+        listas.sort(Comparator.comparingInt(lista -> lista.tamanho));
+        ListaTermo menor = listas.get(0);
+        candidatos:
+        for (int i = 0; i < menor.tamanho; i++) {
+            Tarefa tarefa = porId[menor.ids[i]];
+            if (tarefa == null) {
+                continue;
+            }
+            for (int j = 1; j < listas.size(); j++) {
+                if (!listas.get(j).contem(tarefa.getId())) {
+                    continue candidatos;
+                }
+            }
+            resultado.add(tarefa);
+        }
+        return resultado;
+    }
+
+    /**
+     * @return Total de tarefas
+     */
+    public synchronized int tamanho() {
+        return total;
+    }
+
+    /**
+     * @return Total de tarefas pendentes
+     */
+    public synchronized int contarPendentes() {
+        return pendentes.tamanho;
+    }
+
+    private static LinkedHashSet<String> termosDistintos(String texto) {
+        return new LinkedHashSet<>(AnalisadorTexto.analisar(texto));
+    }
+
+    /**
+     * Conjunto denso de tarefas (a posição fica na própria tarefa)
+     */
+    private static final class ConjuntoStatus {
+        Tarefa[] itens = new Tarefa[64];
+        int tamanho;
+
+        void adicionar(Tarefa tarefa) {
+            if (tamanho == itens.length) {
+                itens = Arrays.copyOf(itens, tamanho * 2);
+            }
+            tarefa.posicaoNoStatus = tamanho;
+            itens[tamanho++] = tarefa;
+        }
+
+        void remover(Tarefa tarefa) {
+            // Troca com a última para não deslocar o vetor
+            Tarefa ultima = itens[--tamanho];
+            itens[tarefa.posicaoNoStatus] = ultima;
+            ultima.posicaoNoStatus = tarefa.posicaoNoStatus;
+            itens[tamanho] = null;
+            tarefa.posicaoNoStatus = -1;
+        }
+
+        ArrayList<Tarefa> copiar() {
+            return new ArrayList<>(Arrays.asList(itens).subList(0, tamanho));
+        }
+    }
+
+    /**
+     * IDs (crescentes) das tarefas que contêm um termo
+     */
+    private static final class ListaTermo {
+        int[] ids = new int[4];
+        int tamanho;
+        int removidos;
+
+        void adicionar(int id) {
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, tamanho * 2);
+            }
+            ids[tamanho++] = id;
+        }
+
+        boolean contem(int id) {
+            return Arrays.binarySearch(ids, 0, tamanho, id) >= 0;
+        }
+
+        /**
+         * Conta uma remoção e compacta quando metade da lista é lixo
+         * @return true se a lista ficou vazia
+         */
+        boolean marcarRemovido(Tarefa[] porId) {
+            removidos++;
+            if (removidos * 2 < tamanho) {
+                return false;
+            }
+            int vivos = 0;
+            for (int i = 0; i < tamanho; i++) {
+                if (porId[ids[i]] != null) {
+                    ids[vivos++] = ids[i];
+                }
+            }
+            tamanho = vivos;
+            removidos = 0;
+            return tamanho == 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package modelo;
+
+/**
+ * Tarefa atribuída a um colaborador
+ * Guardada no {@link RepositorioTarefas}; o colaborador mantém apenas o ID.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class Tarefa {
+    static final String MARCA_CONCLUIDA = "[CONCLUÍDA]";
+
+    private final int id;
+    private final Colaborador responsavel;
+    private final String descricao;
+    private boolean concluida;
+    // Posição no conjunto de pendentes ou de concluídas do repositório
+    int posicaoNoStatus = -1;
+
+    /**
+     * Construtor da tarefa (criada pelo repositório)
+     */
+    Tarefa(int id, Colaborador responsavel, String descricao) {
+        this.id = id;
+        this.responsavel = responsavel;
+        this.descricao = descricao;
+        this.concluida = descricao.contains(MARCA_CONCLUIDA);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Colaborador getResponsavel() {
+        return responsavel;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public boolean isConcluida() {
+        return concluida;
+    }
+
+    void setConcluida(boolean concluida) {
+        this.concluida = concluida;
+    }
+
+    /**
+     * Texto exibido na lista do colaborador
+     * @return Descrição, com a marca [CONCLUÍDA] se a tarefa foi concluída
+     */
+    public String getTexto() {
+        if (concluida && !descricao.contains(MARCA_CONCLUIDA)) {
+            return descricao + " " + MARCA_CONCLUIDA;
+        }
+        return descricao;
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return "#" + id + " " + getTexto() + " (" + responsavel.getNome() + ")";
+    }
+}
@@ -1,5 +1,12 @@
 package modelo;
 
+import seguranca.HashSenha;
+import seguranca.Permissao;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
  * Classe abstrata que representa um usuário do sistema
  * Demonstra conceitos de encapsulamento e herança
@@ -8,12 +15,25 @@ package modelo;
  * @version 1.0
  */
 public abstract class Usuario {
+    // IDs numéricos densos (0, 1, 2...), usados nos mapas de bits de membros
+    private static final AtomicInteger proximoId = new AtomicInteger();
+    // Concessões e revogações concorrentes não podem perder bits (ler-alterar-gravar atômico)
+    private static final AtomicIntegerFieldUpdater<Usuario> PERMISSOES =
+            AtomicIntegerFieldUpdater.newUpdater(Usuario.class, "permissoes");
+
+    private final int id = proximoId.getAndIncrement();
     // Atributos privados (encapsulamento)
     private String nome;
-    private String cpf;
-    private String email;
+    private long cpf; // CPF compactado (ver Compactacao), ou NAO_COMPACTADO
+    private String cpfTexto; // CPF em formato não reconhecido (guardado como veio)
+    private String emailUsuario; // Parte do email antes do @
+    private String emailDominio; // Domínio do email, compartilhado via Dicionario.DOMINIOS_EMAIL
     private String login;
-    private String senha;
+    private String senha; // Armazena apenas o hash PBKDF2, nunca o texto puro
+    private Papel papel; // Papel (perfil de acesso) do usuário
+    private volatile int permissoes; // Máscara de permissões (bitset) derivada do papel, lida pelas sessões
+    private Equipe[] equipes; // Equipes de que participa (criado na primeira), para avisá-las de mudanças
+    private int totalEquipes;
 
     /**
      * Construtor parametrizado
@@ -22,16 +42,27 @@ public abstract class Usuario {
      * @param email Email do usuário
      * @param login Login para acesso ao sistema
      * @param senha Senha para acesso ao sistema
+     * @param papel Papel inicial do usuário
      */
-    public Usuario(String nome, String cpf, String email, String login, String senha) {
+    public Usuario(String nome, String cpf, String email, String login, String senha, Papel papel) {
         this.nome = nome;
-        this.cpf = cpf;
-        this.email = email;
+        setCpf(cpf);
+        setEmail(email);
         this.login = login;
-        this.senha = senha;
+        this.senha = HashSenha.gerarHash(senha);
+        setPapel(papel);
     }
 
     // Métodos getters e setters (encapsulamento)
+
+    /**
+     * ID numérico do usuário, atribuído na criação (sequencial a partir de 0)
+     * @return ID do usuário
+     */
+    public int getId() {
+        return id;
+    }
+
     public String getNome() {
         return nome;
     }
@@ -41,19 +72,48 @@ public abstract class Usuario {
     }
 
     public String getCpf() {
-        return cpf;
+        return cpf != Compactacao.NAO_COMPACTADO ? Compactacao.expandirCpf(cpf) : cpfTexto;
     }
 
     public void setCpf(String cpf) {
-        this.cpf = cpf;
+        this.cpf = Compactacao.compactarCpf(cpf);
+        this.cpfTexto = this.cpf != Compactacao.NAO_COMPACTADO ? null : cpf;
+    }
+
+    /**
+     * Compara o CPF sem reconstruir o texto
+     * @param cpf CPF procurado
+     * @return true se o CPF do usuário é exatamente igual ao informado
+     */
+    public boolean possuiCpf(String cpf) {
+        long codigo = Compactacao.compactarCpf(cpf);
+        if (codigo != Compactacao.NAO_COMPACTADO || this.cpf != Compactacao.NAO_COMPACTADO) {
+            return codigo == this.cpf;
+        }
+        return cpfTexto != null && cpfTexto.equals(cpf);
     }
 
     public String getEmail() {
-        return email;
+        return emailDominio != null ? emailUsuario + "@" + emailDominio : emailUsuario;
     }
 
     public void setEmail(String email) {
-        this.email = email;
+        int arroba = email != null ? email.indexOf('@') : -1;
+        if (arroba >= 0) {
+            this.emailUsuario = email.substring(0, arroba);
+            this.emailDominio = Dicionario.DOMINIOS_EMAIL.internar(email.substring(arroba + 1));
+        } else {
+            this.emailUsuario = email;
+            this.emailDominio = null;
+        }
+    }
+
+    /**
+     * Domínio do email (parte após o @), sem montar o email completo
+     * @return Domínio, ou null se o email não tem @
+     */
+    public String getDominioEmail() {
+        return emailDominio;
     }
 
     public String getLogin() {
@@ -64,12 +124,154 @@ public abstract class Usuario {
         this.login = login;
     }
 
+    /**
+     * Retorna o hash armazenado da senha (nunca o texto puro)
+     * @return Hash da senha no formato pbkdf2$...
+     */
     public String getSenha() {
         return senha;
     }
 
+    /**
+     * Define uma nova senha, armazenando apenas o seu hash
+     * @param senha Nova senha em texto puro
+     */
     public void setSenha(String senha) {
-        this.senha = senha;
+        this.senha = HashSenha.gerarHash(senha);
+    }
+
+    public Papel getPapel() {
+        return papel;
+    }
+
+    /**
+     * Altera o papel do usuário e redefine suas permissões
+     * Para usuários cadastrados use GerenciadorUsuario.alterarPapel, que
+     * também mantém os índices por papel atualizados. Com um papel
+     * personalizado o usuário deixa de contar no papel de sistema da sua
+     * classe (ver {@link Papel})
+     * @param papel Novo papel (deve ser compatível com o tipo do usuário)
+     */
+    public void setPapel(Papel papel) {
+        if (papel == null || !papel.aceita(this)) {
+            throw new IllegalArgumentException("Papel " + papel + " não pode ser atribuído a "
+                                               + getClass().getSimpleName());
+        }
+        Papel anterior = this.papel;
+        this.papel = papel;
+        this.permissoes = papel.getPermissoes();
+        if (anterior != null && anterior != papel) {
+            for (int i = 0; i < totalEquipes; i++) {
+                equipes[i].ajustarPapel(anterior, papel);
+            }
+        }
+    }
+
+    /**
+     * Equipes de que o usuário participa
+     * @return Cópia da lista de equipes
+     */
+    public ArrayList<Equipe> getEquipes() {
+        ArrayList<Equipe> lista = new ArrayList<>(totalEquipes);
+        for (int i = 0; i < totalEquipes; i++) {
+            lista.add(equipes[i]);
+        }
+        return lista;
+    }
+
+    /**
+     * Registra a entrada em uma equipe (chamado pela Equipe)
+     */
+    void vincularEquipe(Equipe equipe) {
+        if (equipes == null) {
+            equipes = new Equipe[2];
+        } else if (totalEquipes == equipes.length) {
+            equipes = Arrays.copyOf(equipes, totalEquipes * 2);
+        }
+        equipes[totalEquipes++] = equipe;
+    }
+
+    /**
+     * Registra a saída de uma equipe (chamado pela Equipe)
+     */
+    void desvincularEquipe(Equipe equipe) {
+        for (int i = 0; i < totalEquipes; i++) {
+            if (equipes[i] == equipe) {
+                equipes[i] = equipes[--totalEquipes];
+                equipes[totalEquipes] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Repassa às equipes a variação nas tarefas de um colaborador
+     */
+    void avisarEquipesTarefas(int variacaoTotal, int variacaoPendentes, long variacaoProdutividade) {
+        for (int i = 0; i < totalEquipes; i++) {
+            equipes[i].ajustarTarefas(variacaoTotal, variacaoPendentes, variacaoProdutividade);
+        }
+    }
+
+    public int getPermissoes() {
+        return permissoes;
+    }
+
+    /**
+     * Concede permissões adicionais a este usuário (além das do papel)
+     * @param permissao Bit(s) de permissão a conceder
+     */
+    public void concederPermissao(int permissao) {
+        PERMISSOES.getAndUpdate(this, atuais -> atuais | permissao);
+    }
+
+    /**
+     * Revoga permissões deste usuário
+     * @param permissao Bit(s) de permissão a revogar
+     */
+    public void revogarPermissao(int permissao) {
+        PERMISSOES.getAndUpdate(this, atuais -> atuais & ~permissao);
+    }
+
+    /**
+     * Verifica se o usuário possui a permissão informada (teste de bit)
+     * @param permissao Bit(s) de permissão exigidos (ver {@link Permissao})
+     * @return true se todas as permissões estão presentes
+     */
+    public boolean temPermissao(int permissao) {
+        return Permissao.possui(permissoes, permissao);
+    }
+
+    /**
+     * Verifica se pode gerenciar usuários
+     * @return true se possui a permissão GERENCIAR_USUARIOS
+     */
+    public final boolean podeGerenciarUsuarios() {
+        return temPermissao(Permissao.GERENCIAR_USUARIOS);
+    }
+
+    /**
+     * Verifica se pode criar projetos
+     * @return true se possui a permissão CRIAR_PROJETOS
+     */
+    public final boolean podeCriarProjetos() {
+        return temPermissao(Permissao.CRIAR_PROJETOS);
+    }
+
+    /**
+     * Verifica se pode gerenciar equipes
+     * @return true se possui a permissão GERENCIAR_EQUIPES
+     */
+    public final boolean podeGerenciarEquipes() {
+        return temPermissao(Permissao.GERENCIAR_EQUIPES);
+    }
+
+    /**
+     * Verifica se pode acessar relatórios administrativos
+     * @return true se possui a permissão ACESSAR_RELATORIOS_ADMIN
+     */
+    public final boolean podeAcessarRelatoriosAdmin() {
+        return temPermissao(Permissao.ACESSAR_RELATORIOS_ADMIN);
     }
 
     /**
@@ -84,10 +286,13 @@ public abstract class Usuario {
      */
     public void exibirInformacoes() {
         System.out.println("Nome: " + nome);
-        System.out.println("CPF: " + cpf);
-        System.out.println("Email: " + email);
+        System.out.println("CPF: " + getCpf());
+        System.out.println("Email: " + getEmail());
         System.out.println("Login: " + login);
         System.out.println("Tipo: " + this.getClass().getSimpleName());
+        if (papel.ehPersonalizado()) {
+            System.out.println("Papel: " + papel.getNome());
+        }
     }
 
     /**
@@ -96,7 +301,7 @@ public abstract class Usuario {
      * @return true se a senha estiver correta, false caso contrário
      */
     public boolean validarSenha(String senhaInformada) {
-        return this.senha.equals(senhaInformada);
+        return HashSenha.verificar(senhaInformada, this.senha);
     }
 
     /**
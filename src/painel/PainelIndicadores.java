@@ -0,0 +1,388 @@
+package painel;
+
+import eventos.Assinatura;
+import eventos.BarramentoEventos;
+import eventos.EventoDominio;
+import eventos.TipoEvento;
+import modelo.Equipe;
+import modelo.Projeto;
+import modelo.Usuario;
+import servico.GerenciadorEquipe;
+import servico.GerenciadorProjeto;
+import servico.GerenciadorUsuario;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Painel de indicadores materializado, atualizado a cada alteração
+ *
+ * Em vez de varrer usuários, projetos e equipes a cada relatório, o painel
+ * assina o barramento de eventos e ajusta contadores a cada alteração.
+ * Os eventos são aplicados em lotes por uma única thread; ao fim de cada
+ * lote um {@link ResumoPainel} imutável é publicado, então a leitura é uma
+ * leitura de campo (O(1)) e sempre devolve números consistentes entre si,
+ * com qualquer quantidade de threads alterando o domínio.
+ *
+ * Projetos em atraso são os que não estão concluídos nem cancelados e cujo
+ * prazo (dd/MM/yyyy) já passou. Os prazos em aberto ficam em um mapa ordenado
+ * por data; a virada do dia move os que venceram para o contador de atraso.
+ *
+ * O painel fica alguns microssegundos atrás das alterações (o tempo de o
+ * lote chegar à thread do painel); use {@link #aguardarAtualizacao(long)}
+ * quando for preciso ler o efeito de uma alteração recém-feita.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class PainelIndicadores {
+    private static final String SEM_DOMINIO = "(sem domínio)";
+
+    private final Clock relogio;
+    private BarramentoEventos barramento;
+    private Assinatura assinatura;
+    private volatile ResumoPainel resumo;
+    private long ultimoEvento = -1;
+
+    // Usuários (contagens; o estado anterior vem dos próprios eventos)
+    private int totalUsuarios;
+    private final LinkedHashMap<String, Integer> usuariosPorPapel = new LinkedHashMap<>();
+    private final HashMap<String, Integer> usuariosPorDominio = new HashMap<>();
+
+    // Projetos: estado conhecido de cada um, para desfazer sua contribuição
+    private final HashMap<Integer, EstadoProjeto> projetos = new HashMap<>();
+    private final LinkedHashMap<String, Integer> projetosPorStatus = new LinkedHashMap<>();
+    private long somaProgresso;
+    private final ConcurrentHashMap<String, Integer> projetosPorGerente = new ConcurrentHashMap<>();
+    // Quantos gerentes têm cada tamanho de carteira (para a maior carteira em O(log n))
+    private final TreeMap<Integer, Integer> carteiras = new TreeMap<>();
+    // Prazos ainda não vencidos de projetos em aberto, e o dia a partir do qual não venceram
+    private final TreeMap<LocalDate, Integer> prazosEmAberto = new TreeMap<>();
+    private LocalDate fronteira;
+    // Instante (ms) da próxima virada do dia, para a leitura não precisar montar a data
+    private volatile long proximaVirada;
+    private int atrasados;
+
+    // Equipes
+    private final HashMap<Integer, Integer> tamanhosEquipe = new HashMap<>();
+    private final int[] equipesPorTamanho = new int[ResumoPainel.LIMITES_TAMANHO.length + 1];
+    private int totalMembros;
+
+    /**
+     * Construtor do painel usando o relógio do sistema
+     */
+    public PainelIndicadores() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Construtor do painel
+     * @param relogio Relógio usado para decidir o que está em atraso
+     */
+    public PainelIndicadores(Clock relogio) {
+        this.relogio = relogio;
+        this.fronteira = LocalDate.now(relogio);
+        this.proximaVirada = calcularVirada(fronteira);
+        for (String status : Projeto.listarStatusValidos()) {
+            projetosPorStatus.put(status, 0);
+        }
+        this.resumo = montarResumo();
+    }
+
+    /**
+     * Carrega o estado atual dos gerenciadores e passa a acompanhar as alterações
+     * Deve ser chamado sem alterações em andamento (na inicialização, ou com a
+     * trava de escrita da aplicação), pois percorre as listas dos gerenciadores.
+     * @param barramento Barramento em que os gerenciadores publicam
+     * @param gerenciadorUsuario Gerenciador de usuários
+     * @param gerenciadorProjeto Gerenciador de projetos
+     * @param gerenciadorEquipe Gerenciador de equipes
+     */
+    public synchronized void conectar(BarramentoEventos barramento, GerenciadorUsuario gerenciadorUsuario,
+                                      GerenciadorProjeto gerenciadorProjeto, GerenciadorEquipe gerenciadorEquipe) {
+        desconectar();
+        this.barramento = barramento;
+        // Assina antes de carregar para não perder eventos. Quem publica não espera a carga: só a
+        // aplicação espera (aplicar usa o mesmo monitor), e um evento já refletido na carga seria
+        // contado de novo; por isso conectar deve ser chamado sem alterações em andamento
+        this.assinatura = barramento.assinar("painel", this::aplicar);
+        for (Usuario usuario : gerenciadorUsuario.listarUsuariosList()) {
+            contarUsuario(usuario.getPapel().getNome(), dominioDoUsuario(usuario), 1);
+        }
+        for (Projeto projeto : gerenciadorProjeto.listarProjetosList()) {
+            sincronizarProjeto(projeto, projeto.getStatus());
+        }
+        for (Equipe equipe : gerenciadorEquipe.listarEquipesList()) {
+            sincronizarEquipe(equipe.getId(), equipe.tamanho());
+        }
+        resumo = montarResumo();
+    }
+
+    /**
+     * Deixa de acompanhar as alterações (o último resumo continua disponível)
+     */
+    public void desconectar() {
+        Assinatura atual = assinatura;
+        if (atual != null) {
+            atual.cancelar();
+            assinatura = null;
+        }
+    }
+
+    /**
+     * Indicadores atuais
+     * @return Retrato consistente mais recente (custo constante)
+     */
+    public ResumoPainel getResumo() {
+        ResumoPainel atual = resumo;
+        if (relogio.millis() >= proximaVirada) {
+            // Virada do dia sem alterações: recalcula apenas os atrasos
+            synchronized (this) {
+                avancarData();
+                resumo = montarResumo();
+                atual = resumo;
+            }
+        }
+        return atual;
+    }
+
+    /**
+     * Número de projetos de um gerente (custo constante)
+     * @param login Login do gerente
+     * @return Quantidade de projetos sob sua responsabilidade
+     */
+    public int getProjetosDoGerente(String login) {
+        return projetosPorGerente.getOrDefault(login, 0);
+    }
+
+    /**
+     * Aguarda o painel refletir tudo o que já foi publicado no barramento
+     * @param tempoMaximoMillis Tempo máximo de espera
+     * @return true se o painel está em dia
+     */
+    public boolean aguardarAtualizacao(long tempoMaximoMillis) {
+        return barramento == null || barramento.aguardarConsumo(tempoMaximoMillis);
+    }
+
+    /**
+     * Aplica um lote de eventos (thread do painel)
+     */
+    private synchronized void aplicar(List<EventoDominio> lote) {
+        avancarData();
+        for (EventoDominio evento : lote) {
+            aplicar(evento);
+            ultimoEvento = evento.getSequencia();
+        }
+        resumo = montarResumo();
+    }
+
+    private void aplicar(EventoDominio evento) {
+        switch (evento.getTipo()) {
+            case USUARIO_ADICIONADO:
+            case USUARIO_REMOVIDO: {
+                // Papel e email vêm do evento: trocas posteriores chegam como PAPEL_ALTERADO e USUARIO_ATUALIZADO
+                int delta = evento.getTipo() == TipoEvento.USUARIO_ADICIONADO ? 1 : -1;
+                contarUsuario(evento.getValorAnterior(), dominio(evento.getValorNovo()), delta);
+                break;
+            }
+            case PAPEL_ALTERADO:
+                somar(usuariosPorPapel, evento.getValorAnterior(), -1);
+                somar(usuariosPorPapel, evento.getValorNovo(), 1);
+                break;
+            case USUARIO_ATUALIZADO:
+                somar(usuariosPorDominio, dominio(evento.getValorAnterior()), -1);
+                somar(usuariosPorDominio, dominio(evento.getValorNovo()), 1);
+                break;
+            case PROJETO_ADICIONADO:
+            case PROJETO_ATUALIZADO: {
+                Projeto projeto = (Projeto) evento.getEntidade();
+                EstadoProjeto conhecido = projetos.get(projeto.getId());
+                // O status segue os eventos de status; os demais dados são relidos do projeto
+                sincronizarProjeto(projeto, conhecido != null ? conhecido.status : projeto.getStatus());
+                break;
+            }
+            case STATUS_PROJETO_ALTERADO: {
+                Projeto projeto = (Projeto) evento.getEntidade();
+                if (projetos.containsKey(projeto.getId())) {
+                    sincronizarProjeto(projeto, evento.getValorNovo());
+                }
+                break;
+            }
+            case PROJETO_REMOVIDO: {
+                EstadoProjeto anterior = projetos.remove(((Projeto) evento.getEntidade()).getId());
+                if (anterior != null) {
+                    contarProjeto(anterior, -1);
+                }
+                break;
+            }
+            case EQUIPE_ADICIONADA:
+            case MEMBRO_ADICIONADO:
+            case MEMBRO_REMOVIDO: {
+                Equipe equipe = (Equipe) evento.getEntidade();
+                if (evento.getTipo() == TipoEvento.EQUIPE_ADICIONADA || tamanhosEquipe.containsKey(equipe.getId())) {
+                    // Relê o tamanho: idempotente mesmo que o evento chegue depois de outras alterações
+                    sincronizarEquipe(equipe.getId(), equipe.tamanho());
+                }
+                break;
+            }
+            case EQUIPE_REMOVIDA: {
+                Integer tamanho = tamanhosEquipe.remove(((Equipe) evento.getEntidade()).getId());
+                if (tamanho != null) {
+                    equipesPorTamanho[ResumoPainel.faixaDoTamanho(tamanho)]--;
+                    totalMembros -= tamanho;
+                }
+                break;
+            }
+            default:
+                // Tarefas e atualizações de equipe não afetam o painel
+        }
+    }
+
+    private void contarUsuario(String papel, String dominio, int delta) {
+        totalUsuarios += delta;
+        somar(usuariosPorPapel, papel, delta);
+        somar(usuariosPorDominio, dominio, delta);
+    }
+
+    /**
+     * Substitui a contribuição de um projeto pelo seu estado atual
+     */
+    private void sincronizarProjeto(Projeto projeto, String status) {
+        EstadoProjeto novo = new EstadoProjeto(status,
+                projeto.getGerenteResponsavel() != null ? projeto.getGerenteResponsavel().getLogin() : null,
+                lerPrazo(projeto));
+        EstadoProjeto anterior = projetos.put(projeto.getId(), novo);
+        if (anterior != null) {
+            contarProjeto(anterior, -1);
+        }
+        contarProjeto(novo, 1);
+    }
+
+    private void contarProjeto(EstadoProjeto estado, int delta) {
+        somar(projetosPorStatus, estado.status, delta);
+        somaProgresso += (long) delta * Projeto.progressoDoStatus(estado.status);
+        if (estado.gerente != null) {
+            int antes = projetosPorGerente.getOrDefault(estado.gerente, 0);
+            int depois = antes + delta;
+            if (depois == 0) {
+                projetosPorGerente.remove(estado.gerente);
+            } else {
+                projetosPorGerente.put(estado.gerente, depois);
+            }
+            if (antes > 0) {
+                somar(carteiras, antes, -1);
+            }
+            if (depois > 0) {
+                somar(carteiras, depois, 1);
+            }
+        }
+        if (estado.prazo != null && estado.emAberto()) {
+            if (estado.prazo.isBefore(fronteira)) {
+                atrasados += delta;
+            } else {
+                somar(prazosEmAberto, estado.prazo, delta);
+            }
+        }
+    }
+
+    private void sincronizarEquipe(int id, int tamanho) {
+        Integer anterior = tamanhosEquipe.put(id, tamanho);
+        if (anterior != null) {
+            equipesPorTamanho[ResumoPainel.faixaDoTamanho(anterior)]--;
+            totalMembros -= anterior;
+        }
+        equipesPorTamanho[ResumoPainel.faixaDoTamanho(tamanho)]++;
+        totalMembros += tamanho;
+    }
+
+    /**
+     * Move para o contador de atraso os prazos vencidos desde a última data
+     */
+    private void avancarData() {
+        LocalDate hoje = LocalDate.now(relogio);
+        if (!hoje.isAfter(fronteira)) {
+            return;
+        }
+        Map<LocalDate, Integer> vencidos = prazosEmAberto.headMap(hoje);
+        for (int quantidade : vencidos.values()) {
+            atrasados += quantidade;
+        }
+        vencidos.clear();
+        fronteira = hoje;
+        proximaVirada = calcularVirada(hoje);
+    }
+
+    private long calcularVirada(LocalDate dia) {
+        return dia.plusDays(1).atStartOfDay(relogio.getZone()).toInstant().toEpochMilli();
+    }
+
+    private ResumoPainel montarResumo() {
+        ArrayList<Map.Entry<String, Integer>> dominios = new ArrayList<>(usuariosPorDominio.entrySet());
+        dominios.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        LinkedHashMap<String, Integer> dominiosOrdenados = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> dominio : dominios) {
+            dominiosOrdenados.put(dominio.getKey(), dominio.getValue());
+        }
+        int totalProjetos = projetos.size();
+        return new ResumoPainel(fronteira, ultimoEvento, totalUsuarios, new LinkedHashMap<>(usuariosPorPapel),
+                                dominiosOrdenados, totalProjetos, new LinkedHashMap<>(projetosPorStatus),
+                                totalProjetos == 0 ? 0.0 : (double) somaProgresso / totalProjetos,
+                                atrasados, projetosPorGerente.size(),
+                                carteiras.isEmpty() ? 0 : carteiras.lastKey(),
+                                tamanhosEquipe.size(), totalMembros, equipesPorTamanho);
+    }
+
+    /**
+     * Soma um valor a uma contagem, removendo a chave quando chega a zero
+     */
+    private static <K> void somar(Map<K, Integer> contagens, K chave, int delta) {
+        if (chave == null) {
+            return;
+        }
+        contagens.merge(chave, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static String dominioDoUsuario(Usuario usuario) {
+        String dominio = usuario.getDominioEmail();
+        return dominio != null ? dominio.toLowerCase(Locale.ROOT) : SEM_DOMINIO;
+    }
+
+    private static String dominio(String email) {
+        if (email == null || email.indexOf('@') < 0) {
+            return SEM_DOMINIO;
+        }
+        return email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static LocalDate lerPrazo(Projeto projeto) {
+        int dia = projeto.getDiaFimPrevisto();
+        // Prazo ilegível ou inválido (ex.: 31/02) não entra na conta de atrasos
+        return dia != Projeto.SEM_DATA ? LocalDate.ofEpochDay(dia) : null;
+    }
+
+    /**
+     * Estado de um projeto conforme conhecido pelo painel
+     */
+    private static class EstadoProjeto {
+        final String status;
+        final String gerente;
+        final LocalDate prazo;
+
+        EstadoProjeto(String status, String gerente, LocalDate prazo) {
+            this.status = status;
+            this.gerente = gerente;
+            this.prazo = prazo;
+        }
+
+        boolean emAberto() {
+            return !"Concluído".equals(status) && !"Cancelado".equals(status);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package painel;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Retrato imutável dos indicadores do painel
+ *
+ * Todos os números vêm do mesmo instante (depois de um lote de eventos
+ * aplicado por inteiro), então são consistentes entre si.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class ResumoPainel {
+    /** Limites superiores das faixas do histograma de tamanho de equipe (a última faixa é "acima de 200") */
+    static final int[] LIMITES_TAMANHO = {0, 5, 10, 20, 50, 100, 200};
+    private static final String[] ROTULOS_TAMANHO = {"0", "1-5", "6-10", "11-20", "21-50", "51-100", "101-200", ">200"};
+
+    private final LocalDate data;
+    private final long ultimoEvento;
+    private final int totalUsuarios;
+    private final Map<String, Integer> usuariosPorPapel;
+    private final Map<String, Integer> usuariosPorDominio;
+    private final int totalProjetos;
+    private final Map<String, Integer> projetosPorStatus;
+    private final double progressoMedio;
+    private final int projetosAtrasados;
+    private final int gerentesComProjetos;
+    private final int maiorCarteira;
+    private final int totalEquipes;
+    private final int totalMembros;
+    private final int[] equipesPorTamanho;
+
+    ResumoPainel(LocalDate data, long ultimoEvento, int totalUsuarios, Map<String, Integer> usuariosPorPapel,
+                 Map<String, Integer> usuariosPorDominio, int totalProjetos, Map<String, Integer> projetosPorStatus,
+                 double progressoMedio, int projetosAtrasados, int gerentesComProjetos, int maiorCarteira,
+                 int totalEquipes, int totalMembros, int[] equipesPorTamanho) {
+        this.data = data;
+        this.ultimoEvento = ultimoEvento;
+        this.totalUsuarios = totalUsuarios;
+        this.usuariosPorPapel = Collections.unmodifiableMap(usuariosPorPapel);
+        this.usuariosPorDominio = Collections.unmodifiableMap(usuariosPorDominio);
+        this.totalProjetos = totalProjetos;
+        this.projetosPorStatus = Collections.unmodifiableMap(projetosPorStatus);
+        this.progressoMedio = progressoMedio;
+        this.projetosAtrasados = projetosAtrasados;
+        this.gerentesComProjetos = gerentesComProjetos;
+        this.maiorCarteira = maiorCarteira;
+        this.totalEquipes = totalEquipes;
+        this.totalMembros = totalMembros;
+        this.equipesPorTamanho = equipesPorTamanho.clone();
+    }
+
+    /**
+     * Faixa do histograma de tamanho em que uma equipe cai
+     * @param tamanho Número de membros
+     * @return Índice da faixa
+     */
+    static int faixaDoTamanho(int tamanho) {
+        for (int i = 0; i < LIMITES_TAMANHO.length; i++) {
+            if (tamanho <= LIMITES_TAMANHO[i]) {
+                return i;
+            }
+        }
+        return LIMITES_TAMANHO.length;
+    }
+
+    /**
+     * Exibe o painel no console
+     */
+    public void exibir() {
+        System.out.println("PAINEL DE INDICADORES (" + data + ")");
+        System.out.println("═".repeat(60));
+        System.out.println("Usuários: " + totalUsuarios);
+        for (Map.Entry<String, Integer> papel : usuariosPorPapel.entrySet()) {
+            System.out.printf("   %-15s %d%n", papel.getKey(), papel.getValue());
+        }
+        if (!usuariosPorDominio.isEmpty()) {
+            System.out.println("   Domínios de email:");
+            int exibidos = 0;
+            for (Map.Entry<String, Integer> dominio : usuariosPorDominio.entrySet()) {
+                if (exibidos++ == 5) {
+                    System.out.println("      ... (" + usuariosPorDominio.size() + " domínios)");
+                    break;
+                }
+                System.out.printf("      %-25s %d%n", dominio.getKey(), dominio.getValue());
+            }
+        }
+        System.out.println("Projetos: " + totalProjetos);
+        for (Map.Entry<String, Integer> status : projetosPorStatus.entrySet()) {
+            System.out.printf("   %-15s %d%n", status.getKey(), status.getValue());
+        }
+        System.out.printf("   Progresso médio: %.1f%%%n", progressoMedio);
+        System.out.println("   Em atraso: " + projetosAtrasados);
+        System.out.println("   Gerentes com projetos: " + gerentesComProjetos + " (maior carteira: " + maiorCarteira + ")");
+        System.out.println("Equipes: " + totalEquipes + " (" + totalMembros + " membros)");
+        for (int i = 0; i < equipesPorTamanho.length; i++) {
+            if (equipesPorTamanho[i] > 0) {
+                System.out.printf("   %-8s membros: %d equipe(s)%n", ROTULOS_TAMANHO[i], equipesPorTamanho[i]);
+            }
+        }
+        System.out.println("═".repeat(60));
+    }
+
+    /**
+     * @return Dia ao qual os projetos em atraso se referem
+     */
+    public LocalDate getData() {
+        return data;
+    }
+
+    /**
+     * @return Sequência do último evento refletido no painel (-1 se nenhum)
+     */
+    public long getUltimoEvento() {
+        return ultimoEvento;
+    }
+
+    public int getTotalUsuarios() {
+        return totalUsuarios;
+    }
+
+    /**
+     * @return Quantidade de usuários por nome do papel
+     */
+    public Map<String, Integer> getUsuariosPorPapel() {
+        return usuariosPorPapel;
+    }
+
+    /**
+     * @return Quantidade de usuários por domínio de email, do maior para o menor
+     */
+    public Map<String, Integer> getUsuariosPorDominio() {
+        return usuariosPorDominio;
+    }
+
+    public int getTotalProjetos() {
+        return totalProjetos;
+    }
+
+    /**
+     * @return Quantidade de projetos por status, na ordem dos status válidos
+     */
+    public Map<String, Integer> getProjetosPorStatus() {
+        return projetosPorStatus;
+    }
+
+    public double getProgressoMedio() {
+        return progressoMedio;
+    }
+
+    public int getProjetosAtrasados() {
+        return projetosAtrasados;
+    }
+
+    public int getGerentesComProjetos() {
+        return gerentesComProjetos;
+    }
+
+    public int getMaiorCarteira() {
+        return maiorCarteira;
+    }
+
+    public int getTotalEquipes() {
+        return totalEquipes;
+    }
+
+    public int getTotalMembros() {
+        return totalMembros;
+    }
+
+    /**
+     * @return Número de equipes em cada faixa de tamanho (0, 1-5, 6-10, 11-20, 21-50, 51-100, 101-200, >200)
+     */
+    public int[] getEquipesPorTamanho() {
+        return equipesPorTamanho.clone();
+    }
+
+    /**
+     * Método sobrescrito toString
+     */
+    @Override
+    public String toString() {
+        return String.format("Painel %s: %d usuários, %d projetos (%.1f%% médio, %d em atraso), %d equipes",
+                             data, totalUsuarios, totalProjetos, progressoMedio, projetosAtrasados, totalEquipes);
+    }
+}
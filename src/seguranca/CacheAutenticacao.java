@@ -0,0 +1,171 @@
+package seguranca;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache limitado de verificações de senha bem-sucedidas
+ * Evita recalcular o PBKDF2 a cada login repetido do mesmo usuário
+ *
+ * A chave é o login mais o resumo SHA-256 da senha informada; o valor guarda
+ * o hash armazenado que foi verificado, de modo que uma troca de senha
+ * invalida automaticamente a entrada. Entradas expiram após o TTL e as menos
+ * usadas são descartadas quando o limite de tamanho é atingido (LRU).
+ * As chaves de cada login ficam também num índice, para que invalidar um
+ * login custe O(entradas dele) e não dependa do formato do login.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class CacheAutenticacao {
+    private final int capacidade;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entrada> entradas;
+    // Chaves de "entradas" agrupadas pelo login
+    private final HashMap<String, HashSet<String>> chavesPorLogin = new HashMap<>();
+
+    // Estatísticas simples
+    private long acertos;
+    private long falhas;
+
+    /**
+     * Construtor do cache de autenticação
+     * @param capacidade Número máximo de entradas mantidas (0 desativa o cache)
+     * @param ttlMillis Tempo de vida de cada entrada em milissegundos
+     */
+    public CacheAutenticacao(int capacidade, long ttlMillis) {
+        if (capacidade < 0 || ttlMillis < 1) {
+            throw new IllegalArgumentException("Capacidade e TTL inválidos");
+        }
+        this.capacidade = capacidade;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> maisAntiga) {
+                if (size() <= CacheAutenticacao.this.capacidade) {
+                    return false;
+                }
+                esquecer(maisAntiga.getValue().login, maisAntiga.getKey());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Verifica se existe uma verificação recente e válida para as credenciais
+     * @param login Login informado
+     * @param senha Senha informada
+     * @param hashAtual Hash armazenado atualmente para o usuário
+     * @return true se a verificação está em cache e ainda é válida
+     */
+    public synchronized boolean contem(String login, String senha, String hashAtual) {
+        if (capacidade == 0) {
+            falhas++;
+            return false;
+        }
+        String chave = chave(login, senha);
+        Entrada entrada = entradas.get(chave);
+        if (entrada == null) {
+            falhas++;
+            return false;
+        }
+        // Expirada ou senha alterada desde a verificação
+        if (System.nanoTime() - entrada.criadaEm > ttlNanos || entrada.hashVerificado != hashAtual) {
+            entradas.remove(chave);
+            esquecer(login, chave);
+            falhas++;
+            return false;
+        }
+        acertos++;
+        return true;
+    }
+
+    /**
+     * Registra uma verificação bem-sucedida
+     * @param login Login verificado
+     * @param senha Senha verificada
+     * @param hashVerificado Hash armazenado que foi usado na verificação
+     */
+    public synchronized void registrar(String login, String senha, String hashVerificado) {
+        if (capacidade == 0) {
+            return; // Cache desativado
+        }
+        String chave = chave(login, senha);
+        chavesPorLogin.computeIfAbsent(login, l -> new HashSet<>()).add(chave);
+        entradas.put(chave, new Entrada(login, hashVerificado, System.nanoTime()));
+    }
+
+    /**
+     * Remove todas as entradas de um login (troca de senha ou remoção de usuário)
+     * @param login Login a ser invalidado
+     */
+    public synchronized void invalidar(String login) {
+        HashSet<String> chaves = chavesPorLogin.remove(login);
+        if (chaves != null) {
+            for (String chave : chaves) {
+                entradas.remove(chave);
+            }
+        }
+    }
+
+    /**
+     * Limpa todo o cache
+     */
+    public synchronized void limpar() {
+        entradas.clear();
+        chavesPorLogin.clear();
+    }
+
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    public synchronized long getAcertos() {
+        return acertos;
+    }
+
+    public synchronized long getFalhas() {
+        return falhas;
+    }
+
+    /**
+     * Retira uma chave descartada do índice por login
+     */
+    private void esquecer(String login, String chave) {
+        HashSet<String> chaves = chavesPorLogin.get(login);
+        if (chaves != null && chaves.remove(chave) && chaves.isEmpty()) {
+            chavesPorLogin.remove(login);
+        }
+    }
+
+    /**
+     * Monta a chave do cache a partir do login e do resumo da senha
+     */
+    private static String chave(String login, String senha) {
+        byte[] resumo = HashSenha.resumoRapido(login, senha);
+        StringBuilder sb = new StringBuilder(login.length() + 1 + resumo.length * 2);
+        sb.append(login).append(':');
+        for (byte b : resumo) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Entrada interna do cache
+     */
+    private static class Entrada {
+        private final String login;
+        private final String hashVerificado;
+        private final long criadaEm;
+
+        Entrada(String login, String hashVerificado, long criadaEm) {
+            this.login = login;
+            this.hashVerificado = hashVerificado;
+            this.criadaEm = criadaEm;
+        }
+    }
+}
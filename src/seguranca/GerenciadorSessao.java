@@ -0,0 +1,341 @@
+package seguranca;
+
+import modelo.Usuario;
+import servico.GerenciadorUsuario;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerencia sessões autenticadas identificadas por tokens opacos
+ *
+ * Após o login, cada requisição precisa apenas de uma consulta na tabela
+ * concorrente de sessões e de um teste de bit para autorização, sem repetir
+ * a verificação de senha. A expiração é feita por uma roda de tempo
+ * (timing wheel): cada sessão é colocada no compartimento correspondente ao
+ * seu instante de expiração e, a cada tick, apenas um compartimento é
+ * processado. Sessões renovadas são simplesmente reagendadas quando o seu
+ * compartimento antigo é visitado.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class GerenciadorSessao {
+    private static final int TAMANHO_TOKEN = 32; // bytes
+
+    private final GerenciadorUsuario gerenciadorUsuario;
+    private final ConcurrentHashMap<String, Sessao> sessoes;
+    // Sessões abertas por login, para encerrar as de um usuário sem varrer a tabela
+    private final ConcurrentHashMap<String, Set<Sessao>> sessoesPorLogin;
+    private final SecureRandom random;
+    private final LongSupplier relogio;
+    private final long duracaoMillis;
+    private final boolean renovarNoAcesso;
+
+    // Roda de tempo
+    private final AtomicReferenceArray<Queue<Sessao>> compartimentos;
+    private final int mascaraCompartimentos;
+    private final long resolucaoMillis;
+    private long ultimoTick;
+
+    private ScheduledExecutorService agendador;
+
+    /**
+     * Construtor com configuração padrão (sessões de 30 minutos, ticks de 1 segundo)
+     * @param gerenciadorUsuario Gerenciador usado para validar credenciais
+     */
+    public GerenciadorSessao(GerenciadorUsuario gerenciadorUsuario) {
+        this(gerenciadorUsuario, 30 * 60 * 1000L, 1000L, 2048, true, System::currentTimeMillis);
+    }
+
+    /**
+     * Construtor completo
+     * @param gerenciadorUsuario Gerenciador usado para validar credenciais
+     * @param duracaoMillis Duração de uma sessão sem atividade
+     * @param resolucaoMillis Duração de cada tick da roda de tempo
+     * @param numeroCompartimentos Número de compartimentos da roda (potência de 2)
+     * @param renovarNoAcesso true para renovar a expiração a cada acesso
+     * @param relogio Fonte de tempo em milissegundos (substituível em testes)
+     */
+    public GerenciadorSessao(GerenciadorUsuario gerenciadorUsuario, long duracaoMillis, long resolucaoMillis,
+                             int numeroCompartimentos, boolean renovarNoAcesso, LongSupplier relogio) {
+        if (Integer.bitCount(numeroCompartimentos) != 1) {
+            throw new IllegalArgumentException("Número de compartimentos deve ser potência de 2");
+        }
+        if (duracaoMillis < 1 || resolucaoMillis < 1) {
+            throw new IllegalArgumentException("Duração e resolução devem ser positivas");
+        }
+        this.gerenciadorUsuario = gerenciadorUsuario;
+        this.sessoes = new ConcurrentHashMap<>();
+        this.sessoesPorLogin = new ConcurrentHashMap<>();
+        this.random = new SecureRandom();
+        this.relogio = relogio;
+        this.duracaoMillis = duracaoMillis;
+        this.renovarNoAcesso = renovarNoAcesso;
+        this.resolucaoMillis = resolucaoMillis;
+        this.mascaraCompartimentos = numeroCompartimentos - 1;
+        this.compartimentos = new AtomicReferenceArray<>(numeroCompartimentos);
+        for (int i = 0; i < numeroCompartimentos; i++) {
+            compartimentos.set(i, new ConcurrentLinkedQueue<>());
+        }
+        this.ultimoTick = relogio.getAsLong() / resolucaoMillis;
+        // Usuário removido ou com papel alterado perde as sessões abertas
+        gerenciadorUsuario.conectarSessoes(this);
+    }
+
+    /**
+     * Autentica as credenciais e abre uma nova sessão
+     * @param login Login do usuário
+     * @param senha Senha do usuário
+     * @return Token da sessão ou null se as credenciais forem inválidas
+     */
+    public String login(String login, String senha) {
+        Usuario usuario = gerenciadorUsuario.autenticar(login, senha);
+        if (usuario == null) {
+            return null;
+        }
+        return criarSessao(usuario).getToken();
+    }
+
+    /**
+     * Cria uma sessão para um usuário já autenticado
+     * @param usuario Usuário autenticado
+     * @return Sessão criada
+     */
+    public Sessao criarSessao(Usuario usuario) {
+        long agora = relogio.getAsLong();
+        Sessao sessao = new Sessao(gerarToken(), usuario, agora, agora + duracaoMillis);
+        // Indexada antes de entrar na tabela: quem encerra as sessões do usuário a encontra
+        indexar(sessao);
+        while (sessoes.putIfAbsent(sessao.getToken(), sessao) != null) {
+            esquecer(sessao);
+            sessao = new Sessao(gerarToken(), usuario, agora, agora + duracaoMillis);
+            indexar(sessao);
+        }
+        agendar(sessao);
+        return sessao;
+    }
+
+    /**
+     * Obtém a sessão ativa de um token (renovando-a se configurado)
+     * @param token Token da sessão
+     * @return Sessão ativa ou null se inexistente/expirada
+     */
+    public Sessao obterSessao(String token) {
+        if (token == null) {
+            return null;
+        }
+        Sessao sessao = sessoes.get(token);
+        if (sessao == null) {
+            return null;
+        }
+        long agora = relogio.getAsLong();
+        if (sessao.expirou(agora)) {
+            remover(sessao);
+            return null;
+        }
+        if (renovarNoAcesso) {
+            sessao.renovar(agora + duracaoMillis); // Reagendada de forma preguiçosa pela roda
+        }
+        return sessao;
+    }
+
+    /**
+     * Obtém o usuário associado a um token
+     * @param token Token da sessão
+     * @return Usuário da sessão ou null se inválida
+     */
+    public Usuario obterUsuario(String token) {
+        Sessao sessao = obterSessao(token);
+        return sessao != null ? sessao.getUsuario() : null;
+    }
+
+    /**
+     * Verifica se o token pertence a uma sessão ativa com a permissão exigida
+     * @param token Token da sessão
+     * @param permissao Bit(s) de permissão exigidos (ver {@link Permissao})
+     * @return true se autorizado
+     */
+    public boolean autorizar(String token, int permissao) {
+        Sessao sessao = obterSessao(token);
+        return sessao != null && sessao.temPermissao(permissao);
+    }
+
+    /**
+     * Encerra uma sessão (logout)
+     * @param token Token da sessão
+     * @return true se a sessão existia
+     */
+    public boolean encerrar(String token) {
+        if (token == null) {
+            return false;
+        }
+        Sessao sessao = sessoes.remove(token);
+        if (sessao == null) {
+            return false;
+        }
+        esquecer(sessao);
+        return true;
+    }
+
+    /**
+     * Encerra todas as sessões de um usuário (remoção ou troca de perfil)
+     * @param login Login do usuário
+     * @return Número de sessões encerradas
+     */
+    public int encerrarSessoesDoUsuario(String login) {
+        Set<Sessao> doUsuario = sessoesPorLogin.remove(login);
+        if (doUsuario == null) {
+            return 0;
+        }
+        int removidas = 0;
+        for (Sessao sessao : doUsuario) {
+            if (sessoes.remove(sessao.getToken(), sessao)) {
+                removidas++;
+            }
+        }
+        return removidas;
+    }
+
+    /**
+     * Avança a roda de tempo até o instante atual, removendo sessões expiradas
+     * Chamado periodicamente pela thread de expiração (ou manualmente em testes)
+     * @return Número de sessões removidas
+     */
+    public synchronized int expirarSessoes() {
+        long agora = relogio.getAsLong();
+        long tickAtual = agora / resolucaoMillis;
+        if (tickAtual <= ultimoTick) {
+            return 0;
+        }
+
+        // Se o atraso for maior que uma volta, basta visitar cada compartimento uma vez
+        long passos = Math.min(tickAtual - ultimoTick, mascaraCompartimentos + 1L);
+        int removidas = 0;
+        for (long t = tickAtual - passos + 1; t <= tickAtual; t++) {
+            int indice = (int) (t & mascaraCompartimentos);
+            Queue<Sessao> fila = compartimentos.get(indice);
+            synchronized (fila) {
+                compartimentos.set(indice, new ConcurrentLinkedQueue<>());
+            }
+            Sessao sessao;
+            while ((sessao = fila.poll()) != null) {
+                if (sessoes.get(sessao.getToken()) != sessao) {
+                    continue; // Já encerrada por logout
+                }
+                if (sessao.expirou(agora)) {
+                    if (remover(sessao)) {
+                        removidas++;
+                    }
+                } else {
+                    agendar(sessao); // Renovada ou ainda em voltas futuras
+                }
+            }
+        }
+        ultimoTick = tickAtual;
+        return removidas;
+    }
+
+    /**
+     * Inicia a thread de expiração automática (daemon)
+     */
+    public synchronized void iniciar() {
+        if (agendador != null) {
+            return;
+        }
+        agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "automax-expiracao-sessoes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleAtFixedRate(this::expirarSessoes, resolucaoMillis, resolucaoMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Para a thread de expiração automática
+     */
+    public synchronized void parar() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+            agendador = null;
+        }
+    }
+
+    /**
+     * Obtém o número de sessões ativas (inclui expiradas ainda não recolhidas)
+     * @return Número de sessões na tabela
+     */
+    public int getTotalSessoes() {
+        return sessoes.size();
+    }
+
+    /**
+     * Retira a sessão da tabela e do índice por login
+     * @return true se a sessão ainda estava na tabela
+     */
+    private boolean remover(Sessao sessao) {
+        if (!sessoes.remove(sessao.getToken(), sessao)) {
+            return false;
+        }
+        esquecer(sessao);
+        return true;
+    }
+
+    /**
+     * Inclui a sessão no índice por login
+     */
+    private void indexar(Sessao sessao) {
+        sessoesPorLogin.compute(sessao.getUsuario().getLogin(), (login, doUsuario) -> {
+            if (doUsuario == null) {
+                doUsuario = ConcurrentHashMap.newKeySet();
+            }
+            doUsuario.add(sessao);
+            return doUsuario;
+        });
+    }
+
+    /**
+     * Tira a sessão do índice por login, descartando o conjunto que ficar vazio
+     */
+    private void esquecer(Sessao sessao) {
+        sessoesPorLogin.computeIfPresent(sessao.getUsuario().getLogin(), (login, doUsuario) -> {
+            doUsuario.remove(sessao);
+            return doUsuario.isEmpty() ? null : doUsuario;
+        });
+    }
+
+    /**
+     * Coloca a sessão no compartimento correspondente à sua expiração
+     */
+    private void agendar(Sessao sessao) {
+        long tick = (sessao.getExpiraEm() + resolucaoMillis - 1) / resolucaoMillis;
+        int indice = (int) (tick & mascaraCompartimentos);
+        while (true) {
+            Queue<Sessao> fila = compartimentos.get(indice);
+            synchronized (fila) {
+                // Garante que a fila não foi trocada pela thread de expiração
+                if (compartimentos.get(indice) == fila) {
+                    fila.add(sessao);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gera um token aleatório opaco (base64 url-safe)
+     */
+    private String gerarToken() {
+        byte[] bytes = new byte[TAMANHO_TOKEN];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,136 @@
+package seguranca;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Classe utilitária para geração e verificação de hashes de senha
+ * Utiliza PBKDF2 com salt aleatório e número de iterações configurável
+ *
+ * Formato armazenado: pbkdf2$iteracoes$salt(base64)$hash(base64)
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class HashSenha {
+    private static final String ALGORITMO = "PBKDF2WithHmacSHA256";
+    private static final String PREFIXO = "pbkdf2";
+    private static final int TAMANHO_SALT = 16;
+    private static final int TAMANHO_HASH = 32; // bytes
+
+    // Iterações padrão (pode ser ajustado pela propriedade automax.pbkdf2.iteracoes)
+    private static volatile int iteracoes = Integer.getInteger("automax.pbkdf2.iteracoes", 120_000);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private HashSenha() {
+        // Classe utilitária, não deve ser instanciada
+    }
+
+    /**
+     * Gera o hash de uma senha em texto puro com salt aleatório
+     * @param senha Senha em texto puro
+     * @return Hash no formato pbkdf2$iteracoes$salt$hash
+     */
+    public static String gerarHash(String senha) {
+        if (senha == null) {
+            throw new IllegalArgumentException("Senha não pode ser nula");
+        }
+        byte[] salt = new byte[TAMANHO_SALT];
+        RANDOM.nextBytes(salt);
+        int n = iteracoes;
+        byte[] hash = derivar(senha.toCharArray(), salt, n);
+
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIXO + "$" + n + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    /**
+     * Verifica se a senha informada corresponde ao hash armazenado
+     * A comparação final é feita em tempo constante
+     * @param senhaInformada Senha em texto puro informada pelo usuário
+     * @param hashArmazenado Hash armazenado no formato pbkdf2$...
+     * @return true se a senha confere, false caso contrário
+     */
+    public static boolean verificar(String senhaInformada, String hashArmazenado) {
+        if (senhaInformada == null || !ehHash(hashArmazenado)) {
+            return false;
+        }
+        try {
+            String[] partes = hashArmazenado.split("\\$");
+            int n = Integer.parseInt(partes[1]);
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] salt = decoder.decode(partes[2]);
+            byte[] esperado = decoder.decode(partes[3]);
+            byte[] calculado = derivar(senhaInformada.toCharArray(), salt, n);
+            return MessageDigest.isEqual(esperado, calculado);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Verifica se um valor já está no formato de hash suportado
+     * @param valor Valor a ser verificado
+     * @return true se é um hash pbkdf2 válido
+     */
+    public static boolean ehHash(String valor) {
+        return valor != null && valor.startsWith(PREFIXO + "$") && valor.split("\\$").length == 4;
+    }
+
+    /**
+     * Calcula um resumo SHA-256 rápido da senha informada
+     * Usado apenas como chave de cache (nunca é armazenado como credencial)
+     * @param login Login do usuário (usado como separador de domínio)
+     * @param senha Senha informada
+     * @return Resumo em bytes
+     */
+    public static byte[] resumoRapido(String login, String senha) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(login.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(senha.getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Define o número de iterações usado em novos hashes
+     * Hashes antigos continuam válidos pois guardam suas próprias iterações
+     * @param novasIteracoes Número de iterações (mínimo 1)
+     */
+    public static void setIteracoes(int novasIteracoes) {
+        if (novasIteracoes < 1) {
+            throw new IllegalArgumentException("Número de iterações inválido: " + novasIteracoes);
+        }
+        iteracoes = novasIteracoes;
+    }
+
+    public static int getIteracoes() {
+        return iteracoes;
+    }
+
+    /**
+     * Método auxiliar que executa a derivação PBKDF2
+     */
+    private static byte[] derivar(char[] senha, byte[] salt, int n) {
+        PBEKeySpec spec = new PBEKeySpec(senha, salt, n, TAMANHO_HASH * 8);
+        try {
+            SecretKeyFactory fabrica = SecretKeyFactory.getInstance(ALGORITMO);
+            return fabrica.generateSecret(spec).getEncoded();
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalStateException("Falha ao derivar hash de senha", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
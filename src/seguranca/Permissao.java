@@ -0,0 +1,44 @@
+package seguranca;
+
+import modelo.Usuario;
+
+/**
+ * Constantes de permissão representadas como bits de uma máscara inteira
+ * Permite verificar uma permissão com um único teste de bit
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class Permissao {
+    public static final int GERENCIAR_USUARIOS = 1;
+    public static final int CRIAR_PROJETOS = 1 << 1;
+    public static final int GERENCIAR_EQUIPES = 1 << 2;
+    public static final int ACESSAR_RELATORIOS_ADMIN = 1 << 3;
+
+    public static final int NENHUMA = 0;
+    public static final int TODAS = GERENCIAR_USUARIOS | CRIAR_PROJETOS
+                                  | GERENCIAR_EQUIPES | ACESSAR_RELATORIOS_ADMIN;
+
+    private Permissao() {
+        // Classe utilitária, não deve ser instanciada
+    }
+
+    /**
+     * Obtém a máscara de permissões de um usuário
+     * @param usuario Usuário a ser avaliado
+     * @return Máscara de bits com as permissões do usuário
+     */
+    public static int calcular(Usuario usuario) {
+        return usuario != null ? usuario.getPermissoes() : NENHUMA;
+    }
+
+    /**
+     * Verifica se uma máscara contém todas as permissões solicitadas
+     * @param mascara Máscara de permissões do usuário
+     * @param permissao Permissão (ou combinação de permissões) exigida
+     * @return true se todas as permissões estão presentes
+     */
+    public static boolean possui(int mascara, int permissao) {
+        return (mascara & permissao) == permissao;
+    }
+}
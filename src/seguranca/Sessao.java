@@ -0,0 +1,83 @@
+package seguranca;
+
+import modelo.Usuario;
+
+/**
+ * Representa uma sessão autenticada identificada por um token opaco
+ * As permissões são lidas da máscara de bits atual do usuário, de modo que
+ * troca de papel ou revogação de permissão valem já na próxima requisição
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class Sessao {
+    private final String token;
+    private final Usuario usuario;
+    private final long criadaEm;
+    private volatile long expiraEm;
+
+    /**
+     * Construtor da sessão
+     * @param token Token opaco que identifica a sessão
+     * @param usuario Usuário autenticado
+     * @param criadaEm Instante de criação (ms)
+     * @param expiraEm Instante de expiração (ms)
+     */
+    Sessao(String token, Usuario usuario, long criadaEm, long expiraEm) {
+        this.token = token;
+        this.usuario = usuario;
+        this.criadaEm = criadaEm;
+        this.expiraEm = expiraEm;
+    }
+
+    /**
+     * Verifica se a sessão possui a permissão informada
+     * @param permissao Bit(s) de permissão exigidos
+     * @return true se todas as permissões estão presentes
+     */
+    public boolean temPermissao(int permissao) {
+        return Permissao.possui(Permissao.calcular(usuario), permissao);
+    }
+
+    /**
+     * Verifica se a sessão já expirou
+     * @param agora Instante atual (ms)
+     * @return true se expirada
+     */
+    public boolean expirou(long agora) {
+        return agora >= expiraEm;
+    }
+
+    void renovar(long novaExpiracao) {
+        this.expiraEm = novaExpiracao;
+    }
+
+    // Getters (encapsulamento)
+    public String getToken() {
+        return token;
+    }
+
+    public Usuario getUsuario() {
+        return usuario;
+    }
+
+    public int getPermissoes() {
+        return Permissao.calcular(usuario);
+    }
+
+    public long getCriadaEm() {
+        return criadaEm;
+    }
+
+    public long getExpiraEm() {
+        return expiraEm;
+    }
+
+    /**
+     * Método sobrescrito toString (não expõe o token completo)
+     */
+    @Override
+    public String toString() {
+        return "Sessao de " + usuario.getLogin() + " (" + token.substring(0, Math.min(6, token.length())) + "...)";
+    }
+}
@@ -0,0 +1,279 @@
+package servico;
+
+import modelo.Gerente;
+import modelo.Projeto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Armazenamento colunar dos projetos de um GerenciadorProjeto
+ *
+ * Guarda, em vetores paralelos e na mesma ordem da lista do gerenciador,
+ * os campos usados pelas consultas analíticas: ID, status (código de um
+ * byte), prazo (aaaammdd) e gerente (código inteiro). As consultas
+ * percorrem vetores de primitivos contíguos em vez de seguir uma
+ * referência por projeto e comparar Strings.
+ *
+ * Os vetores são atualizados pelo gerenciador na inclusão, na remoção e
+ * quando um projeto avisa que mudou (ver modelo.ObservadorProjeto). Uma
+ * linha removida vira lápide (status {@code STATUS_REMOVIDO}, ignorado pelas
+ * consultas) e as lápides são descartadas em lote quando chegam à metade.
+ * Valores fora do padrão (status fora da lista oficial, prazo em outro
+ * formato) ficam marcados e são consultados no objeto, para que o resultado
+ * seja sempre igual ao da varredura da lista.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+final class ColunasProjeto {
+    private static final List<String> STATUS = Projeto.listarStatusValidos();
+    // Código dos status fora da lista oficial (ou null)
+    private static final byte STATUS_OUTRO = (byte) STATUS.size();
+    // Código das linhas removidas ainda não compactadas
+    private static final byte STATUS_REMOVIDO = (byte) (STATUS.size() + 1);
+    private static final int SEM_PRAZO = -1;
+    private static final int SEM_GERENTE = -1;
+    private static final byte CODIGO_CONCLUIDO = (byte) STATUS.indexOf("Concluído");
+    private static final byte CODIGO_CANCELADO = (byte) STATUS.indexOf("Cancelado");
+
+    private int tamanho;
+    private int lapides;
+    private Projeto[] projetos;
+    private int[] ids;
+    private byte[] status;
+    private int[] prazos;
+    private int[] gerentes;
+    // Linha de cada projeto, indexada pelo ID (IDs são sequenciais)
+    private int[] linhaPorId = new int[0];
+    private final HashMap<Gerente, Integer> codigosGerente = new HashMap<>();
+    private final ArrayList<Gerente> gerentesPorCodigo = new ArrayList<>();
+
+    /**
+     * Constrói as colunas a partir dos projetos já cadastrados
+     * @param iniciais Projetos na ordem do gerenciador (posições null são ignoradas)
+     */
+    ColunasProjeto(List<Projeto> iniciais) {
+        int capacidade = Math.max(16, iniciais.size());
+        projetos = new Projeto[capacidade];
+        ids = new int[capacidade];
+        status = new byte[capacidade];
+        prazos = new int[capacidade];
+        gerentes = new int[capacidade];
+        for (Projeto projeto : iniciais) {
+            if (projeto != null) {
+                adicionar(projeto);
+            }
+        }
+    }
+
+    /**
+     * Acrescenta um projeto no fim (mesma posição que na lista do gerenciador)
+     */
+    void adicionar(Projeto projeto) {
+        if (tamanho == projetos.length) {
+            int capacidade = tamanho + (tamanho >> 1);
+            projetos = Arrays.copyOf(projetos, capacidade);
+            ids = Arrays.copyOf(ids, capacidade);
+            status = Arrays.copyOf(status, capacidade);
+            prazos = Arrays.copyOf(prazos, capacidade);
+            gerentes = Arrays.copyOf(gerentes, capacidade);
+        }
+        int id = projeto.getId();
+        if (id >= linhaPorId.length) {
+            int anterior = linhaPorId.length;
+            linhaPorId = Arrays.copyOf(linhaPorId, Math.max(id + 1, anterior + (anterior >> 1)));
+            Arrays.fill(linhaPorId, anterior, linhaPorId.length, -1);
+        }
+        int linha = tamanho++;
+        projetos[linha] = projeto;
+        ids[linha] = id;
+        linhaPorId[id] = linha;
+        escrever(linha, projeto);
+    }
+
+    /**
+     * Remove um projeto: a linha vira lápide, mantendo a ordem das demais
+     */
+    void remover(Projeto projeto) {
+        int linha = linha(projeto);
+        if (linha < 0) {
+            return;
+        }
+        projetos[linha] = null;
+        status[linha] = STATUS_REMOVIDO;
+        gerentes[linha] = SEM_GERENTE;
+        linhaPorId[projeto.getId()] = -1;
+        lapides++;
+        if (lapides * 2 > tamanho) {
+            compactar();
+        }
+    }
+
+    /**
+     * Descarta as lápides, preservando a ordem das linhas
+     */
+    private void compactar() {
+        int vivas = 0;
+        for (int i = 0; i < tamanho; i++) {
+            if (projetos[i] == null) {
+                continue;
+            }
+            projetos[vivas] = projetos[i];
+            ids[vivas] = ids[i];
+            status[vivas] = status[i];
+            prazos[vivas] = prazos[i];
+            gerentes[vivas] = gerentes[i];
+            linhaPorId[ids[vivas]] = vivas;
+            vivas++;
+        }
+        Arrays.fill(projetos, vivas, tamanho, null);
+        tamanho = vivas;
+        lapides = 0;
+    }
+
+    /**
+     * Atualiza a linha de um projeto alterado
+     */
+    void atualizar(Projeto projeto) {
+        int linha = linha(projeto);
+        if (linha >= 0) {
+            escrever(linha, projeto);
+        }
+    }
+
+    /**
+     * Projetos cujo status é igual ao informado (sem diferenciar maiúsculas)
+     */
+    ArrayList<Projeto> listarPorStatus(String statusProcurado) {
+        String padronizado = Projeto.normalizarStatus(statusProcurado);
+        byte codigo = padronizado != null ? (byte) STATUS.indexOf(padronizado) : -1;
+        ArrayList<Projeto> encontrados = new ArrayList<>();
+        for (int i = 0; i < tamanho; i++) {
+            byte atual = status[i];
+            if (atual == codigo || (atual == STATUS_OUTRO && projetos[i].getStatus() != null
+                                    && projetos[i].getStatus().equalsIgnoreCase(statusProcurado))) {
+                encontrados.add(projetos[i]);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Quantidade de projetos por código de status (depois dos oficiais vêm
+     * "outros" e as lápides)
+     */
+    int[] contarPorStatus() {
+        int[] contagem = new int[STATUS.size() + 2];
+        for (int i = 0; i < tamanho; i++) {
+            contagem[status[i]]++;
+        }
+        return contagem;
+    }
+
+    /**
+     * Progresso médio, somando o progresso de cada status pela contagem
+     */
+    double calcularProgressoMedio() {
+        int vivos = tamanho - lapides;
+        if (vivos == 0) {
+            return 0.0;
+        }
+        int[] contagem = contarPorStatus();
+        long soma = 0;
+        for (int codigo = 0; codigo < STATUS.size(); codigo++) {
+            soma += (long) contagem[codigo] * Projeto.progressoDoStatus(STATUS.get(codigo));
+        }
+        if (contagem[STATUS_OUTRO] > 0) {
+            for (int i = 0; i < tamanho; i++) {
+                if (status[i] == STATUS_OUTRO) {
+                    soma += projetos[i].calcularProgresso();
+                }
+            }
+        }
+        return (double) soma / vivos;
+    }
+
+    /**
+     * Projetos em aberto com prazo anterior à data (mesma regra de Projeto.estaEmAtraso)
+     */
+    ArrayList<Projeto> listarEmAtraso(String dataAtual) {
+        ArrayList<Projeto> atrasados = new ArrayList<>();
+        int atual = Projeto.compactarData(dataAtual);
+        if (atual < 0) {
+            // Data em outro formato: a comparação é a do próprio projeto
+            for (int i = 0; i < tamanho; i++) {
+                if (projetos[i] != null && projetos[i].estaEmAtraso(dataAtual)) {
+                    atrasados.add(projetos[i]);
+                }
+            }
+            return atrasados;
+        }
+        for (int i = 0; i < tamanho; i++) {
+            byte codigo = status[i];
+            if (codigo == CODIGO_CONCLUIDO || codigo == CODIGO_CANCELADO || codigo == STATUS_REMOVIDO) {
+                continue;
+            }
+            int prazo = prazos[i];
+            if (prazo == SEM_PRAZO ? projetos[i].estaEmAtraso(dataAtual) : atual > prazo) {
+                atrasados.add(projetos[i]);
+            }
+        }
+        return atrasados;
+    }
+
+    /**
+     * Quantidade de projetos por gerente, na ordem da primeira ocorrência
+     */
+    LinkedHashMap<Gerente, Integer> contarPorGerente() {
+        int[] contagem = new int[gerentesPorCodigo.size()];
+        int[] ordem = new int[gerentesPorCodigo.size()];
+        int distintos = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int gerente = gerentes[i];
+            if (gerente != SEM_GERENTE && contagem[gerente]++ == 0) {
+                ordem[distintos++] = gerente;
+            }
+        }
+        LinkedHashMap<Gerente, Integer> resultado = new LinkedHashMap<>();
+        for (int i = 0; i < distintos; i++) {
+            resultado.put(gerentesPorCodigo.get(ordem[i]), contagem[ordem[i]]);
+        }
+        return resultado;
+    }
+
+    int tamanho() {
+        return tamanho - lapides;
+    }
+
+    private int linha(Projeto projeto) {
+        int id = projeto.getId();
+        if (id < 0 || id >= linhaPorId.length) {
+            return -1;
+        }
+        int linha = linhaPorId[id];
+        return linha >= 0 && projetos[linha] == projeto ? linha : -1;
+    }
+
+    private void escrever(int linha, Projeto projeto) {
+        int codigo = projeto.getStatus() != null ? STATUS.indexOf(projeto.getStatus()) : -1;
+        status[linha] = codigo >= 0 ? (byte) codigo : STATUS_OUTRO;
+        prazos[linha] = projeto.getDataFimPrevistaCompactada() >= 0 ? projeto.getDataFimPrevistaCompactada() : SEM_PRAZO;
+        gerentes[linha] = codigoGerente(projeto.getGerenteResponsavel());
+    }
+
+    private int codigoGerente(Gerente gerente) {
+        if (gerente == null) {
+            return SEM_GERENTE;
+        }
+        Integer codigo = codigosGerente.get(gerente);
+        if (codigo == null) {
+            codigo = gerentesPorCodigo.size();
+            codigosGerente.put(gerente, codigo);
+            gerentesPorCodigo.add(gerente);
+        }
+        return codigo;
+    }
+}
@@ -0,0 +1,402 @@
+package servico;
+
+import eventos.Assinatura;
+import eventos.BarramentoEventos;
+import eventos.EventoDominio;
+import eventos.TipoEvento;
+import modelo.Colaborador;
+import modelo.Papel;
+import modelo.Usuario;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Distribuidor de tarefas entre colaboradores pela especialidade e pela carga
+ *
+ * Cada especialidade tem uma fila de prioridade (heap binário indexado) dos
+ * seus colaboradores, ordenada pelo número de tarefas pendentes e, no empate,
+ * por quem recebeu tarefa há mais tempo. Colaboradores "Geral" ficam em uma
+ * fila própria e podem receber qualquer tipo de tarefa, como em
+ * {@link Colaborador#podeExecutarTarefa(String)}. Atribuir uma tarefa olha o
+ * topo de duas filas e reposiciona o escolhido: O(log n).
+ *
+ * A carga vem do contador de pendentes do colaborador
+ * ({@link Colaborador#getTarefasPendentes()}). Conectado ao barramento de
+ * eventos, o distribuidor reposiciona quem concluiu ou perdeu tarefas e
+ * acompanha cadastros, remoções e mudanças de papel. Mudanças de
+ * especialidade não geram evento: chame {@link #atualizar(Colaborador)}.
+ *
+ * A escolha é feita com a trava do distribuidor, reservando a carga do
+ * escolhido; a tarefa é entregue ao colaborador depois de soltá-la, pois
+ * {@link Colaborador#adicionarTarefa(String, boolean)} publica no barramento
+ * e, com o buffer cheio, esperaria a thread que aplica os eventos, que
+ * precisa da mesma trava.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class DistribuidorTarefas {
+    private static final String GERAL = "Geral";
+
+    // Fila por especialidade (em minúsculas); a dos "Geral" fica à parte
+    private final HashMap<String, FilaCarga> filas = new HashMap<>();
+    private final FilaCarga gerais = new FilaCarga();
+    private final HashMap<Colaborador, Entrada> entradas = new HashMap<>();
+    // Ordem das atribuições, para desempatar a favor de quem espera há mais tempo
+    private long atribuicoes;
+    private Assinatura assinatura;
+
+    /**
+     * Carrega os colaboradores cadastrados e passa a acompanhar as alterações
+     * @param barramento Barramento em que usuários e colaboradores publicam
+     * @param gerenciadorUsuario Gerenciador com os colaboradores já cadastrados
+     */
+    public synchronized void conectar(BarramentoEventos barramento, GerenciadorUsuario gerenciadorUsuario) {
+        desconectar();
+        // Assina antes de carregar para não perder eventos. Quem publica não espera a carga: os
+        // eventos chegados nesse meio-tempo são aplicados depois dela, e reaplicá-los é inofensivo
+        // porque cadastrar relê o colaborador
+        assinatura = barramento.assinar("distribuidor-tarefas",
+                EnumSet.of(TipoEvento.TAREFA_ADICIONADA, TipoEvento.TAREFA_CONCLUIDA, TipoEvento.TAREFA_REMOVIDA,
+                           TipoEvento.USUARIO_ADICIONADO, TipoEvento.USUARIO_REMOVIDO, TipoEvento.PAPEL_ALTERADO),
+                256, this::aplicar);
+        for (Usuario usuario : gerenciadorUsuario.listarPorPapel(Papel.COLABORADOR)) {
+            if (usuario instanceof Colaborador) {
+                cadastrar((Colaborador) usuario);
+            }
+        }
+    }
+
+    /**
+     * Deixa de acompanhar as alterações do barramento
+     */
+    public synchronized void desconectar() {
+        if (assinatura != null) {
+            assinatura.cancelar();
+            assinatura = null;
+        }
+    }
+
+    /**
+     * Inclui um colaborador na distribuição (ou atualiza sua posição)
+     * @param colaborador Colaborador a incluir
+     */
+    public synchronized void cadastrar(Colaborador colaborador) {
+        if (entradas.containsKey(colaborador)) {
+            atualizar(colaborador);
+            return;
+        }
+        Entrada entrada = new Entrada(colaborador);
+        entrada.carga = colaborador.getTarefasPendentes();
+        entradas.put(colaborador, entrada);
+        filaDaEspecialidade(colaborador.getEspecialidade(), true).inserir(entrada);
+    }
+
+    /**
+     * Retira um colaborador da distribuição
+     * @param colaborador Colaborador a retirar
+     * @return true se estava na distribuição
+     */
+    public synchronized boolean remover(Colaborador colaborador) {
+        Entrada entrada = entradas.remove(colaborador);
+        if (entrada == null) {
+            return false;
+        }
+        entrada.fila.remover(entrada);
+        return true;
+    }
+
+    /**
+     * Relê a carga e a especialidade de um colaborador e o reposiciona
+     * @param colaborador Colaborador alterado
+     */
+    public synchronized void atualizar(Colaborador colaborador) {
+        Entrada entrada = entradas.get(colaborador);
+        if (entrada == null) {
+            return;
+        }
+        FilaCarga fila = filaDaEspecialidade(colaborador.getEspecialidade(), true);
+        if (fila != entrada.fila) {
+            entrada.fila.remover(entrada);
+            entrada.carga = colaborador.getTarefasPendentes();
+            fila.inserir(entrada);
+        } else {
+            fila.alterarCarga(entrada, colaborador.getTarefasPendentes());
+        }
+    }
+
+    /**
+     * Colaborador que receberia a próxima tarefa de um tipo (sem atribuir)
+     * @param tipoTarefa Tipo da tarefa (especialidade exigida)
+     * @return Colaborador apto menos carregado, ou null se não houver
+     */
+    public synchronized Colaborador escolher(String tipoTarefa) {
+        Entrada entrada = escolherEntrada(tipoTarefa);
+        return entrada != null ? entrada.colaborador : null;
+    }
+
+    /**
+     * Atribui uma tarefa ao colaborador apto menos carregado
+     * @param tipoTarefa Tipo da tarefa (especialidade exigida)
+     * @param tarefa Descrição da tarefa
+     * @return Colaborador que recebeu a tarefa, ou null se nenhum estiver apto
+     */
+    public Colaborador atribuir(String tipoTarefa, String tarefa) {
+        if (!tarefaValida(tarefa)) {
+            System.out.println("Tarefa inválida!");
+            return null;
+        }
+        Colaborador colaborador = reservar(tipoTarefa);
+        if (colaborador == null) {
+            System.out.println("Nenhum colaborador apto para tarefas do tipo " + tipoTarefa + "!");
+            return null;
+        }
+        boolean adicionada = colaborador.adicionarTarefa(tarefa, true);
+        atualizar(colaborador); // Troca a carga reservada pela real
+        return adicionada ? colaborador : null;
+    }
+
+    /**
+     * Distribui um lote de tarefas do mesmo tipo, cada uma ao apto menos
+     * carregado naquele momento (o lote se espalha entre os colaboradores)
+     * @param tipoTarefa Tipo das tarefas (especialidade exigida)
+     * @param tarefas Descrições das tarefas
+     * @return Colaborador que recebeu cada tarefa, na ordem do lote (null para
+     *         tarefa inválida ou sem colaborador apto)
+     */
+    public Colaborador[] atribuirLote(String tipoTarefa, List<String> tarefas) {
+        Colaborador[] destinos = new Colaborador[tarefas.size()];
+        try {
+            Colaborador[] escolhidos = new Colaborador[destinos.length];
+            synchronized (this) {
+                for (int i = 0; i < escolhidos.length; i++) {
+                    if (tarefaValida(tarefas.get(i))) {
+                        escolhidos[i] = reservar(tipoTarefa);
+                    }
+                }
+            }
+            int recusadas = 0;
+            for (int i = 0; i < destinos.length; i++) {
+                if (escolhidos[i] != null && escolhidos[i].adicionarTarefa(tarefas.get(i), false)) {
+                    destinos[i] = escolhidos[i];
+                } else {
+                    recusadas++;
+                }
+            }
+            synchronized (this) {
+                for (Colaborador escolhido : escolhidos) {
+                    if (escolhido != null) {
+                        atualizar(escolhido);
+                    }
+                }
+            }
+            if (recusadas > 0) {
+                System.out.println(recusadas + " de " + destinos.length + " tarefa(s) do tipo " + tipoTarefa
+                                 + " não distribuída(s) (inválidas ou sem colaborador apto)");
+            }
+        } catch (Exception e) {
+            System.out.println("Erro ao distribuir tarefas: " + e.getMessage());
+        }
+        return destinos;
+    }
+
+    /**
+     * Colaboradores de uma especialidade, do menos ao mais carregado
+     * @param especialidade Especialidade desejada ("Geral" para os generalistas)
+     * @return Colaboradores com a especialidade
+     */
+    public synchronized ArrayList<Colaborador> listarPorCarga(String especialidade) {
+        FilaCarga fila = filaDaEspecialidade(especialidade, false);
+        ArrayList<Colaborador> resultado = new ArrayList<>();
+        if (fila == null) {
+            return resultado;
+        }
+        Entrada[] ordenadas = Arrays.copyOf(fila.heap, fila.tamanho);
+        Arrays.sort(ordenadas, DistribuidorTarefas::comparar);
+        for (Entrada entrada : ordenadas) {
+            resultado.add(entrada.colaborador);
+        }
+        return resultado;
+    }
+
+    /**
+     * @return Colaboradores na distribuição
+     */
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    private static boolean tarefaValida(String tarefa) {
+        return tarefa != null && !tarefa.trim().isEmpty();
+    }
+
+    /**
+     * Escolhe o apto menos carregado e já conta a tarefa que ele vai receber,
+     * para que as próximas escolhas o vejam com a carga nova
+     * @return Colaborador escolhido, ou null se nenhum estiver apto
+     */
+    private synchronized Colaborador reservar(String tipoTarefa) {
+        Entrada entrada = escolherEntrada(tipoTarefa);
+        if (entrada == null) {
+            return null;
+        }
+        entrada.ultimaAtribuicao = ++atribuicoes;
+        entrada.fila.alterarCarga(entrada, entrada.carga + 1);
+        return entrada.colaborador;
+    }
+
+    private Entrada escolherEntrada(String tipoTarefa) {
+        Entrada geral = gerais.topo();
+        if (tipoTarefa == null) {
+            return geral;
+        }
+        FilaCarga fila = filas.get(tipoTarefa.toLowerCase(Locale.ROOT));
+        Entrada especialista = fila != null ? fila.topo() : null;
+        if (especialista == null) {
+            return geral;
+        }
+        if (geral == null || comparar(especialista, geral) <= 0) {
+            return especialista;
+        }
+        return geral;
+    }
+
+    private FilaCarga filaDaEspecialidade(String especialidade, boolean criar) {
+        if (GERAL.equals(especialidade)) {
+            return gerais;
+        }
+        String chave = especialidade.toLowerCase(Locale.ROOT);
+        return criar ? filas.computeIfAbsent(chave, k -> new FilaCarga()) : filas.get(chave);
+    }
+
+    /**
+     * Aplica um lote de eventos (thread da assinatura)
+     */
+    private synchronized void aplicar(List<EventoDominio> lote) {
+        for (EventoDominio evento : lote) {
+            if (!(evento.getEntidade() instanceof Colaborador)) {
+                continue;
+            }
+            Colaborador colaborador = (Colaborador) evento.getEntidade();
+            switch (evento.getTipo()) {
+                case USUARIO_ADICIONADO:
+                case PAPEL_ALTERADO:
+                    if (colaborador.getPapel() == Papel.COLABORADOR) {
+                        cadastrar(colaborador);
+                    } else {
+                        remover(colaborador);
+                    }
+                    break;
+                case USUARIO_REMOVIDO:
+                    remover(colaborador);
+                    break;
+                default:
+                    atualizar(colaborador);
+                    break;
+            }
+        }
+    }
+
+    private static int comparar(Entrada a, Entrada b) {
+        if (a.carga != b.carga) {
+            return Integer.compare(a.carga, b.carga);
+        }
+        return Long.compare(a.ultimaAtribuicao, b.ultimaAtribuicao);
+    }
+
+    /**
+     * Posição de um colaborador em uma fila
+     */
+    private static final class Entrada {
+        final Colaborador colaborador;
+        int carga;
+        long ultimaAtribuicao;
+        FilaCarga fila;
+        int posicao;
+
+        Entrada(Colaborador colaborador) {
+            this.colaborador = colaborador;
+        }
+    }
+
+    /**
+     * Heap binário de mínimo indexado: cada entrada sabe sua posição, então
+     * alterar a carga ou remover custa O(log n)
+     */
+    private static final class FilaCarga {
+        Entrada[] heap = new Entrada[8];
+        int tamanho;
+
+        Entrada topo() {
+            return tamanho == 0 ? null : heap[0];
+        }
+
+        void inserir(Entrada entrada) {
+            if (tamanho == heap.length) {
+                heap = Arrays.copyOf(heap, tamanho * 2);
+            }
+            entrada.fila = this;
+            colocar(entrada, tamanho++);
+            subir(entrada.posicao);
+        }
+
+        void remover(Entrada entrada) {
+            int posicao = entrada.posicao;
+            Entrada ultima = heap[--tamanho];
+            heap[tamanho] = null;
+            entrada.fila = null;
+            if (ultima != entrada) {
+                colocar(ultima, posicao);
+                subir(posicao);
+                descer(ultima.posicao);
+            }
+        }
+
+        void alterarCarga(Entrada entrada, int carga) {
+            entrada.carga = carga;
+            subir(entrada.posicao);
+            descer(entrada.posicao);
+        }
+
+        private void subir(int posicao) {
+            Entrada entrada = heap[posicao];
+            while (posicao > 0) {
+                int pai = (posicao - 1) >>> 1;
+                if (comparar(entrada, heap[pai]) >= 0) {
+                    break;
+                }
+                colocar(heap[pai], posicao);
+                posicao = pai;
+            }
+            colocar(entrada, posicao);
+        }
+
+        private void descer(int posicao) {
+            Entrada entrada = heap[posicao];
+            while (true) {
+                int filho = 2 * posicao + 1;
+                if (filho >= tamanho) {
+                    break;
+                }
+                if (filho + 1 < tamanho && comparar(heap[filho + 1], heap[filho]) < 0) {
+                    filho++;
+                }
+                if (comparar(heap[filho], entrada) >= 0) {
+                    break;
+                }
+                colocar(heap[filho], posicao);
+                posicao = filho;
+            }
+            colocar(entrada, posicao);
+        }
+
+        private void colocar(Entrada entrada, int posicao) {
+            heap[posicao] = entrada;
+            entrada.posicao = posicao;
+        }
+    }
+}
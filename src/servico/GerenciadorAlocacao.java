@@ -0,0 +1,423 @@
+package servico;
+
+import eventos.Assinatura;
+import eventos.BarramentoEventos;
+import eventos.EventoDominio;
+import eventos.TipoEvento;
+import metricas.MetricaOperacao;
+import metricas.RegistroMetricas;
+import modelo.Equipe;
+import modelo.Projeto;
+import modelo.Usuario;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Classe de serviço para alocar equipes a projetos
+ *
+ * Mantém três índices, atualizados a cada alocação e a cada entrada ou
+ * saída de membro:
+ * - projeto → equipes alocadas;
+ * - equipe → projetos em que está alocada;
+ * - usuário → projetos de que participa por meio das suas equipes, com o
+ *   número de equipes que o ligam a cada projeto (o projeto só sai da lista
+ *   quando a última dessas equipes sai do projeto ou o usuário sai dela).
+ * Assim "todos os projetos em que o usuário X trabalha" custa O(k) no
+ * número de projetos devolvidos, sem cruzar gerenciadores.
+ *
+ * As alterações de membros chegam pelo barramento de eventos. Para cada
+ * equipe alocada o gerenciador guarda os membros como os eventos os
+ * informaram, então aplicar o mesmo evento duas vezes não conta em dobro.
+ * Equipes e projetos removidos ({@link TipoEvento#EQUIPE_REMOVIDA},
+ * {@link TipoEvento#PROJETO_REMOVIDO}) perdem suas alocações sem que nada
+ * seja publicado, já que a limpeza roda na thread da assinatura. Os métodos
+ * públicos alteram os índices sob o monitor e só publicam depois de soltá-lo.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class GerenciadorAlocacao {
+    private static final MetricaOperacao METRICA_ALOCAR_EQUIPE = RegistroMetricas.global().operacao("alocacao.alocarEquipe");
+    private static final MetricaOperacao METRICA_DESALOCAR_EQUIPE = RegistroMetricas.global().operacao("alocacao.desalocarEquipe");
+    private static final MetricaOperacao METRICA_LISTAR_PROJETOS_DO_USUARIO = RegistroMetricas.global().operacao("alocacao.listarProjetosDoUsuario");
+
+    private final HashMap<Projeto, LinkedHashSet<Equipe>> equipesPorProjeto = new HashMap<>();
+    private final HashMap<Equipe, LinkedHashSet<Projeto>> projetosPorEquipe = new HashMap<>();
+    // Membros das equipes alocadas, como já aplicados no índice por usuário
+    private final HashMap<Equipe, LinkedHashSet<Usuario>> membrosPorEquipe = new HashMap<>();
+    // Para cada usuário: projeto → quantas das suas equipes estão no projeto
+    private final HashMap<Usuario, LinkedHashMap<Projeto, Integer>> projetosPorUsuario = new HashMap<>();
+    private Assinatura assinatura;
+
+    /**
+     * Passa a acompanhar as alterações de membros, equipes e projetos
+     * @param barramento Barramento em que equipes e projetos publicam
+     */
+    public synchronized void conectar(BarramentoEventos barramento) {
+        desconectar();
+        assinatura = barramento.assinar("alocacao",
+                EnumSet.of(TipoEvento.MEMBRO_ADICIONADO, TipoEvento.MEMBRO_REMOVIDO,
+                           TipoEvento.EQUIPE_REMOVIDA, TipoEvento.PROJETO_REMOVIDO),
+                256, this::aplicar);
+    }
+
+    /**
+     * Deixa de acompanhar as alterações do barramento
+     */
+    public synchronized void desconectar() {
+        if (assinatura != null) {
+            assinatura.cancelar();
+            assinatura = null;
+        }
+    }
+
+    /**
+     * Aloca uma equipe a um projeto
+     * @param projeto Projeto
+     * @param equipe Equipe alocada
+     * @return true se alocada, false se já estava alocada ou os dados são inválidos
+     */
+    public boolean alocarEquipe(Projeto projeto, Equipe equipe) {
+        long inicio = METRICA_ALOCAR_EQUIPE.iniciar();
+        try {
+            if (projeto == null || equipe == null) {
+                System.out.println("Projeto ou equipe inválidos!");
+                return false;
+            }
+            boolean alocada;
+            synchronized (this) {
+                alocada = vincular(projeto, equipe);
+            }
+            if (!alocada) {
+                System.out.println("Equipe '" + equipe.getNome() + "' já está alocada ao projeto '"
+                                 + projeto.getNome() + "'!");
+                return false;
+            }
+            BarramentoEventos.global().publicar(TipoEvento.EQUIPE_ALOCADA, projeto, equipe, null, null);
+            System.out.println("Equipe '" + equipe.getNome() + "' alocada ao projeto '" + projeto.getNome() + "'!");
+            return true;
+        } catch (Exception e) {
+            System.out.println("Erro ao alocar equipe: " + e.getMessage());
+            return false;
+        } finally {
+            METRICA_ALOCAR_EQUIPE.registrar(inicio);
+        }
+    }
+
+    /**
+     * Retira uma equipe de um projeto
+     * @param projeto Projeto
+     * @param equipe Equipe a retirar
+     * @return true se estava alocada
+     */
+    public boolean desalocarEquipe(Projeto projeto, Equipe equipe) {
+        long inicio = METRICA_DESALOCAR_EQUIPE.iniciar();
+        try {
+            boolean retirada;
+            synchronized (this) {
+                retirada = desvincular(projeto, equipe);
+            }
+            if (!retirada) {
+                System.out.println("Equipe não está alocada a este projeto!");
+                return false;
+            }
+            anunciarDesalocacao(projeto, equipe);
+            return true;
+        } catch (Exception e) {
+            System.out.println("Erro ao retirar equipe: " + e.getMessage());
+            return false;
+        } finally {
+            METRICA_DESALOCAR_EQUIPE.registrar(inicio);
+        }
+    }
+
+    /**
+     * Lista as equipes alocadas a um projeto
+     * @param projeto Projeto
+     * @return Equipes, na ordem de alocação
+     */
+    public synchronized ArrayList<Equipe> listarEquipesDoProjeto(Projeto projeto) {
+        LinkedHashSet<Equipe> equipes = equipesPorProjeto.get(projeto);
+        return equipes == null ? new ArrayList<>() : new ArrayList<>(equipes);
+    }
+
+    /**
+     * Lista os projetos a que uma equipe está alocada
+     * @param equipe Equipe
+     * @return Projetos, na ordem de alocação
+     */
+    public synchronized ArrayList<Projeto> listarProjetosDaEquipe(Equipe equipe) {
+        LinkedHashSet<Projeto> projetos = projetosPorEquipe.get(equipe);
+        return projetos == null ? new ArrayList<>() : new ArrayList<>(projetos);
+    }
+
+    /**
+     * Lista os projetos em que um usuário trabalha por meio das suas equipes
+     * @param usuario Usuário
+     * @return Projetos (sem repetição), na ordem em que o usuário passou a participar
+     */
+    public synchronized ArrayList<Projeto> listarProjetosDoUsuario(Usuario usuario) {
+        long inicio = METRICA_LISTAR_PROJETOS_DO_USUARIO.iniciar();
+        try {
+            LinkedHashMap<Projeto, Integer> projetos = projetosPorUsuario.get(usuario);
+            return projetos == null ? new ArrayList<>() : new ArrayList<>(projetos.keySet());
+        } finally {
+            METRICA_LISTAR_PROJETOS_DO_USUARIO.registrar(inicio);
+        }
+    }
+
+    /**
+     * Verifica se um usuário participa de um projeto por alguma equipe
+     * @param usuario Usuário
+     * @param projeto Projeto
+     * @return true se alguma equipe do usuário está alocada ao projeto
+     */
+    public synchronized boolean participaDoProjeto(Usuario usuario, Projeto projeto) {
+        LinkedHashMap<Projeto, Integer> projetos = projetosPorUsuario.get(usuario);
+        return projetos != null && projetos.containsKey(projeto);
+    }
+
+    /**
+     * Lista as pessoas que trabalham em um projeto (membros das equipes alocadas)
+     * @param projeto Projeto
+     * @return Usuários sem repetição, equipe por equipe
+     */
+    public synchronized ArrayList<Usuario> listarMembrosDoProjeto(Projeto projeto) {
+        LinkedHashSet<Usuario> membros = new LinkedHashSet<>();
+        LinkedHashSet<Equipe> equipes = equipesPorProjeto.get(projeto);
+        if (equipes != null) {
+            for (Equipe equipe : equipes) {
+                membros.addAll(membrosPorEquipe.get(equipe));
+            }
+        }
+        return new ArrayList<>(membros);
+    }
+
+    /**
+     * Retira todas as equipes de um projeto (ex.: projeto removido)
+     * @param projeto Projeto
+     * @return Quantidade de equipes retiradas
+     */
+    public int removerProjeto(Projeto projeto) {
+        ArrayList<Equipe> retiradas;
+        synchronized (this) {
+            retiradas = desvincularProjeto(projeto);
+        }
+        for (Equipe equipe : retiradas) {
+            anunciarDesalocacao(projeto, equipe);
+        }
+        return retiradas.size();
+    }
+
+    /**
+     * Retira uma equipe de todos os seus projetos (ex.: equipe removida)
+     * @param equipe Equipe
+     * @return Quantidade de projetos de que a equipe saiu
+     */
+    public int removerEquipe(Equipe equipe) {
+        ArrayList<Projeto> retirados;
+        synchronized (this) {
+            retirados = desvincularEquipe(equipe);
+        }
+        for (Projeto projeto : retirados) {
+            anunciarDesalocacao(projeto, equipe);
+        }
+        return retirados.size();
+    }
+
+    /**
+     * @return Quantidade de alocações (pares projeto-equipe)
+     */
+    public synchronized int getTotalAlocacoes() {
+        int total = 0;
+        for (LinkedHashSet<Equipe> equipes : equipesPorProjeto.values()) {
+            total += equipes.size();
+        }
+        return total;
+    }
+
+    /**
+     * Exibe os projetos de um usuário e as equipes que o ligam a cada um
+     * @param usuario Usuário consultado
+     */
+    public synchronized void exibirProjetosDoUsuario(Usuario usuario) {
+        System.out.println("PROJETOS DE " + usuario.getNome());
+        ArrayList<Projeto> projetos = listarProjetosDoUsuario(usuario);
+        if (projetos.isEmpty()) {
+            System.out.println("Nenhum projeto (nenhuma equipe do usuário está alocada).");
+        }
+        for (Projeto projeto : projetos) {
+            ArrayList<String> equipes = new ArrayList<>();
+            for (Equipe equipe : equipesPorProjeto.get(projeto)) {
+                if (membrosPorEquipe.get(equipe).contains(usuario)) {
+                    equipes.add(equipe.getNome());
+                }
+            }
+            System.out.println("- " + projeto.getNome() + " [" + projeto.getStatus() + "] via "
+                             + String.join(", ", equipes));
+        }
+        System.out.println();
+    }
+
+    /**
+     * Aplica um lote de eventos (thread da assinatura)
+     */
+    private synchronized void aplicar(List<EventoDominio> lote) {
+        for (EventoDominio evento : lote) {
+            switch (evento.getTipo()) {
+                case MEMBRO_ADICIONADO:
+                    if (evento.getRelacionado() instanceof Usuario) {
+                        incluirMembro((Equipe) evento.getEntidade(), (Usuario) evento.getRelacionado());
+                    }
+                    break;
+                case MEMBRO_REMOVIDO:
+                    if (evento.getRelacionado() instanceof Usuario) {
+                        excluirMembro((Equipe) evento.getEntidade(), (Usuario) evento.getRelacionado());
+                    }
+                    break;
+                case EQUIPE_REMOVIDA:
+                    desvincularEquipe((Equipe) evento.getEntidade());
+                    break;
+                case PROJETO_REMOVIDO:
+                    desvincularProjeto((Projeto) evento.getEntidade());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Registra a alocação nos índices (chamado com o monitor ocupado)
+     * @return false se a equipe já estava no projeto
+     */
+    private boolean vincular(Projeto projeto, Equipe equipe) {
+        LinkedHashSet<Equipe> equipes = equipesPorProjeto.computeIfAbsent(projeto, p -> new LinkedHashSet<>());
+        if (!equipes.add(equipe)) {
+            return false;
+        }
+        LinkedHashSet<Projeto> projetos = projetosPorEquipe.computeIfAbsent(equipe, e -> new LinkedHashSet<>());
+        projetos.add(projeto);
+        LinkedHashSet<Usuario> membros = membrosPorEquipe.get(equipe);
+        if (membros == null) {
+            // Primeira alocação da equipe: os membros atuais entram com todos os projetos dela
+            membros = new LinkedHashSet<>();
+            membrosPorEquipe.put(equipe, membros);
+            for (Usuario membro : equipe.getMembros()) {
+                incluirMembro(equipe, membro);
+            }
+        } else {
+            for (Usuario membro : membros) {
+                contar(membro, projeto, 1);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Desfaz a alocação nos índices, sem publicar nem imprimir (chamado com
+     * o monitor ocupado; também serve à limpeza feita na thread da assinatura)
+     * @return false se a equipe não estava no projeto
+     */
+    private boolean desvincular(Projeto projeto, Equipe equipe) {
+        LinkedHashSet<Equipe> equipes = projeto != null ? equipesPorProjeto.get(projeto) : null;
+        if (equipes == null || !equipes.remove(equipe)) {
+            return false;
+        }
+        if (equipes.isEmpty()) {
+            equipesPorProjeto.remove(projeto);
+        }
+        LinkedHashSet<Projeto> projetos = projetosPorEquipe.get(equipe);
+        projetos.remove(projeto);
+        for (Usuario membro : membrosPorEquipe.get(equipe)) {
+            contar(membro, projeto, -1);
+        }
+        if (projetos.isEmpty()) {
+            // Sem projetos a equipe deixa de ser acompanhada
+            projetosPorEquipe.remove(equipe);
+            membrosPorEquipe.remove(equipe);
+        }
+        return true;
+    }
+
+    /**
+     * Desfaz todas as alocações de um projeto (monitor ocupado)
+     * @return Equipes retiradas
+     */
+    private ArrayList<Equipe> desvincularProjeto(Projeto projeto) {
+        LinkedHashSet<Equipe> equipes = equipesPorProjeto.get(projeto);
+        ArrayList<Equipe> retiradas = equipes == null ? new ArrayList<>() : new ArrayList<>(equipes);
+        for (Equipe equipe : retiradas) {
+            desvincular(projeto, equipe);
+        }
+        return retiradas;
+    }
+
+    /**
+     * Desfaz todas as alocações de uma equipe (monitor ocupado)
+     * @return Projetos de que a equipe saiu
+     */
+    private ArrayList<Projeto> desvincularEquipe(Equipe equipe) {
+        LinkedHashSet<Projeto> projetos = projetosPorEquipe.get(equipe);
+        ArrayList<Projeto> retirados = projetos == null ? new ArrayList<>() : new ArrayList<>(projetos);
+        for (Projeto projeto : retirados) {
+            desvincular(projeto, equipe);
+        }
+        return retirados;
+    }
+
+    /**
+     * Publica e informa uma desalocação já aplicada (fora do monitor, para
+     * que um barramento cheio não segure quem consulta as alocações)
+     */
+    private static void anunciarDesalocacao(Projeto projeto, Equipe equipe) {
+        BarramentoEventos.global().publicar(TipoEvento.EQUIPE_DESALOCADA, projeto, equipe, null, null);
+        System.out.println("Equipe '" + equipe.getNome() + "' retirada do projeto '" + projeto.getNome() + "'!");
+    }
+
+    /**
+     * Um usuário entrou em uma equipe: passa a participar dos projetos dela
+     */
+    private void incluirMembro(Equipe equipe, Usuario usuario) {
+        LinkedHashSet<Usuario> membros = membrosPorEquipe.get(equipe);
+        if (membros == null || !membros.add(usuario)) {
+            return; // Equipe sem projetos, ou membro já contado
+        }
+        for (Projeto projeto : projetosPorEquipe.get(equipe)) {
+            contar(usuario, projeto, 1);
+        }
+    }
+
+    /**
+     * Um usuário saiu de uma equipe: deixa os projetos a que só ela o ligava
+     */
+    private void excluirMembro(Equipe equipe, Usuario usuario) {
+        LinkedHashSet<Usuario> membros = membrosPorEquipe.get(equipe);
+        if (membros == null || !membros.remove(usuario)) {
+            return;
+        }
+        for (Projeto projeto : projetosPorEquipe.get(equipe)) {
+            contar(usuario, projeto, -1);
+        }
+    }
+
+    /**
+     * Ajusta quantas equipes ligam um usuário a um projeto
+     */
+    private void contar(Usuario usuario, Projeto projeto, int variacao) {
+        LinkedHashMap<Projeto, Integer> projetos = projetosPorUsuario.computeIfAbsent(usuario, u -> new LinkedHashMap<>());
+        int total = projetos.getOrDefault(projeto, 0) + variacao;
+        if (total > 0) {
+            projetos.put(projeto, total);
+        } else {
+            projetos.remove(projeto);
+            if (projetos.isEmpty()) {
+                projetosPorUsuario.remove(usuario);
+            }
+        }
+    }
+}
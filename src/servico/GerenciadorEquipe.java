@@ -1,24 +1,82 @@
 package servico;
 
+import busca.IndiceInvertido;
+import busca.MotorBusca;
+import eventos.BarramentoEventos;
+import eventos.TipoEvento;
+import metricas.EventoRelatorio;
+import metricas.MetricaOperacao;
+import metricas.RegistroMetricas;
 import modelo.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 
 /**
  * Classe de serviço para gerenciar equipes do sistema
  * Demonstra uso de coleções e tratamento de exceções
+ *
+ * Remover uma equipe custa O(membros): a posição dela na lista vira uma
+ * lápide (null), descartada em lote quando metade da lista é lápide ou
+ * quando {@link #compactar()} é chamado, e a busca por ID usa um índice.
  * 
  * @author Equipe AutoMax
  * @version 1.0
  */
 public class GerenciadorEquipe {
-    // Coleção para armazenar todas as equipes do sistema
+    // Métricas de latência das operações públicas
+    private static final MetricaOperacao METRICA_ADICIONAR_EQUIPE = RegistroMetricas.global().operacao("equipe.adicionarEquipe");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_NOME = RegistroMetricas.global().operacao("equipe.buscarPorNome");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_ID = RegistroMetricas.global().operacao("equipe.buscarPorId");
+    private static final MetricaOperacao METRICA_ADICIONAR_MEMBRO_EQUIPE = RegistroMetricas.global().operacao("equipe.adicionarMembroEquipe");
+    private static final MetricaOperacao METRICA_ADICIONAR_MEMBROS = RegistroMetricas.global().operacao("equipe.adicionarMembros");
+    private static final MetricaOperacao METRICA_REMOVER_MEMBRO_EQUIPE = RegistroMetricas.global().operacao("equipe.removerMembroEquipe");
+    private static final MetricaOperacao METRICA_LISTAR_EQUIPES_DO_USUARIO = RegistroMetricas.global().operacao("equipe.listarEquipesDoUsuario");
+    private static final MetricaOperacao METRICA_LISTAR_EQUIPES_POR_TAMANHO = RegistroMetricas.global().operacao("equipe.listarEquipesPorTamanho");
+    private static final MetricaOperacao METRICA_REMOVER_EQUIPE = RegistroMetricas.global().operacao("equipe.removerEquipe");
+    private static final MetricaOperacao METRICA_ATUALIZAR_EQUIPE = RegistroMetricas.global().operacao("equipe.atualizarEquipe");
+    private static final MetricaOperacao METRICA_GERAR_RELATORIO = RegistroMetricas.global().operacao("equipe.gerarRelatorio");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_PALAVRA_CHAVE = RegistroMetricas.global().operacao("equipe.buscarPorPalavraChave");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_RELEVANCIA = RegistroMetricas.global().operacao("equipe.buscarPorRelevancia");
+    private static final MetricaOperacao METRICA_CALCULAR_EFICIENCIA_MEDIA = RegistroMetricas.global().operacao("equipe.calcularEficienciaMedia");
+
+    // Coleção para armazenar todas as equipes do sistema (null nas posições removidas)
     private ArrayList<Equipe> equipes;
+    // Posições removidas de "equipes" ainda não compactadas
+    private int lapides;
+    // Equipes indexadas por Equipe.getId() e a posição de cada uma em "equipes"
+    private Equipe[] equipesPorId;
+    private int[] posicaoPorId;
+    // Índice por nome normalizado (busca e verificação de duplicidade em O(1))
+    private HashMap<String, Equipe> equipesPorNome;
+    // Motor de busca textual (opcional), mantido atualizado a cada alteração
+    private MotorBusca motorBusca;
 
     /**
      * Construtor do gerenciador de equipes
      */
     public GerenciadorEquipe() {
         this.equipes = new ArrayList<>();
+        this.equipesPorNome = new HashMap<>();
+        this.equipesPorId = new Equipe[64];
+        this.posicaoPorId = new int[64];
+    }
+
+    /**
+     * Conecta um motor de busca e indexa as equipes já cadastradas
+     * @param motorBusca Motor de busca compartilhado
+     */
+    public void conectarMotorBusca(MotorBusca motorBusca) {
+        this.motorBusca = motorBusca;
+        for (Equipe equipe : equipes) {
+            if (equipe != null) {
+                motorBusca.indexarEquipe(equipe);
+            }
+        }
     }
 
     /**
@@ -27,6 +85,7 @@ public class GerenciadorEquipe {
      * @return true se adicionada com sucesso
      */
     public boolean adicionarEquipe(Equipe equipe) {
+        long inicio = METRICA_ADICIONAR_EQUIPE.iniciar();
         try {
             if (equipe == null) {
                 System.out.println("Equipe inválida!");
@@ -39,13 +98,22 @@ public class GerenciadorEquipe {
                 return false;
             }
 
+            indexarId(equipe);
+            posicaoPorId[equipe.getId()] = equipes.size();
             equipes.add(equipe);
+            equipesPorNome.put(chaveNome(equipe.getNome()), equipe);
+            if (motorBusca != null) {
+                motorBusca.indexarEquipe(equipe);
+            }
+            BarramentoEventos.global().publicar(TipoEvento.EQUIPE_ADICIONADA, equipe);
             System.out.println("Equipe '" + equipe.getNome() + "' criada com sucesso!");
             return true;
 
         } catch (Exception e) {
             System.out.println("Erro ao criar equipe: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_ADICIONAR_EQUIPE.registrar(inicio);
         }
     }
 
@@ -54,27 +122,27 @@ public class GerenciadorEquipe {
      */
     public void listarEquipes() {
         System.out.println("LISTA DE EQUIPES DO SISTEMA");
-        System.out.println("Total de equipes: " + equipes.size());
+        System.out.println("Total de equipes: " + getTotalEquipes());
         System.out.println("═".repeat(60));
 
-        if (equipes.isEmpty()) {
+        if (getTotalEquipes() == 0) {
             System.out.println("Nenhuma equipe cadastrada no sistema.");
         } else {
-            for (int i = 0; i < equipes.size(); i++) {
-                Equipe equipe = equipes.get(i);
-                System.out.println((i + 1) + ". " + equipe.getNome());
+            int numero = 0;
+            for (Equipe equipe : equipes) {
+                if (equipe == null) {
+                    continue;
+                }
+                System.out.println(++numero + ". " + equipe.getNome());
                 System.out.println("   ID: " + equipe.getId());
                 System.out.println("   Descrição: " + equipe.getDescricao());
                 System.out.println("   Membros: " + equipe.tamanho());
                 
                 // Exibir composição da equipe
                 if (equipe.tamanho() > 0) {
-                    int admins = 0, gerentes = 0, colaboradores = 0;
-                    for (Usuario membro : equipe.getMembros()) {
-                        if (membro instanceof Administrador) admins++;
-                        else if (membro instanceof Gerente) gerentes++;
-                        else if (membro instanceof Colaborador) colaboradores++;
-                    }
+                    int admins = equipe.contarMembros(Papel.ADMINISTRADOR);
+                    int gerentes = equipe.contarMembros(Papel.GERENTE);
+                    int colaboradores = equipe.contarMembros(Papel.COLABORADOR);
                     System.out.println("   Composição: " + admins + " admin(s), " + 
                                      gerentes + " gerente(s), " + colaboradores + " colaborador(es)");
                 } else {
@@ -92,16 +160,14 @@ public class GerenciadorEquipe {
      * @return Equipe encontrada ou null
      */
     public Equipe buscarPorNome(String nome) {
+        long inicio = METRICA_BUSCAR_POR_NOME.iniciar();
         try {
-            for (Equipe equipe : equipes) {
-                if (equipe.getNome().equalsIgnoreCase(nome.trim())) {
-                    return equipe;
-                }
-            }
-            return null;
+            return equipesPorNome.get(chaveNome(nome));
         } catch (Exception e) {
             System.out.println("Erro ao buscar equipe: " + e.getMessage());
             return null;
+        } finally {
+            METRICA_BUSCAR_POR_NOME.registrar(inicio);
         }
     }
 
@@ -111,12 +177,12 @@ public class GerenciadorEquipe {
      * @return Equipe encontrada ou null
      */
     public Equipe buscarPorId(int id) {
-        for (Equipe equipe : equipes) {
-            if (equipe.getId() == id) {
-                return equipe;
-            }
+        long inicio = METRICA_BUSCAR_POR_ID.iniciar();
+        try {
+            return id >= 0 && id < equipesPorId.length ? equipesPorId[id] : null;
+        } finally {
+            METRICA_BUSCAR_POR_ID.registrar(inicio);
         }
-        return null;
     }
 
     /**
@@ -126,6 +192,7 @@ public class GerenciadorEquipe {
      * @return true se adicionado com sucesso
      */
     public boolean adicionarMembroEquipe(String nomeEquipe, Usuario usuario) {
+        long inicio = METRICA_ADICIONAR_MEMBRO_EQUIPE.iniciar();
         try {
             Equipe equipe = buscarPorNome(nomeEquipe);
             if (equipe != null) {
@@ -137,6 +204,58 @@ public class GerenciadorEquipe {
         } catch (Exception e) {
             System.out.println("Erro ao adicionar membro à equipe: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_ADICIONAR_MEMBRO_EQUIPE.registrar(inicio);
+        }
+    }
+
+    /**
+     * Adiciona vários membros a uma equipe em uma única operação
+     * A equipe é resolvida uma vez e todos os usuários são validados antes de
+     * qualquer alteração; se algum for nulo, nenhum é adicionado.
+     * @param equipeId ID da equipe
+     * @param usuarios Usuários a adicionar
+     * @return Resultado de cada usuário, na ordem de iteração da coleção
+     */
+    public ResultadoLote[] adicionarMembros(int equipeId, Collection<? extends Usuario> usuarios) {
+        long inicio = METRICA_ADICIONAR_MEMBROS.iniciar();
+        ResultadoLote[] resultados = new ResultadoLote[usuarios.size()];
+        try {
+            Equipe equipe = buscarPorId(equipeId);
+            if (equipe == null) {
+                System.out.println("Equipe com ID " + equipeId + " não encontrada!");
+                Arrays.fill(resultados, ResultadoLote.NAO_ENCONTRADO);
+                return resultados;
+            }
+
+            // Validação em uma passada: já membros e repetidos no lote não mudam nada
+            HashSet<Usuario> presentes = new HashSet<>(equipe.getMembros());
+            ArrayList<Usuario> novos = new ArrayList<>();
+            int i = 0;
+            for (Usuario usuario : usuarios) {
+                if (usuario == null) {
+                    resultados[i++] = ResultadoLote.INVALIDO;
+                } else if (!presentes.add(usuario)) {
+                    resultados[i++] = ResultadoLote.SEM_ALTERACAO;
+                } else {
+                    resultados[i++] = ResultadoLote.APLICADO;
+                    novos.add(usuario);
+                }
+            }
+
+            if (!ResultadoLote.confirmar(resultados)) {
+                System.out.println("Lote rejeitado: " + ResultadoLote.contar(resultados, ResultadoLote.INVALIDO)
+                                 + " usuário(s) inválido(s); nenhum membro adicionado à equipe " + equipe.getNome());
+                return resultados;
+            }
+            equipe.adicionarMembros(novos);
+            return resultados;
+        } catch (Exception e) {
+            System.out.println("Erro ao adicionar membros à equipe: " + e.getMessage());
+            Arrays.fill(resultados, ResultadoLote.CANCELADO);
+            return resultados;
+        } finally {
+            METRICA_ADICIONAR_MEMBROS.registrar(inicio);
         }
     }
 
@@ -147,6 +266,7 @@ public class GerenciadorEquipe {
      * @return true se removido com sucesso
      */
     public boolean removerMembroEquipe(String nomeEquipe, Usuario usuario) {
+        long inicio = METRICA_REMOVER_MEMBRO_EQUIPE.iniciar();
         try {
             Equipe equipe = buscarPorNome(nomeEquipe);
             if (equipe != null) {
@@ -158,24 +278,36 @@ public class GerenciadorEquipe {
         } catch (Exception e) {
             System.out.println("Erro ao remover membro da equipe: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_REMOVER_MEMBRO_EQUIPE.registrar(inicio);
         }
     }
 
     /**
      * Lista equipes que um usuário participa
+     * Percorre só as equipes do usuário (Usuario.getEquipes), sem testar
+     * todas as equipes cadastradas.
      * @param usuario Usuário a ser buscado
-     * @return Lista de equipes do usuário
+     * @return Lista de equipes do usuário, na ordem de cadastro das equipes
      */
     public ArrayList<Equipe> listarEquipesDoUsuario(Usuario usuario) {
-        ArrayList<Equipe> equipesDoUsuario = new ArrayList<>();
-        
-        for (Equipe equipe : equipes) {
-            if (equipe.getMembros().contains(usuario)) {
-                equipesDoUsuario.add(equipe);
+        long inicio = METRICA_LISTAR_EQUIPES_DO_USUARIO.iniciar();
+        try {
+            ArrayList<Equipe> equipesDoUsuario = new ArrayList<>();
+            if (usuario == null) {
+                return equipesDoUsuario;
             }
+            // Índice reverso do usuário, filtrado às equipes deste gerenciador
+            for (Equipe equipe : usuario.getEquipes()) {
+                if (buscarPorId(equipe.getId()) == equipe) {
+                    equipesDoUsuario.add(equipe);
+                }
+            }
+            equipesDoUsuario.sort((a, b) -> Integer.compare(posicaoPorId[a.getId()], posicaoPorId[b.getId()]));
+            return equipesDoUsuario;
+        } finally {
+            METRICA_LISTAR_EQUIPES_DO_USUARIO.registrar(inicio);
         }
-        
-        return equipesDoUsuario;
     }
 
     /**
@@ -184,15 +316,20 @@ public class GerenciadorEquipe {
      * @return Lista de equipes com pelo menos o tamanho especificado
      */
     public ArrayList<Equipe> listarEquipesPorTamanho(int tamanhoMinimo) {
-        ArrayList<Equipe> equipesGrandes = new ArrayList<>();
+        long inicio = METRICA_LISTAR_EQUIPES_POR_TAMANHO.iniciar();
+        try {
+            ArrayList<Equipe> equipesGrandes = new ArrayList<>();
         
-        for (Equipe equipe : equipes) {
-            if (equipe.tamanho() >= tamanhoMinimo) {
-                equipesGrandes.add(equipe);
+            for (Equipe equipe : equipes) {
+                if (equipe != null && equipe.tamanho() >= tamanhoMinimo) {
+                    equipesGrandes.add(equipe);
+                }
             }
-        }
         
-        return equipesGrandes;
+            return equipesGrandes;
+        } finally {
+            METRICA_LISTAR_EQUIPES_POR_TAMANHO.registrar(inicio);
+        }
     }
 
     /**
@@ -204,7 +341,7 @@ public class GerenciadorEquipe {
         ArrayList<Equipe> equipesComTipo = new ArrayList<>();
         
         for (Equipe equipe : equipes) {
-            if (equipe.temMembroDoTipo(tipoUsuario)) {
+            if (equipe != null && equipe.temMembroDoTipo(tipoUsuario)) {
                 equipesComTipo.add(equipe);
             }
         }
@@ -218,10 +355,22 @@ public class GerenciadorEquipe {
      * @return true se removida com sucesso
      */
     public boolean removerEquipe(int idEquipe) {
+        long inicio = METRICA_REMOVER_EQUIPE.iniciar();
         try {
             Equipe equipe = buscarPorId(idEquipe);
             if (equipe != null) {
-                equipes.remove(equipe);
+                equipes.set(posicaoPorId[idEquipe], null);
+                lapides++;
+                equipesPorId[idEquipe] = null;
+                equipesPorNome.remove(chaveNome(equipe.getNome()));
+                equipe.desvincularMembros();
+                if (motorBusca != null) {
+                    motorBusca.removerEquipe(equipe);
+                }
+                if (lapides * 2 > equipes.size()) {
+                    compactar();
+                }
+                BarramentoEventos.global().publicar(TipoEvento.EQUIPE_REMOVIDA, equipe);
                 System.out.println("Equipe '" + equipe.getNome() + "' removida com sucesso!");
                 return true;
             } else {
@@ -231,6 +380,8 @@ public class GerenciadorEquipe {
         } catch (Exception e) {
             System.out.println("Erro ao remover equipe: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_REMOVER_EQUIPE.registrar(inicio);
         }
     }
 
@@ -242,15 +393,28 @@ public class GerenciadorEquipe {
      * @return true se atualizada com sucesso
      */
     public boolean atualizarEquipe(int idEquipe, String novoNome, String novaDescricao) {
+        long inicio = METRICA_ATUALIZAR_EQUIPE.iniciar();
         try {
             Equipe equipe = buscarPorId(idEquipe);
             if (equipe != null) {
+                String nomeAnterior = equipe.getNome();
                 if (novoNome != null && !novoNome.trim().isEmpty()) {
+                    Equipe existente = buscarPorNome(novoNome);
+                    if (existente != null && existente != equipe) {
+                        System.out.println("Já existe uma equipe com o nome: " + novoNome);
+                        return false;
+                    }
+                    equipesPorNome.remove(chaveNome(equipe.getNome()));
                     equipe.setNome(novoNome);
+                    equipesPorNome.put(chaveNome(novoNome), equipe);
                 }
                 if (novaDescricao != null && !novaDescricao.trim().isEmpty()) {
                     equipe.setDescricao(novaDescricao);
                 }
+                if (motorBusca != null) {
+                    motorBusca.indexarEquipe(equipe);
+                }
+                BarramentoEventos.global().publicar(TipoEvento.EQUIPE_ATUALIZADA, equipe, null, nomeAnterior, equipe.getNome());
                 System.out.println("Equipe atualizada com sucesso!");
                 return true;
             } else {
@@ -260,6 +424,8 @@ public class GerenciadorEquipe {
         } catch (Exception e) {
             System.out.println("Erro ao atualizar equipe: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_ATUALIZAR_EQUIPE.registrar(inicio);
         }
     }
 
@@ -267,94 +433,100 @@ public class GerenciadorEquipe {
      * Gera relatório completo das equipes
      */
     public void gerarRelatorio() {
-        System.out.println("RELATÓRIO COMPLETO DE EQUIPES");
-        System.out.println("═".repeat(60));
+        long inicio = METRICA_GERAR_RELATORIO.iniciar();
+        EventoRelatorio evento = new EventoRelatorio();
+        evento.begin();
+        try {
+            System.out.println("RELATÓRIO COMPLETO DE EQUIPES");
+            System.out.println("═".repeat(60));
         
-        int total = equipes.size();
-        if (total == 0) {
-            System.out.println("Nenhuma equipe cadastrada para gerar relatório.");
-            return;
-        }
+            int total = getTotalEquipes();
+            if (total == 0) {
+                System.out.println("Nenhuma equipe cadastrada para gerar relatório.");
+                return;
+            }
 
-        // Estatísticas gerais
-        int totalMembros = 0;
-        int equipesVazias = 0;
-        int maiorEquipe = 0;
-        String nomeMaiorEquipe = "";
+            // Estatísticas gerais
+            int totalMembros = 0;
+            int equipesVazias = 0;
+            int maiorEquipe = 0;
+            String nomeMaiorEquipe = "";
 
-        for (Equipe equipe : equipes) {
-            int tamanho = equipe.tamanho();
-            totalMembros += tamanho;
+            for (Equipe equipe : equipes) {
+                if (equipe == null) {
+                    continue;
+                }
+                int tamanho = equipe.tamanho();
+                totalMembros += tamanho;
             
-            if (tamanho == 0) {
-                equipesVazias++;
-            }
+                if (tamanho == 0) {
+                    equipesVazias++;
+                }
             
-            if (tamanho > maiorEquipe) {
-                maiorEquipe = tamanho;
-                nomeMaiorEquipe = equipe.getNome();
+                if (tamanho > maiorEquipe) {
+                    maiorEquipe = tamanho;
+                    nomeMaiorEquipe = equipe.getNome();
+                }
             }
-        }
 
-        double mediaMembros = total > 0 ? (double) totalMembros / total : 0;
+            double mediaMembros = total > 0 ? (double) totalMembros / total : 0;
 
-        System.out.println("ESTATÍSTICAS GERAIS:");
-        System.out.println("Total de equipes: " + total);
-        System.out.println("Total de membros: " + totalMembros);
-        System.out.println("Média de membros por equipe: " + String.format("%.1f", mediaMembros));
-        System.out.println("Equipes vazias: " + equipesVazias);
-        System.out.println("Maior equipe: " + nomeMaiorEquipe + " (" + maiorEquipe + " membros)");
+            System.out.println("ESTATÍSTICAS GERAIS:");
+            System.out.println("Total de equipes: " + total);
+            System.out.println("Total de membros: " + totalMembros);
+            System.out.println("Média de membros por equipe: " + String.format("%.1f", mediaMembros));
+            System.out.println("Equipes vazias: " + equipesVazias);
+            System.out.println("Maior equipe: " + nomeMaiorEquipe + " (" + maiorEquipe + " membros)");
 
-        // Distribuição por tamanho
-        System.out.println("\nDISTRIBUIÇÃO POR TAMANHO:");
-        int pequenas = 0, medias = 0, grandes = 0;
-        for (Equipe equipe : equipes) {
-            int tamanho = equipe.tamanho();
-            if (tamanho <= 3) pequenas++;
-            else if (tamanho <= 7) medias++;
-            else grandes++;
-        }
-        
-        System.out.println("┌─────────────────┬─────────┬─────────────┐");
-        System.out.println("│ Tamanho         │ Qtd     │ Percentual  │");
-        System.out.println("├─────────────────┼─────────┼─────────────┤");
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Pequenas (1-3)", pequenas, 
-                         String.format("%.1f%%", (pequenas * 100.0 / total)));
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Médias (4-7)", medias, 
-                         String.format("%.1f%%", (medias * 100.0 / total)));
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Grandes (8+)", grandes, 
-                         String.format("%.1f%%", (grandes * 100.0 / total)));
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Vazias", equipesVazias, 
-                         String.format("%.1f%%", (equipesVazias * 100.0 / total)));
-        System.out.println("└─────────────────┴─────────┴─────────────┘");
-
-        // Top 5 equipes por tamanho
-        System.out.println("\nTOP 5 EQUIPES POR TAMANHO:");
-        ArrayList<Equipe> equipesOrdenadas = new ArrayList<>(equipes);
-        // Ordenação simples por tamanho (bubble sort para demonstração)
-        for (int i = 0; i < equipesOrdenadas.size() - 1; i++) {
-            for (int j = 0; j < equipesOrdenadas.size() - i - 1; j++) {
-                if (equipesOrdenadas.get(j).tamanho() < equipesOrdenadas.get(j + 1).tamanho()) {
-                    Equipe temp = equipesOrdenadas.get(j);
-                    equipesOrdenadas.set(j, equipesOrdenadas.get(j + 1));
-                    equipesOrdenadas.set(j + 1, temp);
+            // Distribuição por tamanho
+            System.out.println("\nDISTRIBUIÇÃO POR TAMANHO:");
+            int pequenas = 0, medias = 0, grandes = 0;
+            for (Equipe equipe : equipes) {
+                if (equipe == null) {
+                    continue;
                 }
+                int tamanho = equipe.tamanho();
+                if (tamanho <= 3) pequenas++;
+                else if (tamanho <= 7) medias++;
+                else grandes++;
+            }
+        
+            System.out.println("┌─────────────────┬─────────┬─────────────┐");
+            System.out.println("│ Tamanho         │ Qtd     │ Percentual  │");
+            System.out.println("├─────────────────┼─────────┼─────────────┤");
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Pequenas (1-3)", pequenas, 
+                             String.format("%.1f%%", (pequenas * 100.0 / total)));
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Médias (4-7)", medias, 
+                             String.format("%.1f%%", (medias * 100.0 / total)));
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Grandes (8+)", grandes, 
+                             String.format("%.1f%%", (grandes * 100.0 / total)));
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Vazias", equipesVazias, 
+                             String.format("%.1f%%", (equipesVazias * 100.0 / total)));
+            System.out.println("└─────────────────┴─────────┴─────────────┘");
+
+            // Top 5 equipes por tamanho
+            System.out.println("\nTOP 5 EQUIPES POR TAMANHO:");
+            ArrayList<Equipe> equipesOrdenadas = listarEquipesList();
+            // Ordenação estável por tamanho decrescente (mesma ordem do antigo bubble sort, em O(n log n))
+            equipesOrdenadas.sort((a, b) -> Integer.compare(b.tamanho(), a.tamanho()));
+
+            int limite = Math.min(5, equipesOrdenadas.size());
+            for (int i = 0; i < limite; i++) {
+                Equipe equipe = equipesOrdenadas.get(i);
+                System.out.println((i + 1) + ". " + equipe.getNome() + 
+                                 " - " + equipe.tamanho() + " membros");
             }
-        }
-
-        int limite = Math.min(5, equipesOrdenadas.size());
-        for (int i = 0; i < limite; i++) {
-            Equipe equipe = equipesOrdenadas.get(i);
-            System.out.println((i + 1) + ". " + equipe.getNome() + 
-                             " - " + equipe.tamanho() + " membros");
-        }
 
-        // Análise de composição
-        System.out.println("\nANÁLISE DE COMPOSIÇÃO:");
-        analisarComposicaoEquipes();
+            // Análise de composição
+            System.out.println("\nANÁLISE DE COMPOSIÇÃO:");
+            analisarComposicaoEquipes();
 
-        System.out.println("═".repeat(60));
-        System.out.println();
+            System.out.println("═".repeat(60));
+            System.out.println();
+        } finally {
+            METRICA_GERAR_RELATORIO.registrar(inicio);
+            evento.concluir("equipes", getTotalEquipes());
+        }
     }
 
     /**
@@ -366,9 +538,13 @@ public class GerenciadorEquipe {
         int equipesBalanceadas = 0;
 
         for (Equipe equipe : equipes) {
-            boolean temGerente = equipe.temMembroDoTipo(Gerente.class);
-            boolean temAdmin = equipe.temMembroDoTipo(Administrador.class);
-            boolean temColaborador = equipe.temMembroDoTipo(Colaborador.class);
+            if (equipe == null) {
+                continue;
+            }
+            // Contagens por papel mantidas pela própria equipe (custo constante)
+            boolean temGerente = equipe.contarMembros(Papel.GERENTE) > 0;
+            boolean temAdmin = equipe.contarMembros(Papel.ADMINISTRADOR) > 0;
+            boolean temColaborador = equipe.contarMembros(Papel.COLABORADOR) > 0;
 
             if (temGerente) equipesComGerente++;
             if (temAdmin) equipesComAdmin++;
@@ -382,21 +558,53 @@ public class GerenciadorEquipe {
 
     /**
      * Busca equipes por palavra-chave no nome ou descrição
+     * Varredura por substring, sem diferenciar maiúsculas de minúsculas
+     * (para busca por relevância use {@link #buscarPorRelevancia})
      * @param palavraChave Palavra a ser buscada
      * @return Lista de equipes encontradas
      */
     public ArrayList<Equipe> buscarPorPalavraChave(String palavraChave) {
-        ArrayList<Equipe> encontradas = new ArrayList<>();
-        String busca = palavraChave.toLowerCase().trim();
+        long inicio = METRICA_BUSCAR_POR_PALAVRA_CHAVE.iniciar();
+        try {
+            ArrayList<Equipe> encontradas = new ArrayList<>();
+            String busca = palavraChave.toLowerCase().trim();
 
-        for (Equipe equipe : equipes) {
-            if (equipe.getNome().toLowerCase().contains(busca) ||
-                equipe.getDescricao().toLowerCase().contains(busca)) {
-                encontradas.add(equipe);
+            for (Equipe equipe : equipes) {
+                if (equipe == null) {
+                    continue;
+                }
+                if (equipe.getNome().toLowerCase().contains(busca) ||
+                    equipe.getDescricao().toLowerCase().contains(busca)) {
+                    encontradas.add(equipe);
+                }
             }
+
+            return encontradas;
+        } finally {
+            METRICA_BUSCAR_POR_PALAVRA_CHAVE.registrar(inicio);
         }
+    }
 
-        return encontradas;
+    /**
+     * Busca equipes por relevância (BM25) no nome e na descrição
+     * Cada termo da consulta é buscado por prefixo e todos precisam aparecer;
+     * o nome pesa o dobro da descrição. Sem motor de busca conectado, devolve
+     * os primeiros resultados da varredura por substring
+     * @param consulta Texto da consulta
+     * @param limite Número máximo de resultados
+     * @return Equipes encontradas, da mais à menos relevante
+     */
+    public ArrayList<Equipe> buscarPorRelevancia(String consulta, int limite) {
+        long inicio = METRICA_BUSCAR_POR_RELEVANCIA.iniciar();
+        try {
+            if (motorBusca != null) {
+                return motorBusca.buscarEquipes(MotorBusca.consultaPorPrefixo(consulta), IndiceInvertido.Modo.E, limite);
+            }
+            ArrayList<Equipe> encontradas = buscarPorPalavraChave(consulta);
+            return encontradas.size() > limite ? new ArrayList<>(encontradas.subList(0, limite)) : encontradas;
+        } finally {
+            METRICA_BUSCAR_POR_RELEVANCIA.registrar(inicio);
+        }
     }
 
     /**
@@ -408,24 +616,92 @@ public class GerenciadorEquipe {
         return !listarEquipesDoUsuario(usuario).isEmpty();
     }
 
+    /**
+     * IDs dos usuários que estão em pelo menos uma das equipes (união)
+     * @param selecionadas Equipes consultadas
+     * @return IDs (Usuario.getId) dos membros; ver GerenciadorUsuario.listarPorIds
+     */
+    public MapaBits membrosDeQualquer(Collection<Equipe> selecionadas) {
+        MapaBits resultado = new MapaBits();
+        for (Equipe equipe : selecionadas) {
+            equipe.acumularMembros(resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * IDs dos usuários que estão em todas as equipes (interseção)
+     * @param selecionadas Equipes consultadas
+     * @return IDs dos membros comuns a todas (vazio se não houver equipes)
+     */
+    public MapaBits membrosDeTodas(Collection<Equipe> selecionadas) {
+        ArrayList<Equipe> ordenadas = new ArrayList<>(selecionadas);
+        if (ordenadas.isEmpty()) {
+            return new MapaBits();
+        }
+        // Começa pela menor: o resultado só encolhe
+        ordenadas.sort((a, b) -> Integer.compare(a.tamanho(), b.tamanho()));
+        MapaBits resultado = ordenadas.get(0).getIdsMembros();
+        for (int i = 1; i < ordenadas.size() && !resultado.isEmpty(); i++) {
+            resultado = ordenadas.get(i).filtrarMembros(resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * IDs dos usuários que não participam de nenhuma equipe
+     * @param usuarios IDs dos usuários considerados (ex.: GerenciadorUsuario.getIdsUsuarios)
+     * @return IDs de usuários sem equipe
+     */
+    public MapaBits usuariosSemEquipe(MapaBits usuarios) {
+        return usuarios.menos(membrosDeQualquer(listarEquipesList()));
+    }
+
+    /**
+     * Lista as equipes que compartilham ao menos um membro com uma equipe
+     * Percorre as equipes de cada membro (Usuario.getEquipes), sem testar
+     * todas as equipes cadastradas.
+     * @param equipe Equipe de referência
+     * @return Outras equipes cadastradas com membros em comum
+     */
+    public ArrayList<Equipe> listarEquipesComMembrosEmComum(Equipe equipe) {
+        LinkedHashSet<Equipe> encontradas = new LinkedHashSet<>();
+        for (Usuario membro : equipe.getMembros()) {
+            for (Equipe outra : membro.getEquipes()) {
+                if (outra != equipe && buscarPorId(outra.getId()) == outra) {
+                    encontradas.add(outra);
+                }
+            }
+        }
+        return new ArrayList<>(encontradas);
+    }
+
     /**
      * Calcula eficiência das equipes (baseado no número de membros)
      * @return Percentual médio de ocupação das equipes
      */
     public double calcularEficienciaMedia() {
-        if (equipes.isEmpty()) {
-            return 0.0;
-        }
+        long inicio = METRICA_CALCULAR_EFICIENCIA_MEDIA.iniciar();
+        try {
+            if (getTotalEquipes() == 0) {
+                return 0.0;
+            }
 
-        int tamanhoIdeal = 5; // Considerando 5 como tamanho ideal de equipe
-        double somaEficiencia = 0.0;
+            int tamanhoIdeal = 5; // Considerando 5 como tamanho ideal de equipe
+            double somaEficiencia = 0.0;
 
-        for (Equipe equipe : equipes) {
-            double eficiencia = Math.min(100.0, (equipe.tamanho() * 100.0) / tamanhoIdeal);
-            somaEficiencia += eficiencia;
-        }
+            for (Equipe equipe : equipes) {
+                if (equipe == null) {
+                    continue;
+                }
+                double eficiencia = Math.min(100.0, (equipe.tamanho() * 100.0) / tamanhoIdeal);
+                somaEficiencia += eficiencia;
+            }
 
-        return somaEficiencia / equipes.size();
+            return somaEficiencia / getTotalEquipes();
+        } finally {
+            METRICA_CALCULAR_EFICIENCIA_MEDIA.registrar(inicio);
+        }
     }
 
     /**
@@ -433,7 +709,40 @@ public class GerenciadorEquipe {
      * @return Cópia da lista de equipes
      */
     public ArrayList<Equipe> listarEquipesList() {
-        return new ArrayList<>(equipes);
+        if (lapides == 0) {
+            return new ArrayList<>(equipes);
+        }
+        ArrayList<Equipe> copia = new ArrayList<>(getTotalEquipes());
+        for (Equipe equipe : equipes) {
+            if (equipe != null) {
+                copia.add(equipe);
+            }
+        }
+        return copia;
+    }
+
+    /**
+     * Obtém uma página da lista de equipes (copia apenas o trecho pedido)
+     * @param inicio Posição da primeira equipe (a partir de 0)
+     * @param limite Número máximo de equipes na página
+     * @return Equipes da página, na ordem de cadastro
+     */
+    public ArrayList<Equipe> listarPagina(int inicio, int limite) {
+        if (lapides > 0) {
+            // Com lápides a posição conta só as equipes presentes
+            ArrayList<Equipe> pagina = new ArrayList<>();
+            int posicao = 0;
+            for (int i = 0; i < equipes.size() && pagina.size() < limite; i++) {
+                Equipe equipe = equipes.get(i);
+                if (equipe != null && posicao++ >= inicio) {
+                    pagina.add(equipe);
+                }
+            }
+            return pagina;
+        }
+        int de = Math.max(0, Math.min(inicio, equipes.size()));
+        int ate = (int) Math.min(equipes.size(), (long) de + Math.max(0, limite));
+        return new ArrayList<>(equipes.subList(de, ate));
     }
 
     /**
@@ -441,7 +750,38 @@ public class GerenciadorEquipe {
      * @return Número total de equipes
      */
     public int getTotalEquipes() {
-        return equipes.size();
+        return equipes.size() - lapides;
+    }
+
+    /**
+     * Descarta as lápides da lista, preservando a ordem de cadastro
+     * Feito automaticamente quando metade da lista é lápide; pode ser
+     * antecipado em um momento ocioso.
+     * @return Quantidade de posições liberadas
+     */
+    public int compactar() {
+        int liberadas = lapides;
+        if (liberadas == 0) {
+            return 0;
+        }
+        int vivas = 0;
+        for (int i = 0; i < equipes.size(); i++) {
+            Equipe equipe = equipes.get(i);
+            if (equipe != null) {
+                posicaoPorId[equipe.getId()] = vivas;
+                equipes.set(vivas++, equipe);
+            }
+        }
+        equipes.subList(vivas, equipes.size()).clear();
+        lapides = 0;
+        return liberadas;
+    }
+
+    /**
+     * @return Posições removidas ainda não compactadas
+     */
+    public int getLapides() {
+        return lapides;
     }
 
     /**
@@ -451,7 +791,9 @@ public class GerenciadorEquipe {
     public int getTotalMembros() {
         int total = 0;
         for (Equipe equipe : equipes) {
-            total += equipe.tamanho();
+            if (equipe != null) {
+                total += equipe.tamanho();
+            }
         }
         return total;
     }
@@ -462,9 +804,26 @@ public class GerenciadorEquipe {
      */
     public String obterEstatisticasRapidas() {
         return String.format("Equipes: %d | Membros: %d | Média: %.1f | Eficiência: %.1f%%",
-                equipes.size(),
+                getTotalEquipes(),
                 getTotalMembros(),
-                equipes.size() > 0 ? (double) getTotalMembros() / equipes.size() : 0,
+                getTotalEquipes() > 0 ? (double) getTotalMembros() / getTotalEquipes() : 0,
                 calcularEficienciaMedia());
     }
-}
\ No newline at end of file
+
+    private void indexarId(Equipe equipe) {
+        int id = equipe.getId();
+        if (id >= equipesPorId.length) {
+            int capacidade = Math.max(id + 1, equipesPorId.length * 2);
+            equipesPorId = Arrays.copyOf(equipesPorId, capacidade);
+            posicaoPorId = Arrays.copyOf(posicaoPorId, capacidade);
+        }
+        equipesPorId[id] = equipe;
+    }
+
+    /**
+     * Normaliza o nome usado como chave do índice (sem espaços nas pontas, minúsculas)
+     */
+    private static String chaveNome(String nome) {
+        return nome.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,24 +1,116 @@
 package servico;
 
+import busca.IndiceInvertido;
+import busca.MotorBusca;
+import eventos.BarramentoEventos;
+import eventos.TipoEvento;
+import metricas.EventoRelatorio;
+import metricas.MetricaOperacao;
+import metricas.RegistroMetricas;
 import modelo.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Classe de serviço para gerenciar projetos do sistema
  * Demonstra uso de coleções e tratamento de exceções
+ *
+ * Remover um projeto não desloca a lista: a posição dele vira uma lápide
+ * (null), descartada em lote quando metade da lista é lápide ou quando
+ * {@link #compactar()} é chamado, e a busca por ID usa um índice.
  * 
  * @author Equipe AutoMax
  * @version 1.0
  */
 public class GerenciadorProjeto {
-    // Coleção para armazenar todos os projetos do sistema
+    // Métricas de latência das operações públicas
+    private static final MetricaOperacao METRICA_ADICIONAR_PROJETO = RegistroMetricas.global().operacao("projeto.adicionarProjeto");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_NOME = RegistroMetricas.global().operacao("projeto.buscarPorNome");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_ID = RegistroMetricas.global().operacao("projeto.buscarPorId");
+    private static final MetricaOperacao METRICA_LISTAR_POR_STATUS = RegistroMetricas.global().operacao("projeto.listarPorStatus");
+    private static final MetricaOperacao METRICA_LISTAR_PROJETOS_POR_GERENTE = RegistroMetricas.global().operacao("projeto.listarProjetosPorGerente");
+    private static final MetricaOperacao METRICA_ATUALIZAR_STATUS = RegistroMetricas.global().operacao("projeto.atualizarStatus");
+    private static final MetricaOperacao METRICA_ATUALIZAR_STATUS_EM_LOTE = RegistroMetricas.global().operacao("projeto.atualizarStatusEmLote");
+    private static final MetricaOperacao METRICA_REMOVER_PROJETO = RegistroMetricas.global().operacao("projeto.removerProjeto");
+    private static final MetricaOperacao METRICA_ATUALIZAR_PROJETO = RegistroMetricas.global().operacao("projeto.atualizarProjeto");
+    private static final MetricaOperacao METRICA_GERAR_RELATORIO = RegistroMetricas.global().operacao("projeto.gerarRelatorio");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_PALAVRA_CHAVE = RegistroMetricas.global().operacao("projeto.buscarPorPalavraChave");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_RELEVANCIA = RegistroMetricas.global().operacao("projeto.buscarPorRelevancia");
+    private static final MetricaOperacao METRICA_CALCULAR_PROGRESSO_MEDIO = RegistroMetricas.global().operacao("projeto.calcularProgressoMedio");
+    private static final MetricaOperacao METRICA_LISTAR_PROJETOS_PROXIMOS_PRAZO = RegistroMetricas.global().operacao("projeto.listarProjetosProximosPrazo");
+    private static final MetricaOperacao METRICA_LISTAR_ATIVOS_ENTRE = RegistroMetricas.global().operacao("projeto.listarAtivosEntre");
+    private static final MetricaOperacao METRICA_LISTAR_CONTIDOS_ENTRE = RegistroMetricas.global().operacao("projeto.listarContidosEntre");
+
+    // Coleção para armazenar todos os projetos do sistema (null nas posições removidas)
     private ArrayList<Projeto> projetos;
+    // Posições removidas de "projetos" ainda não compactadas
+    private int lapides;
+    // Projetos indexados por Projeto.getId() e a posição de cada um em "projetos"
+    private Projeto[] projetosPorId;
+    private int[] posicaoPorId;
+    // Índice por nome normalizado (busca e verificação de duplicidade em O(1))
+    private HashMap<String, Projeto> projetosPorNome;
+    // Motor de busca textual (opcional), mantido atualizado a cada alteração
+    private MotorBusca motorBusca;
+    // Armazenamento colunar para as consultas analíticas (opcional)
+    private ColunasProjeto colunas;
+    // Índice dos períodos (início até fim previsto) para consultas por data
+    private final IndiceIntervalos intervalos = new IndiceIntervalos();
+    // Avisado pelos projetos cadastrados quando status, datas ou gerente mudam
+    private final ObservadorProjeto observador = this::projetoAlterado;
 
     /**
      * Construtor do gerenciador de projetos
+     * Com -Dautomax.projetos.colunar=true o armazenamento colunar já nasce ativo
      */
     public GerenciadorProjeto() {
         this.projetos = new ArrayList<>();
+        this.projetosPorNome = new HashMap<>();
+        this.projetosPorId = new Projeto[64];
+        this.posicaoPorId = new int[64];
+        if (Boolean.getBoolean("automax.projetos.colunar")) {
+            ativarArmazenamentoColunar();
+        }
+    }
+
+    /**
+     * Passa a manter os projetos também em colunas (vetores de primitivos)
+     * Status, prazo e gerente ficam em vetores contíguos, e listarPorStatus,
+     * calcularProgressoMedio, listarProjetosProximosPrazo e o relatório
+     * passam a percorrer esses vetores. Custa cerca de 13 bytes por projeto.
+     */
+    public void ativarArmazenamentoColunar() {
+        if (colunas == null) {
+            colunas = new ColunasProjeto(projetos);
+        }
+    }
+
+    /**
+     * Descarta o armazenamento colunar (as consultas voltam a varrer a lista)
+     */
+    public void desativarArmazenamentoColunar() {
+        colunas = null;
+    }
+
+    public boolean isArmazenamentoColunarAtivo() {
+        return colunas != null;
+    }
+
+    /**
+     * Conecta um motor de busca e indexa os projetos já cadastrados
+     * @param motorBusca Motor de busca compartilhado
+     */
+    public void conectarMotorBusca(MotorBusca motorBusca) {
+        this.motorBusca = motorBusca;
+        for (Projeto projeto : projetos) {
+            if (projeto != null) {
+                motorBusca.indexarProjeto(projeto);
+            }
+        }
     }
 
     /**
@@ -27,6 +119,7 @@ public class GerenciadorProjeto {
      * @return true se adicionado com sucesso
      */
     public boolean adicionarProjeto(Projeto projeto) {
+        long inicio = METRICA_ADICIONAR_PROJETO.iniciar();
         try {
             if (projeto == null) {
                 System.out.println("Projeto inválido!");
@@ -39,13 +132,27 @@ public class GerenciadorProjeto {
                 return false;
             }
 
+            indexarId(projeto);
+            posicaoPorId[projeto.getId()] = projetos.size();
             projetos.add(projeto);
+            projetosPorNome.put(chaveNome(projeto.getNome()), projeto);
+            if (colunas != null) {
+                colunas.adicionar(projeto);
+            }
+            intervalos.atualizar(projeto);
+            projeto.setObservador(observador);
+            if (motorBusca != null) {
+                motorBusca.indexarProjeto(projeto);
+            }
+            BarramentoEventos.global().publicar(TipoEvento.PROJETO_ADICIONADO, projeto);
             System.out.println("Projeto '" + projeto.getNome() + "' adicionado com sucesso!");
             return true;
 
         } catch (Exception e) {
             System.out.println("Erro ao adicionar projeto: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_ADICIONAR_PROJETO.registrar(inicio);
         }
     }
 
@@ -54,15 +161,18 @@ public class GerenciadorProjeto {
      */
     public void listarProjetos() {
         System.out.println("LISTA DE PROJETOS DO SISTEMA");
-        System.out.println("Total de projetos: " + projetos.size());
+        System.out.println("Total de projetos: " + getTotalProjetos());
         System.out.println("═".repeat(70));
 
-        if (projetos.isEmpty()) {
+        if (getTotalProjetos() == 0) {
             System.out.println("Nenhum projeto cadastrado no sistema.");
         } else {
-            for (int i = 0; i < projetos.size(); i++) {
-                Projeto projeto = projetos.get(i);
-                System.out.println((i + 1) + ". " + projeto.getNome());
+            int numero = 0;
+            for (Projeto projeto : projetos) {
+                if (projeto == null) {
+                    continue;
+                }
+                System.out.println(++numero + ". " + projeto.getNome());
                 System.out.println("   ID: " + projeto.getId());
                 System.out.println("   Status: " + projeto.getStatus() + " (" + projeto.calcularProgresso() + "%)");
                 System.out.println("   Período: " + projeto.getDataInicio() + " até " + projeto.getDataFimPrevista());
@@ -81,16 +191,14 @@ public class GerenciadorProjeto {
      * @return Projeto encontrado ou null
      */
     public Projeto buscarPorNome(String nome) {
+        long inicio = METRICA_BUSCAR_POR_NOME.iniciar();
         try {
-            for (Projeto projeto : projetos) {
-                if (projeto.getNome().equalsIgnoreCase(nome.trim())) {
-                    return projeto;
-                }
-            }
-            return null;
+            return projetosPorNome.get(chaveNome(nome));
         } catch (Exception e) {
             System.out.println("Erro ao buscar projeto: " + e.getMessage());
             return null;
+        } finally {
+            METRICA_BUSCAR_POR_NOME.registrar(inicio);
         }
     }
 
@@ -100,12 +208,12 @@ public class GerenciadorProjeto {
      * @return Projeto encontrado ou null
      */
     public Projeto buscarPorId(int id) {
-        for (Projeto projeto : projetos) {
-            if (projeto.getId() == id) {
-                return projeto;
-            }
+        long inicio = METRICA_BUSCAR_POR_ID.iniciar();
+        try {
+            return id >= 0 && id < projetosPorId.length ? projetosPorId[id] : null;
+        } finally {
+            METRICA_BUSCAR_POR_ID.registrar(inicio);
         }
-        return null;
     }
 
     /**
@@ -114,15 +222,23 @@ public class GerenciadorProjeto {
      * @return Lista de projetos com o status especificado
      */
     public ArrayList<Projeto> listarPorStatus(String status) {
-        ArrayList<Projeto> projetosFiltrados = new ArrayList<>();
+        long inicio = METRICA_LISTAR_POR_STATUS.iniciar();
+        try {
+            if (colunas != null) {
+                return colunas.listarPorStatus(status);
+            }
+            ArrayList<Projeto> projetosFiltrados = new ArrayList<>();
         
-        for (Projeto projeto : projetos) {
-            if (projeto.getStatus().equalsIgnoreCase(status)) {
-                projetosFiltrados.add(projeto);
+            for (Projeto projeto : projetos) {
+                if (projeto != null && projeto.getStatus().equalsIgnoreCase(status)) {
+                    projetosFiltrados.add(projeto);
+                }
             }
-        }
         
-        return projetosFiltrados;
+            return projetosFiltrados;
+        } finally {
+            METRICA_LISTAR_POR_STATUS.registrar(inicio);
+        }
     }
 
     /**
@@ -131,16 +247,21 @@ public class GerenciadorProjeto {
      * @return Lista de projetos do gerente
      */
     public ArrayList<Projeto> listarProjetosPorGerente(Gerente gerente) {
-        ArrayList<Projeto> projetosDoGerente = new ArrayList<>();
+        long inicio = METRICA_LISTAR_PROJETOS_POR_GERENTE.iniciar();
+        try {
+            ArrayList<Projeto> projetosDoGerente = new ArrayList<>();
         
-        for (Projeto projeto : projetos) {
-            if (projeto.getGerenteResponsavel() != null && 
-                projeto.getGerenteResponsavel().equals(gerente)) {
-                projetosDoGerente.add(projeto);
+            for (Projeto projeto : projetos) {
+                if (projeto != null && projeto.getGerenteResponsavel() != null && 
+                    projeto.getGerenteResponsavel().equals(gerente)) {
+                    projetosDoGerente.add(projeto);
+                }
             }
-        }
         
-        return projetosDoGerente;
+            return projetosDoGerente;
+        } finally {
+            METRICA_LISTAR_PROJETOS_POR_GERENTE.registrar(inicio);
+        }
     }
 
     /**
@@ -150,6 +271,7 @@ public class GerenciadorProjeto {
      * @return true se atualizado com sucesso
      */
     public boolean atualizarStatus(int idProjeto, String novoStatus) {
+        long inicio = METRICA_ATUALIZAR_STATUS.iniciar();
         try {
             Projeto projeto = buscarPorId(idProjeto);
             if (projeto != null) {
@@ -162,6 +284,64 @@ public class GerenciadorProjeto {
         } catch (Exception e) {
             System.out.println("Erro ao atualizar status: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_ATUALIZAR_STATUS.registrar(inicio);
+        }
+    }
+
+    /**
+     * Atualiza o status de vários projetos em uma única operação
+     * Os projetos são resolvidos pelo índice de IDs e todos os status
+     * são validados antes de qualquer alteração; se algum ID não existir ou
+     * algum status for inválido, nenhum projeto é alterado.
+     * @param alteracoes Novo status por ID de projeto
+     * @return Resultado de cada alteração, na ordem de iteração do mapa
+     *         (use um LinkedHashMap para controlar a ordem)
+     */
+    public ResultadoLote[] atualizarStatusEmLote(Map<Integer, String> alteracoes) {
+        long inicio = METRICA_ATUALIZAR_STATUS_EM_LOTE.iniciar();
+        ResultadoLote[] resultados = new ResultadoLote[alteracoes.size()];
+        try {
+            Projeto[] alvos = new Projeto[resultados.length];
+            String[] novosStatus = new String[resultados.length];
+            int i = 0;
+            for (Map.Entry<Integer, String> alteracao : alteracoes.entrySet()) {
+                Integer id = alteracao.getKey();
+                Projeto projeto = id != null ? buscarPorId(id) : null;
+                String status = Projeto.normalizarStatus(alteracao.getValue());
+                if (projeto == null) {
+                    resultados[i] = ResultadoLote.NAO_ENCONTRADO;
+                } else if (status == null) {
+                    resultados[i] = ResultadoLote.INVALIDO;
+                } else if (status.equals(projeto.getStatus())) {
+                    resultados[i] = ResultadoLote.SEM_ALTERACAO;
+                } else {
+                    resultados[i] = ResultadoLote.APLICADO;
+                    alvos[i] = projeto;
+                    novosStatus[i] = status;
+                }
+                i++;
+            }
+
+            if (!ResultadoLote.confirmar(resultados)) {
+                System.out.println("Lote rejeitado: "
+                                 + ResultadoLote.contar(resultados, ResultadoLote.NAO_ENCONTRADO) + " projeto(s) não encontrado(s), "
+                                 + ResultadoLote.contar(resultados, ResultadoLote.INVALIDO) + " status inválido(s); nenhum projeto alterado");
+                return resultados;
+            }
+            for (i = 0; i < alvos.length; i++) {
+                if (alvos[i] != null) {
+                    alvos[i].atualizarStatus(novosStatus[i], false);
+                }
+            }
+            System.out.println(ResultadoLote.contar(resultados, ResultadoLote.APLICADO) + " projeto(s) com status atualizado");
+            return resultados;
+        } catch (Exception e) {
+            System.out.println("Erro ao atualizar status em lote: " + e.getMessage());
+            Arrays.fill(resultados, ResultadoLote.CANCELADO);
+            return resultados;
+        } finally {
+            METRICA_ATUALIZAR_STATUS_EM_LOTE.registrar(inicio);
         }
     }
 
@@ -171,10 +351,31 @@ public class GerenciadorProjeto {
      * @return true se removido com sucesso
      */
     public boolean removerProjeto(int idProjeto) {
+        long inicio = METRICA_REMOVER_PROJETO.iniciar();
         try {
             Projeto projeto = buscarPorId(idProjeto);
             if (projeto != null) {
-                projetos.remove(projeto);
+                projetos.set(posicaoPorId[idProjeto], null);
+                lapides++;
+                projetosPorId[idProjeto] = null;
+                projetosPorNome.remove(chaveNome(projeto.getNome()));
+                if (colunas != null) {
+                    colunas.remover(projeto);
+                }
+                intervalos.remover(projeto);
+                if (projeto.getObservador() == observador) {
+                    projeto.setObservador(null);
+                }
+                if (projeto.getGerenteResponsavel() != null) {
+                    projeto.getGerenteResponsavel().removerProjetoGerenciado(projeto);
+                }
+                if (motorBusca != null) {
+                    motorBusca.removerProjeto(projeto);
+                }
+                if (lapides * 2 > projetos.size()) {
+                    compactar();
+                }
+                BarramentoEventos.global().publicar(TipoEvento.PROJETO_REMOVIDO, projeto);
                 System.out.println("Projeto '" + projeto.getNome() + "' removido com sucesso!");
                 return true;
             } else {
@@ -184,6 +385,52 @@ public class GerenciadorProjeto {
         } catch (Exception e) {
             System.out.println("Erro ao remover projeto: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_REMOVER_PROJETO.registrar(inicio);
+        }
+    }
+
+    /**
+     * Atualiza nome e/ou descrição de um projeto
+     * @param idProjeto ID do projeto
+     * @param novoNome Novo nome (null para manter atual)
+     * @param novaDescricao Nova descrição (null para manter atual)
+     * @return true se atualizado com sucesso
+     */
+    public boolean atualizarProjeto(int idProjeto, String novoNome, String novaDescricao) {
+        long inicio = METRICA_ATUALIZAR_PROJETO.iniciar();
+        try {
+            Projeto projeto = buscarPorId(idProjeto);
+            if (projeto != null) {
+                String nomeAnterior = projeto.getNome();
+                if (novoNome != null && !novoNome.trim().isEmpty()) {
+                    Projeto existente = buscarPorNome(novoNome);
+                    if (existente != null && existente != projeto) {
+                        System.out.println("Já existe um projeto com o nome: " + novoNome);
+                        return false;
+                    }
+                    projetosPorNome.remove(chaveNome(projeto.getNome()));
+                    projeto.setNome(novoNome);
+                    projetosPorNome.put(chaveNome(novoNome), projeto);
+                }
+                if (novaDescricao != null && !novaDescricao.trim().isEmpty()) {
+                    projeto.setDescricao(novaDescricao);
+                }
+                if (motorBusca != null) {
+                    motorBusca.indexarProjeto(projeto);
+                }
+                BarramentoEventos.global().publicar(TipoEvento.PROJETO_ATUALIZADO, projeto, null, nomeAnterior, projeto.getNome());
+                System.out.println("Projeto atualizado com sucesso!");
+                return true;
+            } else {
+                System.out.println("Projeto com ID " + idProjeto + " não encontrado!");
+                return false;
+            }
+        } catch (Exception e) {
+            System.out.println("Erro ao atualizar projeto: " + e.getMessage());
+            return false;
+        } finally {
+            METRICA_ATUALIZAR_PROJETO.registrar(inicio);
         }
     }
 
@@ -191,111 +438,149 @@ public class GerenciadorProjeto {
      * Gera relatório completo dos projetos
      */
     public void gerarRelatorio() {
-        System.out.println("RELATÓRIO COMPLETO DE PROJETOS");
-        System.out.println("═".repeat(60));
+        long inicio = METRICA_GERAR_RELATORIO.iniciar();
+        EventoRelatorio evento = new EventoRelatorio();
+        evento.begin();
+        try {
+            System.out.println("RELATÓRIO COMPLETO DE PROJETOS");
+            System.out.println("═".repeat(60));
         
-        int total = projetos.size();
-        if (total == 0) {
-            System.out.println("Nenhum projeto cadastrado para gerar relatório.");
-            return;
-        }
+            int total = getTotalProjetos();
+            if (total == 0) {
+                System.out.println("Nenhum projeto cadastrado para gerar relatório.");
+                return;
+            }
 
-        // Estatísticas por status
-        int planejados = listarPorStatus("Planejado").size();
-        int emAndamento = listarPorStatus("Em Andamento").size();
-        int concluidos = listarPorStatus("Concluído").size();
-        int cancelados = listarPorStatus("Cancelado").size();
-        int pausados = listarPorStatus("Pausado").size();
-
-        System.out.println("ESTATÍSTICAS GERAIS:");
-        System.out.println("Total de projetos: " + total);
-        System.out.println("┌─────────────────┬─────────┬─────────────┐");
-        System.out.println("│ Status          │ Qtd     │ Percentual  │");
-        System.out.println("├─────────────────┼─────────┼─────────────┤");
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Planejado", planejados, 
-                         String.format("%.1f%%", (planejados * 100.0 / total)));
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Em Andamento", emAndamento, 
-                         String.format("%.1f%%", (emAndamento * 100.0 / total)));
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Concluído", concluidos, 
-                         String.format("%.1f%%", (concluidos * 100.0 / total)));
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Cancelado", cancelados, 
-                         String.format("%.1f%%", (cancelados * 100.0 / total)));
-        System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Pausado", pausados, 
-                         String.format("%.1f%%", (pausados * 100.0 / total)));
-        System.out.println("└─────────────────┴─────────┴─────────────┘");
-
-        // Projetos por gerente
-        System.out.println("\nPROJETOS POR GERENTE:");
-        contarProjetosPorGerente();
-
-        // Projetos em destaque
-        System.out.println("\nPROJETOS EM DESTAQUE:");
-        if (!listarPorStatus("Em Andamento").isEmpty()) {
-            System.out.println("• Projetos ativos:");
-            for (Projeto projeto : listarPorStatus("Em Andamento")) {
-                System.out.println("  - " + projeto.getNome() + " (" + projeto.calcularProgresso() + "%)");
+            // Estatísticas por status
+            int planejados = listarPorStatus("Planejado").size();
+            int emAndamento = listarPorStatus("Em Andamento").size();
+            int concluidos = listarPorStatus("Concluído").size();
+            int cancelados = listarPorStatus("Cancelado").size();
+            int pausados = listarPorStatus("Pausado").size();
+
+            System.out.println("ESTATÍSTICAS GERAIS:");
+            System.out.println("Total de projetos: " + total);
+            System.out.println("┌─────────────────┬─────────┬─────────────┐");
+            System.out.println("│ Status          │ Qtd     │ Percentual  │");
+            System.out.println("├─────────────────┼─────────┼─────────────┤");
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Planejado", planejados, 
+                             String.format("%.1f%%", (planejados * 100.0 / total)));
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Em Andamento", emAndamento, 
+                             String.format("%.1f%%", (emAndamento * 100.0 / total)));
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Concluído", concluidos, 
+                             String.format("%.1f%%", (concluidos * 100.0 / total)));
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Cancelado", cancelados, 
+                             String.format("%.1f%%", (cancelados * 100.0 / total)));
+            System.out.printf("│ %-15s │ %-7d │ %-11s │%n", "Pausado", pausados, 
+                             String.format("%.1f%%", (pausados * 100.0 / total)));
+            System.out.println("└─────────────────┴─────────┴─────────────┘");
+
+            // Projetos por gerente
+            System.out.println("\nPROJETOS POR GERENTE:");
+            contarProjetosPorGerente();
+
+            // Projetos em destaque
+            System.out.println("\nPROJETOS EM DESTAQUE:");
+            if (!listarPorStatus("Em Andamento").isEmpty()) {
+                System.out.println("• Projetos ativos:");
+                for (Projeto projeto : listarPorStatus("Em Andamento")) {
+                    System.out.println("  - " + projeto.getNome() + " (" + projeto.calcularProgresso() + "%)");
+                }
             }
-        }
 
-        if (!listarPorStatus("Concluído").isEmpty()) {
-            System.out.println("• Últimos projetos concluídos:");
-            ArrayList<Projeto> concluidos_lista = listarPorStatus("Concluído");
-            int limite = Math.min(3, concluidos_lista.size());
-            for (int i = 0; i < limite; i++) {
-                System.out.println("  - " + concluidos_lista.get(i).getNome());
+            if (!listarPorStatus("Concluído").isEmpty()) {
+                System.out.println("• Últimos projetos concluídos:");
+                ArrayList<Projeto> concluidos_lista = listarPorStatus("Concluído");
+                int limite = Math.min(3, concluidos_lista.size());
+                for (int i = 0; i < limite; i++) {
+                    System.out.println("  - " + concluidos_lista.get(i).getNome());
+                }
             }
-        }
 
-        System.out.println("═".repeat(60));
-        System.out.println();
+            System.out.println("═".repeat(60));
+            System.out.println();
+        } finally {
+            METRICA_GERAR_RELATORIO.registrar(inicio);
+            evento.concluir("projetos", getTotalProjetos());
+        }
     }
 
     /**
      * Método auxiliar para contar projetos por gerente
      */
     private void contarProjetosPorGerente() {
-        ArrayList<Gerente> gerentes = new ArrayList<>();
-        ArrayList<Integer> contadores = new ArrayList<>();
-
-        for (Projeto projeto : projetos) {
-            Gerente gerente = projeto.getGerenteResponsavel();
-            if (gerente != null) {
-                int index = gerentes.indexOf(gerente);
-                if (index >= 0) {
-                    contadores.set(index, contadores.get(index) + 1);
-                } else {
-                    gerentes.add(gerente);
-                    contadores.add(1);
+        // LinkedHashMap mantém a ordem de primeira ocorrência com contagem em O(1)
+        LinkedHashMap<Gerente, Integer> contadores;
+        if (colunas != null) {
+            contadores = colunas.contarPorGerente();
+        } else {
+            contadores = new LinkedHashMap<>();
+            for (Projeto projeto : projetos) {
+                Gerente gerente = projeto != null ? projeto.getGerenteResponsavel() : null;
+                if (gerente != null) {
+                    contadores.merge(gerente, 1, Integer::sum);
                 }
             }
         }
 
-        if (gerentes.isEmpty()) {
+        if (contadores.isEmpty()) {
             System.out.println("  Nenhum projeto com gerente definido.");
         } else {
-            for (int i = 0; i < gerentes.size(); i++) {
-                System.out.println("  " + gerentes.get(i).getNome() + ": " + contadores.get(i) + " projetos");
+            for (Map.Entry<Gerente, Integer> entrada : contadores.entrySet()) {
+                System.out.println("  " + entrada.getKey().getNome() + ": " + entrada.getValue() + " projetos");
             }
         }
     }
 
     /**
-     * Busca projetos por palavra-chave na descrição
+     * Busca projetos por palavra-chave no nome ou na descrição
+     * Varredura por substring, sem diferenciar maiúsculas de minúsculas
+     * (para busca por relevância use {@link #buscarPorRelevancia})
      * @param palavraChave Palavra a ser buscada
      * @return Lista de projetos encontrados
      */
     public ArrayList<Projeto> buscarPorPalavraChave(String palavraChave) {
-        ArrayList<Projeto> encontrados = new ArrayList<>();
-        String busca = palavraChave.toLowerCase().trim();
+        long inicio = METRICA_BUSCAR_POR_PALAVRA_CHAVE.iniciar();
+        try {
+            ArrayList<Projeto> encontrados = new ArrayList<>();
+            String busca = palavraChave.toLowerCase().trim();
 
-        for (Projeto projeto : projetos) {
-            if (projeto.getNome().toLowerCase().contains(busca) ||
-                projeto.getDescricao().toLowerCase().contains(busca)) {
-                encontrados.add(projeto);
+            for (Projeto projeto : projetos) {
+                if (projeto == null) {
+                    continue;
+                }
+                if (projeto.getNome().toLowerCase().contains(busca) ||
+                    projeto.getDescricao().toLowerCase().contains(busca)) {
+                    encontrados.add(projeto);
+                }
             }
+
+            return encontrados;
+        } finally {
+            METRICA_BUSCAR_POR_PALAVRA_CHAVE.registrar(inicio);
         }
+    }
 
-        return encontrados;
+    /**
+     * Busca projetos por relevância (BM25) no nome e na descrição
+     * Cada termo da consulta é buscado por prefixo e todos precisam aparecer;
+     * o nome pesa o dobro da descrição. Sem motor de busca conectado, devolve
+     * os primeiros resultados da varredura por substring
+     * @param consulta Texto da consulta
+     * @param limite Número máximo de resultados
+     * @return Projetos encontrados, do mais ao menos relevante
+     */
+    public ArrayList<Projeto> buscarPorRelevancia(String consulta, int limite) {
+        long inicio = METRICA_BUSCAR_POR_RELEVANCIA.iniciar();
+        try {
+            if (motorBusca != null) {
+                return motorBusca.buscarProjetos(MotorBusca.consultaPorPrefixo(consulta), IndiceInvertido.Modo.E, limite);
+            }
+            ArrayList<Projeto> encontrados = buscarPorPalavraChave(consulta);
+            return encontrados.size() > limite ? new ArrayList<>(encontrados.subList(0, limite)) : encontrados;
+        } finally {
+            METRICA_BUSCAR_POR_RELEVANCIA.registrar(inicio);
+        }
     }
 
     /**
@@ -303,16 +588,26 @@ public class GerenciadorProjeto {
      * @return Progresso médio de todos os projetos
      */
     public double calcularProgressoMedio() {
-        if (projetos.isEmpty()) {
-            return 0.0;
-        }
+        long inicio = METRICA_CALCULAR_PROGRESSO_MEDIO.iniciar();
+        try {
+            if (getTotalProjetos() == 0) {
+                return 0.0;
+            }
+            if (colunas != null) {
+                return colunas.calcularProgressoMedio();
+            }
 
-        int somaProgresso = 0;
-        for (Projeto projeto : projetos) {
-            somaProgresso += projeto.calcularProgresso();
-        }
+            int somaProgresso = 0;
+            for (Projeto projeto : projetos) {
+                if (projeto != null) {
+                    somaProgresso += projeto.calcularProgresso();
+                }
+            }
 
-        return (double) somaProgresso / projetos.size();
+            return (double) somaProgresso / getTotalProjetos();
+        } finally {
+            METRICA_CALCULAR_PROGRESSO_MEDIO.registrar(inicio);
+        }
     }
 
     /**
@@ -321,17 +616,98 @@ public class GerenciadorProjeto {
      * @return Lista de projetos próximos do prazo
      */
     public ArrayList<Projeto> listarProjetosProximosPrazo(String dataAtual) {
-        ArrayList<Projeto> proximosPrazo = new ArrayList<>();
+        long inicio = METRICA_LISTAR_PROJETOS_PROXIMOS_PRAZO.iniciar();
+        try {
+            if (colunas != null) {
+                return colunas.listarEmAtraso(dataAtual);
+            }
+            ArrayList<Projeto> proximosPrazo = new ArrayList<>();
         
-        for (Projeto projeto : projetos) {
-            if (projeto.estaEmAtraso(dataAtual) && 
-                !projeto.getStatus().equals("Concluído") && 
-                !projeto.getStatus().equals("Cancelado")) {
-                proximosPrazo.add(projeto);
+            for (Projeto projeto : projetos) {
+                if (projeto != null && projeto.estaEmAtraso(dataAtual) && 
+                    !projeto.getStatus().equals("Concluído") && 
+                    !projeto.getStatus().equals("Cancelado")) {
+                    proximosPrazo.add(projeto);
+                }
             }
-        }
         
-        return proximosPrazo;
+            return proximosPrazo;
+        } finally {
+            METRICA_LISTAR_PROJETOS_PROXIMOS_PRAZO.registrar(inicio);
+        }
+    }
+
+    /**
+     * Lista os projetos ativos em uma data (início <= data <= fim previsto)
+     * @param data Data no formato dd/MM/yyyy
+     * @return Projetos ativos, em ordem de data de início
+     */
+    public ArrayList<Projeto> listarAtivosEm(String data) {
+        return listarAtivosEntre(data, data);
+    }
+
+    /**
+     * Lista os projetos cujo período se sobrepõe a um intervalo de datas
+     * (ex.: ativos em algum momento de março), usando o índice de períodos
+     * Projetos sem datas válidas no formato dd/MM/yyyy não são considerados.
+     * @param dataInicial Primeiro dia do intervalo (dd/MM/yyyy)
+     * @param dataFinal Último dia do intervalo (dd/MM/yyyy)
+     * @return Projetos ativos no intervalo, em ordem de data de início
+     */
+    public ArrayList<Projeto> listarAtivosEntre(String dataInicial, String dataFinal) {
+        long inicio = METRICA_LISTAR_ATIVOS_ENTRE.iniciar();
+        try {
+            int[] periodo = lerPeriodo(dataInicial, dataFinal);
+            return periodo == null ? new ArrayList<>() : intervalos.sobrepostos(periodo[0], periodo[1]);
+        } finally {
+            METRICA_LISTAR_ATIVOS_ENTRE.registrar(inicio);
+        }
+    }
+
+    /**
+     * Lista os projetos que começam e terminam dentro de um intervalo de datas
+     * Projetos sem datas válidas no formato dd/MM/yyyy não são considerados.
+     * @param dataInicial Primeiro dia do intervalo (dd/MM/yyyy)
+     * @param dataFinal Último dia do intervalo (dd/MM/yyyy)
+     * @return Projetos contidos no intervalo, em ordem de data de início
+     */
+    public ArrayList<Projeto> listarContidosEntre(String dataInicial, String dataFinal) {
+        long inicio = METRICA_LISTAR_CONTIDOS_ENTRE.iniciar();
+        try {
+            int[] periodo = lerPeriodo(dataInicial, dataFinal);
+            return periodo == null ? new ArrayList<>() : intervalos.contidos(periodo[0], periodo[1]);
+        } finally {
+            METRICA_LISTAR_CONTIDOS_ENTRE.registrar(inicio);
+        }
+    }
+
+    /**
+     * Converte o intervalo de consulta em dias desde a época
+     * @return {inicial, final}, ou null se alguma data for inválida
+     */
+    private static int[] lerPeriodo(String dataInicial, String dataFinal) {
+        int de = Projeto.diaDaEpoca(dataInicial);
+        int ate = Projeto.diaDaEpoca(dataFinal);
+        if (!IndiceIntervalos.valido(de) || !IndiceIntervalos.valido(ate)) {
+            System.out.println("Data inválida (use dd/MM/yyyy): "
+                             + (IndiceIntervalos.valido(de) ? dataFinal : dataInicial));
+            return null;
+        }
+        if (de > ate) {
+            System.out.println("Data inicial posterior à data final!");
+            return null;
+        }
+        return new int[] {de, ate};
+    }
+
+    /**
+     * Mantém as estruturas derivadas em dia quando um projeto muda
+     */
+    private void projetoAlterado(Projeto projeto) {
+        if (colunas != null) {
+            colunas.atualizar(projeto);
+        }
+        intervalos.atualizar(projeto);
     }
 
     /**
@@ -339,7 +715,40 @@ public class GerenciadorProjeto {
      * @return Cópia da lista de projetos
      */
     public ArrayList<Projeto> listarProjetosList() {
-        return new ArrayList<>(projetos);
+        if (lapides == 0) {
+            return new ArrayList<>(projetos);
+        }
+        ArrayList<Projeto> copia = new ArrayList<>(getTotalProjetos());
+        for (Projeto projeto : projetos) {
+            if (projeto != null) {
+                copia.add(projeto);
+            }
+        }
+        return copia;
+    }
+
+    /**
+     * Obtém uma página da lista de projetos (copia apenas o trecho pedido)
+     * @param inicio Posição do primeiro projeto (a partir de 0)
+     * @param limite Número máximo de projetos na página
+     * @return Projetos da página, na ordem de cadastro
+     */
+    public ArrayList<Projeto> listarPagina(int inicio, int limite) {
+        if (lapides > 0) {
+            // Com lápides a posição conta só os projetos presentes
+            ArrayList<Projeto> pagina = new ArrayList<>();
+            int posicao = 0;
+            for (int i = 0; i < projetos.size() && pagina.size() < limite; i++) {
+                Projeto projeto = projetos.get(i);
+                if (projeto != null && posicao++ >= inicio) {
+                    pagina.add(projeto);
+                }
+            }
+            return pagina;
+        }
+        int de = Math.max(0, Math.min(inicio, projetos.size()));
+        int ate = (int) Math.min(projetos.size(), (long) de + Math.max(0, limite));
+        return new ArrayList<>(projetos.subList(de, ate));
     }
 
     /**
@@ -347,7 +756,38 @@ public class GerenciadorProjeto {
      * @return Número total de projetos
      */
     public int getTotalProjetos() {
-        return projetos.size();
+        return projetos.size() - lapides;
+    }
+
+    /**
+     * Descarta as lápides da lista, preservando a ordem de cadastro
+     * Feito automaticamente quando metade da lista é lápide; pode ser
+     * antecipado em um momento ocioso.
+     * @return Quantidade de posições liberadas
+     */
+    public int compactar() {
+        int liberadas = lapides;
+        if (liberadas == 0) {
+            return 0;
+        }
+        int vivos = 0;
+        for (int i = 0; i < projetos.size(); i++) {
+            Projeto projeto = projetos.get(i);
+            if (projeto != null) {
+                posicaoPorId[projeto.getId()] = vivos;
+                projetos.set(vivos++, projeto);
+            }
+        }
+        projetos.subList(vivos, projetos.size()).clear();
+        lapides = 0;
+        return liberadas;
+    }
+
+    /**
+     * @return Posições removidas ainda não compactadas
+     */
+    public int getLapides() {
+        return lapides;
     }
 
     /**
@@ -356,9 +796,26 @@ public class GerenciadorProjeto {
      */
     public String obterEstatisticasRapidas() {
         return String.format("Projetos: %d | Ativos: %d | Concluídos: %d | Progresso Médio: %.1f%%",
-                projetos.size(),
+                getTotalProjetos(),
                 listarPorStatus("Em Andamento").size(),
                 listarPorStatus("Concluído").size(),
                 calcularProgressoMedio());
     }
-}
\ No newline at end of file
+
+    private void indexarId(Projeto projeto) {
+        int id = projeto.getId();
+        if (id >= projetosPorId.length) {
+            int capacidade = Math.max(id + 1, projetosPorId.length * 2);
+            projetosPorId = Arrays.copyOf(projetosPorId, capacidade);
+            posicaoPorId = Arrays.copyOf(posicaoPorId, capacidade);
+        }
+        projetosPorId[id] = projeto;
+    }
+
+    /**
+     * Normaliza o nome usado como chave do índice (sem espaços nas pontas, minúsculas)
+     */
+    private static String chaveNome(String nome) {
+        return nome.trim().toLowerCase(Locale.ROOT);
+    }
+}
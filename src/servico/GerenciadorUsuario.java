@@ -1,24 +1,110 @@
 package servico;
 
+import busca.MotorBusca;
+import eventos.BarramentoEventos;
+import eventos.TipoEvento;
+import metricas.EventoLogin;
+import metricas.EventoRelatorio;
+import metricas.MetricaOperacao;
+import metricas.RegistroMetricas;
 import modelo.*;
+import seguranca.CacheAutenticacao;
+import seguranca.GerenciadorSessao;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 
 /**
  * Classe de serviço para gerenciar usuários do sistema
  * Demonstra uso de coleções e tratamento de exceções
+ *
+ * Remover um usuário custa O(vínculos do usuário): a posição dele na lista
+ * geral vira uma lápide (null), descartada em lote quando metade da lista é
+ * lápide ou quando {@link #compactar()} é chamado; nas listas por papel o
+ * último da lista ocupa o lugar dele. Os vínculos são desfeitos pelos índices
+ * reversos (equipes do usuário, projetos do gerente, tarefas do colaborador),
+ * sem percorrer equipes nem projetos.
  * 
  * @author Equipe AutoMax
  * @version 1.0
  */
 public class GerenciadorUsuario {
-    // Coleção para armazenar todos os usuários do sistema
+    // Métricas de latência das operações públicas
+    private static final MetricaOperacao METRICA_ADICIONAR_USUARIO = RegistroMetricas.global().operacao("usuario.adicionarUsuario");
+    private static final MetricaOperacao METRICA_ADICIONAR_USUARIOS = RegistroMetricas.global().operacao("usuario.adicionarUsuarios");
+    private static final MetricaOperacao METRICA_AUTENTICAR = RegistroMetricas.global().operacao("usuario.autenticar");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_LOGIN = RegistroMetricas.global().operacao("usuario.buscarPorLogin");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_CPF = RegistroMetricas.global().operacao("usuario.buscarPorCpf");
+    private static final MetricaOperacao METRICA_ALTERAR_PAPEL = RegistroMetricas.global().operacao("usuario.alterarPapel");
+    private static final MetricaOperacao METRICA_REMOVER_USUARIO = RegistroMetricas.global().operacao("usuario.removerUsuario");
+    private static final MetricaOperacao METRICA_ATUALIZAR_USUARIO = RegistroMetricas.global().operacao("usuario.atualizarUsuario");
+    private static final MetricaOperacao METRICA_GERAR_RELATORIO = RegistroMetricas.global().operacao("usuario.gerarRelatorio");
+    private static final MetricaOperacao METRICA_BUSCAR_POR_NOME = RegistroMetricas.global().operacao("usuario.buscarPorNome");
+
+    // Coleção para armazenar todos os usuários do sistema (null nas posições removidas)
     private ArrayList<Usuario> usuarios;
+    // Posições removidas de "usuarios" ainda não compactadas
+    private int lapides;
+    // Índice por login para evitar varredura linear na autenticação
+    private HashMap<String, Usuario> usuariosPorLogin;
+    // Usuários indexados por Usuario.getId() e o conjunto desses IDs
+    private Usuario[] usuariosPorId;
+    private MapaBits idsUsuarios;
+    // Posição de cada usuário em "usuarios" e na lista do seu papel, indexadas pelo ID
+    private int[] posicaoPorId;
+    private int[] posicaoNoPapelPorId;
+    // Listas de usuários indexadas pelo ordinal do papel (filtragem em O(1))
+    private ArrayList<ArrayList<Usuario>> usuariosPorPapel;
+    // Cache de verificações de senha recentes (PBKDF2 é propositalmente lento)
+    private CacheAutenticacao cacheAutenticacao;
+    // Motor de busca textual (opcional), mantido atualizado a cada alteração
+    private MotorBusca motorBusca;
+    // Sessões abertas (opcional), encerradas quando o usuário sai ou troca de papel
+    private GerenciadorSessao gerenciadorSessao;
 
     /**
      * Construtor do gerenciador de usuários
      */
     public GerenciadorUsuario() {
+        this(new CacheAutenticacao(10_000, 5 * 60 * 1000L));
+    }
+
+    /**
+     * Construtor com cache de autenticação personalizado
+     * @param cacheAutenticacao Cache de verificações de senha
+     */
+    public GerenciadorUsuario(CacheAutenticacao cacheAutenticacao) {
         this.usuarios = new ArrayList<>();
+        this.usuariosPorLogin = new HashMap<>();
+        this.usuariosPorId = new Usuario[64];
+        this.idsUsuarios = new MapaBits();
+        this.posicaoPorId = new int[64];
+        this.posicaoNoPapelPorId = new int[64];
+        this.usuariosPorPapel = new ArrayList<>();
+        this.cacheAutenticacao = cacheAutenticacao;
+    }
+
+    /**
+     * Conecta um motor de busca e indexa os usuários já cadastrados
+     * @param motorBusca Motor de busca compartilhado
+     */
+    public void conectarMotorBusca(MotorBusca motorBusca) {
+        this.motorBusca = motorBusca;
+        for (Usuario usuario : usuarios) {
+            if (usuario != null) {
+                motorBusca.indexarUsuario(usuario);
+            }
+        }
+    }
+
+    /**
+     * Conecta o gerenciador de sessões cujas sessões devem ser encerradas
+     * quando um usuário é removido ou tem o papel alterado
+     * @param gerenciadorSessao Gerenciador de sessões
+     */
+    public void conectarSessoes(GerenciadorSessao gerenciadorSessao) {
+        this.gerenciadorSessao = gerenciadorSessao;
     }
 
     /**
@@ -27,6 +113,7 @@ public class GerenciadorUsuario {
      * @return true se adicionado com sucesso, false se login já existe
      */
     public boolean adicionarUsuario(Usuario usuario) {
+        long inicio = METRICA_ADICIONAR_USUARIO.iniciar();
         try {
             // Verificar se já existe usuário com o mesmo login
             if (buscarPorLogin(usuario.getLogin()) != null) {
@@ -40,33 +127,117 @@ public class GerenciadorUsuario {
             //    return false;
             //}
 
-            usuarios.add(usuario);
+            registrar(usuario);
+            if (motorBusca != null) {
+                motorBusca.indexarUsuario(usuario);
+            }
+            publicarCadastro(TipoEvento.USUARIO_ADICIONADO, usuario);
             System.out.println("Usuário " + usuario.getNome() + " adicionado com sucesso!");
             return true;
 
         } catch (Exception e) {
             System.out.println("Erro ao adicionar usuário: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_ADICIONAR_USUARIO.registrar(inicio);
+        }
+    }
+
+    /**
+     * Adiciona vários usuários em uma única operação
+     * Todos são validados antes de qualquer alteração: se algum for nulo,
+     * sem login, ou tiver login já usado por outro usuário (no cadastro ou no
+     * próprio lote), nenhum é adicionado.
+     * @param novos Usuários a adicionar
+     * @return Resultado de cada usuário, na ordem de iteração da coleção
+     */
+    public ResultadoLote[] adicionarUsuarios(Collection<? extends Usuario> novos) {
+        long inicio = METRICA_ADICIONAR_USUARIOS.iniciar();
+        ResultadoLote[] resultados = new ResultadoLote[novos.size()];
+        try {
+            HashMap<String, Usuario> loginsDoLote = new HashMap<>();
+            ArrayList<Usuario> validos = new ArrayList<>(novos.size());
+            int i = 0;
+            for (Usuario usuario : novos) {
+                if (usuario == null || usuario.getLogin() == null) {
+                    resultados[i++] = ResultadoLote.INVALIDO;
+                    continue;
+                }
+                Usuario cadastrado = usuariosPorLogin.get(usuario.getLogin());
+                Usuario noLote = loginsDoLote.putIfAbsent(usuario.getLogin(), usuario);
+                if (cadastrado == usuario || noLote == usuario) {
+                    resultados[i++] = ResultadoLote.SEM_ALTERACAO;
+                } else if (cadastrado != null || noLote != null) {
+                    resultados[i++] = ResultadoLote.CONFLITO;
+                } else {
+                    resultados[i++] = ResultadoLote.APLICADO;
+                    validos.add(usuario);
+                }
+            }
+
+            if (!ResultadoLote.confirmar(resultados)) {
+                System.out.println("Lote rejeitado: "
+                                 + ResultadoLote.contar(resultados, ResultadoLote.INVALIDO) + " usuário(s) inválido(s), "
+                                 + ResultadoLote.contar(resultados, ResultadoLote.CONFLITO) + " login(s) em conflito; nenhum usuário adicionado");
+                return resultados;
+            }
+            usuarios.ensureCapacity(usuarios.size() + validos.size());
+            for (Usuario usuario : validos) {
+                registrar(usuario);
+                if (motorBusca != null) {
+                    motorBusca.indexarUsuario(usuario);
+                }
+                publicarCadastro(TipoEvento.USUARIO_ADICIONADO, usuario);
+            }
+            System.out.println(validos.size() + " usuário(s) adicionado(s) com sucesso!");
+            return resultados;
+        } catch (Exception e) {
+            System.out.println("Erro ao adicionar usuários: " + e.getMessage());
+            Arrays.fill(resultados, ResultadoLote.CANCELADO);
+            return resultados;
+        } finally {
+            METRICA_ADICIONAR_USUARIOS.registrar(inicio);
         }
     }
 
     /**
      * Autentica um usuário no sistema
+     * Verificações bem-sucedidas recentes são atendidas pelo cache,
+     * evitando recalcular o hash PBKDF2 da senha
      * @param login Login do usuário
      * @param senha Senha do usuário
      * @return Usuario autenticado ou null se credenciais inválidas
      */
     public Usuario autenticar(String login, String senha) {
+        long inicio = METRICA_AUTENTICAR.iniciar();
+        EventoLogin evento = new EventoLogin();
+        evento.begin();
+        Usuario autenticado = null;
+        boolean viaCache = false;
         try {
-            for (Usuario usuario : usuarios) {
-                if (usuario.getLogin().equals(login) && usuario.validarSenha(senha)) {
-                    return usuario;
-                }
+            if (login == null || senha == null) {
+                return null;
             }
-            return null; // Credenciais inválidas
+            Usuario usuario = usuariosPorLogin.get(login);
+            if (usuario == null) {
+                return null; // Credenciais inválidas
+            }
+
+            String hashAtual = usuario.getSenha();
+            if (cacheAutenticacao.contem(login, senha, hashAtual)) {
+                viaCache = true;
+                autenticado = usuario;
+            } else if (usuario.validarSenha(senha)) {
+                cacheAutenticacao.registrar(login, senha, hashAtual);
+                autenticado = usuario;
+            }
+            return autenticado; // null se credenciais inválidas
         } catch (Exception e) {
             System.out.println("Erro na autenticação: " + e.getMessage());
             return null;
+        } finally {
+            METRICA_AUTENTICAR.registrar(inicio);
+            evento.concluir(login, autenticado != null, viaCache);
         }
     }
 
@@ -76,16 +247,17 @@ public class GerenciadorUsuario {
      * @return Usuario encontrado ou null
      */
     public Usuario buscarPorLogin(String login) {
+        long inicio = METRICA_BUSCAR_POR_LOGIN.iniciar();
         try {
-            for (Usuario usuario : usuarios) {
-                if (usuario.getLogin().equals(login)) {
-                    return usuario;
-                }
+            if (login == null) {
+                return null;
             }
-            return null;
+            return usuariosPorLogin.get(login);
         } catch (Exception e) {
             System.out.println("Erro ao buscar usuário: " + e.getMessage());
             return null;
+        } finally {
+            METRICA_BUSCAR_POR_LOGIN.registrar(inicio);
         }
     }
 
@@ -95,12 +267,17 @@ public class GerenciadorUsuario {
      * @return Usuario encontrado ou null
      */
     public Usuario buscarPorCpf(String cpf) {
-        for (Usuario usuario : usuarios) {
-            if (usuario.getCpf().equals(cpf)) {
-                return usuario;
+        long inicio = METRICA_BUSCAR_POR_CPF.iniciar();
+        try {
+            for (Usuario usuario : usuarios) {
+                if (usuario != null && usuario.possuiCpf(cpf)) {
+                    return usuario;
+                }
             }
+            return null;
+        } finally {
+            METRICA_BUSCAR_POR_CPF.registrar(inicio);
         }
-        return null;
     }
 
     /**
@@ -108,15 +285,18 @@ public class GerenciadorUsuario {
      */
     public void listarUsuarios() {
         System.out.println("LISTA DE USUÁRIOS DO SISTEMA");
-        System.out.println("Total de usuários: " + usuarios.size());
+        System.out.println("Total de usuários: " + getTotalUsuarios());
         System.out.println("═".repeat(60));
 
-        if (usuarios.isEmpty()) {
+        if (getTotalUsuarios() == 0) {
             System.out.println("Nenhum usuário cadastrado no sistema.");
         } else {
-            for (int i = 0; i < usuarios.size(); i++) {
-                Usuario usuario = usuarios.get(i);
-                System.out.println((i + 1) + ". " + usuario.getNome());
+            int numero = 0;
+            for (Usuario usuario : usuarios) {
+                if (usuario == null) {
+                    continue;
+                }
+                System.out.println(++numero + ". " + usuario.getNome());
                 System.out.println("   Tipo: " + usuario.getClass().getSimpleName());
                 System.out.println("   Email: " + usuario.getEmail());
                 System.out.println("   Login: " + usuario.getLogin());
@@ -128,44 +308,145 @@ public class GerenciadorUsuario {
 
     /**
      * Lista apenas os gerentes do sistema
+     * Retorna uma cópia da lista do papel (sem percorrer os demais usuários);
+     * alterações posteriores no gerenciador não aparecem nela. Um Gerente
+     * com papel personalizado não está nela (ver {@link Papel})
      * @return Lista de gerentes
      */
     public ArrayList<Gerente> listarGerentes() {
-        ArrayList<Gerente> gerentes = new ArrayList<>();
-        for (Usuario usuario : usuarios) {
-            if (usuario instanceof Gerente) {
-                gerentes.add((Gerente) usuario);
-            }
-        }
-        return gerentes;
+        return copiaTipada(Papel.GERENTE);
     }
 
     /**
      * Lista apenas os colaboradores do sistema
+     * Retorna uma cópia da lista do papel COLABORADOR
      * @return Lista de colaboradores
      */
     public ArrayList<Colaborador> listarColaboradores() {
-        ArrayList<Colaborador> colaboradores = new ArrayList<>();
-        for (Usuario usuario : usuarios) {
-            if (usuario instanceof Colaborador) {
-                colaboradores.add((Colaborador) usuario);
-            }
-        }
-        return colaboradores;
+        return copiaTipada(Papel.COLABORADOR);
     }
 
     /**
      * Lista apenas os administradores do sistema
+     * Retorna uma cópia da lista do papel ADMINISTRADOR
      * @return Lista de administradores
      */
     public ArrayList<Administrador> listarAdministradores() {
-        ArrayList<Administrador> administradores = new ArrayList<>();
-        for (Usuario usuario : usuarios) {
-            if (usuario instanceof Administrador) {
-                administradores.add((Administrador) usuario);
+        return copiaTipada(Papel.ADMINISTRADOR);
+    }
+
+    /**
+     * Lista os usuários de um papel (inclusive papéis personalizados)
+     * Retorna uma cópia da lista do papel
+     * @param papel Papel desejado
+     * @return Lista de usuários com o papel
+     */
+    public ArrayList<Usuario> listarPorPapel(Papel papel) {
+        return new ArrayList<>(listaDoPapel(papel));
+    }
+
+    /**
+     * Conta usuários de um papel sem percorrer a lista geral
+     * @param papel Papel desejado
+     * @return Número de usuários com o papel
+     */
+    public int contarPorPapel(Papel papel) {
+        return papel.getOrdinal() < usuariosPorPapel.size()
+                ? usuariosPorPapel.get(papel.getOrdinal()).size() : 0;
+    }
+
+    /**
+     * Altera o papel de um usuário mantendo os índices por papel atualizados
+     * @param login Login do usuário
+     * @param novoPapel Novo papel
+     * @return true se alterado com sucesso
+     */
+    public boolean alterarPapel(String login, Papel novoPapel) {
+        long inicio = METRICA_ALTERAR_PAPEL.iniciar();
+        try {
+            Usuario usuario = buscarPorLogin(login);
+            if (usuario == null) {
+                System.out.println("Usuário não encontrado!");
+                return false;
+            }
+            if (novoPapel == null || !novoPapel.aceita(usuario)) {
+                System.out.println("Papel " + novoPapel + " incompatível com " + usuario.getNome());
+                return false;
+            }
+            Papel papelAnterior = usuario.getPapel();
+            retirarDoPapel(usuario);
+            usuario.setPapel(novoPapel);
+            incluirNoPapel(usuario, novoPapel);
+            if (gerenciadorSessao != null) {
+                gerenciadorSessao.encerrarSessoesDoUsuario(login);
+            }
+            BarramentoEventos.global().publicar(TipoEvento.PAPEL_ALTERADO, usuario, null, papelAnterior.getNome(), novoPapel.getNome());
+            System.out.println("Papel de " + usuario.getNome() + " alterado para " + novoPapel.getNome());
+            return true;
+        } catch (Exception e) {
+            System.out.println("Erro ao alterar papel: " + e.getMessage());
+            return false;
+        } finally {
+            METRICA_ALTERAR_PAPEL.registrar(inicio);
+        }
+    }
+
+    /**
+     * Método auxiliar que obtém (criando se preciso) a lista de um papel
+     */
+    private ArrayList<Usuario> listaDoPapel(Papel papel) {
+        while (usuariosPorPapel.size() <= papel.getOrdinal()) {
+            usuariosPorPapel.add(new ArrayList<>());
+        }
+        return usuariosPorPapel.get(papel.getOrdinal());
+    }
+
+    /**
+     * Inclui um usuário no fim da lista do papel, guardando a posição
+     */
+    private void incluirNoPapel(Usuario usuario, Papel papel) {
+        ArrayList<Usuario> lista = listaDoPapel(papel);
+        posicaoNoPapelPorId[usuario.getId()] = lista.size();
+        lista.add(usuario);
+    }
+
+    /**
+     * Retira um usuário da lista do seu papel em O(1): o último da lista
+     * ocupa a posição dele. A lista é localizada pela posição guardada (o
+     * papel pode ter sido alterado fora do gerenciador)
+     */
+    private void retirarDoPapel(Usuario usuario) {
+        int posicao = posicaoNoPapelPorId[usuario.getId()];
+        for (ArrayList<Usuario> lista : usuariosPorPapel) {
+            if (posicao < lista.size() && lista.get(posicao) == usuario) {
+                Usuario ultimo = lista.remove(lista.size() - 1);
+                if (ultimo != usuario) {
+                    lista.set(posicao, ultimo);
+                    posicaoNoPapelPorId[ultimo.getId()] = posicao;
+                }
+                return;
             }
         }
-        return administradores;
+    }
+
+    /**
+     * Publica a entrada ou saída de um usuário com o papel e o email daquele
+     * momento, para que os assinantes não dependam do estado atual do objeto
+     */
+    private static void publicarCadastro(TipoEvento tipo, Usuario usuario) {
+        BarramentoEventos barramento = BarramentoEventos.global();
+        if (barramento.temAssinantes()) {
+            barramento.publicar(tipo, usuario, null, usuario.getPapel().getNome(), usuario.getEmail());
+        }
+    }
+
+    /**
+     * Método auxiliar que copia a lista de um papel de sistema com o tipo
+     * da subclasse correspondente (seguro pois Papel.aceita garante o tipo)
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Usuario> ArrayList<T> copiaTipada(Papel papel) {
+        return (ArrayList<T>) (ArrayList<? extends Usuario>) listarPorPapel(papel);
     }
 
     /**
@@ -174,10 +455,28 @@ public class GerenciadorUsuario {
      * @return true se removido com sucesso, false caso contrário
      */
     public boolean removerUsuario(String login) {
+        long inicio = METRICA_REMOVER_USUARIO.iniciar();
         try {
             Usuario usuario = buscarPorLogin(login);
             if (usuario != null) {
-                usuarios.remove(usuario);
+                usuarios.set(posicaoPorId[usuario.getId()], null);
+                lapides++;
+                usuariosPorLogin.remove(login);
+                usuariosPorId[usuario.getId()] = null;
+                idsUsuarios.remover(usuario.getId());
+                retirarDoPapel(usuario);
+                cacheAutenticacao.invalidar(login);
+                if (gerenciadorSessao != null) {
+                    gerenciadorSessao.encerrarSessoesDoUsuario(login);
+                }
+                if (motorBusca != null) {
+                    motorBusca.removerUsuario(usuario);
+                }
+                desfazerVinculos(usuario);
+                if (lapides * 2 > usuarios.size()) {
+                    compactar();
+                }
+                publicarCadastro(TipoEvento.USUARIO_REMOVIDO, usuario);
                 System.out.println("Usuário " + usuario.getNome() + " removido com sucesso!");
                 return true;
             } else {
@@ -187,9 +486,72 @@ public class GerenciadorUsuario {
         } catch (Exception e) {
             System.out.println("Erro ao remover usuário: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_REMOVER_USUARIO.registrar(inicio);
         }
     }
 
+    /**
+     * Desfaz os vínculos de um usuário removido pelos índices reversos:
+     * sai das suas equipes, deixa de gerenciar seus projetos e, se for
+     * colaborador, suas tarefas são apagadas
+     * @param usuario Usuário removido
+     * @return Quantidade de vínculos desfeitos
+     */
+    private int desfazerVinculos(Usuario usuario) {
+        int vinculos = 0;
+        for (Equipe equipe : usuario.getEquipes()) {
+            if (equipe.removerMembro(usuario)) {
+                vinculos++;
+            }
+        }
+        if (usuario instanceof Gerente) {
+            // Esvazia a lista antes: cada setGerenteResponsavel(null) não precisa procurar nela
+            for (Projeto projeto : ((Gerente) usuario).liberarProjetosGerenciados()) {
+                if (projeto.getGerenteResponsavel() == usuario) {
+                    projeto.setGerenteResponsavel(null);
+                    vinculos++;
+                }
+            }
+        }
+        if (usuario instanceof Colaborador) {
+            vinculos += ((Colaborador) usuario).removerTodasTarefas();
+        }
+        return vinculos;
+    }
+
+    /**
+     * Descarta as lápides da lista geral, preservando a ordem de cadastro
+     * Feito automaticamente quando metade da lista é lápide; pode ser
+     * antecipado em um momento ocioso. Altera o gerenciador: exige a mesma
+     * proteção que as demais alterações.
+     * @return Quantidade de posições liberadas
+     */
+    public int compactar() {
+        int liberadas = lapides;
+        if (liberadas == 0) {
+            return 0;
+        }
+        int vivos = 0;
+        for (int i = 0; i < usuarios.size(); i++) {
+            Usuario usuario = usuarios.get(i);
+            if (usuario != null) {
+                posicaoPorId[usuario.getId()] = vivos;
+                usuarios.set(vivos++, usuario);
+            }
+        }
+        usuarios.subList(vivos, usuarios.size()).clear();
+        lapides = 0;
+        return liberadas;
+    }
+
+    /**
+     * @return Posições removidas ainda não compactadas
+     */
+    public int getLapides() {
+        return lapides;
+    }
+
     /**
      * Atualiza informações de um usuário
      * @param login Login do usuário a ser atualizado
@@ -198,15 +560,23 @@ public class GerenciadorUsuario {
      * @return true se atualizado com sucesso
      */
     public boolean atualizarUsuario(String login, String novoEmail, String novaSenha) {
+        long inicio = METRICA_ATUALIZAR_USUARIO.iniciar();
         try {
             Usuario usuario = buscarPorLogin(login);
             if (usuario != null) {
+                String emailAnterior = usuario.getEmail();
                 if (novoEmail != null && !novoEmail.trim().isEmpty()) {
                     usuario.setEmail(novoEmail);
+                    if (motorBusca != null) {
+                        motorBusca.indexarUsuario(usuario);
+                    }
                 }
                 if (novaSenha != null && !novaSenha.trim().isEmpty()) {
-                    usuario.setSenha(novaSenha);
+                    usuario.setSenha(novaSenha); // Armazena apenas o hash
+                    cacheAutenticacao.invalidar(login);
                 }
+                BarramentoEventos.global().publicar(TipoEvento.USUARIO_ATUALIZADO, usuario, null,
+                                                    emailAnterior, usuario.getEmail());
                 System.out.println("Dados do usuário " + usuario.getNome() + " atualizados!");
                 return true;
             } else {
@@ -216,6 +586,8 @@ public class GerenciadorUsuario {
         } catch (Exception e) {
             System.out.println("Erro ao atualizar usuário: " + e.getMessage());
             return false;
+        } finally {
+            METRICA_ATUALIZAR_USUARIO.registrar(inicio);
         }
     }
 
@@ -223,28 +595,36 @@ public class GerenciadorUsuario {
      * Gera relatório estatístico dos usuários
      */
     public void gerarRelatorio() {
-        System.out.println("RELATÓRIO DE USUÁRIOS");
-        System.out.println("═".repeat(50));
+        long inicio = METRICA_GERAR_RELATORIO.iniciar();
+        EventoRelatorio evento = new EventoRelatorio();
+        evento.begin();
+        try {
+            System.out.println("RELATÓRIO DE USUÁRIOS");
+            System.out.println("═".repeat(50));
         
-        int totalAdmins = listarAdministradores().size();
-        int totalGerentes = listarGerentes().size();
-        int totalColaboradores = listarColaboradores().size();
-        int total = usuarios.size();
-
-        System.out.println("Total de usuários: " + total);
-        System.out.println("Administradores: " + totalAdmins + 
-                         " (" + String.format("%.1f", (totalAdmins * 100.0 / total)) + "%)");
-        System.out.println("Gerentes: " + totalGerentes + 
-                         " (" + String.format("%.1f", (totalGerentes * 100.0 / total)) + "%)");
-        System.out.println("Colaboradores: " + totalColaboradores + 
-                         " (" + String.format("%.1f", (totalColaboradores * 100.0 / total)) + "%)");
+            int totalAdmins = contarPorPapel(Papel.ADMINISTRADOR);
+            int totalGerentes = contarPorPapel(Papel.GERENTE);
+            int totalColaboradores = contarPorPapel(Papel.COLABORADOR);
+            int total = getTotalUsuarios();
+
+            System.out.println("Total de usuários: " + total);
+            System.out.println("Administradores: " + totalAdmins + 
+                             " (" + String.format("%.1f", (totalAdmins * 100.0 / total)) + "%)");
+            System.out.println("Gerentes: " + totalGerentes + 
+                             " (" + String.format("%.1f", (totalGerentes * 100.0 / total)) + "%)");
+            System.out.println("Colaboradores: " + totalColaboradores + 
+                             " (" + String.format("%.1f", (totalColaboradores * 100.0 / total)) + "%)");
         
-        System.out.println("\nESTATÍSTICAS ADICIONAIS:");
-        System.out.println("• Usuários por domínio de email:");
-        contarPorDominioEmail();
+            System.out.println("\nESTATÍSTICAS ADICIONAIS:");
+            System.out.println("• Usuários por domínio de email:");
+            contarPorDominioEmail();
         
-        System.out.println("═".repeat(50));
-        System.out.println();
+            System.out.println("═".repeat(50));
+            System.out.println();
+        } finally {
+            METRICA_GERAR_RELATORIO.registrar(inicio);
+            evento.concluir("usuarios", getTotalUsuarios());
+        }
     }
 
     /**
@@ -255,8 +635,10 @@ public class GerenciadorUsuario {
         ArrayList<Integer> contadores = new ArrayList<>();
 
         for (Usuario usuario : usuarios) {
-            String email = usuario.getEmail();
-            String dominio = email.substring(email.indexOf("@") + 1);
+            if (usuario == null) {
+                continue;
+            }
+            String dominio = usuario.getDominioEmail() != null ? usuario.getDominioEmail() : usuario.getEmail();
             
             int index = dominios.indexOf(dominio);
             if (index >= 0) {
@@ -319,24 +701,30 @@ public class GerenciadorUsuario {
      * @return Lista de usuários encontrados
      */
     public ArrayList<Usuario> buscarPorNome(String nome) {
-        ArrayList<Usuario> encontrados = new ArrayList<>();
-        String nomeBusca = nome.toLowerCase().trim();
+        long inicio = METRICA_BUSCAR_POR_NOME.iniciar();
+        try {
+            ArrayList<Usuario> encontrados = new ArrayList<>();
+            String nomeBusca = nome.toLowerCase().trim();
 
-        for (Usuario usuario : usuarios) {
-            if (usuario.getNome().toLowerCase().contains(nomeBusca)) {
-                encontrados.add(usuario);
+            for (Usuario usuario : usuarios) {
+                if (usuario != null && usuario.getNome().toLowerCase().contains(nomeBusca)) {
+                    encontrados.add(usuario);
+                }
             }
-        }
 
-        return encontrados;
+            return encontrados;
+        } finally {
+            METRICA_BUSCAR_POR_NOME.registrar(inicio);
+        }
     }
 
     /**
      * Verifica se existe pelo menos um administrador no sistema
+     * Consulta apenas o tamanho da partição de administradores
      * @return true se existe pelo menos um admin
      */
     public boolean temAdministrador() {
-        return !listarAdministradores().isEmpty();
+        return contarPorPapel(Papel.ADMINISTRADOR) > 0;
     }
 
     /**
@@ -345,10 +733,10 @@ public class GerenciadorUsuario {
      */
     public String obterEstatisticasRapidas() {
         return String.format("Usuários: %d | Admins: %d | Gerentes: %d | Colaboradores: %d",
-                usuarios.size(),
-                listarAdministradores().size(),
-                listarGerentes().size(),
-                listarColaboradores().size());
+                getTotalUsuarios(),
+                contarPorPapel(Papel.ADMINISTRADOR),
+                contarPorPapel(Papel.GERENTE),
+                contarPorPapel(Papel.COLABORADOR));
     }
 
     /**
@@ -356,7 +744,104 @@ public class GerenciadorUsuario {
      * @return Cópia da lista de usuários
      */
     public ArrayList<Usuario> listarUsuariosList() {
-        return new ArrayList<>(usuarios);
+        if (lapides == 0) {
+            return new ArrayList<>(usuarios);
+        }
+        ArrayList<Usuario> copia = new ArrayList<>(getTotalUsuarios());
+        for (Usuario usuario : usuarios) {
+            if (usuario != null) {
+                copia.add(usuario);
+            }
+        }
+        return copia;
+    }
+
+    /**
+     * Obtém uma página da lista de usuários (copia apenas o trecho pedido)
+     * @param inicio Posição do primeiro usuário (a partir de 0)
+     * @param limite Número máximo de usuários na página
+     * @return Usuários da página, na ordem de cadastro
+     */
+    public ArrayList<Usuario> listarPagina(int inicio, int limite) {
+        if (lapides > 0) {
+            // Com lápides a posição conta só os usuários presentes
+            ArrayList<Usuario> pagina = new ArrayList<>();
+            int posicao = 0;
+            for (int i = 0; i < usuarios.size() && pagina.size() < limite; i++) {
+                Usuario usuario = usuarios.get(i);
+                if (usuario != null && posicao++ >= inicio) {
+                    pagina.add(usuario);
+                }
+            }
+            return pagina;
+        }
+        int de = Math.max(0, Math.min(inicio, usuarios.size()));
+        int ate = (int) Math.min(usuarios.size(), (long) de + Math.max(0, limite));
+        return new ArrayList<>(usuarios.subList(de, ate));
+    }
+
+    /**
+     * Busca um usuário cadastrado pelo ID numérico
+     * @param id Usuario.getId() do usuário
+     * @return Usuário ou null se não está cadastrado
+     */
+    public Usuario buscarPorId(int id) {
+        return id >= 0 && id < usuariosPorId.length ? usuariosPorId[id] : null;
+    }
+
+    /**
+     * IDs dos usuários cadastrados
+     * @return Cópia do conjunto de IDs (para operações com os membros das equipes)
+     */
+    public MapaBits getIdsUsuarios() {
+        return idsUsuarios.copiar();
+    }
+
+    /**
+     * Converte um conjunto de IDs nos usuários cadastrados correspondentes
+     * @param ids IDs de usuários (ex.: resultado de uma consulta de equipes)
+     * @return Usuários encontrados, em ordem crescente de ID
+     */
+    public ArrayList<Usuario> listarPorIds(MapaBits ids) {
+        ArrayList<Usuario> resultado = new ArrayList<>(ids.cardinalidade());
+        ids.paraCada(id -> {
+            Usuario usuario = buscarPorId(id);
+            if (usuario != null) {
+                resultado.add(usuario);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Inclui um usuário já validado na lista geral e nos índices
+     */
+    private void registrar(Usuario usuario) {
+        indexarId(usuario);
+        posicaoPorId[usuario.getId()] = usuarios.size();
+        usuarios.add(usuario);
+        usuariosPorLogin.put(usuario.getLogin(), usuario);
+        incluirNoPapel(usuario, usuario.getPapel());
+    }
+
+    private void indexarId(Usuario usuario) {
+        int id = usuario.getId();
+        if (id >= usuariosPorId.length) {
+            int capacidade = Math.max(id + 1, usuariosPorId.length * 2);
+            usuariosPorId = Arrays.copyOf(usuariosPorId, capacidade);
+            posicaoPorId = Arrays.copyOf(posicaoPorId, capacidade);
+            posicaoNoPapelPorId = Arrays.copyOf(posicaoNoPapelPorId, capacidade);
+        }
+        usuariosPorId[id] = usuario;
+        idsUsuarios.adicionar(id);
+    }
+
+    /**
+     * Getter para o cache de autenticação (estatísticas de acerto)
+     * @return Cache de autenticação em uso
+     */
+    public CacheAutenticacao getCacheAutenticacao() {
+        return cacheAutenticacao;
     }
 
     /**
@@ -364,6 +849,6 @@ public class GerenciadorUsuario {
      * @return Número total de usuários
      */
     public int getTotalUsuarios() {
-        return usuarios.size();
+        return usuarios.size() - lapides;
     }
 }
\ No newline at end of file
@@ -0,0 +1,581 @@
+package servico;
+
+import eventos.Assinatura;
+import eventos.BarramentoEventos;
+import eventos.EventoDominio;
+import eventos.TipoEvento;
+import modelo.Equipe;
+import modelo.MapaBits;
+import modelo.Usuario;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Grafo de colaboração: quem trabalha com quem
+ *
+ * Dois usuários são vizinhos quando participam de ao menos uma equipe em
+ * comum; o peso da aresta é o número de equipes compartilhadas. O grafo é
+ * mantido a cada entrada ou saída de membro (eventos do barramento): entrar
+ * em uma equipe de m membros soma 1 a m arestas, sair subtrai, em O(m).
+ *
+ * Vértices são os IDs densos dos usuários (Usuario.getId). A vizinhança de
+ * cada vértice fica em dois vetores de int (vizinho e peso), com
+ * endereçamento aberto: sem objetos por aresta, peso entre dois usuários em
+ * O(1) e vizinhos em O(grau). Consultas de k saltos fazem busca em largura
+ * marcando os visitados por rodada, sem limpar vetores.
+ *
+ * Componentes conexos usam union-find: entradas só unem componentes e são
+ * aplicadas na hora; quando uma aresta some (peso 0) ou um usuário sai da
+ * última equipe, o union-find é refeito na próxima consulta, em O(V + E).
+ *
+ * Só entram as equipes cadastradas no gerenciador (EQUIPE_ADICIONADA). O
+ * grafo guarda os membros de cada equipe como os eventos os informaram, então
+ * a ordem de aplicação é sempre consistente.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class GrafoColaboracao {
+    private static final int SEM_VERTICE = -1;
+
+    // Membros de cada equipe acompanhada, como aplicados no grafo
+    private final HashMap<Equipe, MapaBits> membrosPorEquipe = new HashMap<>();
+    // Indexados por Usuario.getId()
+    private Usuario[] usuarios = new Usuario[64];
+    private Adjacencia[] adjacencias = new Adjacencia[64];
+    private int[] participacoes = new int[64]; // Equipes acompanhadas de que o usuário participa
+    private int vertices;
+    private long arestas;
+
+    // Union-find dos componentes (válido enquanto nenhuma aresta foi desfeita)
+    private int[] pai = new int[64];
+    private int[] tamanhoComponente = new int[64];
+    private int componentes;
+    private boolean componentesValidos = true;
+
+    // Busca em largura: visitado na rodada atual quando marca[v] == rodada
+    private int[] marca = new int[64];
+    private int rodada;
+
+    private Assinatura assinatura;
+
+    /**
+     * Carrega as equipes cadastradas e passa a acompanhar as alterações
+     * @param barramento Barramento em que equipes publicam
+     * @param gerenciadorEquipe Gerenciador com as equipes já cadastradas
+     */
+    public synchronized void conectar(BarramentoEventos barramento, GerenciadorEquipe gerenciadorEquipe) {
+        desconectar();
+        // Assina antes de carregar para não perder eventos. Quem publica não espera a carga: os
+        // eventos chegados nesse meio-tempo são aplicados depois dela, e reaplicá-los é inofensivo
+        // porque os membros de cada equipe ficam num mapa de bits
+        assinatura = barramento.assinar("grafo-colaboracao",
+                EnumSet.of(TipoEvento.EQUIPE_ADICIONADA, TipoEvento.EQUIPE_REMOVIDA,
+                           TipoEvento.MEMBRO_ADICIONADO, TipoEvento.MEMBRO_REMOVIDO),
+                256, this::aplicar);
+        for (Equipe equipe : gerenciadorEquipe.listarEquipesList()) {
+            acompanharEquipe(equipe);
+        }
+    }
+
+    /**
+     * Deixa de acompanhar as alterações do barramento
+     */
+    public synchronized void desconectar() {
+        if (assinatura != null) {
+            assinatura.cancelar();
+            assinatura = null;
+        }
+    }
+
+    /**
+     * Passa a considerar uma equipe e seus membros atuais
+     * @param equipe Equipe cadastrada
+     */
+    public synchronized void acompanharEquipe(Equipe equipe) {
+        if (membrosPorEquipe.containsKey(equipe)) {
+            return;
+        }
+        membrosPorEquipe.put(equipe, new MapaBits());
+        for (Usuario membro : equipe.getMembros()) {
+            adicionarMembro(equipe, membro);
+        }
+    }
+
+    /**
+     * Deixa de considerar uma equipe (desfaz as arestas que ela criava)
+     * @param equipe Equipe removida
+     */
+    public synchronized void esquecerEquipe(Equipe equipe) {
+        MapaBits membros = membrosPorEquipe.get(equipe);
+        if (membros == null) {
+            return;
+        }
+        for (int id : membros.paraVetor()) {
+            removerMembro(equipe, usuarios[id]);
+        }
+        membrosPorEquipe.remove(equipe);
+    }
+
+    /**
+     * Registra a entrada de um membro em uma equipe acompanhada
+     * @param equipe Equipe
+     * @param usuario Novo membro
+     * @return true se o grafo mudou
+     */
+    public synchronized boolean adicionarMembro(Equipe equipe, Usuario usuario) {
+        MapaBits membros = membrosPorEquipe.get(equipe);
+        if (membros == null || usuario == null || !membros.adicionar(usuario.getId())) {
+            return false;
+        }
+        int id = usuario.getId();
+        garantirCapacidade(id);
+        if (participacoes[id]++ == 0) {
+            incluirVertice(id, usuario);
+        }
+        int[] representante = {SEM_VERTICE};
+        membros.paraCada(outro -> {
+            if (outro != id) {
+                if (adjacencias[id].incrementar(outro) == 1) {
+                    arestas++;
+                }
+                adjacencias[outro].incrementar(id);
+                representante[0] = outro;
+            }
+        });
+        if (componentesValidos && representante[0] != SEM_VERTICE) {
+            unir(id, representante[0]);
+        }
+        return true;
+    }
+
+    /**
+     * Registra a saída de um membro de uma equipe acompanhada
+     * @param equipe Equipe
+     * @param usuario Membro que saiu
+     * @return true se o grafo mudou
+     */
+    public synchronized boolean removerMembro(Equipe equipe, Usuario usuario) {
+        MapaBits membros = membrosPorEquipe.get(equipe);
+        if (membros == null || usuario == null || !membros.remover(usuario.getId())) {
+            return false;
+        }
+        int id = usuario.getId();
+        membros.paraCada(outro -> {
+            adjacencias[outro].decrementar(id);
+            if (adjacencias[id].decrementar(outro) == 0) {
+                arestas--;
+                componentesValidos = false;
+            }
+        });
+        if (--participacoes[id] == 0) {
+            usuarios[id] = null;
+            adjacencias[id] = null;
+            vertices--;
+            componentesValidos = false;
+        }
+        return true;
+    }
+
+    /**
+     * Número de equipes que dois usuários compartilham (peso da aresta)
+     * @param a Usuário
+     * @param b Outro usuário
+     * @return Equipes em comum (0 se não colaboram)
+     */
+    public synchronized int getPeso(Usuario a, Usuario b) {
+        Adjacencia adjacencia = adjacencia(a);
+        return adjacencia == null || b == null ? 0 : adjacencia.peso(b.getId());
+    }
+
+    /**
+     * @param usuario Usuário
+     * @return Quantidade de colaboradores diretos (grau)
+     */
+    public synchronized int contarColaboradores(Usuario usuario) {
+        Adjacencia adjacencia = adjacencia(usuario);
+        return adjacencia == null ? 0 : adjacencia.tamanho;
+    }
+
+    /**
+     * Colaboradores diretos de um usuário
+     * @param usuario Usuário
+     * @return Quem divide equipe com o usuário, do maior para o menor número
+     *         de equipes em comum (empate: ordem de ID)
+     */
+    public synchronized ArrayList<Usuario> listarColaboradores(Usuario usuario) {
+        Adjacencia adjacencia = adjacencia(usuario);
+        ArrayList<Usuario> resultado = new ArrayList<>();
+        if (adjacencia == null) {
+            return resultado;
+        }
+        // Peso nos 32 bits altos e ID nos baixos: uma ordenação de long resolve os dois critérios
+        long[] chaves = new long[adjacencia.tamanho];
+        int total = 0;
+        for (int i = 0; i < adjacencia.vizinhos.length; i++) {
+            if (adjacencia.vizinhos[i] != 0) {
+                chaves[total++] = ((long) -adjacencia.pesos[i] << 32) | (adjacencia.vizinhos[i] - 1);
+            }
+        }
+        Arrays.sort(chaves);
+        resultado.ensureCapacity(total);
+        for (long chave : chaves) {
+            resultado.add(usuarios[(int) chave]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Usuários alcançáveis em até k saltos de colaboração
+     * @param usuario Usuário de origem
+     * @param saltos Máximo de saltos (1 = colaboradores diretos)
+     * @return Usuários alcançados (sem a origem), em ordem de distância
+     */
+    public synchronized ArrayList<Usuario> listarAlcancaveis(Usuario usuario, int saltos) {
+        ArrayList<Usuario> resultado = new ArrayList<>();
+        if (adjacencia(usuario) == null || saltos <= 0) {
+            return resultado;
+        }
+        int[] fila = buscarEmLargura(usuario.getId(), saltos);
+        for (int i = 1; i < fila.length; i++) {
+            resultado.add(usuarios[fila[i]]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Verifica se há um caminho de colaboração entre dois usuários
+     * @param a Usuário
+     * @param b Outro usuário
+     * @return true se estão no mesmo componente conexo
+     */
+    public synchronized boolean estaoConectados(Usuario a, Usuario b) {
+        if (adjacencia(a) == null || adjacencia(b) == null) {
+            return false;
+        }
+        validarComponentes();
+        return encontrar(a.getId()) == encontrar(b.getId());
+    }
+
+    /**
+     * @param usuario Usuário
+     * @return Tamanho do componente conexo do usuário (0 se não está em equipe)
+     */
+    public synchronized int getTamanhoComponente(Usuario usuario) {
+        if (adjacencia(usuario) == null) {
+            return 0;
+        }
+        validarComponentes();
+        return tamanhoComponente[encontrar(usuario.getId())];
+    }
+
+    /**
+     * Usuários do mesmo componente conexo
+     * @param usuario Usuário
+     * @return Todos os que se ligam ao usuário por alguma cadeia de equipes (incluindo ele)
+     */
+    public synchronized ArrayList<Usuario> listarComponente(Usuario usuario) {
+        ArrayList<Usuario> resultado = new ArrayList<>();
+        if (adjacencia(usuario) == null) {
+            return resultado;
+        }
+        for (int id : buscarEmLargura(usuario.getId(), Integer.MAX_VALUE)) {
+            resultado.add(usuarios[id]);
+        }
+        return resultado;
+    }
+
+    /**
+     * @return Quantidade de componentes conexos (grupos que não colaboram entre si)
+     */
+    public synchronized int contarComponentes() {
+        validarComponentes();
+        return componentes;
+    }
+
+    /**
+     * @return Usuários que participam de ao menos uma equipe acompanhada
+     */
+    public synchronized int contarVertices() {
+        return vertices;
+    }
+
+    /**
+     * @return Pares de usuários que dividem ao menos uma equipe
+     */
+    public synchronized long contarArestas() {
+        return arestas;
+    }
+
+    /**
+     * Exibe os colaboradores de um usuário e o alcance da sua rede no console
+     * @param usuario Usuário consultado
+     */
+    public synchronized void exibirColaboradores(Usuario usuario) {
+        System.out.println("COLABORADORES DE " + usuario.getNome());
+        ArrayList<Usuario> colaboradores = listarColaboradores(usuario);
+        if (colaboradores.isEmpty()) {
+            System.out.println("Nenhum colaborador (sem equipes em comum com outros usuários).");
+            System.out.println();
+            return;
+        }
+        for (Usuario colaborador : colaboradores) {
+            int peso = getPeso(usuario, colaborador);
+            System.out.println("- " + colaborador.getNome() + " (" + colaborador.getPapel().getNome() + "): "
+                             + peso + (peso == 1 ? " equipe" : " equipes") + " em comum");
+        }
+        System.out.println("Alcance em 2 saltos: " + listarAlcancaveis(usuario, 2).size() + " usuário(s)");
+        System.out.println("Rede de colaboração: " + getTamanhoComponente(usuario) + " usuário(s) de "
+                         + vertices + " em equipes");
+        System.out.println();
+    }
+
+    /**
+     * Aplica um lote de eventos (thread da assinatura)
+     */
+    private synchronized void aplicar(List<EventoDominio> lote) {
+        for (EventoDominio evento : lote) {
+            if (!(evento.getEntidade() instanceof Equipe)) {
+                continue;
+            }
+            Equipe equipe = (Equipe) evento.getEntidade();
+            switch (evento.getTipo()) {
+                case EQUIPE_ADICIONADA:
+                    acompanharEquipe(equipe);
+                    break;
+                case EQUIPE_REMOVIDA:
+                    esquecerEquipe(equipe);
+                    break;
+                case MEMBRO_ADICIONADO:
+                    adicionarMembro(equipe, (Usuario) evento.getRelacionado());
+                    break;
+                case MEMBRO_REMOVIDO:
+                    removerMembro(equipe, (Usuario) evento.getRelacionado());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private Adjacencia adjacencia(Usuario usuario) {
+        if (usuario == null) {
+            return null;
+        }
+        int id = usuario.getId();
+        return id < adjacencias.length ? adjacencias[id] : null;
+    }
+
+    private void garantirCapacidade(int id) {
+        if (id < usuarios.length) {
+            return;
+        }
+        int capacidade = Math.max(id + 1, usuarios.length * 2);
+        usuarios = Arrays.copyOf(usuarios, capacidade);
+        adjacencias = Arrays.copyOf(adjacencias, capacidade);
+        participacoes = Arrays.copyOf(participacoes, capacidade);
+        pai = Arrays.copyOf(pai, capacidade);
+        tamanhoComponente = Arrays.copyOf(tamanhoComponente, capacidade);
+        marca = Arrays.copyOf(marca, capacidade);
+    }
+
+    private void incluirVertice(int id, Usuario usuario) {
+        usuarios[id] = usuario;
+        adjacencias[id] = new Adjacencia();
+        vertices++;
+        if (componentesValidos) {
+            pai[id] = id;
+            tamanhoComponente[id] = 1;
+            componentes++;
+        }
+    }
+
+    /**
+     * Busca em largura a partir de um vértice
+     * @return Vértices alcançados em até "saltos" passos, começando pela origem
+     */
+    private int[] buscarEmLargura(int origem, int saltos) {
+        if (++rodada == 0) {
+            Arrays.fill(marca, 0);
+            rodada = 1;
+        }
+        int[] fila = new int[16];
+        int fim = 0;
+        fila[fim++] = origem;
+        marca[origem] = rodada;
+        int inicio = 0;
+        for (int distancia = 0; distancia < saltos && inicio < fim; distancia++) {
+            int limiteNivel = fim;
+            for (; inicio < limiteNivel; inicio++) {
+                Adjacencia adjacencia = adjacencias[fila[inicio]];
+                for (int vizinho : adjacencia.vizinhos) {
+                    if (vizinho != 0 && marca[vizinho - 1] != rodada) {
+                        marca[vizinho - 1] = rodada;
+                        if (fim == fila.length) {
+                            fila = Arrays.copyOf(fila, fim * 2);
+                        }
+                        fila[fim++] = vizinho - 1;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(fila, fim);
+    }
+
+    /**
+     * Refaz o union-find a partir das arestas atuais, se alguma foi desfeita
+     */
+    private void validarComponentes() {
+        if (componentesValidos) {
+            return;
+        }
+        componentes = 0;
+        for (int id = 0; id < adjacencias.length; id++) {
+            if (adjacencias[id] != null) {
+                pai[id] = id;
+                tamanhoComponente[id] = 1;
+                componentes++;
+            }
+        }
+        for (int id = 0; id < adjacencias.length; id++) {
+            Adjacencia adjacencia = adjacencias[id];
+            if (adjacencia == null) {
+                continue;
+            }
+            for (int vizinho : adjacencia.vizinhos) {
+                if (vizinho - 1 > id) {
+                    unir(id, vizinho - 1);
+                }
+            }
+        }
+        componentesValidos = true;
+    }
+
+    private int encontrar(int id) {
+        int raiz = id;
+        while (pai[raiz] != raiz) {
+            raiz = pai[raiz];
+        }
+        // Compressão de caminho
+        while (pai[id] != raiz) {
+            int proximo = pai[id];
+            pai[id] = raiz;
+            id = proximo;
+        }
+        return raiz;
+    }
+
+    private void unir(int a, int b) {
+        int raizA = encontrar(a);
+        int raizB = encontrar(b);
+        if (raizA == raizB) {
+            return;
+        }
+        // União por tamanho: a árvore menor fica sob a maior
+        if (tamanhoComponente[raizA] < tamanhoComponente[raizB]) {
+            int troca = raizA;
+            raizA = raizB;
+            raizB = troca;
+        }
+        pai[raizB] = raizA;
+        tamanhoComponente[raizA] += tamanhoComponente[raizB];
+        componentes--;
+    }
+
+    /**
+     * Vizinhança de um vértice: tabela de endereçamento aberto (sondagem
+     * linear) com o ID do vizinho + 1 (0 = livre) e o peso na mesma posição
+     */
+    private static final class Adjacencia {
+        int[] vizinhos = new int[4];
+        int[] pesos = new int[4];
+        int tamanho;
+
+        int peso(int vizinho) {
+            int mascara = vizinhos.length - 1;
+            for (int i = posicaoInicial(vizinho, mascara); vizinhos[i] != 0; i = (i + 1) & mascara) {
+                if (vizinhos[i] == vizinho + 1) {
+                    return pesos[i];
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * @return Novo peso da aresta
+         */
+        int incrementar(int vizinho) {
+            if ((tamanho + 1) * 3 > vizinhos.length * 2) {
+                redimensionar(vizinhos.length * 2);
+            }
+            int mascara = vizinhos.length - 1;
+            int i = posicaoInicial(vizinho, mascara);
+            while (vizinhos[i] != 0) {
+                if (vizinhos[i] == vizinho + 1) {
+                    return ++pesos[i];
+                }
+                i = (i + 1) & mascara;
+            }
+            vizinhos[i] = vizinho + 1;
+            pesos[i] = 1;
+            tamanho++;
+            return 1;
+        }
+
+        /**
+         * @return Novo peso da aresta (0 = aresta desfeita)
+         */
+        int decrementar(int vizinho) {
+            int mascara = vizinhos.length - 1;
+            int i = posicaoInicial(vizinho, mascara);
+            while (vizinhos[i] != vizinho + 1) {
+                if (vizinhos[i] == 0) {
+                    return 0;
+                }
+                i = (i + 1) & mascara;
+            }
+            if (--pesos[i] > 0) {
+                return pesos[i];
+            }
+            // Remoção com deslocamento para trás: mantém as sondagens sem marcas de removido
+            int livre = i;
+            for (int j = (i + 1) & mascara; vizinhos[j] != 0; j = (j + 1) & mascara) {
+                int ideal = posicaoInicial(vizinhos[j] - 1, mascara);
+                if (((j - ideal) & mascara) >= ((j - livre) & mascara)) {
+                    vizinhos[livre] = vizinhos[j];
+                    pesos[livre] = pesos[j];
+                    livre = j;
+                }
+            }
+            vizinhos[livre] = 0;
+            pesos[livre] = 0;
+            tamanho--;
+            return 0;
+        }
+
+        private void redimensionar(int capacidade) {
+            int[] antigosVizinhos = vizinhos;
+            int[] antigosPesos = pesos;
+            vizinhos = new int[capacidade];
+            pesos = new int[capacidade];
+            int mascara = capacidade - 1;
+            for (int k = 0; k < antigosVizinhos.length; k++) {
+                if (antigosVizinhos[k] != 0) {
+                    int i = posicaoInicial(antigosVizinhos[k] - 1, mascara);
+                    while (vizinhos[i] != 0) {
+                        i = (i + 1) & mascara;
+                    }
+                    vizinhos[i] = antigosVizinhos[k];
+                    pesos[i] = antigosPesos[k];
+                }
+            }
+        }
+
+        private static int posicaoInicial(int vizinho, int mascara) {
+            return (vizinho * 0x9E3779B9 >>> 16 ^ vizinho * 0x9E3779B9) & mascara;
+        }
+    }
+}
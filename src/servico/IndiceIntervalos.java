@@ -0,0 +1,186 @@
+package servico;
+
+import modelo.Projeto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Índice dos períodos dos projetos (data de início até data fim prevista)
+ *
+ * Árvore AVL ordenada por (início, ID), em que cada nó guarda também o maior
+ * e o menor fim da sua subárvore. Com isso as consultas descartam subárvores
+ * inteiras que não podem ter resposta:
+ * - ativos em uma data (quem contém o dia);
+ * - ativos em um período (quem se sobrepõe a ele);
+ * - contidos em um período (quem começa e termina dentro dele).
+ * Inclusão, remoção e atualização custam O(log n). As consultas só descem
+ * em subárvores que podem conter resposta: O(log n + k) nos casos comuns e
+ * O(k log n) no pior caso, para k resultados devolvidos em ordem de início.
+ *
+ * Datas são dias desde a época (LocalDate.toEpochDay). Projetos sem as duas
+ * datas no formato dd/MM/yyyy, com data inexistente (ex.: 31/02) ou com fim
+ * antes do início ficam fora do índice.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+final class IndiceIntervalos {
+    private static final int FORA_DO_INDICE = Projeto.SEM_DATA;
+    private static final Comparator<No> ORDEM = (a, b) -> comparar(a.inicio, a.id, b);
+
+    private No raiz;
+    private int tamanho;
+    // Período com que cada projeto foi indexado (o início é a chave para removê-lo), por ID
+    private int[] inicioPorId = new int[0];
+    private int[] fimPorId = new int[0];
+
+    /**
+     * Indexa um projeto ou atualiza seu período
+     */
+    void atualizar(Projeto projeto) {
+        int id = projeto.getId();
+        int inicio = projeto.getDiaInicio();
+        int fim = projeto.getDiaFimPrevisto();
+        if (inicio == FORA_DO_INDICE || fim == FORA_DO_INDICE || fim < inicio) {
+            remover(projeto);
+            return;
+        }
+        if (id < inicioPorId.length && inicioPorId[id] == inicio && fimPorId[id] == fim) {
+            return; // Período não mudou (status ou gerente alterado)
+        }
+        remover(projeto);
+        if (id >= inicioPorId.length) {
+            int anterior = inicioPorId.length;
+            int capacidade = Math.max(id + 1, anterior + (anterior >> 1));
+            inicioPorId = Arrays.copyOf(inicioPorId, capacidade);
+            fimPorId = Arrays.copyOf(fimPorId, capacidade);
+            Arrays.fill(inicioPorId, anterior, capacidade, FORA_DO_INDICE);
+        }
+        inicioPorId[id] = inicio;
+        fimPorId[id] = fim;
+        raiz = NoAvl.inserir(raiz, new No(projeto, id, inicio, fim), ORDEM);
+        tamanho++;
+    }
+
+    /**
+     * Retira um projeto do índice (se estiver nele)
+     */
+    void remover(Projeto projeto) {
+        int id = projeto.getId();
+        if (id < 0 || id >= inicioPorId.length || inicioPorId[id] == FORA_DO_INDICE) {
+            return;
+        }
+        int inicioAnterior = inicioPorId[id];
+        raiz = NoAvl.remover(raiz, no -> comparar(inicioAnterior, id, no));
+        inicioPorId[id] = FORA_DO_INDICE;
+        tamanho--;
+    }
+
+    /**
+     * Projetos cujo período contém o dia
+     */
+    ArrayList<Projeto> ativosEm(int dia) {
+        return sobrepostos(dia, dia);
+    }
+
+    /**
+     * Projetos cujo período se sobrepõe a [de, ate]: início <= ate e fim >= de
+     */
+    ArrayList<Projeto> sobrepostos(int de, int ate) {
+        ArrayList<Projeto> resultado = new ArrayList<>();
+        sobrepostos(raiz, de, ate, resultado);
+        return resultado;
+    }
+
+    /**
+     * Projetos cujo período está dentro de [de, ate]: início >= de e fim <= ate
+     */
+    ArrayList<Projeto> contidos(int de, int ate) {
+        ArrayList<Projeto> resultado = new ArrayList<>();
+        contidos(raiz, de, ate, resultado);
+        return resultado;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    static boolean valido(int dia) {
+        return dia != FORA_DO_INDICE;
+    }
+
+    private static void sobrepostos(No no, int de, int ate, ArrayList<Projeto> resultado) {
+        // Nenhum período desta subárvore termina a tempo de alcançar "de"
+        if (no == null || no.maiorFim < de) {
+            return;
+        }
+        sobrepostos(no.esquerda, de, ate, resultado);
+        if (no.inicio > ate) {
+            return; // Este e todos à direita começam depois do período
+        }
+        if (no.fim >= de) {
+            resultado.add(no.projeto);
+        }
+        sobrepostos(no.direita, de, ate, resultado);
+    }
+
+    private static void contidos(No no, int de, int ate, ArrayList<Projeto> resultado) {
+        // Nenhum período desta subárvore termina dentro do prazo
+        if (no == null || no.menorFim > ate) {
+            return;
+        }
+        if (no.inicio >= de) {
+            contidos(no.esquerda, de, ate, resultado);
+        }
+        if (no.inicio > ate) {
+            return;
+        }
+        if (no.inicio >= de && no.fim <= ate) {
+            resultado.add(no.projeto);
+        }
+        contidos(no.direita, de, ate, resultado);
+    }
+
+    private static int comparar(int inicio, int id, No no) {
+        if (inicio != no.inicio) {
+            return Integer.compare(inicio, no.inicio);
+        }
+        return Integer.compare(id, no.id);
+    }
+
+    /**
+     * Nó da árvore: período de um projeto e resumo da subárvore
+     */
+    private static final class No extends NoAvl<No> {
+        final Projeto projeto;
+        final int id;
+        final int inicio;
+        final int fim;
+        int maiorFim;
+        int menorFim;
+
+        No(Projeto projeto, int id, int inicio, int fim) {
+            this.projeto = projeto;
+            this.id = id;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.maiorFim = fim;
+            this.menorFim = fim;
+        }
+
+        @Override
+        void resumir() {
+            maiorFim = fim;
+            menorFim = fim;
+            if (esquerda != null) {
+                maiorFim = Math.max(maiorFim, esquerda.maiorFim);
+                menorFim = Math.min(menorFim, esquerda.menorFim);
+            }
+            if (direita != null) {
+                maiorFim = Math.max(maiorFim, direita.maiorFim);
+                menorFim = Math.min(menorFim, direita.menorFim);
+            }
+        }
+    }
+}
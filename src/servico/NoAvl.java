@@ -0,0 +1,135 @@
+package servico;
+
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Nó de árvore AVL e as operações de inserção, remoção e balanceamento
+ * usadas pelas árvores do pacote ({@link IndiceIntervalos} e
+ * {@link RankingProdutividade})
+ *
+ * Cada subclasse acrescenta seus dados e, em {@link #resumir()}, os resumos
+ * da subárvore (ex.: maior fim, número de nós), recalculados sempre que os
+ * filhos do nó mudam. Inserir e remover custam O(log n).
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+abstract class NoAvl<N extends NoAvl<N>> {
+    N esquerda;
+    N direita;
+    int altura = 1;
+
+    /**
+     * Recalcula os resumos da subárvore a partir dos filhos (a altura já
+     * foi atualizada)
+     */
+    abstract void resumir();
+
+    /**
+     * Insere um nó na subárvore
+     * @param no Raiz da subárvore (ou null)
+     * @param novo Nó a inserir
+     * @param ordem Ordem da árvore (iguais vão para a direita)
+     * @return Nova raiz da subárvore
+     */
+    static <N extends NoAvl<N>> N inserir(N no, N novo, Comparator<? super N> ordem) {
+        if (no == null) {
+            return novo;
+        }
+        if (ordem.compare(novo, no) < 0) {
+            no.esquerda = inserir(no.esquerda, novo, ordem);
+        } else {
+            no.direita = inserir(no.direita, novo, ordem);
+        }
+        return balancear(no);
+    }
+
+    /**
+     * Remove da subárvore o nó procurado
+     * @param no Raiz da subárvore (ou null)
+     * @param alvo Compara o procurado com um nó: negativo se vem antes dele,
+     *             zero se é ele
+     * @return Nova raiz da subárvore
+     */
+    static <N extends NoAvl<N>> N remover(N no, ToIntFunction<? super N> alvo) {
+        if (no == null) {
+            return null;
+        }
+        int comparacao = alvo.applyAsInt(no);
+        if (comparacao < 0) {
+            no.esquerda = remover(no.esquerda, alvo);
+        } else if (comparacao > 0) {
+            no.direita = remover(no.direita, alvo);
+        } else {
+            if (no.esquerda == null) {
+                return no.direita;
+            }
+            if (no.direita == null) {
+                return no.esquerda;
+            }
+            // Substitui pelo sucessor (menor da subárvore direita)
+            N sucessor = no.direita;
+            while (sucessor.esquerda != null) {
+                sucessor = sucessor.esquerda;
+            }
+            sucessor.direita = removerMenor(no.direita);
+            sucessor.esquerda = no.esquerda;
+            no = sucessor;
+        }
+        return balancear(no);
+    }
+
+    static int altura(NoAvl<?> no) {
+        return no == null ? 0 : no.altura;
+    }
+
+    private static <N extends NoAvl<N>> N removerMenor(N no) {
+        if (no.esquerda == null) {
+            return no.direita;
+        }
+        no.esquerda = removerMenor(no.esquerda);
+        return balancear(no);
+    }
+
+    private static <N extends NoAvl<N>> N balancear(N no) {
+        no.recalcular();
+        int fator = altura(no.esquerda) - altura(no.direita);
+        if (fator > 1) {
+            if (altura(no.esquerda.esquerda) < altura(no.esquerda.direita)) {
+                no.esquerda = girarEsquerda(no.esquerda);
+            }
+            return girarDireita(no);
+        }
+        if (fator < -1) {
+            if (altura(no.direita.direita) < altura(no.direita.esquerda)) {
+                no.direita = girarDireita(no.direita);
+            }
+            return girarEsquerda(no);
+        }
+        return no;
+    }
+
+    private static <N extends NoAvl<N>> N girarDireita(N no) {
+        N nova = no.esquerda;
+        no.esquerda = nova.direita;
+        nova.direita = no;
+        no.recalcular();
+        nova.recalcular();
+        return nova;
+    }
+
+    private static <N extends NoAvl<N>> N girarEsquerda(N no) {
+        N nova = no.direita;
+        no.direita = nova.esquerda;
+        nova.esquerda = no;
+        no.recalcular();
+        nova.recalcular();
+        return nova;
+    }
+
+    final void recalcular() {
+        altura = 1 + Math.max(altura(esquerda), altura(direita));
+        resumir();
+    }
+}
@@ -0,0 +1,266 @@
+package servico;
+
+import eventos.Assinatura;
+import eventos.BarramentoEventos;
+import eventos.EventoDominio;
+import eventos.TipoEvento;
+import modelo.Colaborador;
+import modelo.Papel;
+import modelo.Usuario;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Ranking de produtividade dos colaboradores, mantido a cada alteração
+ *
+ * Árvore AVL de estatística de ordem: cada nó guarda o tamanho da sua
+ * subárvore, então a posição de um colaborador e o colaborador em uma
+ * posição saem em O(log n), e os N primeiros em O(log n + N), sem calcular
+ * a produtividade de todos nem ordenar.
+ *
+ * Ordem: maior produtividade (concluídas / total, comparada como fração
+ * exata), depois mais tarefas, depois login. Conectado ao barramento de
+ * eventos, o ranking reposiciona o colaborador a cada tarefa adicionada,
+ * concluída ou removida ({@link Colaborador#adicionarTarefa},
+ * {@link Colaborador#concluirTarefa}, {@link Colaborador#concluirTodasTarefas},
+ * {@link Colaborador#removerTarefa}) e acompanha cadastros e remoções.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class RankingProdutividade {
+    private No raiz;
+    private final HashMap<Colaborador, No> nos = new HashMap<>();
+    private Assinatura assinatura;
+
+    /**
+     * Carrega os colaboradores cadastrados e passa a acompanhar as alterações
+     * @param barramento Barramento em que usuários e colaboradores publicam
+     * @param gerenciadorUsuario Gerenciador com os colaboradores já cadastrados
+     */
+    public synchronized void conectar(BarramentoEventos barramento, GerenciadorUsuario gerenciadorUsuario) {
+        desconectar();
+        // Assina antes de carregar para não perder eventos. Quem publica não espera a carga: os
+        // eventos chegados nesse meio-tempo são aplicados depois dela, e reaplicá-los é inofensivo
+        // porque atualizar relê o colaborador
+        assinatura = barramento.assinar("ranking-produtividade",
+                EnumSet.of(TipoEvento.TAREFA_ADICIONADA, TipoEvento.TAREFA_CONCLUIDA, TipoEvento.TAREFA_REMOVIDA,
+                           TipoEvento.USUARIO_ADICIONADO, TipoEvento.USUARIO_REMOVIDO, TipoEvento.PAPEL_ALTERADO),
+                256, this::aplicar);
+        for (Usuario usuario : gerenciadorUsuario.listarPorPapel(Papel.COLABORADOR)) {
+            if (usuario instanceof Colaborador) {
+                atualizar((Colaborador) usuario);
+            }
+        }
+    }
+
+    /**
+     * Deixa de acompanhar as alterações do barramento
+     */
+    public synchronized void desconectar() {
+        if (assinatura != null) {
+            assinatura.cancelar();
+            assinatura = null;
+        }
+    }
+
+    /**
+     * Inclui um colaborador ou o reposiciona conforme suas tarefas atuais
+     * @param colaborador Colaborador a (re)posicionar
+     */
+    public synchronized void atualizar(Colaborador colaborador) {
+        int total = colaborador.getTotalTarefas();
+        int concluidas = total - colaborador.getTarefasPendentes();
+        No atual = nos.get(colaborador);
+        if (atual != null) {
+            if (atual.concluidas == concluidas && atual.total == total) {
+                return;
+            }
+            raiz = NoAvl.remover(raiz, no -> comparar(atual, no));
+        }
+        No novo = new No(colaborador, concluidas, total);
+        nos.put(colaborador, novo);
+        raiz = NoAvl.inserir(raiz, novo, RankingProdutividade::comparar);
+    }
+
+    /**
+     * Retira um colaborador do ranking
+     * @param colaborador Colaborador a retirar
+     * @return true se estava no ranking
+     */
+    public synchronized boolean remover(Colaborador colaborador) {
+        No atual = nos.remove(colaborador);
+        if (atual == null) {
+            return false;
+        }
+        raiz = NoAvl.remover(raiz, no -> comparar(atual, no));
+        return true;
+    }
+
+    /**
+     * Os N colaboradores mais produtivos
+     * @param quantidade N
+     * @return Colaboradores do 1º ao N-ésimo
+     */
+    public synchronized ArrayList<Colaborador> listarTop(int quantidade) {
+        ArrayList<Colaborador> resultado = new ArrayList<>(Math.max(0, Math.min(quantidade, nos.size())));
+        coletar(raiz, quantidade, resultado);
+        return resultado;
+    }
+
+    /**
+     * Posição de um colaborador no ranking
+     * @param colaborador Colaborador procurado
+     * @return Posição (1 = mais produtivo), ou 0 se não está no ranking
+     */
+    public synchronized int getPosicao(Colaborador colaborador) {
+        No alvo = nos.get(colaborador);
+        if (alvo == null) {
+            return 0;
+        }
+        int anteriores = 0;
+        No no = raiz;
+        while (no != null) {
+            int comparacao = comparar(alvo, no);
+            if (comparacao < 0) {
+                no = no.esquerda;
+            } else {
+                anteriores += tamanho(no.esquerda);
+                if (comparacao == 0) {
+                    break;
+                }
+                anteriores++;
+                no = no.direita;
+            }
+        }
+        return anteriores + 1;
+    }
+
+    /**
+     * Colaborador que ocupa uma posição do ranking
+     * @param posicao Posição (1 = mais produtivo)
+     * @return Colaborador, ou null se a posição não existe
+     */
+    public synchronized Colaborador getNaPosicao(int posicao) {
+        if (posicao < 1 || posicao > nos.size()) {
+            return null;
+        }
+        int restante = posicao - 1;
+        No no = raiz;
+        while (true) {
+            int esquerda = tamanho(no.esquerda);
+            if (restante < esquerda) {
+                no = no.esquerda;
+            } else if (restante == esquerda) {
+                return no.colaborador;
+            } else {
+                restante -= esquerda + 1;
+                no = no.direita;
+            }
+        }
+    }
+
+    /**
+     * @return Colaboradores no ranking
+     */
+    public synchronized int tamanho() {
+        return nos.size();
+    }
+
+    /**
+     * Exibe os N primeiros do ranking no console
+     * @param quantidade N
+     */
+    public synchronized void exibirTop(int quantidade) {
+        System.out.println("RANKING DE PRODUTIVIDADE (" + nos.size() + " colaboradores)");
+        if (raiz == null) {
+            System.out.println("Nenhum colaborador cadastrado.");
+            return;
+        }
+        int posicao = 1;
+        for (Colaborador colaborador : listarTop(quantidade)) {
+            No no = nos.get(colaborador);
+            System.out.printf("%d. %s - %.1f%% (%d/%d tarefas)%n", posicao++, colaborador.getNome(),
+                              no.produtividade(), no.concluidas, no.total);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Aplica um lote de eventos (thread da assinatura)
+     */
+    private synchronized void aplicar(List<EventoDominio> lote) {
+        for (EventoDominio evento : lote) {
+            if (!(evento.getEntidade() instanceof Colaborador)) {
+                continue;
+            }
+            Colaborador colaborador = (Colaborador) evento.getEntidade();
+            boolean participa = evento.getTipo() != TipoEvento.USUARIO_REMOVIDO
+                                && colaborador.getPapel() == Papel.COLABORADOR;
+            if (!participa) {
+                remover(colaborador);
+            } else if (nos.containsKey(colaborador) || evento.getTipo() == TipoEvento.USUARIO_ADICIONADO
+                       || evento.getTipo() == TipoEvento.PAPEL_ALTERADO) {
+                atualizar(colaborador);
+            }
+        }
+    }
+
+    /**
+     * Ordem do ranking: negativo se "a" vem antes de "b"
+     */
+    private static int comparar(No a, No b) {
+        // concluidas/total comparadas sem divisão (sem tarefas conta como 0/1)
+        long produtividadeA = (long) a.concluidas * Math.max(b.total, 1);
+        long produtividadeB = (long) b.concluidas * Math.max(a.total, 1);
+        if (produtividadeA != produtividadeB) {
+            return produtividadeA > produtividadeB ? -1 : 1;
+        }
+        if (a.total != b.total) {
+            return a.total > b.total ? -1 : 1;
+        }
+        return a.colaborador.getLogin().compareTo(b.colaborador.getLogin());
+    }
+
+    private static void coletar(No no, int quantidade, ArrayList<Colaborador> resultado) {
+        if (no == null || resultado.size() >= quantidade) {
+            return;
+        }
+        coletar(no.esquerda, quantidade, resultado);
+        if (resultado.size() < quantidade) {
+            resultado.add(no.colaborador);
+            coletar(no.direita, quantidade, resultado);
+        }
+    }
+
+    private static int tamanho(No no) {
+        return no == null ? 0 : no.tamanho;
+    }
+
+    /**
+     * Nó da árvore: retrato das tarefas de um colaborador e tamanho da subárvore
+     */
+    private static final class No extends NoAvl<No> {
+        final Colaborador colaborador;
+        final int concluidas;
+        final int total;
+        int tamanho = 1;
+
+        No(Colaborador colaborador, int concluidas, int total) {
+            this.colaborador = colaborador;
+            this.concluidas = concluidas;
+            this.total = total;
+        }
+
+        double produtividade() {
+            return total == 0 ? 0.0 : concluidas * 100.0 / total;
+        }
+
+        @Override
+        void resumir() {
+            tamanho = 1 + RankingProdutividade.tamanho(esquerda) + RankingProdutividade.tamanho(direita);
+        }
+    }
+}
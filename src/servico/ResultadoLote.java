@@ -0,0 +1,73 @@
+package servico;
+
+/**
+ * Resultado de cada item de uma operação em lote
+ *
+ * As operações em lote validam todos os itens antes de alterar qualquer
+ * coisa: se algum item falhar (NAO_ENCONTRADO, INVALIDO ou CONFLITO), nenhum
+ * item é aplicado e os itens válidos voltam como CANCELADO.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public enum ResultadoLote {
+    /** Item aplicado */
+    APLICADO,
+    /** Item válido que não muda nada (ex.: já é membro, status igual ao atual) */
+    SEM_ALTERACAO,
+    /** Item válido, não aplicado porque outro item do lote falhou */
+    CANCELADO,
+    /** Entidade referenciada não existe */
+    NAO_ENCONTRADO,
+    /** Item nulo ou com valor inválido */
+    INVALIDO,
+    /** Item em conflito com o cadastro ou com outro item do lote (ex.: login repetido) */
+    CONFLITO;
+
+    /**
+     * Indica se o item impede a aplicação do lote
+     * @return true para NAO_ENCONTRADO, INVALIDO e CONFLITO
+     */
+    public boolean isFalha() {
+        return this == NAO_ENCONTRADO || this == INVALIDO || this == CONFLITO;
+    }
+
+    /**
+     * Conta os itens com um determinado resultado
+     * @param resultados Resultados de um lote
+     * @param tipo Resultado procurado
+     * @return Quantidade de itens com o resultado
+     */
+    public static int contar(ResultadoLote[] resultados, ResultadoLote tipo) {
+        int total = 0;
+        for (ResultadoLote resultado : resultados) {
+            if (resultado == tipo) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Marca como CANCELADO os itens que seriam aplicados, quando o lote tem falhas
+     * @param resultados Resultados da validação
+     * @return true se o lote pode ser aplicado (nenhuma falha)
+     */
+    static boolean confirmar(ResultadoLote[] resultados) {
+        boolean temFalha = false;
+        for (ResultadoLote resultado : resultados) {
+            if (resultado.isFalha()) {
+                temFalha = true;
+                break;
+            }
+        }
+        if (temFalha) {
+            for (int i = 0; i < resultados.length; i++) {
+                if (resultados[i] == APLICADO) {
+                    resultados[i] = CANCELADO;
+                }
+            }
+        }
+        return !temFalha;
+    }
+}
@@ -0,0 +1,248 @@
+package servidor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitura e escrita mínimas de JSON para a API HTTP (sem dependências)
+ *
+ * A leitura produz Map (objetos, em ordem), List (listas), String, Double,
+ * Boolean ou null.
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public final class Json {
+    private final String texto;
+    private int posicao;
+
+    private Json(String texto) {
+        this.texto = texto;
+    }
+
+    /**
+     * Converte um texto em valor JSON entre aspas, com escapes
+     * @param valor Texto (null vira o literal null)
+     * @return Representação JSON
+     */
+    public static String texto(String valor) {
+        if (valor == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(valor.length() + 2).append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Lê um documento JSON
+     * @param json Texto do documento
+     * @return Valor lido
+     * @throws IllegalArgumentException se o texto não for JSON válido
+     */
+    public static Object ler(String json) {
+        Json leitor = new Json(json);
+        Object valor = leitor.lerValor();
+        leitor.pularEspacos();
+        if (leitor.posicao != json.length()) {
+            throw leitor.erro("conteúdo após o fim do documento");
+        }
+        return valor;
+    }
+
+    /**
+     * Lê um documento que deve ser um objeto JSON
+     * @param json Texto do documento (vazio é tratado como objeto vazio)
+     * @return Campos do objeto
+     * @throws IllegalArgumentException se o texto não for um objeto JSON
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> lerObjeto(String json) {
+        if (json == null || json.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        Object valor = ler(json);
+        if (!(valor instanceof Map)) {
+            throw new IllegalArgumentException("JSON inválido: esperado um objeto");
+        }
+        return (Map<String, Object>) valor;
+    }
+
+    private Object lerValor() {
+        pularEspacos();
+        if (posicao >= texto.length()) {
+            throw erro("fim inesperado");
+        }
+        char c = texto.charAt(posicao);
+        switch (c) {
+            case '{':
+                return lerObjetoInterno();
+            case '[':
+                return lerLista();
+            case '"':
+                return lerTexto();
+            case 't':
+                return lerLiteral("true", Boolean.TRUE);
+            case 'f':
+                return lerLiteral("false", Boolean.FALSE);
+            case 'n':
+                return lerLiteral("null", null);
+            default:
+                return lerNumero();
+        }
+    }
+
+    private Map<String, Object> lerObjetoInterno() {
+        Map<String, Object> objeto = new LinkedHashMap<>();
+        posicao++; // {
+        pularEspacos();
+        if (consumir('}')) {
+            return objeto;
+        }
+        do {
+            pularEspacos();
+            if (posicao >= texto.length() || texto.charAt(posicao) != '"') {
+                throw erro("esperado nome de campo");
+            }
+            String nome = lerTexto();
+            pularEspacos();
+            if (!consumir(':')) {
+                throw erro("esperado ':'");
+            }
+            objeto.put(nome, lerValor());
+            pularEspacos();
+        } while (consumir(','));
+        if (!consumir('}')) {
+            throw erro("esperado '}'");
+        }
+        return objeto;
+    }
+
+    private List<Object> lerLista() {
+        List<Object> lista = new ArrayList<>();
+        posicao++; // [
+        pularEspacos();
+        if (consumir(']')) {
+            return lista;
+        }
+        do {
+            lista.add(lerValor());
+            pularEspacos();
+        } while (consumir(','));
+        if (!consumir(']')) {
+            throw erro("esperado ']'");
+        }
+        return lista;
+    }
+
+    private String lerTexto() {
+        StringBuilder sb = new StringBuilder();
+        posicao++; // aspas iniciais
+        while (posicao < texto.length()) {
+            char c = texto.charAt(posicao++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (posicao >= texto.length()) {
+                break;
+            }
+            char escape = texto.charAt(posicao++);
+            switch (escape) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'u':
+                    if (posicao + 4 > texto.length()) {
+                        throw erro("escape unicode incompleto");
+                    }
+                    sb.append((char) Integer.parseInt(texto.substring(posicao, posicao + 4), 16));
+                    posicao += 4;
+                    break;
+                default:
+                    sb.append(escape); // \" \\ \/
+            }
+        }
+        throw erro("texto não terminado");
+    }
+
+    private Object lerLiteral(String literal, Object valor) {
+        if (!texto.startsWith(literal, posicao)) {
+            throw erro("valor desconhecido");
+        }
+        posicao += literal.length();
+        return valor;
+    }
+
+    private Double lerNumero() {
+        int inicio = posicao;
+        while (posicao < texto.length() && "+-0123456789.eE".indexOf(texto.charAt(posicao)) >= 0) {
+            posicao++;
+        }
+        try {
+            return Double.valueOf(texto.substring(inicio, posicao));
+        } catch (NumberFormatException e) {
+            throw erro("número inválido");
+        }
+    }
+
+    private boolean consumir(char esperado) {
+        if (posicao < texto.length() && texto.charAt(posicao) == esperado) {
+            posicao++;
+            return true;
+        }
+        return false;
+    }
+
+    private void pularEspacos() {
+        while (posicao < texto.length() && Character.isWhitespace(texto.charAt(posicao))) {
+            posicao++;
+        }
+    }
+
+    private IllegalArgumentException erro(String mensagem) {
+        return new IllegalArgumentException("JSON inválido na posição " + posicao + ": " + mensagem);
+    }
+}
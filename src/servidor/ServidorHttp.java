@@ -0,0 +1,721 @@
+package servidor;
+
+import busca.IndiceInvertido;
+import busca.MotorBusca;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import metricas.RegistroMetricas;
+import modelo.*;
+import seguranca.GerenciadorSessao;
+import seguranca.Permissao;
+import seguranca.Sessao;
+import servico.GerenciadorEquipe;
+import servico.GerenciadorProjeto;
+import servico.GerenciadorUsuario;
+import servico.ResultadoLote;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Servidor HTTP embutido que expõe usuários, projetos, equipes, busca,
+ * relatórios e métricas como JSON (com.sun.net.httpserver, sem dependências)
+ *
+ * Cada requisição roda em uma thread virtual quando a JVM oferece
+ * (Java 21+); em JVMs mais antigas usa um pool de threads. Os gerenciadores
+ * não são thread-safe, então o servidor os protege com um ReadWriteLock:
+ * consultas são concorrentes e alterações são exclusivas.
+ *
+ * Autenticação: POST /api/login devolve um token de sessão, enviado nas
+ * demais chamadas no cabeçalho "Authorization: Bearer &lt;token&gt;".
+ *
+ * Rotas:
+ *   GET  /api/saude
+ *   POST /api/login                      {"login": "...", "senha": "..."}
+ *   POST /api/logout
+ *   GET  /api/usuarios[?inicio=&amp;limite=]    GET /api/usuarios/{login}
+ *   GET  /api/projetos[?status=&amp;inicio=&amp;limite=]
+ *   GET  /api/projetos/{id}
+ *   POST /api/projetos                   {"nome", "descricao", "dataInicio", "dataFimPrevista"}
+ *   PUT  /api/projetos/{id}/status       {"status": "..."}
+ *   GET  /api/equipes[?inicio=&amp;limite=]     GET /api/equipes/{id}
+ *   POST /api/equipes                    {"nome", "descricao"}
+ *   POST /api/equipes/{id}/membros       {"login": "..."} ou {"logins": ["...", ...]}
+ *   GET  /api/busca?q=...[&amp;tipo=projetos|equipes|usuarios&amp;modo=e|ou&amp;limite=]
+ *   GET  /api/relatorios/{usuarios|projetos|equipes}
+ *   GET  /api/metricas
+ *
+ * @author Equipe AutoMax
+ * @version 1.0
+ */
+public class ServidorHttp {
+    private static final int LIMITE_PADRAO = 100;
+    private static final int LIMITE_MAXIMO = 1000;
+    private static final String PREFIXO = "/api/";
+
+    static {
+        // Sem TCP_NODELAY o cabeçalho e o corpo vão em segmentos separados e cada
+        // resposta espera o ACK atrasado do cliente (~40 ms) em conexões persistentes
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final GerenciadorUsuario gerenciadorUsuario;
+    private final GerenciadorProjeto gerenciadorProjeto;
+    private final GerenciadorEquipe gerenciadorEquipe;
+    private final GerenciadorSessao gerenciadorSessao;
+    private final MotorBusca motorBusca;
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    private HttpServer servidor;
+    private ExecutorService executor;
+    private boolean threadsVirtuais;
+
+    /**
+     * Construtor do servidor
+     * @param gerenciadorUsuario Gerenciador de usuários
+     * @param gerenciadorProjeto Gerenciador de projetos
+     * @param gerenciadorEquipe Gerenciador de equipes
+     * @param gerenciadorSessao Gerenciador de sessões (tokens)
+     * @param motorBusca Motor de busca conectado aos gerenciadores (ou null)
+     */
+    public ServidorHttp(GerenciadorUsuario gerenciadorUsuario, GerenciadorProjeto gerenciadorProjeto,
+                        GerenciadorEquipe gerenciadorEquipe, GerenciadorSessao gerenciadorSessao,
+                        MotorBusca motorBusca) {
+        this.gerenciadorUsuario = gerenciadorUsuario;
+        this.gerenciadorProjeto = gerenciadorProjeto;
+        this.gerenciadorEquipe = gerenciadorEquipe;
+        this.gerenciadorSessao = gerenciadorSessao;
+        this.motorBusca = motorBusca;
+    }
+
+    /**
+     * Inicia o servidor
+     * @param porta Porta TCP (0 escolhe uma porta livre)
+     * @return true se iniciado com sucesso
+     */
+    public synchronized boolean iniciar(int porta) {
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(porta), 1024);
+            executor = criarExecutor();
+            servidor.setExecutor(executor);
+            servidor.createContext(PREFIXO, this::tratar);
+            servidor.start();
+            System.out.println("Servidor HTTP ouvindo na porta " + getPorta()
+                               + (threadsVirtuais ? " (threads virtuais)" : " (pool de threads)"));
+            return true;
+        } catch (IOException e) {
+            System.out.println("Erro ao iniciar servidor HTTP: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Para o servidor, aguardando até 1 segundo pelas requisições em andamento
+     */
+    public synchronized void parar() {
+        if (servidor != null) {
+            servidor.stop(1);
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            servidor = null;
+        }
+    }
+
+    public int getPorta() {
+        return servidor != null ? servidor.getAddress().getPort() : -1;
+    }
+
+    public boolean usaThreadsVirtuais() {
+        return threadsVirtuais;
+    }
+
+    /**
+     * Usa Executors.newVirtualThreadPerTaskExecutor (Java 21+) por reflexão,
+     * para que o código continue compilando com Java 17
+     */
+    private ExecutorService criarExecutor() {
+        try {
+            Object virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            threadsVirtuais = true;
+            return (ExecutorService) virtual;
+        } catch (ReflectiveOperationException e) {
+            threadsVirtuais = false;
+            int threads = Math.max(16, Runtime.getRuntime().availableProcessors() * 8);
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+
+    /**
+     * Ponto de entrada de todas as requisições
+     */
+    private void tratar(HttpExchange troca) throws IOException {
+        Resposta resposta;
+        try {
+            resposta = rotear(troca);
+        } catch (ErroHttp e) {
+            resposta = Resposta.erro(e.status, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            resposta = Resposta.erro(400, e.getMessage());
+        } catch (Exception e) {
+            System.out.println("Erro ao tratar requisição " + troca.getRequestURI() + ": " + e.getMessage());
+            resposta = Resposta.erro(500, "Erro interno");
+        }
+        enviar(troca, resposta);
+    }
+
+    private Resposta rotear(HttpExchange troca) throws IOException {
+        String metodo = troca.getRequestMethod();
+        String[] partes = troca.getRequestURI().getPath().substring(PREFIXO.length()).split("/");
+        Map<String, String> parametros = lerParametros(troca.getRequestURI().getRawQuery());
+
+        switch (partes[0]) {
+            case "saude":
+                return Resposta.ok("{\"status\":\"ok\"}");
+            case "login":
+                exigirMetodo(metodo, "POST");
+                return login(Json.lerObjeto(lerCorpo(troca)));
+            case "logout":
+                exigirMetodo(metodo, "POST");
+                gerenciadorSessao.encerrar(exigirSessao(troca).getToken());
+                return Resposta.ok("{\"encerrada\":true}");
+            case "usuarios":
+                return usuarios(troca, metodo, partes, parametros);
+            case "projetos":
+                return projetos(troca, metodo, partes, parametros);
+            case "equipes":
+                return equipes(troca, metodo, partes, parametros);
+            case "busca":
+                exigirMetodo(metodo, "GET");
+                exigirSessao(troca);
+                return busca(parametros);
+            case "relatorios":
+                exigirMetodo(metodo, "GET");
+                exigirPermissao(troca, Permissao.ACESSAR_RELATORIOS_ADMIN);
+                return relatorio(partes.length > 1 ? partes[1] : "");
+            case "metricas":
+                exigirMetodo(metodo, "GET");
+                exigirPermissao(troca, Permissao.ACESSAR_RELATORIOS_ADMIN);
+                return Resposta.ok(RegistroMetricas.global().exportarJson());
+            default:
+                throw new ErroHttp(404, "Rota não encontrada");
+        }
+    }
+
+    private Resposta login(Map<String, Object> corpo) {
+        String login = textoObrigatorio(corpo, "login");
+        String senha = textoObrigatorio(corpo, "senha");
+        // autenticar altera apenas o cache de autenticação, que é sincronizado
+        String token = lendo(() -> gerenciadorSessao.login(login, senha));
+        if (token == null) {
+            throw new ErroHttp(401, "Credenciais inválidas");
+        }
+        Usuario usuario = gerenciadorSessao.obterUsuario(token);
+        return Resposta.ok("{\"token\":" + Json.texto(token) + ",\"usuario\":" + usuarioJson(usuario) + "}");
+    }
+
+    private Resposta usuarios(HttpExchange troca, String metodo, String[] partes, Map<String, String> parametros) {
+        exigirMetodo(metodo, "GET");
+        Sessao sessao = exigirSessao(troca);
+        if (partes.length > 1) {
+            String login = partes[1];
+            // Cada usuário pode consultar o próprio cadastro; os demais exigem permissão
+            if (!login.equals(sessao.getUsuario().getLogin()) && !sessao.temPermissao(Permissao.GERENCIAR_USUARIOS)) {
+                throw new ErroHttp(403, "Acesso negado");
+            }
+            return lendo(() -> {
+                Usuario usuario = gerenciadorUsuario.buscarPorLogin(login);
+                if (usuario == null) {
+                    throw new ErroHttp(404, "Usuário não encontrado");
+                }
+                return Resposta.ok(usuarioJson(usuario));
+            });
+        }
+        if (!sessao.temPermissao(Permissao.GERENCIAR_USUARIOS)) {
+            throw new ErroHttp(403, "Acesso negado");
+        }
+        int inicio = inteiro(parametros, "inicio", 0);
+        int limite = limite(parametros);
+        return lendo(() -> {
+            StringBuilder json = new StringBuilder("{\"total\":").append(gerenciadorUsuario.getTotalUsuarios())
+                    .append(",\"itens\":[");
+            List<Usuario> pagina = gerenciadorUsuario.listarPagina(inicio, limite);
+            for (int i = 0; i < pagina.size(); i++) {
+                json.append(i > 0 ? "," : "").append(usuarioJson(pagina.get(i)));
+            }
+            return Resposta.ok(json.append("]}").toString());
+        });
+    }
+
+    private Resposta projetos(HttpExchange troca, String metodo, String[] partes, Map<String, String> parametros)
+            throws IOException {
+        Sessao sessao = exigirSessao(troca);
+        if (partes.length == 1) {
+            if (metodo.equals("POST")) {
+                return criarProjeto(sessao, Json.lerObjeto(lerCorpo(troca)));
+            }
+            exigirMetodo(metodo, "GET");
+            String status = parametros.get("status");
+            int inicio = inteiro(parametros, "inicio", 0);
+            int limite = limite(parametros);
+            return lendo(() -> {
+                List<Projeto> todos = status != null ? gerenciadorProjeto.listarPorStatus(status) : null;
+                int total = todos != null ? todos.size() : gerenciadorProjeto.getTotalProjetos();
+                List<Projeto> pagina = todos != null
+                        ? todos.subList(Math.min(inicio, total), (int) Math.min(total, (long) inicio + limite))
+                        : gerenciadorProjeto.listarPagina(inicio, limite);
+                StringBuilder json = new StringBuilder("{\"total\":").append(total).append(",\"itens\":[");
+                for (int i = 0; i < pagina.size(); i++) {
+                    json.append(i > 0 ? "," : "").append(projetoJson(pagina.get(i)));
+                }
+                return Resposta.ok(json.append("]}").toString());
+            });
+        }
+
+        int id = idDoCaminho(partes[1]);
+        if (partes.length == 3 && partes[2].equals("status")) {
+            exigirMetodo(metodo, "PUT");
+            String informado = textoObrigatorio(Json.lerObjeto(lerCorpo(troca)), "status");
+            String status = Projeto.normalizarStatus(informado);
+            if (status == null) {
+                throw new ErroHttp(400, "Status inválido: " + informado);
+            }
+            return escrevendo(() -> {
+                Projeto projeto = gerenciadorProjeto.buscarPorId(id);
+                if (projeto == null) {
+                    throw new ErroHttp(404, "Projeto não encontrado");
+                }
+                if (!podeAlterarProjeto(sessao, projeto)) {
+                    throw new ErroHttp(403, "Apenas o gerente responsável ou um administrador pode alterar o projeto");
+                }
+                projeto.atualizarStatus(status);
+                return Resposta.ok(projetoJson(projeto));
+            });
+        }
+        exigirMetodo(metodo, "GET");
+        // Busca e serialização na mesma seção: o projeto não pode sair nem mudar entre as duas
+        return lendo(() -> {
+            Projeto projeto = gerenciadorProjeto.buscarPorId(id);
+            if (projeto == null) {
+                throw new ErroHttp(404, "Projeto não encontrado");
+            }
+            return Resposta.ok(projetoJson(projeto));
+        });
+    }
+
+    private Resposta criarProjeto(Sessao sessao, Map<String, Object> corpo) {
+        if (!sessao.temPermissao(Permissao.CRIAR_PROJETOS)) {
+            throw new ErroHttp(403, "Acesso negado");
+        }
+        String nome = textoObrigatorio(corpo, "nome");
+        String descricao = texto(corpo, "descricao", "");
+        String dataInicio = textoObrigatorio(corpo, "dataInicio");
+        String dataFim = textoObrigatorio(corpo, "dataFimPrevista");
+        Gerente gerente = sessao.getUsuario() instanceof Gerente ? (Gerente) sessao.getUsuario() : null;
+        return escrevendo(() -> {
+            // Verifica o nome antes de criar: o construtor já vincula o projeto ao gerente
+            if (gerenciadorProjeto.buscarPorNome(nome) != null) {
+                throw new ErroHttp(409, "Já existe um projeto com o nome: " + nome);
+            }
+            Projeto projeto = new Projeto(nome, descricao, dataInicio, dataFim, gerente);
+            if (!gerenciadorProjeto.adicionarProjeto(projeto)) {
+                if (gerente != null) {
+                    gerente.removerProjetoGerenciado(projeto);
+                }
+                throw new ErroHttp(400, "Não foi possível criar o projeto: " + nome);
+            }
+            return new Resposta(201, projetoJson(projeto));
+        });
+    }
+
+    private Resposta equipes(HttpExchange troca, String metodo, String[] partes, Map<String, String> parametros)
+            throws IOException {
+        Sessao sessao = exigirSessao(troca);
+        if (partes.length == 1) {
+            if (metodo.equals("POST")) {
+                if (!sessao.temPermissao(Permissao.GERENCIAR_EQUIPES)) {
+                    throw new ErroHttp(403, "Acesso negado");
+                }
+                Map<String, Object> corpo = Json.lerObjeto(lerCorpo(troca));
+                String nome = textoObrigatorio(corpo, "nome");
+                String descricao = texto(corpo, "descricao", "");
+                return escrevendo(() -> {
+                    Equipe equipe = new Equipe(nome, descricao);
+                    if (!gerenciadorEquipe.adicionarEquipe(equipe)) {
+                        throw new ErroHttp(409, "Já existe uma equipe com o nome: " + nome);
+                    }
+                    return new Resposta(201, equipeJson(equipe, true));
+                });
+            }
+            exigirMetodo(metodo, "GET");
+            int inicio = inteiro(parametros, "inicio", 0);
+            int limite = limite(parametros);
+            return lendo(() -> {
+                StringBuilder json = new StringBuilder("{\"total\":").append(gerenciadorEquipe.getTotalEquipes())
+                        .append(",\"itens\":[");
+                List<Equipe> pagina = gerenciadorEquipe.listarPagina(inicio, limite);
+                for (int i = 0; i < pagina.size(); i++) {
+                    json.append(i > 0 ? "," : "").append(equipeJson(pagina.get(i), false));
+                }
+                return Resposta.ok(json.append("]}").toString());
+            });
+        }
+
+        int id = idDoCaminho(partes[1]);
+        if (partes.length == 3 && partes[2].equals("membros")) {
+            exigirMetodo(metodo, "POST");
+            if (!sessao.temPermissao(Permissao.GERENCIAR_EQUIPES)) {
+                throw new ErroHttp(403, "Acesso negado");
+            }
+            Map<String, Object> corpo = Json.lerObjeto(lerCorpo(troca));
+            if (corpo.get("logins") instanceof List) {
+                return adicionarMembros(id, (List<?>) corpo.get("logins"));
+            }
+            String login = textoObrigatorio(corpo, "login");
+            return escrevendo(() -> {
+                Equipe equipe = gerenciadorEquipe.buscarPorId(id);
+                Usuario usuario = gerenciadorUsuario.buscarPorLogin(login);
+                if (equipe == null || usuario == null) {
+                    throw new ErroHttp(404, equipe == null ? "Equipe não encontrada" : "Usuário não encontrado");
+                }
+                if (!gerenciadorEquipe.adicionarMembroEquipe(equipe.getNome(), usuario)) {
+                    throw new ErroHttp(409, usuario.getLogin() + " já é membro da equipe");
+                }
+                return Resposta.ok(equipeJson(equipe, true));
+            });
+        }
+        exigirMetodo(metodo, "GET");
+        return lendo(() -> {
+            Equipe equipe = gerenciadorEquipe.buscarPorId(id);
+            if (equipe == null) {
+                throw new ErroHttp(404, "Equipe não encontrada");
+            }
+            return Resposta.ok(equipeJson(equipe, true));
+        });
+    }
+
+    /**
+     * Adição de membros em lote: {"logins": [...]} responde com o resultado
+     * de cada login, na ordem enviada; logins inexistentes rejeitam o lote
+     */
+    private Resposta adicionarMembros(int id, List<?> logins) {
+        return escrevendo(() -> {
+            if (gerenciadorEquipe.buscarPorId(id) == null) {
+                throw new ErroHttp(404, "Equipe não encontrada");
+            }
+            ArrayList<Usuario> usuarios = new ArrayList<>(logins.size());
+            ResultadoLote[] resultados = new ResultadoLote[logins.size()];
+            boolean todosEncontrados = true;
+            for (Object login : logins) {
+                Usuario usuario = login instanceof String ? gerenciadorUsuario.buscarPorLogin((String) login) : null;
+                todosEncontrados &= usuario != null;
+                usuarios.add(usuario);
+            }
+            if (todosEncontrados) {
+                resultados = gerenciadorEquipe.adicionarMembros(id, usuarios);
+            } else {
+                for (int i = 0; i < resultados.length; i++) {
+                    resultados[i] = usuarios.get(i) == null ? ResultadoLote.NAO_ENCONTRADO : ResultadoLote.CANCELADO;
+                }
+            }
+            StringBuilder json = new StringBuilder("{\"aplicado\":").append(todosEncontrados
+                    && ResultadoLote.contar(resultados, ResultadoLote.CANCELADO) == 0).append(",\"resultados\":[");
+            for (int i = 0; i < resultados.length; i++) {
+                json.append(i > 0 ? "," : "").append(Json.texto(resultados[i].name()));
+            }
+            return new Resposta(todosEncontrados ? 200 : 404, json.append("]}").toString());
+        });
+    }
+
+    private Resposta busca(Map<String, String> parametros) {
+        if (motorBusca == null) {
+            throw new ErroHttp(404, "Busca textual não habilitada");
+        }
+        String consulta = parametros.get("q");
+        if (consulta == null || consulta.isBlank()) {
+            throw new ErroHttp(400, "Parâmetro 'q' obrigatório");
+        }
+        IndiceInvertido.Modo modo = "ou".equalsIgnoreCase(parametros.get("modo"))
+                ? IndiceInvertido.Modo.OU : IndiceInvertido.Modo.E;
+        int limite = Math.min(inteiro(parametros, "limite", 20), LIMITE_MAXIMO);
+        String tipo = parametros.getOrDefault("tipo", "");
+        return lendo(() -> {
+            StringBuilder json = new StringBuilder("{\"itens\":[");
+            List<?> encontrados;
+            switch (tipo) {
+                case "projetos":
+                    encontrados = motorBusca.buscarProjetos(consulta, modo, limite);
+                    break;
+                case "equipes":
+                    encontrados = motorBusca.buscarEquipes(consulta, modo, limite);
+                    break;
+                case "usuarios":
+                    encontrados = motorBusca.buscarUsuarios(consulta, modo, limite);
+                    break;
+                case "":
+                    encontrados = motorBusca.buscar(consulta, modo, limite);
+                    break;
+                default:
+                    throw new ErroHttp(400, "Tipo de busca inválido: " + tipo);
+            }
+            for (int i = 0; i < encontrados.size(); i++) {
+                json.append(i > 0 ? "," : "").append(entidadeJson(encontrados.get(i)));
+            }
+            return Resposta.ok(json.append("]}").toString());
+        });
+    }
+
+    private Resposta relatorio(String tipo) {
+        return lendo(() -> {
+            switch (tipo) {
+                case "usuarios":
+                    return Resposta.ok(String.format("{\"total\":%d,\"administradores\":%d,\"gerentes\":%d,\"colaboradores\":%d}",
+                            gerenciadorUsuario.getTotalUsuarios(),
+                            gerenciadorUsuario.contarPorPapel(Papel.ADMINISTRADOR),
+                            gerenciadorUsuario.contarPorPapel(Papel.GERENTE),
+                            gerenciadorUsuario.contarPorPapel(Papel.COLABORADOR)));
+                case "projetos": {
+                    StringBuilder json = new StringBuilder("{\"total\":")
+                            .append(gerenciadorProjeto.getTotalProjetos()).append(",\"porStatus\":{");
+                    String[] status = {"Planejado", "Em Andamento", "Concluído", "Cancelado", "Pausado"};
+                    for (int i = 0; i < status.length; i++) {
+                        json.append(i > 0 ? "," : "").append(Json.texto(status[i])).append(':')
+                            .append(gerenciadorProjeto.listarPorStatus(status[i]).size());
+                    }
+                    return Resposta.ok(json.append("},\"progressoMedio\":")
+                            .append(String.format(java.util.Locale.ROOT, "%.2f", gerenciadorProjeto.calcularProgressoMedio()))
+                            .append('}').toString());
+                }
+                case "equipes":
+                    return Resposta.ok(String.format(java.util.Locale.ROOT,
+                            "{\"total\":%d,\"totalMembros\":%d,\"eficienciaMedia\":%.2f}",
+                            gerenciadorEquipe.getTotalEquipes(), gerenciadorEquipe.getTotalMembros(),
+                            gerenciadorEquipe.calcularEficienciaMedia()));
+                default:
+                    throw new ErroHttp(404, "Relatório desconhecido: " + tipo);
+            }
+        });
+    }
+
+    // ----- Serialização -----
+
+    private static String usuarioJson(Usuario usuario) {
+        return "{\"login\":" + Json.texto(usuario.getLogin())
+             + ",\"nome\":" + Json.texto(usuario.getNome())
+             + ",\"email\":" + Json.texto(usuario.getEmail())
+             + ",\"papel\":" + Json.texto(usuario.getPapel().getNome()) + "}";
+    }
+
+    private static String projetoJson(Projeto projeto) {
+        Gerente gerente = projeto.getGerenteResponsavel();
+        return "{\"id\":" + projeto.getId()
+             + ",\"nome\":" + Json.texto(projeto.getNome())
+             + ",\"descricao\":" + Json.texto(projeto.getDescricao())
+             + ",\"dataInicio\":" + Json.texto(projeto.getDataInicio())
+             + ",\"dataFimPrevista\":" + Json.texto(projeto.getDataFimPrevista())
+             + ",\"status\":" + Json.texto(projeto.getStatus())
+             + ",\"progresso\":" + projeto.calcularProgresso()
+             + ",\"gerente\":" + Json.texto(gerente != null ? gerente.getLogin() : null) + "}";
+    }
+
+    private static String equipeJson(Equipe equipe, boolean comMembros) {
+        StringBuilder json = new StringBuilder("{\"id\":").append(equipe.getId())
+                .append(",\"nome\":").append(Json.texto(equipe.getNome()))
+                .append(",\"descricao\":").append(Json.texto(equipe.getDescricao()))
+                .append(",\"tamanho\":").append(equipe.tamanho());
+        if (comMembros) {
+            json.append(",\"membros\":[");
+            List<Usuario> membros = equipe.getMembros();
+            for (int i = 0; i < membros.size(); i++) {
+                json.append(i > 0 ? "," : "").append(Json.texto(membros.get(i).getLogin()));
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    private static String entidadeJson(Object entidade) {
+        if (entidade instanceof busca.Resultado) {
+            busca.Resultado resultado = (busca.Resultado) entidade;
+            return "{\"chave\":" + Json.texto(resultado.getChave())
+                 + ",\"pontuacao\":" + String.format(java.util.Locale.ROOT, "%.4f", resultado.getPontuacao())
+                 + ",\"entidade\":" + entidadeJson(resultado.getEntidade()) + "}";
+        }
+        if (entidade instanceof Projeto) {
+            return projetoJson((Projeto) entidade);
+        }
+        if (entidade instanceof Equipe) {
+            return equipeJson((Equipe) entidade, false);
+        }
+        return usuarioJson((Usuario) entidade);
+    }
+
+    // ----- Infraestrutura -----
+
+    private <T> T lendo(Supplier<T> acao) {
+        trava.readLock().lock();
+        try {
+            return acao.get();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private <T> T escrevendo(Supplier<T> acao) {
+        trava.writeLock().lock();
+        try {
+            return acao.get();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    private Sessao exigirSessao(HttpExchange troca) {
+        String autorizacao = troca.getRequestHeaders().getFirst("Authorization");
+        if (autorizacao == null || !autorizacao.startsWith("Bearer ")) {
+            throw new ErroHttp(401, "Token de sessão ausente");
+        }
+        Sessao sessao = gerenciadorSessao.obterSessao(autorizacao.substring("Bearer ".length()).trim());
+        if (sessao == null) {
+            throw new ErroHttp(401, "Sessão inválida ou expirada");
+        }
+        return sessao;
+    }
+
+    private void exigirPermissao(HttpExchange troca, int permissao) {
+        if (!exigirSessao(troca).temPermissao(permissao)) {
+            throw new ErroHttp(403, "Acesso negado");
+        }
+    }
+
+    private static boolean podeAlterarProjeto(Sessao sessao, Projeto projeto) {
+        return sessao.temPermissao(Permissao.GERENCIAR_USUARIOS)
+            || (projeto.getGerenteResponsavel() != null && projeto.getGerenteResponsavel().equals(sessao.getUsuario()));
+    }
+
+    private static void exigirMetodo(String metodo, String esperado) {
+        if (!metodo.equals(esperado)) {
+            throw new ErroHttp(405, "Método não permitido: " + metodo);
+        }
+    }
+
+    private static int idDoCaminho(String parte) {
+        try {
+            return Integer.parseInt(parte);
+        } catch (NumberFormatException e) {
+            throw new ErroHttp(400, "ID inválido: " + parte);
+        }
+    }
+
+    private static int inteiro(Map<String, String> parametros, String nome, int padrao) {
+        String valor = parametros.get(nome);
+        if (valor == null) {
+            return padrao;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(valor));
+        } catch (NumberFormatException e) {
+            throw new ErroHttp(400, "Parâmetro inválido: " + nome);
+        }
+    }
+
+    private static int limite(Map<String, String> parametros) {
+        return Math.min(inteiro(parametros, "limite", LIMITE_PADRAO), LIMITE_MAXIMO);
+    }
+
+    private static String texto(Map<String, Object> corpo, String campo, String padrao) {
+        Object valor = corpo.get(campo);
+        return valor instanceof String ? (String) valor : padrao;
+    }
+
+    private static String textoObrigatorio(Map<String, Object> corpo, String campo) {
+        String valor = texto(corpo, campo, null);
+        if (valor == null || valor.isBlank()) {
+            throw new ErroHttp(400, "Campo obrigatório: " + campo);
+        }
+        return valor;
+    }
+
+    private static Map<String, String> lerParametros(String consulta) {
+        Map<String, String> parametros = new HashMap<>();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String nome = URLDecoder.decode(igual >= 0 ? par.substring(0, igual) : par, StandardCharsets.UTF_8);
+            String valor = igual >= 0 ? URLDecoder.decode(par.substring(igual + 1), StandardCharsets.UTF_8) : "";
+            parametros.put(nome, valor);
+        }
+        return parametros;
+    }
+
+    private static String lerCorpo(HttpExchange troca) throws IOException {
+        try (InputStream entrada = troca.getRequestBody()) {
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void enviar(HttpExchange troca, Resposta resposta) throws IOException {
+        byte[] corpo = resposta.corpo.getBytes(StandardCharsets.UTF_8);
+        Headers cabecalhos = troca.getResponseHeaders();
+        cabecalhos.set("Content-Type", "application/json; charset=utf-8");
+        troca.sendResponseHeaders(resposta.status, corpo.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(corpo);
+        }
+    }
+
+    /**
+     * Resposta HTTP com corpo JSON
+     */
+    private static class Resposta {
+        final int status;
+        final String corpo;
+
+        Resposta(int status, String corpo) {
+            this.status = status;
+            this.corpo = corpo;
+        }
+
+        static Resposta ok(String corpo) {
+            return new Resposta(200, corpo);
+        }
+
+        static Resposta erro(int status, String mensagem) {
+            return new Resposta(status, "{\"erro\":" + Json.texto(mensagem) + "}");
+        }
+    }
+
+    /**
+     * Erro que interrompe o tratamento e vira uma resposta com o status dado
+     */
+    private static class ErroHttp extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        ErroHttp(int status, String mensagem) {
+            super(mensagem);
+            this.status = status;
+        }
+    }
+}